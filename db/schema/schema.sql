@@ -1,18 +1,29 @@
 USE minimall;
 
+-- PK 는 애플리케이션에서 발급(Snowflake, SnowflakeIdGenerator) -> AUTO_INCREMENT 없음
+
 -- FK 순서 고려: 자식 테이블부터 드랍
+DROP TABLE IF EXISTS sales_daily_grade;
+DROP TABLE IF EXISTS sales_daily_product;
+DROP TABLE IF EXISTS sales_daily;
+DROP TABLE IF EXISTS sales_ledger;
+DROP TABLE IF EXISTS idempotency_record;
+DROP TABLE IF EXISTS outbox_event;
 DROP TABLE IF EXISTS pay;
 DROP TABLE IF EXISTS delivery;
 DROP TABLE IF EXISTS order_item;
+DROP TABLE IF EXISTS product_stock_shard;
 DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS product;
+DROP TABLE IF EXISTS member_seller_profile;
+DROP TABLE IF EXISTS member_customer_profile;
 DROP TABLE IF EXISTS member;
 
 -- =========================
 -- 1) member
 -- =========================
 CREATE TABLE member (
-  member_id      BIGINT       NOT NULL AUTO_INCREMENT,
+  member_id      BIGINT       NOT NULL,
   login_id       VARCHAR(50)  NOT NULL,
   password_hash  VARCHAR(100) NOT NULL,
   member_name    VARCHAR(50)  NOT NULL,
@@ -31,7 +42,7 @@ CREATE TABLE member (
 
   grade          VARCHAR(20)  NOT NULL DEFAULT 'BRONZE',
   role           VARCHAR(20)  NOT NULL DEFAULT 'CUSTOMER',
-  status         VARCHAR(20)  NOT NULL DEFAULT 'ACTIVE'
+  status         VARCHAR(20)  NOT NULL DEFAULT 'ACTIVE',
 
   PRIMARY KEY (member_id),
   UNIQUE KEY uq_member_login_id (login_id),
@@ -71,10 +82,13 @@ CREATE TABLE member_seller_profile (
 -- 2) product
 -- =========================
 CREATE TABLE product (
-  product_id      BIGINT       NOT NULL AUTO_INCREMENT,
+  product_id      BIGINT       NOT NULL,
   product_name    VARCHAR(100) NOT NULL,
   product_price   INT          NOT NULL,
   stock_quantity  INT          NOT NULL DEFAULT 0,
+  stock_shards    INT          NOT NULL DEFAULT 0,
+  -- 재고 부족 기준(NULL: 전역 기준)
+  low_stock_threshold INT      DEFAULT NULL,
 
   created_at      DATETIME DEFAULT CURRENT_TIMESTAMP,
   updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
@@ -82,7 +96,27 @@ CREATE TABLE product (
   update_by       VARCHAR(255) DEFAULT NULL,
 
   PRIMARY KEY (product_id),
-  INDEX idx_product_name (product_name)
+  -- 상품 검색(정렬 키, ID 키셋): 이름 앞부분 일치/이름순, 가격 범위/가격순
+  -- 재고는 주문마다 갱신되므로 인덱스에 넣지 않음(재고 하한은 정렬 인덱스로 읽은 행에서 필터)
+  INDEX idx_product_name_id (product_name, product_id),
+  INDEX idx_product_price_id (product_price, product_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- 핫 상품 재고 분산 행: product.stock_shards > 0 인 상품의 실제 재고는 샤드 합계
+CREATE TABLE product_stock_shard (
+  product_stock_shard_id  BIGINT  NOT NULL,
+  product_id              BIGINT  NOT NULL,
+  shard_no                INT     NOT NULL,
+  quantity                INT     NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (product_stock_shard_id),
+  UNIQUE KEY uq_product_stock_shard (product_id, shard_no),
+
+  CONSTRAINT fk_product_stock_shard_product FOREIGN KEY (product_id)
+    REFERENCES product (product_id),
+  CONSTRAINT ck_product_stock_shard_quantity CHECK (quantity >= 0)
 ) ENGINE=InnoDB
   DEFAULT CHARSET=utf8mb4
   COLLATE=utf8mb4_0900_ai_ci;
@@ -91,11 +125,15 @@ CREATE TABLE product (
 -- 3) orders
 -- =========================
 CREATE TABLE orders (
-  order_id         BIGINT      NOT NULL AUTO_INCREMENT,
+  order_id         BIGINT      NOT NULL,
   member_id        BIGINT      NOT NULL,
 
   ordered_at       DATETIME    NOT NULL,
   order_status     VARCHAR(20) NOT NULL DEFAULT 'ORDERED',
+  -- 재고 예약 만료 시각(NULL: 만료 없음), 지나도록 ORDERED 이면 만료 취소
+  reserved_until   DATETIME(6) DEFAULT NULL,
+  -- 주문 시점 회원 등급(할인 기준, 등급별 매출 집계), 고객 회원이 아니면 NULL
+  customer_grade   VARCHAR(20) DEFAULT NULL,
 
   created_at       DATETIME DEFAULT CURRENT_TIMESTAMP,
   updated_at       DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
@@ -112,7 +150,11 @@ CREATE TABLE orders (
   CONSTRAINT fk_orders_member FOREIGN KEY (member_id)
     REFERENCES member (member_id),
 
-  INDEX idx_order_status_ordered_at (order_status, ordered_at)
+  INDEX idx_order_status_ordered_at (order_status, ordered_at),
+  -- 예약 만료 주문 일괄 취소(ORDERED + 만료 시각 범위)
+  INDEX idx_orders_status_reserved_until (order_status, reserved_until),
+  -- 회원 주문 목록 키셋 페이지(최신순) 조회
+  INDEX idx_orders_member_ordered_at (member_id, ordered_at, order_id)
 ) ENGINE=InnoDB
   DEFAULT CHARSET=utf8mb4
   COLLATE=utf8mb4_0900_ai_ci;
@@ -121,7 +163,7 @@ CREATE TABLE orders (
 -- 4) order_item
 -- =========================
 CREATE TABLE order_item (
-  order_item_id   BIGINT       NOT NULL AUTO_INCREMENT,
+  order_item_id   BIGINT       NOT NULL,
   order_id        BIGINT       NOT NULL,
   product_id      BIGINT       NOT NULL,
 
@@ -151,7 +193,7 @@ CREATE TABLE order_item (
 -- 5) delivery
 -- =========================
 CREATE TABLE delivery (
-  delivery_id      BIGINT      NOT NULL AUTO_INCREMENT,
+  delivery_id      BIGINT      NOT NULL,
   order_id         BIGINT      NOT NULL,
 
   delivery_status  VARCHAR(20) NOT NULL DEFAULT 'READY',
@@ -187,7 +229,7 @@ CREATE TABLE delivery (
 -- 6) pay
 -- =========================
 CREATE TABLE pay (
-  pay_id      BIGINT      NOT NULL AUTO_INCREMENT,
+  pay_id      BIGINT      NOT NULL,
   order_id    BIGINT      NOT NULL,
 
   pay_method  VARCHAR(50) NOT NULL,
@@ -208,4 +250,109 @@ CREATE TABLE pay (
     REFERENCES orders (order_id)
 ) ENGINE=InnoDB
   DEFAULT CHARSET=utf8mb4
-  COLLATE=utf8mb4_0900_ai_ci;
\ No newline at end of file
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- =========================
+-- 7) outbox_event
+-- =========================
+-- 주문 상태 변경과 같은 트랜잭션에서 기록, OutboxRelay 가 PK 순으로 잠가(SKIP LOCKED) 전달 후 삭제
+CREATE TABLE outbox_event (
+  outbox_event_id BIGINT        NOT NULL,
+  aggregate_type  VARCHAR(50)   NOT NULL,
+  aggregate_id    BIGINT        NOT NULL,
+  event_type      VARCHAR(50)   NOT NULL,
+  payload         VARCHAR(2000) NOT NULL,
+  occurred_at     DATETIME(6)   NOT NULL,
+
+  PRIMARY KEY (outbox_event_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- =========================
+-- 8) idempotency_record
+-- =========================
+-- Idempotency-Key 요청의 응답 기록, expires_at 이 지나면 IdempotencyService 가 삭제
+CREATE TABLE idempotency_record (
+  idempotency_record_id BIGINT        NOT NULL,
+  scope                 VARCHAR(50)   NOT NULL,
+  idempotency_key       VARCHAR(100)  NOT NULL,
+  request_hash          VARCHAR(64)   NOT NULL,
+  response_body         VARCHAR(4000) DEFAULT NULL,
+  created_at            DATETIME(6)   NOT NULL,
+  expires_at            DATETIME(6)   NOT NULL,
+
+  PRIMARY KEY (idempotency_record_id),
+
+  UNIQUE KEY uq_idempotency_scope_key (scope, idempotency_key),
+  KEY idx_idempotency_expires_at (expires_at)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- =========================
+-- 9) sales_ledger
+-- =========================
+-- 매출 집계 대기 기록: 결제(+1), 결제 후 취소(-1) 시 주문과 같은 트랜잭션에서 INSERT
+-- SalesRollupUpdater 가 PK 순으로 잠가(SKIP LOCKED) 집계 테이블에 반영 후 삭제
+CREATE TABLE sales_ledger (
+  sales_ledger_id BIGINT      NOT NULL,
+  order_id        BIGINT      NOT NULL,
+  sales_date      DATE        NOT NULL,
+  entry_sign      INT         NOT NULL,
+  recorded_at     DATETIME(6) NOT NULL,
+
+  PRIMARY KEY (sales_ledger_id),
+  KEY idx_sales_ledger_sales_date (sales_date)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- =========================
+-- 10) sales rollup
+-- =========================
+-- 결제 완료 주문의 일별 집계(주문 일자 기준): 대시보드는 주문 테이블 대신 이 테이블만 조회
+-- revenue = gross_amount - discount_amount
+CREATE TABLE sales_daily (
+  sales_date       DATE   NOT NULL,
+  order_count      BIGINT NOT NULL DEFAULT 0,
+  units            BIGINT NOT NULL DEFAULT 0,
+  gross_amount     BIGINT NOT NULL DEFAULT 0,
+  discount_amount  BIGINT NOT NULL DEFAULT 0,
+  revenue          BIGINT NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (sales_date)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- 상품별: 주문 할인은 항목 금액 비율로 나눠 반영
+CREATE TABLE sales_daily_product (
+  sales_date       DATE   NOT NULL,
+  product_id       BIGINT NOT NULL,
+  order_count      BIGINT NOT NULL DEFAULT 0,
+  units            BIGINT NOT NULL DEFAULT 0,
+  gross_amount     BIGINT NOT NULL DEFAULT 0,
+  discount_amount  BIGINT NOT NULL DEFAULT 0,
+  revenue          BIGINT NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (sales_date, product_id),
+  KEY idx_sales_daily_product_product (product_id, sales_date)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
+
+-- 회원 등급별: 주문 시점 등급(orders.customer_grade) 기준
+CREATE TABLE sales_daily_grade (
+  sales_date       DATE        NOT NULL,
+  customer_grade   VARCHAR(20) NOT NULL,
+  order_count      BIGINT      NOT NULL DEFAULT 0,
+  units            BIGINT      NOT NULL DEFAULT 0,
+  gross_amount     BIGINT      NOT NULL DEFAULT 0,
+  discount_amount  BIGINT      NOT NULL DEFAULT 0,
+  revenue          BIGINT      NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (sales_date, customer_grade)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_0900_ai_ci;
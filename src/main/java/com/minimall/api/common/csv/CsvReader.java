@@ -0,0 +1,103 @@
+package com.minimall.api.common.csv;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 읽기(RFC 4180): 한 번에 한 레코드만 메모리에 유지
+ * - 쉼표 구분, 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/""(따옴표) 허용, 줄 끝은 LF or CRLF, 맨 앞 BOM 무시
+ * - 레코드 길이가 maxRecordLength 를 넘으면 IOException(닫히지 않은 따옴표로 나머지 전체를 한 레코드로 읽는 경우 방지)
+ */
+public final class CsvReader {
+
+    private static final int BOM = '\uFEFF';
+
+    private final PushbackReader reader;
+    private final int maxRecordLength;
+    private boolean started;
+    private boolean finished;
+
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = new PushbackReader(reader, 1);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return 다음 레코드의 필드 목록(빈 줄은 빈 필드 1개), 끝이면 null
+     */
+    public List<String> next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int length = 0;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                finished = true;
+                if (quoted) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다.");
+                }
+                if (empty) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            empty = false;
+            if (++length > maxRecordLength) {
+                throw new IOException("레코드가 너무 깁니다. (최대 " + maxRecordLength + "자)");
+            }
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    reader.read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        int c = reader.read();
+        if (c != -1) {
+            reader.unread(c);
+        }
+        return c;
+    }
+}
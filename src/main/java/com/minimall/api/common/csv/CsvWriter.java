@@ -0,0 +1,40 @@
+package com.minimall.api.common.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 쓰기(RFC 4180): 레코드를 받는 즉시 writer 로 전달(버퍼링은 writer 가 담당)
+ * - 쉼표, 큰따옴표, 줄바꿈이 들어간 필드만 큰따옴표로 감싸고 안의 따옴표는 "" 로 표기, null 은 빈 필드
+ * - 줄 끝은 CRLF
+ */
+public final class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
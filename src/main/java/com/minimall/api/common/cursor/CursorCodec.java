@@ -0,0 +1,43 @@
+package com.minimall.api.common.cursor;
+
+import com.minimall.api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 커서 인코딩: 키 값들을 '|' 로 이어 Base64URL 문자열로 전달(클라이언트에는 불투명 토큰)
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (Object key : keys) {
+            if (!raw.isEmpty()) raw.append(DELIMITER);
+            raw.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param parser 분리된 키 값 -> 커서 객체(형식 불일치로 던진 예외는 InvalidCursorException 으로 변환)
+     */
+    public static <T> T decode(String cursor, int keyCount, Function<String[], T> parser) {
+        try {
+            String[] keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER, -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("key count mismatch");
+            }
+            return parser.apply(keys);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -12,5 +12,6 @@ public enum ApiErrorCode {
     DUPLICATE_VALUE,
     CONFLICT,                // 중복/무결성 위반
     INTERNAL_ERROR,          // 예상 못한 서버 오류
+    SERVICE_BUSY,            // 처리 용량 초과(작업 큐 가득 참), 잠시 후 재시도
     INVALID_CREDENTIALS      // 로그인 시 비밀번호 오류 등 권한 오류
 }
\ No newline at end of file
@@ -2,20 +2,29 @@ package com.minimall.api.exception;
 
 import com.minimall.domain.exception.DomainRuleException;
 import com.minimall.domain.exception.DuplicateException;
+import com.minimall.service.exception.IdempotencyConflictException;
 import com.minimall.service.exception.InvalidCredentialException;
+import com.minimall.service.exception.InvalidIdempotencyKeyException;
 import com.minimall.service.exception.NotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -72,6 +81,45 @@ public class GlobalExceptionHandler {
         return new ErrorResponse.FieldErrorResponse(field, v.getMessage());
     }
 
+    // 400: @RequestParam 누락
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(
+            MissingServletRequestParameterException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, ex.getMessage(), req.getRequestURI());
+    }
+
+    // 400: @RequestParam 형식 오류(날짜, enum 등 변환 실패), 그 외(@PathVariable 등)는 기존대로 500
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleParameterTypeMismatch(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest req) {
+        if (!ex.getParameter().hasParameterAnnotation(RequestParam.class)) {
+            return handleEtc(ex, req);
+        }
+        String message = "'%s' 형식이 올바르지 않습니다. (값: '%s')".formatted(ex.getName(), ex.getValue());
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, message, req.getRequestURI());
+    }
+
+    // 400: 잘못된 페이지 커서
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, ex.getMessage(), req.getRequestURI());
+    }
+
+    // 400: 일괄 요청 본문(JSON 배열 or NDJSON) 형식 오류
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkRequest(
+            InvalidBulkRequestException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, ex.getMessage(), req.getRequestURI());
+    }
+
+    // 400: 잘못된 Idempotency-Key 헤더
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKey(
+            InvalidIdempotencyKeyException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, ApiErrorCode.VALIDATION_ERROR, ex.getMessage(), req.getRequestURI());
+    }
+
     @ExceptionHandler(InvalidCredentialException.class)
     public ResponseEntity<ErrorResponse> handleInvalidCredential(
             InvalidCredentialException ex, HttpServletRequest req) {
@@ -90,6 +138,20 @@ public class GlobalExceptionHandler {
         return ErrorResponse.of(HttpStatus.CONFLICT, ApiErrorCode.CONFLICT, "Duplicate or constraint violation", req.getRequestURI());
     }
 
+    // 409: 잠금 대기 시간 초과 or 교착 상태로 트랜잭션 롤백(재시도 가능)
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleLockConflict(
+            PessimisticLockingFailureException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.CONFLICT, ApiErrorCode.CONFLICT, "Concurrent update conflict, please retry", req.getRequestURI());
+    }
+
+    // 409: 같은 Idempotency-Key 를 다른 요청에 재사용 or 같은 키의 요청이 처리 중(재시도 가능)
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflict(
+            IdempotencyConflictException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.CONFLICT, ApiErrorCode.CONFLICT, ex.getMessage(), req.getRequestURI());
+    }
+
     @ExceptionHandler(DuplicateException.class)
     public ResponseEntity<ErrorResponse> handleDuplicate(
             DuplicateException ex, HttpServletRequest req) {
@@ -102,6 +164,20 @@ public class GlobalExceptionHandler {
         return ErrorResponse.of(HttpStatus.UNPROCESSABLE_ENTITY, ApiErrorCode.DOMAIN_RULE_VIOLATION, ex.getMessage(), req.getRequestURI());
     }
 
+    // 503: 전용 작업 풀(비밀번호 해시 등) 대기 큐 초과(재시도 가능)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejected(
+            RejectedExecutionException ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ApiErrorCode.SERVICE_BUSY, "Server is busy, please retry", req.getRequestURI());
+    }
+
+    // 503: DB 커넥션을 얻지 못함(가상 스레드 모드의 DB 동시 작업 상한 초과, 커넥션 풀 대기 시간 초과, DB 장애: 재시도 가능)
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDataSourceUnavailable(
+            Exception ex, HttpServletRequest req) {
+        return ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ApiErrorCode.SERVICE_BUSY, "Server is busy, please retry", req.getRequestURI());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleEtc(Exception ex, HttpServletRequest req) {
         return ErrorResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, ApiErrorCode.INTERNAL_ERROR, "Unexpected server error", req.getRequestURI());
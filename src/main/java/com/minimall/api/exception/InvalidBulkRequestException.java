@@ -0,0 +1,11 @@
+package com.minimall.api.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(int index, Throwable cause) {
+        super("요청 본문의 항목을 읽을 수 없습니다. (index: " + index + ", 이전 묶음은 이미 반영됨)", cause);
+    }
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package com.minimall.api.member;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.api.common.cursor.CursorCodec;
 import com.minimall.api.member.dto.MemberApiMapper;
 import com.minimall.api.member.dto.request.MemberRegisterRequest;
 import com.minimall.api.member.dto.request.MemberLoginRequest;
@@ -7,22 +9,41 @@ import com.minimall.api.member.dto.request.MemberUpdateRequest;
 import com.minimall.api.member.dto.request.SellerRegisterRequest;
 import com.minimall.api.member.dto.response.MemberDetailResponse;
 import com.minimall.api.member.dto.response.MemberDetailWithOrdersResponse;
+import com.minimall.api.member.dto.response.MemberSummaryPageResponse;
 import com.minimall.api.member.dto.response.MemberSummaryResponse;
 import com.minimall.api.order.dto.OrderApiMapper;
+import com.minimall.api.order.dto.OrderCursor;
+import com.minimall.api.order.dto.response.OrderSummaryPageResponse;
 import com.minimall.api.order.dto.response.OrderSummaryResponse;
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.member.MemberStatus;
+import com.minimall.domain.member.Role;
+import com.minimall.domain.order.OrderStatus;
 import com.minimall.service.member.MemberService;
+import com.minimall.service.member.dto.command.MemberSearchCommand;
 import com.minimall.service.member.dto.command.MemberUpdateCommand;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
+import com.minimall.service.member.dto.result.MemberSummarySliceResult;
 import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderSummarySearchCommand;
+import com.minimall.service.order.dto.result.OrderSummarySliceResult;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 
@@ -36,6 +57,9 @@ public class MemberController {
     private final OrderService orderService;
     private final MemberApiMapper memberApiMapper;
     private final OrderApiMapper orderApiMapper;
+    private final ObjectMapper objectMapper;
+
+    private static final String NDJSON = "application/x-ndjson";
 
     //== 로그인 ==//
     @Operation(summary = "회원 로그인")
@@ -47,12 +71,56 @@ public class MemberController {
     }
 
     //== 회원 조회 ==//
-    @Operation(summary = "회원 전체 조회", description = "모든 회원 요약 조회")
+    @Operation(summary = "회원 검색", description = "역할/상태/등급 조건, ID 오름차순 키셋 페이지(다음 페이지는 응답의 nextCursor 로 요청)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+    })
     @GetMapping
-    public List<MemberSummaryResponse> getAll() {
-        return memberService.getMembers().stream()
+    public MemberSummaryPageResponse search(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) MemberStatus status,
+            @RequestParam(required = false) CustomerGrade grade,
+            @Parameter(description = "이전 응답의 nextCursor(생략 시 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기(1 ~ 100)") @RequestParam(defaultValue = "" + MemberService.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+
+        Long cursorId = (cursor == null) ? null : CursorCodec.decode(cursor, 1, keys -> Long.valueOf(keys[0]));
+        MemberSummarySliceResult slice = memberService.searchMembers(
+                new MemberSearchCommand(role, status, grade), cursorId, size);
+
+        List<MemberSummaryResponse> content = slice.content().stream()
                 .map(memberApiMapper::toSummaryResponse)
                 .toList();
+        String nextCursor = slice.hasNext() ? CursorCodec.encode(slice.content().getLast().id()) : null;
+        return new MemberSummaryPageResponse(content, nextCursor, slice.hasNext());
+    }
+
+    @Operation(summary = "회원 내보내기(NDJSON)", description = "조건에 맞는 회원 전체를 한 줄에 한 명씩 스트리밍(ID 오름차순)")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) MemberStatus status,
+            @RequestParam(required = false) CustomerGrade grade) {
+
+        MemberSearchCommand command = new MemberSearchCommand(role, status, grade);
+        StreamingResponseBody body = out -> {
+            OutputStream buffered = new BufferedOutputStream(out);
+            memberService.exportMembers(command, member -> writeLine(buffered, memberApiMapper.toExportResponse(member)));
+            buffered.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.ndjson\"")
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object row) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Operation(summary = "회원 단건 상세 조회", description = "회원 ID로 상세 조회")
@@ -98,17 +166,31 @@ public class MemberController {
     }
 
     //== 주문 조회 ==//
-    @Operation(summary = "주문 요약 목록 조회")
+    @Operation(summary = "주문 요약 목록 조회", description = "최신순 키셋 페이지, 다음 페이지는 응답의 nextCursor 로 요청")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
-            @ApiResponse(responseCode = "400", description = "요청 검증 오류"),
+            @ApiResponse(responseCode = "400", description = "요청 검증 오류(잘못된 상태/커서)"),
+            @ApiResponse(responseCode = "404", description = "회원 없음"),
     })
     @GetMapping("/{id}/orders")
-    public ResponseEntity<List<OrderSummaryResponse>> getOrdersByMember(@PathVariable Long id) {
-        List<OrderSummaryResponse> response = orderService.getOrderSummaries(id).stream()
+    public ResponseEntity<OrderSummaryPageResponse> getOrdersByMember(
+            @PathVariable Long id,
+            @Parameter(description = "주문 상태 필터(생략 시 전체)") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "이전 응답의 nextCursor(생략 시 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기(1 ~ 100)") @RequestParam(defaultValue = "" + OrderService.DEFAULT_SUMMARY_PAGE_SIZE) int size) {
+
+        OrderCursor after = (cursor == null) ? null : OrderCursor.decode(cursor);
+        OrderSummarySliceResult slice = orderService.getOrderSummaries(id, new OrderSummarySearchCommand(
+                status,
+                after == null ? null : after.orderedAt(),
+                after == null ? null : after.id(),
+                size));
+
+        List<OrderSummaryResponse> content = slice.content().stream()
                 .map(orderApiMapper::toOrderSummaryResponse)
                 .toList();
-        return ResponseEntity.ok(response);
+        String nextCursor = slice.hasNext() ? OrderCursor.of(slice.content().getLast()).encode() : null;
+        return ResponseEntity.ok(new OrderSummaryPageResponse(content, nextCursor, slice.hasNext()));
     }
 
     //== 회원 생성 ==//
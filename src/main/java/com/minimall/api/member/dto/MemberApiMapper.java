@@ -3,6 +3,7 @@ package com.minimall.api.member.dto;
 import com.minimall.api.member.dto.request.MemberLoginRequest;
 import com.minimall.api.member.dto.request.MemberUpdateRequest;
 import com.minimall.api.member.dto.request.SellerRegisterRequest;
+import com.minimall.api.member.dto.response.MemberExportResponse;
 import com.minimall.api.member.dto.response.MemberSummaryResponse;
 import com.minimall.api.order.dto.OrderApiMapper;
 import com.minimall.domain.member.Member;
@@ -14,6 +15,7 @@ import com.minimall.service.member.dto.command.MemberRegisterCommand;
 import com.minimall.service.member.dto.command.MemberUpdateCommand;
 import com.minimall.service.member.dto.command.SellerRegisterCommand;
 import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberExportResult;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
 import jakarta.validation.Valid;
 import org.mapstruct.Mapper;
@@ -54,6 +56,8 @@ public interface MemberApiMapper {
 
     MemberSummaryResponse toSummaryResponse(MemberSummaryResult result);
 
+    MemberExportResponse toExportResponse(MemberExportResult result);
+
 
     //== List 변환 ==//
     List<MemberSummaryResponse> toListResponseList(List<Member> members);
@@ -0,0 +1,13 @@
+package com.minimall.api.member.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터로 전달(마지막 페이지면 null)
+ */
+public record MemberSummaryPageResponse(
+        List<MemberSummaryResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
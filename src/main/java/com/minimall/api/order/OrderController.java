@@ -1,9 +1,12 @@
 package com.minimall.api.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.api.common.csv.CsvWriter;
 import com.minimall.api.order.delivery.dto.DeliveryApiMapper;
 import com.minimall.api.order.delivery.dto.DeliverySummaryResponse;
 import com.minimall.api.order.delivery.dto.StartDeliveryRequest;
 import com.minimall.api.order.dto.OrderApiMapper;
+import com.minimall.api.order.dto.OrderExportFormat;
 import com.minimall.api.order.dto.request.CompleteDeliveryRequest;
 import com.minimall.api.order.pay.dto.PayApiMapper;
 import com.minimall.domain.embeddable.Address;
@@ -12,27 +15,48 @@ import com.minimall.api.common.embeddable.AddressMapper;
 import com.minimall.api.order.dto.request.OrderCreateRequest;
 import com.minimall.api.order.dto.response.OrderCreateResponse;
 import com.minimall.api.order.dto.response.OrderDetailResponse;
+import com.minimall.api.order.dto.response.OrderExportResponse;
 import com.minimall.api.order.pay.dto.PayRequest;
 import com.minimall.api.order.pay.dto.PayResponse;
-import com.minimall.domain.order.Order;
-import com.minimall.domain.order.Pay;
+import com.minimall.domain.order.OrderExportItem;
+import com.minimall.domain.order.OrderExportRow;
+import com.minimall.domain.order.OrderStatus;
 import com.minimall.service.order.OrderService;
 import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderExportCommand;
 import com.minimall.service.order.dto.command.OrderItemCreateCommand;
 import com.minimall.service.order.dto.command.PayCommand;
 import com.minimall.service.order.dto.result.DeliverySummaryResult;
 import com.minimall.service.order.dto.result.OrderDetailResult;
+import com.minimall.service.idempotency.IdempotencyService;
+import com.minimall.service.idempotency.IdempotentResult;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -40,20 +64,36 @@ import java.net.URI;
 @Tag(name = "Order API", description = "주문 관련 API")
 public class OrderController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String CREATE_SCOPE = "order.create";
+    private static final String PAYMENT_SCOPE = "order.payment";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final Object[] CSV_HEADER = {
+            "order_id", "member_id", "ordered_at", "order_status", "original_amount", "discount_amount", "final_amount",
+            "product_id", "product_name", "order_price", "order_quantity",
+            "pay_method", "pay_amount", "pay_status", "paid_at",
+            "delivery_status", "tracking_no", "delivery_fee", "shipped_at", "arrived_at"};
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
     private final OrderApiMapper orderApiMapper;
     private final DeliveryApiMapper deliveryApiMapper;
     private final PayApiMapper payApiMapper;
     private final AddressMapper addressMapper;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "주문 생성")
+    @Operation(summary = "주문 생성", description = "Idempotency-Key 헤더가 있으면 같은 키의 재요청은 주문을 다시 만들지 않고 처음 응답을 재생")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "생성 성공"),
             @ApiResponse(responseCode = "400", description = "요청 검증 오류"),
-            @ApiResponse(responseCode = "404", description = "회원/상품 미존재")
+            @ApiResponse(responseCode = "404", description = "회원/상품 미존재"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 를 다른 요청에 사용 or 같은 키의 요청이 처리 중")
     })
     @PostMapping
-    public ResponseEntity<OrderCreateResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
+    public ResponseEntity<OrderCreateResponse> createOrder(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderCreateRequest request) {
 
         OrderCreateCommand command = new OrderCreateCommand(
                 request.memberId(),
@@ -62,11 +102,13 @@ public class OrderController {
                         .toList()
         );
 
-        Order order = orderService.createOrder(command);
-        OrderCreateResponse body = orderApiMapper.toCreateResponse(order);
+        IdempotentResult<OrderCreateResponse> result = idempotent(idempotencyKey, CREATE_SCOPE, OrderCreateResponse.class,
+                () -> orderApiMapper.toCreateResponse(orderService.createOrder(command)), request);
+        OrderCreateResponse body = result.body();
 
         return ResponseEntity
                 .created(URI.create("/orders/" + body.id()))
+                .headers(replayedHeader(result))
                 .body(body);
     }
 
@@ -95,19 +137,65 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "주문 결제 처리")
+    @Operation(summary = "주문 내보내기(관리자, NDJSON/CSV)",
+            description = "주문 시각 [from, to) 범위(status 생략 시 전체 상태)의 주문을 항목, 결제, 배송과 함께 스트리밍. " +
+                    "상태별 주문 시각순, Accept-Encoding: gzip 이면 gzip 압축")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "파라미터 누락 or 형식 오류")
+    })
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "주문 시각 하한(포함, ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "주문 시각 상한(제외, ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        OrderExportCommand command = new OrderExportCommand(from, to, status);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : null;
+            OutputStream buffered = new BufferedOutputStream((compressed != null) ? compressed : out, EXPORT_BUFFER_SIZE);
+            if (format == OrderExportFormat.CSV) {
+                writeCsv(buffered, command);
+            } else {
+                orderService.exportOrders(command, order -> writeLine(buffered, OrderExportResponse.from(order)));
+            }
+            buffered.flush();
+            if (compressed != null) {
+                compressed.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + format.fileName() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @Operation(summary = "주문 결제 처리", description = "Idempotency-Key 헤더가 있으면 같은 키의 재요청은 결제를 다시 시도하지 않고 처음 응답을 재생")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "결제 성공"),
             @ApiResponse(responseCode = "400", description = "요청 검증 오류"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 를 다른 요청에 사용 or 같은 키의 요청이 처리 중"),
             @ApiResponse(responseCode = "422", description = "주문 혹은 결제 상태 오류 or 주문 금액, 결제 금액 불일치")
     })
     @PostMapping("/{id}/payment")
-    public ResponseEntity<PayResponse> processPayment(@PathVariable Long id,
-                                                      @Valid @RequestBody PayRequest request) {
+    public ResponseEntity<PayResponse> processPayment(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id,
+            @Valid @RequestBody PayRequest request) {
         PayCommand command = new PayCommand(request.payMethod(), request.payAmount());
-        Pay pay = orderService.processPayment(id, command);
-        PayResponse body = payApiMapper.toPaySummary(pay);
-        return ResponseEntity.ok(body);
+        IdempotentResult<PayResponse> result = idempotent(idempotencyKey, PAYMENT_SCOPE, PayResponse.class,
+                () -> payApiMapper.toPaySummary(orderService.processPayment(id, command)), id, request);
+        return ResponseEntity.ok()
+                .headers(replayedHeader(result))
+                .body(result.body());
     }
 
     @Operation(summary = "배송 준비")
@@ -158,4 +246,67 @@ public class OrderController {
         orderService.completeDelivery(id, request.arrivedAt());
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    //== 내보내기 헬퍼 ==//
+    private void writeLine(OutputStream out, Object row) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //주문 항목마다 한 줄, 맨 앞 BOM(엑셀에서 UTF-8 한글 인식)
+    private void writeCsv(OutputStream out, OrderExportCommand command) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        CsvWriter csv = new CsvWriter(writer);
+        writer.write('\uFEFF');
+        csv.writeRecord(CSV_HEADER);
+        orderService.exportOrders(command, order -> {
+            OrderExportRow o = order.order();
+            for (OrderExportItem item : order.items()) {
+                try {
+                    csv.writeRecord(o.orderId(), o.memberId(), o.orderedAt(), o.orderStatus(),
+                            o.originalAmount(), o.discountAmount(), o.finalAmount(),
+                            item.productId(), item.productName(), item.orderPrice(), item.orderQuantity(),
+                            o.payMethod(), o.payAmount(), o.payStatus(), o.paidAt(),
+                            o.deliveryStatus(), o.trackingNo(), o.deliveryFee(), o.shippedAt(), o.arrivedAt());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        writer.flush();
+    }
+
+    //gzip 이 있고 q=0 으로 거부되지 않았으면 압축
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            if (parts[0].strip().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    //== 헬퍼 메서드 ==//
+    //키가 없으면 매번 실행(기존 동작)
+    private <T> IdempotentResult<T> idempotent(String idempotencyKey, String scope, Class<T> responseType,
+                                               Supplier<T> action, Object... request) {
+        if (idempotencyKey == null) {
+            return IdempotentResult.executed(action.get());
+        }
+        return idempotencyService.execute(scope, idempotencyKey, responseType, action, request);
+    }
+
+    private static Consumer<HttpHeaders> replayedHeader(IdempotentResult<?> result) {
+        return headers -> {
+            if (result.replayed()) headers.set(IDEMPOTENT_REPLAYED_HEADER, "true");
+        };
+    }
+}
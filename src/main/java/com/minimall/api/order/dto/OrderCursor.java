@@ -0,0 +1,27 @@
+package com.minimall.api.order.dto;
+
+import com.minimall.api.common.cursor.CursorCodec;
+import com.minimall.service.order.dto.result.OrderSummaryResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 주문 목록 키셋 커서: 마지막 주문의 (orderedAt, id)
+ */
+public record OrderCursor(
+        LocalDateTime orderedAt,
+        Long id
+) {
+    public static OrderCursor of(OrderSummaryResult last) {
+        return new OrderCursor(last.orderedAt(), last.id());
+    }
+
+    public String encode() {
+        return CursorCodec.encode(orderedAt, id);
+    }
+
+    public static OrderCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 2, keys ->
+                new OrderCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+    }
+}
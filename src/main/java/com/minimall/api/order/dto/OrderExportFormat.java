@@ -0,0 +1,27 @@
+package com.minimall.api.order.dto;
+
+/**
+ * 주문 내보내기 형식
+ * - NDJSON: 한 줄에 주문 한 건(항목, 결제, 배송 포함)
+ * - CSV: 한 줄에 주문 항목 하나(주문, 결제, 배송 열은 항목마다 반복)
+ */
+public enum OrderExportFormat {
+    NDJSON("application/x-ndjson", "orders.ndjson"),
+    CSV("text/csv;charset=UTF-8", "orders.csv");
+
+    private final String contentType;
+    private final String fileName;
+
+    OrderExportFormat(String contentType, String fileName) {
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+}
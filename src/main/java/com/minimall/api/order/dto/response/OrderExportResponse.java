@@ -0,0 +1,54 @@
+package com.minimall.api.order.dto.response;
+
+import com.minimall.domain.order.OrderExportItem;
+import com.minimall.domain.order.OrderExportRow;
+import com.minimall.domain.order.OrderStatus;
+import com.minimall.domain.order.delivery.DeliveryStatus;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.order.pay.PayStatus;
+import com.minimall.service.order.dto.result.OrderExportResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내보내기 NDJSON 한 줄(주문 한 건)
+ * @param pay 결제 전이면 null
+ * @param delivery 배송 준비 전이면 null
+ */
+public record OrderExportResponse(
+        Long orderId,
+        Long memberId,
+        LocalDateTime orderedAt,
+        OrderStatus orderStatus,
+        int originalAmount,
+        int discountAmount,
+        int finalAmount,
+        List<Item> items,
+        Pay pay,
+        Delivery delivery
+) {
+    public record Item(Long productId, String productName, int orderPrice, int orderQuantity) {
+    }
+
+    public record Pay(PayMethod payMethod, Integer payAmount, PayStatus payStatus, LocalDateTime paidAt) {
+    }
+
+    public record Delivery(DeliveryStatus deliveryStatus, String trackingNo, Integer deliveryFee,
+                           LocalDateTime shippedAt, LocalDateTime arrivedAt) {
+    }
+
+    public static OrderExportResponse from(OrderExportResult result) {
+        OrderExportRow o = result.order();
+        return new OrderExportResponse(o.orderId(), o.memberId(), o.orderedAt(), o.orderStatus(),
+                o.originalAmount(), o.discountAmount(), o.finalAmount(),
+                result.items().stream().map(OrderExportResponse::toItem).toList(),
+                (o.payStatus() == null) ? null : new Pay(o.payMethod(), o.payAmount(), o.payStatus(), o.paidAt()),
+                (o.deliveryStatus() == null) ? null
+                        : new Delivery(o.deliveryStatus(), o.trackingNo(), o.deliveryFee(), o.shippedAt(), o.arrivedAt()));
+    }
+
+    private static Item toItem(OrderExportItem item) {
+        return new Item(item.productId(), item.productName(), item.orderPrice(), item.orderQuantity());
+    }
+}
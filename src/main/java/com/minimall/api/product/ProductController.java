@@ -1,19 +1,52 @@
 package com.minimall.api.product;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.api.common.csv.CsvReader;
+import com.minimall.api.exception.InvalidBulkRequestException;
+import com.minimall.api.product.dto.ProductCursor;
+import com.minimall.api.product.dto.request.ProductImportRequest;
 import com.minimall.api.product.dto.request.ProductRegisterRequest;
+import com.minimall.api.product.dto.request.StockAdjustmentRequest;
+import com.minimall.api.product.dto.response.BulkItemError;
+import com.minimall.api.product.dto.response.LowStockProductResponse;
+import com.minimall.api.product.dto.response.ProductImportResponse;
+import com.minimall.api.product.dto.response.ProductCatalogResponse;
+import com.minimall.api.product.dto.response.ProductSummaryPageResponse;
+import com.minimall.api.product.dto.response.ProductSuggestionResponse;
+import com.minimall.api.product.dto.response.ProductSummaryResponse;
+import com.minimall.api.product.dto.response.StockAdjustmentResponse;
 import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductSearchCondition;
+import com.minimall.domain.product.ProductSearchCursor;
+import com.minimall.domain.product.ProductSort;
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
 import com.minimall.service.product.ProductService;
 import com.minimall.service.product.dto.ProductRegisterCommand;
+import com.minimall.service.product.dto.ProductSummarySliceResult;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,7 +55,13 @@ import java.net.URI;
 @Tag(name = "Product API", description = "상품 관련 API")
 public class ProductController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    private static final int MAX_CSV_RECORD_LENGTH = 64 * 1024;
+    private static final List<String> IMPORT_COLUMNS = List.of("name", "price", "stockQuantity");
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "상품 등록")
     @ApiResponses({
@@ -46,6 +85,103 @@ public class ProductController {
                 .build();
     }
 
+    @Operation(summary = "상품 일괄 등록(CSV)",
+            description = "본문: UTF-8 CSV, 첫 줄은 헤더(name, price, stockQuantity 열 필수, 순서 무관). " +
+                    "본문을 스트리밍으로 읽어 묶음 단위로 저장, 단건 등록과 같은 규칙으로 검증해 실패한 행만 errors 로 응답")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료(행별 오류는 errors)"),
+            @ApiResponse(responseCode = "400", description = "헤더 누락 or 본문 형식 오류(이전 묶음은 이미 반영됨)")
+    })
+    @PostMapping(value = "/import", consumes = CSV)
+    public ProductImportResponse importCsv(HttpServletRequest request) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)), MAX_CSV_RECORD_LENGTH);
+        int[] columns = importColumns(csv.next());
+        return ProductImportResponse.from(productService.importProducts(bulkItems(() -> {
+            List<String> record = nextRecord(csv);
+            return (record == null) ? null
+                    : new ProductImportRequest(cell(record, columns[0]), cell(record, columns[1]), cell(record, columns[2])).toRow();
+        })));
+    }
+
+    @Operation(summary = "상품 일괄 등록(JSON)",
+            description = "본문: 항목 배열(JSON) or 한 줄에 한 항목(NDJSON), 항목은 name, price, stockQuantity. 처리 방식은 CSV 와 같음")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료(행별 오류는 errors)"),
+            @ApiResponse(responseCode = "400", description = "본문 형식 오류(이전 묶음은 이미 반영됨)")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    public ProductImportResponse importJson(HttpServletRequest request) throws IOException {
+        try (MappingIterator<ProductImportRequest> items = objectMapper.readerFor(ProductImportRequest.class)
+                .readValues(request.getInputStream())) {
+            return ProductImportResponse.from(productService.importProducts(
+                    bulkItems(() -> items.hasNextValue() ? items.nextValue().toRow() : null)));
+        }
+    }
+
+    @Operation(summary = "상품 검색", description = "상품명 앞부분, 가격 범위, 재고 하한 조건, 정렬별 키셋 페이지(다음 페이지는 응답의 nextCursor 로 요청)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서(다른 정렬의 커서 포함)")
+    })
+    @GetMapping
+    public ProductSummaryPageResponse search(
+            @Parameter(description = "상품명 앞부분") @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @Parameter(description = "재고 하한(샤딩 상품은 재고 스냅샷 기준)") @RequestParam(required = false) Integer minStock,
+            @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+            @Parameter(description = "이전 응답의 nextCursor(생략 시 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기(1 ~ 100)") @RequestParam(defaultValue = "" + ProductService.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+
+        ProductSearchCursor after = (cursor == null) ? null : ProductCursor.decode(cursor, sort);
+        ProductSummarySliceResult slice = productService.search(
+                new ProductSearchCondition(name, minPrice, maxPrice, minStock, sort), after, size);
+
+        List<ProductSummaryResponse> content = slice.content().stream()
+                .map(ProductSummaryResponse::from)
+                .toList();
+        String nextCursor = slice.hasNext() ? ProductCursor.of(slice.content().getLast(), sort).encode() : null;
+        return new ProductSummaryPageResponse(content, nextCursor, slice.hasNext());
+    }
+
+    @Operation(summary = "상품명 자동완성", description = "상품명이 q 로 시작하는 상품(대소문자 무시, 이름순), 인스턴스 메모리 색인 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공(일치 상품 없으면 빈 목록)")
+    })
+    @GetMapping("/suggest")
+    public List<ProductSuggestionResponse> suggest(
+            @RequestParam String q,
+            @Parameter(description = "최대 건수(1 ~ 20)") @RequestParam(defaultValue = "" + ProductService.DEFAULT_SUGGEST_SIZE) int size) {
+
+        return productService.suggest(q, size).stream()
+                .map(ProductSuggestionResponse::from)
+                .toList();
+    }
+
+    @Operation(summary = "재고 부족 상품", description = "재고 < 상품별 기준(없으면 전역 기준)인 상품, 재고 오름차순(인스턴스 메모리 감시 목록, 변경 후 수 초 내 반영)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/low-stock")
+    public List<LowStockProductResponse> lowStock(
+            @Parameter(description = "최대 건수(1 ~ 1000)") @RequestParam(defaultValue = "" + ProductService.DEFAULT_LOW_STOCK_SIZE) int size) {
+
+        return productService.getLowStock(size).stream()
+                .map(LowStockProductResponse::from)
+                .toList();
+    }
+
+    @Operation(summary = "상품 조회", description = "이름, 가격(카탈로그 캐시, 재고 제외)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상품 찾을 수 없음")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductCatalogResponse> getProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(ProductCatalogResponse.from(productService.getCatalog(id)));
+    }
+
     @Operation(summary = "재고 증가")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "재고 증가 성공"),
@@ -90,6 +226,67 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "재고 일괄 조정",
+            description = "본문: 항목 배열(JSON) or 한 줄에 한 항목(NDJSON), 항목은 productId + delta(증감) or quantity(설정). " +
+                    "본문을 스트리밍으로 읽어 묶음 단위로 반영, 항목별 결과(APPLIED, NOT_FOUND, INSUFFICIENT_STOCK, INVALID)를 요청 순서대로 응답. " +
+                    "도중에 형식 오류가 나면 그 앞 항목까지 반영하고 멈춤(오류 항목 순번은 error)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료(항목별 성공/실패는 results, 본문 형식 오류는 error)")
+    })
+    @PostMapping(value = "/stock/adjustments", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    public StockAdjustmentResponse adjustStocks(HttpServletRequest request) throws IOException {
+        try (MappingIterator<StockAdjustmentRequest> items = objectMapper.readerFor(StockAdjustmentRequest.class)
+                .readValues(request.getInputStream())) {
+            BulkItems<StockAdjustment> adjustments = new BulkItems<>(
+                    () -> items.hasNextValue() ? items.nextValue().toAdjustment() : null, false);
+            List<StockAdjustmentResult> results = productService.adjustStocks(adjustments);
+            return StockAdjustmentResponse.from(results, adjustments.error());
+        }
+    }
+
+    @Operation(summary = "재고 샤딩 설정", description = "핫 상품 재고를 shards 개 행으로 분산(이미 샤딩 상품이면 재분배)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "재고 샤딩 설정 성공"),
+            @ApiResponse(responseCode = "404", description = "상품 찾을 수 없음"),
+            @ApiResponse(responseCode = "422", description = "샤드 수 범위 오류")
+    })
+    @PostMapping("/{id}/stock/shards")
+    public ResponseEntity<Void> enableStockSharding(@PathVariable Long id,
+                                                    @RequestParam int shards) {
+
+        productService.enableStockSharding(id, shards);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "재고 샤딩 해제", description = "샤드 합계를 단일 행 재고로 되돌림")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "재고 샤딩 해제 성공"),
+            @ApiResponse(responseCode = "404", description = "상품 찾을 수 없음")
+    })
+    @DeleteMapping("/{id}/stock/shards")
+    public ResponseEntity<Void> disableStockSharding(@PathVariable Long id) {
+
+        productService.disableStockSharding(id);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "재고 부족 기준 변경", description = "threshold 생략 시 전역 기준 사용")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "재고 부족 기준 변경 성공"),
+            @ApiResponse(responseCode = "404", description = "상품 찾을 수 없음"),
+            @ApiResponse(responseCode = "422", description = "기준 음수")
+    })
+    @PatchMapping("/{id}/stock/low-threshold")
+    public ResponseEntity<Void> changeLowStockThreshold(@PathVariable Long id,
+                                                        @RequestParam(required = false) Integer threshold) {
+
+        productService.changeLowStockThreshold(id, threshold);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "상품명 변경")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품명 변경 성공"),
@@ -134,4 +331,98 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    //== 일괄 요청 본문 읽기 ==//
+    //항목을 하나씩 읽는 Iterator: 최상위 배열은 원소 단위로, NDJSON/CSV 는 줄 단위로 읽음(형식 오류는 항목 순번과 함께 400)
+    private static <T> Iterator<T> bulkItems(BulkItemReader<T> reader) {
+        return new BulkItems<>(reader, true);
+    }
+
+    /**
+     * 일괄 요청 항목 Iterator
+     * - failFast: 형식 오류를 항목 순번과 함께 400(InvalidBulkRequestException)으로 던짐
+     * - 아니면 오류를 error() 로 남기고 본문 끝으로 처리: 이미 읽은 항목까지만 처리
+     */
+    private static final class BulkItems<T> implements Iterator<T> {
+
+        private final BulkItemReader<T> reader;
+        private final boolean failFast;
+        private int index;
+        private T next;
+        private BulkItemError error;
+
+        private BulkItems(BulkItemReader<T> reader, boolean failFast) {
+            this.reader = reader;
+            this.failFast = failFast;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && error == null) {
+                try {
+                    next = reader.read();
+                } catch (IOException e) {
+                    if (failFast) {
+                        throw new InvalidBulkRequestException(index, e);
+                    }
+                    error = BulkItemError.of(index, e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = next;
+            next = null;
+            index++;
+            return item;
+        }
+
+        //읽다 멈춘 형식 오류(없으면 null)
+        BulkItemError error() {
+            return error;
+        }
+    }
+
+    /**
+     * 본문에서 다음 항목을 읽음(끝이면 null)
+     */
+    @FunctionalInterface
+    private interface BulkItemReader<T> {
+        T read() throws IOException;
+    }
+
+    //헤더 열 이름(대소문자 무시) -> IMPORT_COLUMNS 순서의 열 위치
+    private static int[] importColumns(List<String> header) {
+        List<String> names = (header == null) ? List.of()
+                : header.stream().map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+        int[] columns = new int[IMPORT_COLUMNS.size()];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = names.indexOf(IMPORT_COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (columns[i] < 0) {
+                missing.add(IMPORT_COLUMNS.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new InvalidBulkRequestException("CSV 헤더에 필수 열이 없습니다. (누락: " + missing + ")");
+        }
+        return columns;
+    }
+
+    //빈 줄은 건너뜀
+    private static List<String> nextRecord(CsvReader csv) throws IOException {
+        List<String> record;
+        do {
+            record = csv.next();
+        } while (record != null && record.size() == 1 && record.get(0).isBlank());
+        return record;
+    }
+
+    private static String cell(List<String> record, int column) {
+        return (column < record.size()) ? record.get(column) : null;
+    }
 }
@@ -0,0 +1,48 @@
+package com.minimall.api.product.dto;
+
+import com.minimall.api.common.cursor.CursorCodec;
+import com.minimall.domain.product.ProductSearchCursor;
+import com.minimall.domain.product.ProductSort;
+import com.minimall.domain.product.ProductSummary;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 검색 키셋 커서: 정렬, 마지막 상품 ID, 정렬 키(가격 or 상품명)
+ * - 정렬이 다른 요청에 쓰인 커서는 잘못된 커서(400)
+ * - 상품명은 구분자('|')와 겹치지 않도록 URL 인코딩
+ */
+public record ProductCursor(
+        ProductSort sort,
+        ProductSearchCursor after
+) {
+    public static ProductCursor of(ProductSummary last, ProductSort sort) {
+        return new ProductCursor(sort, ProductSearchCursor.of(last, sort));
+    }
+
+    public String encode() {
+        String key = switch (sort) {
+            case NEWEST -> "";
+            case PRICE_ASC, PRICE_DESC -> after.price().toString();
+            case NAME_ASC -> URLEncoder.encode(after.name(), StandardCharsets.UTF_8);
+        };
+        return CursorCodec.encode(sort, after.id(), key);
+    }
+
+    public static ProductSearchCursor decode(String cursor, ProductSort expectedSort) {
+        return CursorCodec.decode(cursor, 3, keys -> {
+            ProductSort sort = ProductSort.valueOf(keys[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("sort mismatch");
+            }
+            Long id = Long.parseLong(keys[1]);
+            return switch (sort) {
+                case NEWEST -> new ProductSearchCursor(null, null, id);
+                case PRICE_ASC, PRICE_DESC -> new ProductSearchCursor(null, Integer.parseInt(keys[2]), id);
+                case NAME_ASC -> new ProductSearchCursor(URLDecoder.decode(keys[2], StandardCharsets.UTF_8), null, id);
+            };
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.minimall.api.product.dto.request;
+
+import com.minimall.service.product.dto.ProductImportRow;
+
+/**
+ * 상품 일괄 등록 행(NDJSON 한 줄 or CSV 한 레코드)
+ * - 숫자도 문자열로 받아 CSV 와 같은 규칙으로 검증: 형식/규칙 오류는 요청 전체를 거절하지 않고 해당 행 오류로 응답
+ */
+public record ProductImportRequest(
+        String name,
+        String price,
+        String stockQuantity
+) {
+    public ProductImportRow toRow() {
+        return new ProductImportRow(name, price, stockQuantity);
+    }
+}
@@ -0,0 +1,17 @@
+package com.minimall.api.product.dto.request;
+
+import com.minimall.service.inventory.dto.StockAdjustment;
+
+/**
+ * 재고 일괄 조정 항목: delta(증감량, 음수 = 차감) 또는 quantity(설정할 재고) 중 하나만 지정
+ * - 항목 검증 실패는 요청 전체를 거절하지 않고 해당 항목 결과(INVALID)로 응답
+ */
+public record StockAdjustmentRequest(
+        Long productId,
+        Integer delta,
+        Integer quantity
+) {
+    public StockAdjustment toAdjustment() {
+        return new StockAdjustment(productId, delta, quantity);
+    }
+}
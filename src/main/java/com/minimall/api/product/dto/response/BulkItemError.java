@@ -0,0 +1,19 @@
+package com.minimall.api.product.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+
+/**
+ * 일괄 요청 본문을 더 읽을 수 없는 항목(형식 오류): 이 항목부터는 처리하지 않음
+ * @param index 요청 내 항목 순번(0부터)
+ */
+public record BulkItemError(
+        int index,
+        String message
+) {
+    public static BulkItemError of(int index, IOException cause) {
+        String detail = (cause instanceof JsonProcessingException json) ? json.getOriginalMessage() : cause.getMessage();
+        return new BulkItemError(index, "요청 본문의 항목을 읽을 수 없습니다. (" + detail + ")");
+    }
+}
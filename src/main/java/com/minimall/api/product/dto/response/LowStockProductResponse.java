@@ -0,0 +1,17 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.service.inventory.dto.LowStockItem;
+
+/**
+ * 재고 부족 상품(stockQuantity < threshold)
+ */
+public record LowStockProductResponse(
+        Long id,
+        String name,
+        int stockQuantity,
+        int threshold
+) {
+    public static LowStockProductResponse from(LowStockItem item) {
+        return new LowStockProductResponse(item.productId(), item.name(), item.stockQuantity(), item.threshold());
+    }
+}
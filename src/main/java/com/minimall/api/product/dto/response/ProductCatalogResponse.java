@@ -0,0 +1,16 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.domain.product.ProductCatalog;
+
+/**
+ * 상품 카탈로그 응답(재고 제외)
+ */
+public record ProductCatalogResponse(
+        Long id,
+        String name,
+        int price
+) {
+    public static ProductCatalogResponse from(ProductCatalog catalog) {
+        return new ProductCatalogResponse(catalog.productId(), catalog.name(), catalog.price());
+    }
+}
@@ -0,0 +1,23 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.service.product.dto.ProductImportError;
+import com.minimall.service.product.dto.ProductImportResult;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과
+ * @param errors 실패 행(행 순서), errorsTruncated 가 true 면 앞부분만 포함
+ */
+public record ProductImportResponse(
+        int total,
+        int imported,
+        int failed,
+        List<ProductImportError> errors,
+        boolean errorsTruncated
+) {
+    public static ProductImportResponse from(ProductImportResult result) {
+        return new ProductImportResponse(result.total(), result.imported(), result.failed(),
+                result.errors(), result.errorsTruncated());
+    }
+}
@@ -0,0 +1,15 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.domain.product.ProductName;
+
+/**
+ * 상품명 자동완성 항목
+ */
+public record ProductSuggestionResponse(
+        Long id,
+        String name
+) {
+    public static ProductSuggestionResponse from(ProductName productName) {
+        return new ProductSuggestionResponse(productName.productId(), productName.name());
+    }
+}
@@ -0,0 +1,17 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.domain.product.ProductSummary;
+
+/**
+ * 상품 검색 결과 항목(재고는 샤딩 상품의 경우 스냅샷)
+ */
+public record ProductSummaryResponse(
+        Long id,
+        String name,
+        int price,
+        int stockQuantity
+) {
+    public static ProductSummaryResponse from(ProductSummary summary) {
+        return new ProductSummaryResponse(summary.id(), summary.name(), summary.price(), summary.stockQuantity());
+    }
+}
@@ -0,0 +1,24 @@
+package com.minimall.api.product.dto.response;
+
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import com.minimall.service.inventory.dto.StockAdjustmentStatus;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 조정 결과
+ * @param results 요청 순서대로 항목별 결과
+ * @param error 본문 형식 오류(없으면 null): results 는 오류 항목 앞까지의 결과(모두 반영 완료)
+ */
+public record StockAdjustmentResponse(
+        int total,
+        int applied,
+        int failed,
+        List<StockAdjustmentResult> results,
+        BulkItemError error
+) {
+    public static StockAdjustmentResponse from(List<StockAdjustmentResult> results, BulkItemError error) {
+        int applied = (int) results.stream().filter(r -> r.status() == StockAdjustmentStatus.APPLIED).count();
+        return new StockAdjustmentResponse(results.size(), applied, results.size() - applied, results, error);
+    }
+}
@@ -0,0 +1,77 @@
+package com.minimall.api.sales;
+
+import com.minimall.api.sales.dto.response.DailySalesResponse;
+import com.minimall.api.sales.dto.response.GradeSalesResponse;
+import com.minimall.api.sales.dto.response.ProductSalesResponse;
+import com.minimall.api.sales.dto.response.SalesRebuildResponse;
+import com.minimall.service.sales.SalesRollupRebuilder;
+import com.minimall.service.sales.SalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/sales", produces = "application/json")
+@Tag(name = "Sales API", description = "매출 집계 조회 API(관리자)")
+public class SalesController {
+
+    private final SalesRollupService salesRollupService;
+    private final SalesRollupRebuilder salesRollupRebuilder;
+
+    @Operation(summary = "일별 매출", description = "일별 집계 테이블만 조회(기간 일수에 비례), 최근 변경은 집계 반영 주기만큼 늦게 보임")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "기간 누락 or 형식 오류")
+    })
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailySalesResponse>> getDailySales(
+            @Parameter(description = "시작 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesRollupService.getDailySales(from, to).stream()
+                .map(DailySalesResponse::from)
+                .toList());
+    }
+
+    @Operation(summary = "일별 회원 등급 매출", description = "주문 시점 등급 기준, 등급이 없는 주문(고객 회원 외)은 제외")
+    @GetMapping("/grades")
+    public ResponseEntity<List<GradeSalesResponse>> getGradeSales(
+            @Parameter(description = "시작 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesRollupService.getGradeSales(from, to).stream()
+                .map(GradeSalesResponse::from)
+                .toList());
+    }
+
+    @Operation(summary = "기간 매출 상위 상품", description = "일별 상품 집계를 기간 합산해 매출(할인 후) 순으로 조회")
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSalesResponse>> getTopProducts(
+            @Parameter(description = "시작 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "최대 건수(1 ~ 100)") @RequestParam(defaultValue = "" + SalesRollupService.DEFAULT_TOP_PRODUCT_SIZE) int size) {
+        return ResponseEntity.ok(salesRollupService.getTopProducts(from, to, size).stream()
+                .map(ProductSalesResponse::from)
+                .toList());
+    }
+
+    @Operation(summary = "매출 재집계(백필)", description = "기간의 하루마다 주문에서 집계 행을 다시 계산(하루 단위 트랜잭션)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재집계 완료"),
+            @ApiResponse(responseCode = "400", description = "기간 누락 or 형식 오류")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<SalesRebuildResponse> rebuild(
+            @Parameter(description = "시작 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 일자(포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(SalesRebuildResponse.from(salesRollupRebuilder.rebuild(from, to)));
+    }
+}
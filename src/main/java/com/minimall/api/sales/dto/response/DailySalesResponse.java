@@ -0,0 +1,26 @@
+package com.minimall.api.sales.dto.response;
+
+import com.minimall.domain.sales.DailySales;
+import com.minimall.domain.sales.SalesTotals;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출(결제 완료 주문, 주문 일자 기준)
+ * @param grossAmount 할인 전 금액
+ * @param revenue 할인 후 금액(grossAmount - discountAmount)
+ */
+public record DailySalesResponse(
+        LocalDate salesDate,
+        long orderCount,
+        long units,
+        long grossAmount,
+        long discountAmount,
+        long revenue
+) {
+    public static DailySalesResponse from(DailySales sales) {
+        SalesTotals totals = sales.getTotals();
+        return new DailySalesResponse(sales.getSalesDate(), totals.getOrderCount(), totals.getUnits(),
+                totals.getGrossAmount(), totals.getDiscountAmount(), totals.getRevenue());
+    }
+}
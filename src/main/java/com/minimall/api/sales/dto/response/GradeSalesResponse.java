@@ -0,0 +1,26 @@
+package com.minimall.api.sales.dto.response;
+
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.sales.DailyGradeSales;
+import com.minimall.domain.sales.SalesTotals;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 회원 등급 매출(주문 시점 등급 기준)
+ */
+public record GradeSalesResponse(
+        LocalDate salesDate,
+        CustomerGrade grade,
+        long orderCount,
+        long units,
+        long grossAmount,
+        long discountAmount,
+        long revenue
+) {
+    public static GradeSalesResponse from(DailyGradeSales sales) {
+        SalesTotals totals = sales.getTotals();
+        return new GradeSalesResponse(sales.getSalesDate(), sales.getCustomerGrade(), totals.getOrderCount(),
+                totals.getUnits(), totals.getGrossAmount(), totals.getDiscountAmount(), totals.getRevenue());
+    }
+}
@@ -0,0 +1,23 @@
+package com.minimall.api.sales.dto.response;
+
+import com.minimall.domain.sales.ProductSalesSummary;
+
+/**
+ * 기간 상품 매출 합계
+ * @param orderCount 상품이 포함된 주문 수
+ * @param discountAmount 주문 할인 중 상품 몫(항목 금액 비율)
+ */
+public record ProductSalesResponse(
+        Long productId,
+        String productName,
+        long orderCount,
+        long units,
+        long grossAmount,
+        long discountAmount,
+        long revenue
+) {
+    public static ProductSalesResponse from(ProductSalesSummary summary) {
+        return new ProductSalesResponse(summary.productId(), summary.productName(), summary.orderCount(),
+                summary.units(), summary.grossAmount(), summary.discountAmount(), summary.revenue());
+    }
+}
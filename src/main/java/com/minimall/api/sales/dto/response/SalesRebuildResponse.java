@@ -0,0 +1,12 @@
+package com.minimall.api.sales.dto.response;
+
+import com.minimall.service.sales.dto.SalesRebuildResult;
+
+public record SalesRebuildResponse(
+        int days,
+        long orders
+) {
+    public static SalesRebuildResponse from(SalesRebuildResult result) {
+        return new SalesRebuildResponse(result.days(), result.orders());
+    }
+}
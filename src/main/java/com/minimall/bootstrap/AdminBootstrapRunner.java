@@ -7,7 +7,6 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class AdminBootstrapRunner implements ApplicationRunner {
@@ -35,13 +34,13 @@ public class AdminBootstrapRunner implements ApplicationRunner {
         this.passwordEncoder = passwordEncoder;
     }
 
+    //트랜잭션 없이 실행: 해시 계산 동안 커넥션 미점유(조회, 저장은 리포지토리 트랜잭션)
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
         if (!enabled) return;
         if (isBlank(loginId) || isBlank(email) || isBlank(password)) return;
 
-        if (memberRepository.existsByLoginId(loginId) || memberRepository.existsByEmail(email)) return;
+        if (memberRepository.existsByLoginIdOrEmail(loginId, email)) return;
 
         String hash = passwordEncoder.encode(password);
         Member admin = Member.registerAdmin(loginId, hash, name, email, null);
@@ -0,0 +1,68 @@
+package com.minimall.config;
+
+import com.minimall.config.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 보호 장치
+ * - Tomcat 요청 처리, 비동기(applicationTaskExecutor: StreamingResponseBody, @Async), @Scheduled 가 가상 스레드로 실행(Spring Boot 자동 설정)
+ * - 요청 스레드 수 상한(server.tomcat.threads.max)이 사라지므로 DB 동시 작업 수를 커넥션 풀 크기 기준으로 제한(ConcurrencyLimitedDataSource)
+ * - carrier 스레드 고정은 VirtualThreadPinningMonitor 로 감시
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * JPA, JdbcTemplate 이 쓰는 dataSource 빈(읽기/쓰기 분리 시 LazyConnectionDataSourceProxy)을 동시 작업 제한으로 감쌈
+     * - 상한 = 커넥션 풀 최대 크기 합(주 DB + 복제본, 복제본 풀은 spring.datasource.hikari.* 를 그대로 씀) x connection-multiplier
+     */
+    @Bean
+    static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                Binder binder = Binder.get(environment);
+                int poolSize = binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class)
+                        .orElse(HIKARI_DEFAULT_POOL_SIZE);
+                int pools = 1;
+                if (binder.bind("app.datasource.routing.enabled", Boolean.class).orElse(false)) {
+                    pools += binder.bind("app.datasource.routing.replica-urls", String[].class)
+                            .map(urls -> (int) Arrays.stream(urls).filter(url -> !url.isBlank()).count())
+                            .orElse(0);
+                }
+                int multiplier = binder.bind("app.virtual-threads.connection-multiplier", Integer.class).orElse(2);
+                Duration acquireTimeout = binder.bind("app.virtual-threads.acquire-timeout", Duration.class)
+                        .orElse(Duration.ofSeconds(2));
+                return new ConcurrencyLimitedDataSource(dataSource, poolSize * pools * multiplier, acquireTimeout,
+                        meterRegistry.getObject());
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinned-threshold:20ms}") Duration threshold, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,152 @@
+package com.minimall.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 동시에 빌려 쓰는(+ 풀에서 기다리는) 스레드 수를 permits 로 제한하는 DataSource
+ * - 가상 스레드 모드에서는 요청 스레드 수 상한이 없으므로, 커넥션 풀 앞에서 대기 인원을 잘라 풀 대기열 폭주를 막음
+ * - 허가는 getConnection 에서 얻고 Connection.close 에서 반납, acquire-timeout 안에 얻지 못하면 SQLTransientConnectionException(-> 503)
+ * - 지표: datasource.concurrency.active(허가 사용 중), datasource.concurrency.waiting(허가 대기), datasource.concurrency.rejected(거절 수)
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public static final String ACTIVE_METRIC_NAME = "datasource.concurrency.active";
+    public static final String WAITING_METRIC_NAME = "datasource.concurrency.waiting";
+    public static final String REJECTED_METRIC_NAME = "datasource.concurrency.rejected";
+
+    private final int permits;
+    private final Semaphore semaphore;
+    private final Duration acquireTimeout;
+    private final Counter rejected;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int permits, Duration acquireTimeout,
+                                        MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+        this.acquireTimeout = acquireTimeout;
+        this.rejected = meterRegistry.counter(REJECTED_METRIC_NAME);
+        Gauge.builder(ACTIVE_METRIC_NAME, semaphore, s -> permits - s.availablePermits()).register(meterRegistry);
+        Gauge.builder(WAITING_METRIC_NAME, semaphore, Semaphore::getQueueLength).register(meterRegistry);
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    //Spring 컨텍스트 종료 시 호출(@Bean destroy 메서드 추론): 감싼 커넥션 풀 종료
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 동시 작업 상한(" + permits + ") 초과, " + acquireTimeout.toMillis() + "ms 대기 후 거절");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 동시 작업 허가 대기 중 인터럽트", e);
+        }
+    }
+
+    //허가를 얻은 뒤 커넥션을 얻지 못하면 바로 반납, 얻으면 close 에서 한 번만 반납
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ReleaseOnClose(target));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private class ReleaseOnClose implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnClose(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            semaphore.release();
+                        }
+                    }
+                    return null;
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
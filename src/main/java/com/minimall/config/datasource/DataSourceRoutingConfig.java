@@ -0,0 +1,125 @@
+package com.minimall.config.datasource;
+
+import com.minimall.config.datasource.ReadWriteRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리(app.datasource.routing.enabled=true 일 때만, 기본은 주 DB 하나)
+ * - 주 DB: spring.datasource.*(Testcontainers @ServiceConnection 포함), 복제본: replica-urls(쉼표 구분)
+ * - 복제본 풀은 spring.datasource.hikari.* 설정을 그대로 쓰고 읽기 전용, 연결 대기는 connection-timeout 까지만(장애 시 빠른 전환),
+ *   기동 시 연결되지 않아도 기동은 계속(점검 작업이 회복 판정)
+ * - JPA, JdbcTemplate 은 @Primary LazyConnectionDataSourceProxy 를 사용
+ * - 복제본에서 읽을 수 있는 JPA 트랜잭션은 2차/쿼리 캐시를 채우지 않음(ReplicaCacheModeJpaDialect)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            dataSource.setJdbcUrl(details.getJdbcUrl());
+            dataSource.setUsername(details.getUsername());
+            dataSource.setPassword(details.getPassword());
+            dataSource.setDriverClassName(details.getDriverClassName());
+        } else {
+            dataSource.setJdbcUrl(properties.determineUrl());
+            dataSource.setUsername(properties.determineUsername());
+            dataSource.setPassword(properties.determinePassword());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+        }
+        return dataSource;
+    }
+
+    //복제본 계정을 지정하지 않으면 주 DB 계정 사용
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource, Environment environment, MeterRegistry meterRegistry,
+            @Value("${app.datasource.routing.replica-urls:}") List<String> replicaUrls,
+            @Value("${app.datasource.routing.replica-username:}") String username,
+            @Value("${app.datasource.routing.replica-password:}") String password,
+            @Value("${app.datasource.routing.connection-timeout:PT1S}") Duration connectionTimeout,
+            @Value("${app.datasource.routing.sticky-window:PT2S}") Duration stickyWindow) {
+        List<Replica> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            String name = "replica-" + i;
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replicaUrls.get(i).strip());
+            dataSource.setUsername(username.isBlank() ? primaryDataSource.getUsername() : username);
+            dataSource.setPassword(username.isBlank() ? primaryDataSource.getPassword() : password);
+            dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+            dataSource.setReadOnly(true);
+            dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new Replica(name, dataSource));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, stickyWindow, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    /**
+     * EntityManagerFactory 의 JpaDialect 를 ReplicaCacheModeJpaDialect 로 교체(복제본 읽기는 캐시에 넣지 않음)
+     * - 초기화 전에 설정: JpaTransactionManager 는 EntityManagerFactory 의 JpaDialect 를 그대로 사용
+     */
+    @Bean
+    static BeanPostProcessor replicaCacheModeJpaDialect(ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect(routingDataSource.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(
+            ReadWriteRoutingDataSource readWriteRoutingDataSource, MeterRegistry meterRegistry,
+            @Value("${app.datasource.routing.max-lag:PT10S}") Duration maxLag) {
+        return new ReplicaHealthChecker(readWriteRoutingDataSource.getReplicas(), maxLag, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new ReadYourWritesFilter(readWriteRoutingDataSource);
+    }
+}
@@ -0,0 +1,166 @@
+package com.minimall.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 사용 가능한 복제본에 라운드 로빈, 그 외(쓰기, 트랜잭션 밖)는 주 DB
+ * - 트랜잭션 속성이 정해진 뒤(첫 SQL 실행 시) 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * - 복제본 연결 실패 시 사용 불가로 표시하고 다음 복제본 -> 모두 불가면 주 DB(회복 판정은 ReplicaHealthChecker)
+ * - 요청이 주 DB 에 고정된 경우(ReadYourWrites) 읽기 전용이어도 주 DB, 쓰기 트랜잭션이 커밋되면 요청을 주 DB 에 고정
+ *   (트랜잭션 밖 자동 커밋 커넥션은 주 DB 를 쓰지만 고정하지 않음)
+ * - 복제본에서 읽은 행/쿼리 결과는 Hibernate 2차/쿼리 캐시에 넣지 않음(ReplicaCacheModeJpaDialect)
+ * - 지표: datasource.routing.connections(target=primary|replica), datasource.routing.fallback(복제본 연결 실패로 건너뜀)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String CONNECTION_METRIC_NAME = "datasource.routing.connections";
+    public static final String FALLBACK_METRIC_NAME = "datasource.routing.fallback";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration stickyWindow;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, Duration stickyWindow,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.stickyWindow = stickyWindow;
+        this.primaryConnections = meterRegistry.counter(CONNECTION_METRIC_NAME, "target", "primary");
+        this.replicaConnections = meterRegistry.counter(CONNECTION_METRIC_NAME, "target", "replica");
+        this.fallbacks = meterRegistry.counter(FALLBACK_METRIC_NAME);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterWrite();
+            return getPrimaryConnection();
+        }
+        if (mayReadFromReplica(true)) {
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (!replica.isAvailable()) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.getDataSource().getConnection();
+                    replicaConnections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.markDown();
+                    fallbacks.increment();
+                    log.warn("복제본 연결 실패, 다른 복제본 or 주 DB 로 전환 (replica: {})", replica.getName(), e);
+                }
+            }
+        }
+        return getPrimaryConnection();
+    }
+
+    //주 DB, 복제본 풀이 각자 계정을 가지므로 호출 측 계정 지정은 지원하지 않음
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("계정 지정 커넥션은 지원하지 않습니다.");
+    }
+
+    /**
+     * 트랜잭션이 복제본에서 읽을 수 있는지(읽기 전용 + 요청이 주 DB 에 고정되지 않음)
+     * - 트랜잭션 시작 시 판단용(ReplicaCacheModeJpaDialect), 실제 대상은 커넥션을 얻을 때 복제본 상태로 결정
+     */
+    boolean mayReadFromReplica(boolean readOnly) {
+        return readOnly && !replicas.isEmpty() && !ReadYourWrites.isPinned();
+    }
+
+    /**
+     * 쓰기 후 주 DB 고정 시간: max(sticky-window, 사용 가능한 복제본의 최대 복제 지연)
+     * - 지연이 길어지면 함께 늘어남(상한은 max-lag: 더 뒤처진 복제본은 읽기 대상에서 제외되므로)
+     */
+    public Duration stickyWindow() {
+        Duration window = stickyWindow;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable() && replica.getLag().compareTo(window) > 0) {
+                window = replica.getLag();
+            }
+        }
+        return window;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    //Spring 컨텍스트 종료 시 호출(@Bean destroy 메서드 추론), 주 DB 풀은 별도 빈으로 종료
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    private Connection getPrimaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        primaryConnections.increment();
+        return connection;
+    }
+
+    //요청 안의 쓰기 트랜잭션은 커밋 후에, 트랜잭션 밖의 주 DB 사용(자동 커밋)은 바로 요청을 주 DB 에 고정
+    //읽기 전용이 아닌 실제 트랜잭션이 커밋된 뒤에만 고정(트랜잭션 밖 자동 커밋 조회, 캐시 미스 로딩 등은 고정하지 않음)
+    private void pinAfterWrite() {
+        if (!ReadYourWrites.isTracking() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWrites.written();
+            }
+        });
+    }
+
+    /**
+     * 복제본 풀과 상태(ReplicaHealthChecker 가 갱신)
+     * - 사용 가능 = 연결 가능 + 복제 진행 중 + 지연 <= max-lag
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean available = true;
+        private volatile Duration lag = Duration.ZERO;
+
+        void markUp(Duration lag) {
+            this.lag = lag;
+            this.available = true;
+        }
+
+        void markDown() {
+            this.available = false;
+        }
+
+        void markLagging(Duration lag) {
+            this.lag = lag;
+            this.available = false;
+        }
+    }
+}
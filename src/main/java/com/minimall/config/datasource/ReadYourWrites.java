@@ -0,0 +1,59 @@
+package com.minimall.config.datasource;
+
+/**
+ * 요청 단위 주 DB 고정(read-your-writes)
+ * - ReadYourWritesFilter 가 요청마다 시작/종료, 요청 밖(스케줄러, 비동기 스트리밍 등)에서는 고정 없음
+ * - 최근 쓰기가 있었던 클라이언트의 요청이거나, 이 요청에서 쓰기 트랜잭션이 커밋된 뒤면 읽기 전용 트랜잭션도 주 DB 로
+ */
+final class ReadYourWrites {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * @param pinned  요청 시작부터 주 DB 고정 여부(최근 쓰기 쿠키)
+     * @param onWrite 이 요청의 첫 쓰기 커밋 시 한 번 호출(쿠키 발급)
+     */
+    static void begin(boolean pinned, Runnable onWrite) {
+        CURRENT.set(new Context(pinned, onWrite));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean isTracking() {
+        return CURRENT.get() != null;
+    }
+
+    static boolean isPinned() {
+        Context context = CURRENT.get();
+        return context != null && context.pinned;
+    }
+
+    //쓰기 커밋 이후 이 요청의 나머지 조회는 주 DB 로
+    static void written() {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.pinned = true;
+        if (!context.written) {
+            context.written = true;
+            context.onWrite.run();
+        }
+    }
+
+    private static final class Context {
+        private final Runnable onWrite;
+        private boolean pinned;
+        private boolean written;
+
+        private Context(boolean pinned, Runnable onWrite) {
+            this.pinned = pinned;
+            this.onWrite = onWrite;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.minimall.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 후 읽기 일관성(read-your-writes): 쓰기가 커밋된 클라이언트는 복제 지연 동안 주 DB 에서 읽음
+ * - 요청 안에서 쓰기 트랜잭션이 커밋되면 쿠키(커밋 시각, epoch ms) 발급, 이후 같은 요청의 조회도 주 DB
+ * - 쿠키의 커밋 시각이 고정 시간(ReadWriteRoutingDataSource.stickyWindow) 안이면 요청 전체를 주 DB 로
+ * - 인증이 없으므로 회원 대신 클라이언트(쿠키) 단위, 쿠키를 보내지 않으면 복제 지연만큼 이전 값을 읽을 수 있음
+ * - 응답이 이미 전송되기 시작했으면 쿠키를 붙이지 못함(스트리밍 응답은 읽기 전용)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_COOKIE = "last-write";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public ReadYourWritesFilter(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        //미래 시각(조작된 쿠키)은 무시: 주 DB 에 계속 고정되지 않도록
+        long elapsed = System.currentTimeMillis() - lastWriteAt(request);
+        boolean pinned = elapsed >= 0 && elapsed < routingDataSource.stickyWindow().toMillis();
+        ReadYourWrites.begin(pinned, () -> issueCookie(response));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private void issueCookie(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Duration window = routingDataSource.stickyWindow();
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, String.valueOf(System.currentTimeMillis()))
+                .path("/")
+                .maxAge(Duration.ofSeconds(window.toSeconds() + 1))
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    //쿠키가 없거나 형식이 잘못되면 0(고정 안 함)
+    private static long lastWriteAt(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.minimall.config.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * 복제본에서 읽을 수 있는 트랜잭션은 Hibernate 2차/쿼리 캐시를 채우지 않음
+ * - 복제 지연으로 뒤처진 행이 2차 캐시에, 뒤처진 쿼리 결과가 새 타임스탬프로 쿼리 캐시에 들어가
+ *   주 DB 가 갱신된 뒤에도 남는 것 방지(캐시를 채우는 건 주 DB 에서 읽은 트랜잭션만)
+ * - 쿼리: 세션 캐시 모드 IGNORE(쿼리 캐시 미사용), GET 은 쿼리 캐시 미스 후 결과를 그대로 넣으므로 쓰지 않음
+ * - find: 세션 속성(jakarta.persistence.cache.storeMode)을 따르므로 BYPASS 로 2차 캐시는 읽기만
+ * - 트랜잭션이 끝나면 원래 값으로 복원
+ */
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private static final String STORE_MODE = AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    ReplicaCacheModeJpaDialect(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!routingDataSource.mayReadFromReplica(definition.isReadOnly())) {
+            return transactionData;
+        }
+        Session session = getSession(entityManager);
+        ReplicaReadTransaction replicaRead = new ReplicaReadTransaction(transactionData, session,
+                session.getCacheMode(), storeMode(session));
+        //storeMode 속성 설정이 세션 캐시 모드를 GET 으로 바꾸므로 캐시 모드는 그 뒤에 설정
+        session.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        session.setCacheMode(CacheMode.IGNORE);
+        return replicaRead;
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransaction replicaRead) {
+            Session session = replicaRead.session();
+            if (session.isOpen()) {
+                session.setProperty(STORE_MODE, replicaRead.previousStoreMode());
+                session.setCacheMode(replicaRead.previousCacheMode());
+            }
+            super.cleanupTransaction(replicaRead.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static CacheStoreMode storeMode(Session session) {
+        return (session.getProperties().get(STORE_MODE) instanceof CacheStoreMode mode) ? mode : CacheStoreMode.USE;
+    }
+
+    private record ReplicaReadTransaction(Object transactionData, Session session,
+                                          CacheMode previousCacheMode, CacheStoreMode previousStoreMode) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.minimall.config.datasource;
+
+import com.minimall.config.datasource.ReadWriteRoutingDataSource.Replica;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 복제본 상태 점검: health-interval 마다 연결 + 복제 지연(SHOW REPLICA STATUS 의 Seconds_Behind_Source) 확인
+ * - 연결 실패, 복제 중단(Seconds_Behind_Source = NULL), 지연 > max-lag 이면 읽기 대상에서 제외, 회복되면 다시 포함
+ * - 복제 상태를 조회할 수 없으면(REPLICATION CLIENT 권한 없음, MySQL 외 DB) 연결만 확인하고 지연 0 으로 간주
+ * - 지표: datasource.replica.available(1 or 0), datasource.replica.lag(초), 태그 replica
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    public static final String AVAILABLE_METRIC_NAME = "datasource.replica.available";
+    public static final String LAG_METRIC_NAME = "datasource.replica.lag";
+
+    static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+
+    public ReplicaHealthChecker(List<Replica> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        for (Replica replica : replicas) {
+            Gauge.builder(AVAILABLE_METRIC_NAME, replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder(LAG_METRIC_NAME, replica, r -> r.getLag().toSeconds())
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.datasource.routing.health-interval:PT5S}",
+            fixedDelayString = "${app.datasource.routing.health-interval:PT5S}")
+    public void check() {
+        replicas.forEach(this::check);
+    }
+
+    void check(Replica replica) {
+        Duration lag;
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            lag = replicationLag(connection);
+        } catch (SQLException e) {
+            if (replica.isAvailable()) {
+                log.warn("복제본 연결 실패, 읽기 대상에서 제외 (replica: {})", replica.getName(), e);
+            }
+            replica.markDown();
+            return;
+        }
+
+        if (lag == null) {
+            if (replica.isAvailable()) {
+                log.warn("복제 중단, 읽기 대상에서 제외 (replica: {})", replica.getName());
+            }
+            replica.markDown();
+        } else if (lag.compareTo(maxLag) > 0) {
+            if (replica.isAvailable()) {
+                log.warn("복제 지연 초과, 읽기 대상에서 제외 (replica: {}, lag: {}s)", replica.getName(), lag.toSeconds());
+            }
+            replica.markLagging(lag);
+        } else {
+            if (!replica.isAvailable()) {
+                log.info("복제본 회복, 읽기 대상에 포함 (replica: {}, lag: {}s)", replica.getName(), lag.toSeconds());
+            }
+            replica.markUp(lag);
+        }
+    }
+
+    /**
+     * @return 복제 지연, 복제가 중단됐으면 null
+     */
+    private static Duration replicationLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(REPLICA_STATUS_SQL)) {
+            if (!rs.next()) {
+                return Duration.ZERO; //복제 미설정(단독 DB)
+            }
+            long seconds = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+        } catch (SQLException e) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw e;
+            }
+            log.debug("복제 상태 조회 불가, 연결만 확인", e);
+            return Duration.ZERO;
+        }
+    }
+}
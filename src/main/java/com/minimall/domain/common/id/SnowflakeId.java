@@ -0,0 +1,19 @@
+package com.minimall.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 순 정렬 Long 식별자(Snowflake) 생성
+ * - INSERT 전에 식별자를 애플리케이션에서 발급 -> IDENTITY 와 달리 JDBC 배치 INSERT 가능
+ * - @GeneratedValue 대신 @Id 필드에 사용
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,125 @@
+package com.minimall.domain.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 식별자 생성기
+ * - 구조(53bit, JS Number 안전 범위): 타임스탬프 41bit(ms, 2025-01-01Z 기준) | 워커 4bit | 시퀀스 8bit
+ * - 잠금 없이 CAS 로 (타임스탬프, 시퀀스) 갱신, 타임스탬프는 시계보다 앞서지 않음
+ *   (앞서 발급하면 재시작/워커 ID 재배정 후 같은 값이 다시 발급될 수 있음)
+ * - 같은 ms 안 시퀀스 소진 -> 다음 ms 까지 대기, 시계 역행 -> MAX_CLOCK_BACKWARD_MILLIS 이내면 따라잡을 때까지 대기, 초과면 예외
+ * - 워커 ID: hibernate 설정 app.id.worker-id (인스턴스마다 다르게 지정, 기본값 없음 -> 없으면 기동 실패)
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<SnowflakeId> {
+
+    public static final String WORKER_ID_SETTING = "app.id.worker-id";
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int WORKER_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    //이 이상 시계가 되돌아가면 기다리지 않고 실패(NTP 보정 등 짧은 역행만 대기)
+    static final long MAX_CLOCK_BACKWARD_MILLIS = 50;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final LongSupplier clock;
+    private long workerId;
+
+    //마지막 발급 값: (경과 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong last = new AtomicLong();
+
+    //Hibernate 가 (Spring 빈 컨테이너를 통해) 기본 생성자로 만든 뒤 initialize 호출
+    public SnowflakeIdGenerator() {
+        this.clock = System::currentTimeMillis;
+    }
+
+    SnowflakeIdGenerator(int workerId, LongSupplier clock) {
+        this.clock = clock;
+        assignWorkerId(workerId);
+    }
+
+    @Override
+    public void initialize(SnowflakeId annotation, Member member, GeneratorCreationContext context) {
+        String workerId = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(WORKER_ID_SETTING, StandardConverters.STRING);
+        try {
+            assignWorkerId(Integer.parseInt(String.valueOf(workerId).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(
+                    WORKER_ID_SETTING + " (APP_ID_WORKER_ID) must be set per instance: " + workerId, e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    long nextId() {
+        long next;
+        while (true) {
+            long prev = last.get();
+            long prevMillis = prev >>> SEQUENCE_BITS;
+            long nowMillis = clock.getAsLong() - EPOCH_MILLIS;
+            if (nowMillis > prevMillis) {
+                next = nowMillis << SEQUENCE_BITS;
+            } else if (nowMillis == prevMillis && (prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = prev + 1;
+            } else {
+                awaitClock(prevMillis - nowMillis);
+                continue;
+            }
+            if (last.compareAndSet(prev, next)) {
+                break;
+            }
+        }
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    //시퀀스 소진(behind = 0)은 다음 ms 까지 스핀, 시계 역행은 그만큼 대기
+    private static void awaitClock(long behindMillis) {
+        if (behindMillis > MAX_CLOCK_BACKWARD_MILLIS) {
+            throw new IllegalStateException("Clock moved backwards by " + behindMillis + "ms, refusing to generate id");
+        }
+        if (behindMillis == 0) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(behindMillis));
+        }
+    }
+
+    private void assignWorkerId(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(
+                    WORKER_ID_SETTING + " must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+    }
+}
@@ -0,0 +1,75 @@
+package com.minimall.domain.idempotency;
+
+import com.minimall.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키(Idempotency-Key)로 처리한 요청의 응답 기록
+ * - (scope, 키) 유니크: 같은 키의 동시 요청은 INSERT 에서 대기 후 실패 -> 먼저 커밋된 응답을 재생
+ * - 처리 결과(주문 등)와 같은 트랜잭션에서 저장 -> 커밋된 요청만 기록, 롤백된 요청은 같은 키로 다시 실행 가능
+ * - expiresAt 이 지나면 주기 작업이 삭제
+ */
+@Entity
+@Table(name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = IdempotencyRecord.SCOPE_KEY_UNIQUE, columnNames = {"scope", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    //(scope, 키) 유니크 제약 이름(키 충돌과 처리 중 다른 무결성 위반 구분)
+    public static final String SCOPE_KEY_UNIQUE = "uq_idempotency_scope_key";
+
+    @Id
+    @SnowflakeId
+    @Column(name = "idempotency_record_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String scope;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String key;
+
+    /**
+     * 요청 내용 해시(SHA-256, hex): 같은 키를 다른 요청에 재사용했는지 판별
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * 응답 본문(JSON), 처리 중에는 null(커밋 전이므로 다른 트랜잭션에는 보이지 않음)
+     */
+    @Column(length = 4000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+
+    //== 생성자 ==//
+    public static IdempotencyRecord start(String scope, String key, String requestHash,
+                                          LocalDateTime now, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.scope = scope;
+        record.key = key;
+        record.requestHash = requestHash;
+        record.createdAt = now;
+        record.expiresAt = expiresAt;
+        return record;
+    }
+
+
+    //== 비즈니스 로직 ==//
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+}
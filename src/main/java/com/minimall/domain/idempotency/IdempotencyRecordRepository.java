@@ -0,0 +1,28 @@
+package com.minimall.domain.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    @Query("select r from IdempotencyRecord r " +
+            "where r.scope = :scope and r.key = :key and r.expiresAt > :now and r.responseBody is not null")
+    Optional<IdempotencyRecord> findCompleted(@Param("scope") String scope, @Param("key") String key,
+                                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.scope = :scope and r.key = :key and r.expiresAt <= :now")
+    int deleteExpired(@Param("scope") String scope, @Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 기록 최대 limit 건 삭제(만료 시각 인덱스 범위 삭제, 한 번에 잠그는 행 수 제한)
+     */
+    @Modifying
+    @Query(value = "delete from idempotency_record where expires_at <= :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Objects;
 
@@ -12,8 +14,11 @@ import java.util.Objects;
 @Table(name = "member_customer_profile")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CustomerProfile.CACHE_REGION)
 public class CustomerProfile extends BaseTimeEntity {
 
+    public static final String CACHE_REGION = "customer-profile";
+
     @Id
     @Column(name = "member_id")
     private Long memberId;
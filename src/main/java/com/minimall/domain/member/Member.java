@@ -1,6 +1,7 @@
 package com.minimall.domain.member;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.exception.Guards;
 import com.minimall.domain.member.exception.InvalidEmailException;
 import com.minimall.domain.member.exception.InvalidLoginIdException;
@@ -10,6 +11,11 @@ import com.minimall.domain.order.Order;
 import com.minimall.domain.embeddable.Address;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,14 +24,30 @@ import java.util.Objects;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Member.LOGIN_ID_UNIQUE, columnNames = "login_id"),
+        @UniqueConstraint(name = Member.EMAIL_UNIQUE, columnNames = "email")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
+@NaturalIdCache(region = Member.NATURAL_ID_CACHE_REGION)
 public class Member extends BaseEntity {
 
+    //유니크 제약 이름(중복 저장 시 어떤 필드가 충돌했는지 판별)
+    public static final String LOGIN_ID_UNIQUE = "uq_member_login_id";
+    public static final String EMAIL_UNIQUE = "uq_member_email";
+
+    //2차 캐시 영역(영역별 설정: hibernate-cache.conf)
+    public static final String CACHE_REGION = "member";
+    public static final String NATURAL_ID_CACHE_REGION = "member-natural-id";
+    public static final String QUERY_CACHE_REGION = "member-query";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "member_id")
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @NaturalId //변경 불가, 로그인 ID -> 회원 ID 해석을 2차 캐시에 보관
+    @Column(nullable = false)
     private String loginId;
 
     @Column(nullable = false)
@@ -34,7 +56,7 @@ public class Member extends BaseEntity {
     @Column(name = "member_name", nullable = false, length = 50)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Embedded
@@ -90,7 +112,15 @@ public class Member extends BaseEntity {
     }
 
     //== 연관관계 편의 메서드 ==//
+    /**
+     * 주문 컬렉션이 아직 로딩되지 않은 상태(지연 로딩)면 컬렉션을 건드리지 않음
+     * - 연관관계 주인은 Order.member 이므로 DB 반영에는 영향 없음
+     * - 주문 이력이 많은 회원도 주문 생성 시 과거 주문 전체를 영속성 컨텍스트로 로딩하지 않음(O(1))
+     */
     public void addOrder(Order order) {
+        if (!Hibernate.isInitialized(orders)) {
+            return;
+        }
         if (!orders.contains(order)) {
             orders.add(order);
         }
@@ -0,0 +1,10 @@
+package com.minimall.domain.member;
+
+/**
+ * 회원 식별 값(유니크 제약 대상) 프로젝션: 가입 중복 검사, 중복 필터 재구성용
+ */
+public record MemberIdentity(
+        String loginId,
+        String email
+) {
+}
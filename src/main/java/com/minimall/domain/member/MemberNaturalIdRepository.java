@@ -0,0 +1,11 @@
+package com.minimall.domain.member;
+
+import java.util.Optional;
+
+/**
+ * 로그인 ID(자연 키) 조회: Hibernate 자연 키 캐시 -> 엔티티 2차 캐시 순으로 조회, 둘 다 적중하면 SQL 없음
+ */
+public interface MemberNaturalIdRepository {
+
+    Optional<Member> findByLoginId(String loginId);
+}
@@ -0,0 +1,23 @@
+package com.minimall.domain.member;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    private final EntityManager em;
+
+    //트랜잭션 밖(로그인)에서 호출돼도 Session 을 조회 동안 유지
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByLoginId(String loginId) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(loginId);
+    }
+}
@@ -1,20 +1,81 @@
 package com.minimall.domain.member;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    //MySQL(Connector/J) 행 단위 스트리밍: 결과를 한 번에 메모리에 올리지 않음, 스트림이 열린 동안 같은 커넥션으로 다른 쿼리 불가
+    int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    String SEARCH_SELECT = "select new com.minimall.domain.member.MemberSummary(" +
+            "m.id, m.loginId, m.name, m.email, m.role, m.status, cp.grade) " +
+            "from Member m left join m.customerProfile cp " +
+            "where (:role is null or m.role = :role) " +
+            "and (:status is null or m.status = :status) " +
+            "and (:grade is null or cp.grade = :grade) ";
 
     List<Member> findByName(String name);
 
+    //이메일은 변경 가능해 자연 키로 둘 수 없음 -> 쿼리 캐시(member 테이블 변경 시 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Member.QUERY_CACHE_REGION)
+    })
     Optional<Member> findByEmail(String email);
 
-    Optional<Member> findByLoginId(String loginId);
+    /**
+     * 가입 중복 검사: 로그인 ID, 이메일 유니크 인덱스를 한 번의 조회로 확인
+     * - 두 컬럼 모두 유니크 -> 결과는 최대 2건
+     */
+    @Query("select new com.minimall.domain.member.MemberIdentity(m.loginId, m.email) from Member m " +
+            "where m.loginId = :loginId or m.email = :email")
+    List<MemberIdentity> findIdentities(@Param("loginId") String loginId, @Param("email") String email);
+
+    Boolean existsByLoginIdOrEmail(String loginId, String email);
 
-    Boolean existsByEmail(String email);
+    //가입 중복 필터 재구성용 전체 로그인 ID, 이메일 스트림(호출 측 트랜잭션 안에서 소비 후 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.minimall.domain.member.MemberIdentity(m.loginId, m.email) from Member m")
+    Stream<MemberIdentity> streamAllIdentities();
 
-    Boolean existsByLoginId(String loginId);
+    /**
+     * 회원 검색 키셋 페이지(ID 오름차순, PK 범위 스캔, OFFSET 없음)
+     * - role/status/grade null -> 조건 없음, cursorId null -> 첫 페이지
+     */
+    @Query(SEARCH_SELECT +
+            "and (:cursorId is null or m.id > :cursorId) " +
+            "order by m.id asc")
+    List<MemberSummary> search(@Param("role") Role role,
+                               @Param("status") MemberStatus status,
+                               @Param("grade") CustomerGrade grade,
+                               @Param("cursorId") Long cursorId,
+                               Limit limit);
 
+    /**
+     * 내보내기용 전방향 스트림: 행 단위 스트리밍(STREAMING_FETCH_SIZE)으로 테이블 크기와 무관하게 메모리 일정
+     * - 호출 측 트랜잭션 안에서 소비 후 close 필요(try-with-resources), 소비 중에는 다른 쿼리를 실행하지 않음
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SEARCH_SELECT + "order by m.id asc")
+    Stream<MemberSummary> streamAll(@Param("role") Role role,
+                                    @Param("status") MemberStatus status,
+                                    @Param("grade") CustomerGrade grade);
 }
@@ -0,0 +1,16 @@
+package com.minimall.domain.member;
+
+/**
+ * 회원 목록/내보내기용 프로젝션(회원 엔티티, 프로필 엔티티 로딩 없이 조회)
+ * - grade: 고객 프로필이 없는 회원(판매자, 관리자)은 null
+ */
+public record MemberSummary(
+        Long id,
+        String loginId,
+        String name,
+        String email,
+        Role role,
+        MemberStatus status,
+        CustomerGrade grade
+) {
+}
@@ -6,13 +6,18 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "member_seller_profile")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SellerProfile.CACHE_REGION)
 public class SellerProfile extends BaseTimeEntity {
 
+    public static final String CACHE_REGION = "seller-profile";
+
     @Id
     @Column(name = "member_id")
     private Long memberId;
@@ -1,6 +1,7 @@
 package com.minimall.domain.order;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.embeddable.Address;
 import com.minimall.domain.embeddable.InvalidAddressException;
 import com.minimall.domain.exception.Guards;
@@ -27,7 +28,7 @@ import static com.minimall.domain.order.delivery.DeliveryStatus.*;
 public class Delivery extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "delivery_id")
     private Long id;
 
@@ -1,7 +1,10 @@
 package com.minimall.domain.order;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.exception.Guards;
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.member.CustomerProfile;
 import com.minimall.domain.member.Member;
 import com.minimall.domain.embeddable.Address;
 import com.minimall.domain.order.delivery.DeliveryException;
@@ -17,17 +20,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.lang.Nullable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "idx_order_status_ordered_at", columnList = "order_status, ordered_at"),
+                @Index(name = "idx_orders_member_ordered_at", columnList = "member_id, ordered_at, order_id"),
+                @Index(name = "idx_orders_status_reserved_until", columnList = "order_status, reserved_until")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_id")
     private Long id;
 
@@ -42,6 +52,18 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private OrderStatus orderStatus;
 
+    /**
+     * 재고 예약 만료 시각: 이때까지 결제되지 않은 ORDERED 주문은 취소되고 재고 복원(null 이면 만료 없음)
+     */
+    private LocalDateTime reservedUntil;
+
+    /**
+     * 주문 시점의 회원 등급(할인 기준): 등급별 매출 집계에 사용, 고객 회원이 아니면 null
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private CustomerGrade customerGrade;
+
     @Embedded
     private OrderAmount orderAmount;
 
@@ -71,11 +93,23 @@ public class Order extends BaseEntity {
         return order;
     }
 
+    /**
+     * 재고 예약 만료가 있는 주문 생성: 주문 시각 + reservationTtl 까지 결제되지 않으면 만료 취소 대상
+     */
+    public static Order createOrder(Member member, Duration reservationTtl, OrderItem... items) {
+        Objects.requireNonNull(reservationTtl, OrderMessage.RESERVATION_TTL_REQUIRED.text());
+        Order order = createOrder(member, items);
+        order.reservedUntil = order.orderedAt.plus(reservationTtl);
+        return order;
+    }
+
     private Order(Member member, LocalDateTime orderedAt, OrderStatus orderStatus, OrderAmount orderAmount) {
         setMember(member);
         this.orderedAt = orderedAt;
         this.orderStatus = orderStatus;
         this.orderAmount = orderAmount;
+        CustomerProfile profile = member.getCustomerProfile();
+        this.customerGrade = (profile != null) ? profile.getGrade() : null;
     }
 
     private static int getTotalAmount(OrderItem[] items) {
@@ -88,9 +122,7 @@ public class Order extends BaseEntity {
     //==연관관계 메서드==//
     private void setMember(@NotNull Member member) {
         this.member = member;
-        if (!member.getOrders().contains(this)) {
-            member.addOrder(this);
-        }
+        member.addOrder(this);
     }
 
     private void addOrderItem(OrderItem orderItem) {
@@ -110,10 +142,18 @@ public class Order extends BaseEntity {
 
     //==비즈니스 로직==//
     public void cancel() {   // 배송 시작 이전 단계에서만 취소 가능
+        cancel(oi -> oi.getProduct().addStock(oi.getOrderQuantity())); //주문 취소 후 재고 복원
+    }
+
+    /**
+     * @param restock 주문 항목별 재고 복원 방식
+     * - 서비스 계층은 엔티티 재고를 직접 바꾸지 않고 조건부 UPDATE 로 복원(InventoryService)
+     */
+    public void cancel(Consumer<OrderItem> restock) {
         ensureCanTransition(OrderStatus.CANCELED);
         if (pay != null) pay.cancel();
         if (delivery != null) delivery.cancel();
-        orderItems.forEach(oi -> oi.getProduct().addStock(oi.getOrderQuantity())); //주문 취소 후 재고 복원
+        orderItems.forEach(restock);
         orderStatus = OrderStatus.CANCELED;
     }
 
@@ -0,0 +1,13 @@
+package com.minimall.domain.order;
+
+/**
+ * 주문 내보내기 항목 프로젝션
+ */
+public record OrderExportItem(
+        Long orderId,
+        Long productId,
+        String productName,
+        int orderPrice,
+        int orderQuantity
+) {
+}
@@ -0,0 +1,49 @@
+package com.minimall.domain.order;
+
+import com.minimall.domain.order.delivery.DeliveryStatus;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.order.pay.PayStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 조회 한 행: 주문 + 결제 + 배송(1:1) + 주문 항목 하나(항목 없으면 항목 필드 null)
+ * - 항목 수만큼 같은 주문 값이 반복됨, 호출 측이 연속한 같은 주문 ID 행을 묶어 주문 한 건으로 만듦
+ */
+public record OrderExportLine(
+        Long orderId,
+        Long memberId,
+        LocalDateTime orderedAt,
+        OrderStatus orderStatus,
+        int originalAmount,
+        int discountAmount,
+        int finalAmount,
+        PayMethod payMethod,
+        Integer payAmount,
+        PayStatus payStatus,
+        LocalDateTime paidAt,
+        DeliveryStatus deliveryStatus,
+        String trackingNo,
+        Integer deliveryFee,
+        LocalDateTime shippedAt,
+        LocalDateTime arrivedAt,
+        Long orderItemId,
+        Long productId,
+        String productName,
+        Integer orderPrice,
+        Integer orderQuantity
+) {
+
+    public OrderExportRow order() {
+        return new OrderExportRow(orderId, memberId, orderedAt, orderStatus, originalAmount, discountAmount, finalAmount,
+                payMethod, payAmount, payStatus, paidAt, deliveryStatus, trackingNo, deliveryFee, shippedAt, arrivedAt);
+    }
+
+    public boolean hasItem() {
+        return orderItemId != null;
+    }
+
+    public OrderExportItem item() {
+        return new OrderExportItem(orderId, productId, productName, orderPrice, orderQuantity);
+    }
+}
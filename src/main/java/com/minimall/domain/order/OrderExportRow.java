@@ -0,0 +1,30 @@
+package com.minimall.domain.order;
+
+import com.minimall.domain.order.delivery.DeliveryStatus;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.order.pay.PayStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 프로젝션: 주문 + 결제 + 배송(1:1, 없으면 해당 필드 null)을 한 행으로 조회(엔티티 로딩 없음)
+ */
+public record OrderExportRow(
+        Long orderId,
+        Long memberId,
+        LocalDateTime orderedAt,
+        OrderStatus orderStatus,
+        int originalAmount,
+        int discountAmount,
+        int finalAmount,
+        PayMethod payMethod,
+        Integer payAmount,
+        PayStatus payStatus,
+        LocalDateTime paidAt,
+        DeliveryStatus deliveryStatus,
+        String trackingNo,
+        Integer deliveryFee,
+        LocalDateTime shippedAt,
+        LocalDateTime arrivedAt
+) {
+}
@@ -1,6 +1,7 @@
 package com.minimall.domain.order;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.exception.DomainExceptionMessage;
 import com.minimall.domain.order.exception.InvalidOrderItemException;
 import com.minimall.domain.product.Product;
@@ -17,7 +18,7 @@ import java.util.Objects;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_item_id")
     private Long id;
 
@@ -41,15 +42,32 @@ public class OrderItem extends BaseEntity {
 
     //== 생성자 메서드 ==//
     public static OrderItem createOrderItem(Product product, int orderQuantity) {
+        OrderItem orderItem = createReservedOrderItem(product, orderQuantity);
+        product.reduceStock(orderQuantity);
+        return orderItem;
+    }
+
+    /**
+     * 재고가 이미 차감된 상품으로 주문 항목 생성(재고 변경 없음)
+     * - 서비스 계층은 조건부 UPDATE 로 재고를 먼저 차감한 뒤 호출(InventoryService)
+     */
+    public static OrderItem createReservedOrderItem(Product product, int orderQuantity) {
+        Objects.requireNonNull(product, DomainExceptionMessage.PARAM_REQUIRE_NOT_NULL.text("product"));
+        return createReservedOrderItem(product, product.getName(), product.getPrice(), orderQuantity);
+    }
+
+    /**
+     * 상품 참조(프록시 가능) + 주문 시점 상품명, 가격으로 주문 항목 생성(상품 필드 접근 없음)
+     * - 서비스 계층은 카탈로그 캐시의 이름, 가격을 전달(ProductCatalogCache)
+     */
+    public static OrderItem createReservedOrderItem(Product product, String productName, int orderPrice, int orderQuantity) {
         Objects.requireNonNull(product, DomainExceptionMessage.PARAM_REQUIRE_NOT_NULL.text("product"));
 
         if (orderQuantity <= 0) {
             throw InvalidOrderItemException.quantityMustBePositive(orderQuantity);
         }
 
-        product.reduceStock(orderQuantity);
-
-        return new OrderItem(product, product.getName(), product.getPrice(), orderQuantity);
+        return new OrderItem(product, productName, orderPrice, orderQuantity);
     }
 
 
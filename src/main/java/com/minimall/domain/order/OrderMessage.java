@@ -7,6 +7,7 @@ public enum OrderMessage {
     NULL_ORDER_ITEM_AT("주문 항목에 null이 포함되었습니다. index: %d"),
     INVALID_ORDER_QUANTITY("주문 수량은 0보다 커야 합니다. 요청 수량: %d"),
     MEMBER_REQUIRED_FOR_ORDER_CREATION("주문 생성 시 회원 정보는 필수입니다."),
+    RESERVATION_TTL_REQUIRED("재고 예약 만료 시간은 필수입니다."),
 
     // 취소
     ORDER_ALREADY_CANCELED("이미 취소된 주문 - orderId: %d, Current: CANCELED"),
@@ -1,17 +1,136 @@
 package com.minimall.domain.order;
 
 import com.minimall.domain.member.Member;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    int EXPORT_FETCH_SIZE = 500;
+
+    //MySQL(Connector/J) 행 단위 스트리밍: 결과를 한 번에 메모리에 올리지 않음, 스트림이 열린 동안 같은 커넥션으로 다른 쿼리 불가
+    int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
     List<Order> findByMember(Member member);
 
+    /**
+     * 주문 상세 fetch plan: 주문 항목, 결제, 배송을 left join fetch 로 한 번에 조회
+     * - 컬렉션 fetch join 은 orderItems 하나뿐이라 행 중복 외 카테시안 곱 없음
+     */
+    @EntityGraph(attributePaths = {"orderItems", "pay", "delivery"})
+    Optional<Order> findDetailById(Long id);
+
+    /**
+     * 회원 주문 요약 키셋 페이지 조회(최신순)
+     * - idx_orders_member_ordered_at(member_id, ordered_at, order_id) 역순 스캔, OFFSET 없음
+     * - 커서(cursorOrderedAt, cursorId) null -> 첫 페이지 / status null -> 전체 상태
+     * - 항목 수는 페이지 행에 대해서만 스칼라 서브쿼리로 집계
+     */
+    @Query("select new com.minimall.domain.order.OrderSummary(o.id, o.orderedAt, o.orderStatus, " +
+            "cast((select count(oi) from OrderItem oi where oi.order = o) as Integer), o.orderAmount.finalAmount) " +
+            "from Order o " +
+            "where o.member.id = :memberId " +
+            "and (:status is null or o.orderStatus = :status) " +
+            "and (:cursorOrderedAt is null or o.orderedAt < :cursorOrderedAt " +
+            "or (o.orderedAt = :cursorOrderedAt and o.id < :cursorId)) " +
+            "order by o.orderedAt desc, o.id desc")
+    List<OrderSummary> findSummariesByMemberId(@Param("memberId") Long memberId,
+                                               @Param("status") OrderStatus status,
+                                               @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Limit limit);
+
+    /**
+     * 상태 변경(결제, 취소) 전 주문 행 잠금: 예약 만료 일괄 취소와 같은 주문을 동시에 처리하지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+
+    //== 재고 예약 만료 ==//
+    /**
+     * 예약이 만료된 ORDERED 주문 ID 를 만료 시각순으로 최대 limit 건 잠금
+     * - idx_orders_status_reserved_until 범위 스캔, 다른 트랜잭션이 잠근 주문(결제/취소 중)은 대기 없이 건너뜀
+     */
+    @Query(value = "select order_id from orders " +
+            "where order_status = 'ORDERED' and reserved_until < :now " +
+            "order by reserved_until limit :limit for update skip locked",
+            nativeQuery = true)
+    List<Long> lockExpiredReservationIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Order o set o.orderStatus = com.minimall.domain.order.OrderStatus.CANCELED, o.updatedAt = :now " +
+            "where o.id in :ids and o.orderStatus = com.minimall.domain.order.OrderStatus.ORDERED")
+    int cancelOrderedByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("select new com.minimall.domain.order.OrderedQuantity(oi.product.id, sum(oi.orderQuantity)) " +
+            "from OrderItem oi where oi.order.id in :orderIds group by oi.product.id")
+    List<OrderedQuantity> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
+
+    //== 내보내기 ==//
+    /**
+     * 내보내기용 전방향 스트림: 한 상태의 주문 시각 범위를 idx_order_status_ordered_at 순서대로 읽음(정렬 작업 없음)
+     * - 결제, 배송(1:1), 항목을 한 쿼리로 left join: 항목마다 한 행, 같은 주문의 행은 연속
+     * - 행 단위 스트리밍(STREAMING_FETCH_SIZE) -> 주문 수와 무관하게 메모리 일정, 스트림을 연 채로 다른 쿼리를 실행하지 않으므로 한 쿼리로 읽음
+     * - 호출 측 트랜잭션 안에서 소비 후 close 필요
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.minimall.domain.order.OrderExportLine(o.id, o.member.id, o.orderedAt, o.orderStatus, " +
+            "o.orderAmount.originalAmount, o.orderAmount.discountAmount, o.orderAmount.finalAmount, " +
+            "p.payMethod, p.payAmount, p.payStatus, p.paidAt, " +
+            "d.deliveryStatus, d.trackingNo, d.deliveryFee, d.shippedAt, d.arrivedAt, " +
+            "oi.id, oi.product.id, oi.productName, oi.orderPrice, oi.orderQuantity) " +
+            "from Order o left join o.pay p left join o.delivery d left join o.orderItems oi " +
+            "where o.orderStatus = :status and o.orderedAt >= :from and o.orderedAt < :to " +
+            "order by o.orderedAt, o.id")
+    Stream<OrderExportLine> streamForExport(@Param("status") OrderStatus status,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    //== 매출 집계 ==//
+    @Query("select new com.minimall.domain.order.SalesOrder(o.id, o.orderedAt, o.customerGrade, " +
+            "o.orderAmount.originalAmount, o.orderAmount.discountAmount, o.orderAmount.finalAmount) " +
+            "from Order o where o.id in :orderIds")
+    List<SalesOrder> findSalesOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 매출 재집계용 스트림: 결제 완료(CONFIRMED, COMPLETED) 주문의 주문 시각 범위
+     * - idx_order_status_ordered_at 의 두 상태 범위만 읽음, 고정 fetch size(호출 측 트랜잭션 안에서 소비 후 close 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.minimall.domain.order.SalesOrder(o.id, o.orderedAt, o.customerGrade, " +
+            "o.orderAmount.originalAmount, o.orderAmount.discountAmount, o.orderAmount.finalAmount) " +
+            "from Order o " +
+            "where o.orderStatus in (com.minimall.domain.order.OrderStatus.CONFIRMED, com.minimall.domain.order.OrderStatus.COMPLETED) " +
+            "and o.orderedAt >= :from and o.orderedAt < :to")
+    Stream<SalesOrder> streamPaidSalesOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.minimall.domain.order.SalesOrderItem(oi.order.id, oi.product.id, oi.orderPrice, oi.orderQuantity) " +
+            "from OrderItem oi where oi.order.id in :orderIds order by oi.order.id, oi.id")
+    List<SalesOrderItem> findSalesItems(@Param("orderIds") Collection<Long> orderIds);
+
     List<Order> findByOrderStatus(OrderStatus orderStatus);
 
     List<Order> findByMemberAndOrderStatus(Member member, OrderStatus orderStatus);
@@ -0,0 +1,15 @@
+package com.minimall.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 요약 프로젝션(주문 엔티티/주문 항목 로딩 없이 집계 쿼리 한 번으로 조회)
+ */
+public record OrderSummary(
+        Long id,
+        LocalDateTime orderedAt,
+        OrderStatus orderStatus,
+        int itemCount,
+        int finalAmount
+) {
+}
@@ -0,0 +1,10 @@
+package com.minimall.domain.order;
+
+/**
+ * 주문 항목 상품별 수량 합계 프로젝션(주문 항목 엔티티 로딩 없이 집계)
+ */
+public record OrderedQuantity(
+        Long productId,
+        long quantity
+) {
+}
@@ -1,6 +1,7 @@
 package com.minimall.domain.order;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.order.pay.PayAmountMismatchException;
 import com.minimall.domain.order.pay.PayStatusException;
 import com.minimall.domain.order.pay.PayMethod;
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class Pay extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "pay_id")
     private Long id;
 
@@ -0,0 +1,18 @@
+package com.minimall.domain.order;
+
+import com.minimall.domain.member.CustomerGrade;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 프로젝션: 주문 금액, 주문 시각(집계 일자), 주문 시점 회원 등급(엔티티 로딩 없음)
+ */
+public record SalesOrder(
+        Long orderId,
+        LocalDateTime orderedAt,
+        CustomerGrade customerGrade,
+        int originalAmount,
+        int discountAmount,
+        int finalAmount
+) {
+}
@@ -0,0 +1,15 @@
+package com.minimall.domain.order;
+
+/**
+ * 매출 집계 프로젝션: 주문 항목의 상품, 단가, 수량
+ */
+public record SalesOrderItem(
+        Long orderId,
+        Long productId,
+        int orderPrice,
+        int orderQuantity
+) {
+    public long amount() {
+        return (long) orderPrice * orderQuantity;
+    }
+}
@@ -0,0 +1,51 @@
+package com.minimall.domain.outbox;
+
+import com.minimall.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 시스템에 전달할 이벤트(트랜잭셔널 아웃박스)
+ * - 상태 변경과 같은 트랜잭션에서 저장 -> 커밋된 변경만 전달, 변경 없이 이벤트만 남는 경우 없음
+ * - 전달(OutboxRelay) 후 삭제, ID(Snowflake)가 발급 시각순이므로 ID 순으로 전달
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @SnowflakeId
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+
+    //== 생성자 ==//
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime occurredAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.minimall.domain.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 미전달 이벤트를 ID(발생)순으로 최대 limit 건 잠금
+     * - 다른 relay(인스턴스)가 잠근 이벤트는 대기 없이 건너뜀 -> 인스턴스별로 겹치지 않는 배치를 전달
+     */
+    @Query(value = "select * from outbox_event order by outbox_event_id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * 가장 오래된 미전달 이벤트의 발생 시각(없으면 empty), 다른 relay 가 잠근 이벤트 포함
+     */
+    @Query("select min(e.occurredAt) from OutboxEvent e")
+    Optional<LocalDateTime> findOldestOccurredAt();
+}
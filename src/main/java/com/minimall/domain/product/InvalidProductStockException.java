@@ -11,7 +11,8 @@
             NEGATIVE,      //파라미터가 음수
             REQUIRED,      //재고 null 금지
             INSUFFICIENT,  //재고 부족
-            REQUIRED_POSITIVE
+            REQUIRED_POSITIVE,
+            SHARDS_OUT_OF_RANGE //재고 샤드 수 범위 오류
         }
 
         private static final String PARAM_NAME = "product.stock";
@@ -58,4 +59,12 @@
                     requested, null
             );
         }
+
+        public static InvalidProductStockException shardsOutOfRange(int requested, int min, int max) {
+            return new InvalidProductStockException(
+                    Reason.SHARDS_OUT_OF_RANGE,
+                    ProductMessage.STOCK_SHARDS_OUT_OF_RANGE.text(min, max, requested),
+                    requested, null
+            );
+        }
     }
\ No newline at end of file
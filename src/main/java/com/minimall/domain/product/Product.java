@@ -1,19 +1,25 @@
 package com.minimall.domain.product;
 
 import com.minimall.domain.common.base.BaseEntity;
+import com.minimall.domain.common.id.SnowflakeId;
 import com.minimall.domain.exception.Guards;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_product_name_id", columnList = "product_name, product_id"),
+        @Index(name = "idx_product_price_id", columnList = "product_price, product_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "product_id")
     private Long id;
 
@@ -23,9 +29,28 @@ public class Product extends BaseEntity {
     @Column(name = "product_price", nullable = false)
     private Integer price;
 
+    /**
+     * 단일 행 재고. 샤딩 상품은 샤드 합계 스냅샷(주기적으로 동기화, 조회 조건용)
+     */
     @Column(nullable = false)
     private Integer stockQuantity;
 
+    /**
+     * 재고 샤드 수(0: 단일 행 재고, N: product_stock_shard N개 행에 분산)
+     */
+    @Column(nullable = false)
+    private int stockShards;
+
+    /**
+     * 재고 부족 기준(재고 < 기준이면 재고 부족), null 이면 전역 기준(app.inventory.low-stock.threshold)
+     */
+    private Integer lowStockThreshold;
+
+    @Getter(AccessLevel.NONE)
+    @Formula("case when stock_shards > 0 then " +
+            "(select coalesce(sum(s.quantity), 0) from product_stock_shard s where s.product_id = product_id) end")
+    private Integer shardedStockQuantity;
+
 
     //== 생성자 ==//
     public Product(String name, Integer price, Integer stockQuantity) {
@@ -36,6 +61,19 @@ public class Product extends BaseEntity {
     }
 
 
+    //== 조회 ==//
+    /**
+     * 샤딩 상품은 로딩 시점의 샤드 합계, 그 외에는 단일 행 재고
+     */
+    public Integer getStockQuantity() {
+        return shardedStockQuantity != null ? shardedStockQuantity : stockQuantity;
+    }
+
+    public boolean isStockSharded() {
+        return stockShards > 0;
+    }
+
+
     //== 비즈니스 로직 ==//
     public void changeName(String name) {
         Guards.requireNotNullAndNotBlank(name,
@@ -49,6 +87,16 @@ public class Product extends BaseEntity {
         this.price = price;
     }
 
+    /**
+     * @param threshold null 이면 전역 기준 사용
+     */
+    public void changeLowStockThreshold(Integer threshold) {
+        if (threshold != null) {
+            Guards.requireNonNegative(threshold, () -> InvalidProductStockException.negative(threshold));
+        }
+        this.lowStockThreshold = threshold;
+    }
+
     public void addStock(int requestedQuantity) {
         Guards.requirePositive(requestedQuantity,
                 () -> InvalidProductStockException.requirePositive(requestedQuantity));
@@ -0,0 +1,12 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 카탈로그 프로젝션(이름, 가격): 캐시 대상
+ * - 재고는 포함하지 않음 -> 재고 판단은 항상 DB(조건부 UPDATE, ProductStock)
+ */
+public record ProductCatalog(
+        Long productId,
+        String name,
+        int price
+) {
+}
@@ -3,7 +3,8 @@ package com.minimall.domain.product;
 public enum ProductMessage {
 
     //재고
-    STOCK_INSUFFICIENT("재고 수량이 부족합니다. (재고 수량: %d, 요청값: %d)");
+    STOCK_INSUFFICIENT("재고 수량이 부족합니다. (재고 수량: %d, 요청값: %d)"),
+    STOCK_SHARDS_OUT_OF_RANGE("재고 샤드 수는 %d ~ %d 사이여야 합니다. (요청값: %d)");
 
     private final String template;
 
@@ -0,0 +1,10 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 ID, 상품명 프로젝션(자동완성 색인 구성용)
+ */
+public record ProductName(
+        Long productId,
+        String name
+) {
+}
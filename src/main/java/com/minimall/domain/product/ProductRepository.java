@@ -1,18 +1,100 @@
 package com.minimall.domain.product;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductSearchRepository, ProductStockBatchRepository {
 
-    List<Product> findByName(String name);
+    int SCAN_FETCH_SIZE = 1000;
 
-    List<Product> findByPriceLessThan(int price);
+    //현재 재고: 샤딩 상품은 샤드 합계, 그 외에는 단일 행 재고
+    String CURRENT_STOCK = "case when p.stockShards > 0 then " +
+            "(select cast(coalesce(sum(s.quantity), 0) as Integer) from ProductStockShard s where s.product.id = p.id) " +
+            "else p.stockQuantity end";
 
-    List<Product> findByPriceGreaterThan(int price);
+    @Query("select new com.minimall.domain.product.ProductCatalog(p.id, p.name, p.price) " +
+            "from Product p where p.id in :ids")
+    List<ProductCatalog> findCatalogsByIdIn(@Param("ids") Collection<Long> ids);
 
-    List<Product> findByStockQuantityLessThan(int stockQuantity);
+    //자동완성 색인 구성용 전체 상품명 스트림(호출 측 트랜잭션 안에서 소비 후 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + SCAN_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.minimall.domain.product.ProductName(p.id, p.name) from Product p")
+    Stream<ProductName> streamAllNames();
 
-    List<Product> findByStockQuantityGreaterThan(int stockQuantity);
+    @Query("select new com.minimall.domain.product.ProductStock(p.id, p.stockQuantity, p.stockShards) " +
+            "from Product p where p.id in :ids")
+    List<ProductStock> findStocksByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.minimall.domain.product.ProductStockLevel(p.id, p.name, " + CURRENT_STOCK + ", p.lowStockThreshold) " +
+            "from Product p where p.id in :ids")
+    List<ProductStockLevel> findStockLevelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재고 부족 상품 전체(재고 < 상품별 기준, 없으면 defaultThreshold) 스트림: 재고 부족 감시 대조용(호출 측 트랜잭션 안에서 소비 후 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + SCAN_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.minimall.domain.product.ProductStockLevel(p.id, p.name, " + CURRENT_STOCK + ", p.lowStockThreshold) " +
+            "from Product p where " + CURRENT_STOCK + " < coalesce(p.lowStockThreshold, :defaultThreshold)")
+    Stream<ProductStockLevel> streamLowStockLevels(@Param("defaultThreshold") int defaultThreshold);
+
+    /**
+     * 잠금 조회: 스냅샷 읽기와 달리 최신 커밋 상태(샤딩 전환 포함)를 반환
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.minimall.domain.product.ProductStock(p.id, p.stockQuantity, p.stockShards) " +
+            "from Product p where p.id = :id")
+    Optional<ProductStock> findStockForUpdate(@Param("id") Long id);
+
+
+    //== 재고 조건부 UPDATE(읽기-수정-쓰기 없이 DB에서 원자적으로 반영) ==//
+    /**
+     * 단일 행 재고 상품만 대상(샤딩 상품은 ProductStockShardRepository)
+     * @return 반영된 행 수(0이면 상품 미존재 or 재고 부족 or 샤딩 상품)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity - :quantity " +
+            "where p.id = :id and p.stockShards = 0 and p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity + :quantity " +
+            "where p.id = :id and p.stockShards = 0")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = 0 where p.id = :id")
+    int clearStock(@Param("id") Long id);
+
+
+    //== 재고 샤딩 ==//
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockShards = :stockShards, p.stockQuantity = :stockQuantity where p.id = :id")
+    int updateStockShards(@Param("id") Long id,
+                          @Param("stockShards") int stockShards,
+                          @Param("stockQuantity") int stockQuantity);
+
+    /**
+     * 샤딩 상품의 재고 스냅샷(stock_quantity)을 샤드 합계로 동기화
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = :stockQuantity where p.id = :id and p.stockShards > 0")
+    int updateShardedStockSnapshot(@Param("id") Long id, @Param("stockQuantity") int stockQuantity);
 }
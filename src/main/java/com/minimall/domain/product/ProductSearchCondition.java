@@ -0,0 +1,19 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 검색 조건(null -> 조건 없음)
+ * - namePrefix: 상품명 앞부분 일치(LIKE 'prefix%', 인덱스 범위 조회)
+ * - minStock: 재고 하한, 샤딩 상품은 재고 스냅샷 기준
+ */
+public record ProductSearchCondition(
+        String namePrefix,
+        Integer minPrice,
+        Integer maxPrice,
+        Integer minStock,
+        ProductSort sort
+) {
+    public ProductSearchCondition {
+        if (namePrefix != null && namePrefix.isBlank()) namePrefix = null;
+        if (sort == null) sort = ProductSort.NEWEST;
+    }
+}
@@ -0,0 +1,19 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 검색 키셋 커서: 이전 페이지 마지막 상품의 정렬 키와 ID
+ * - 정렬에 쓰이지 않는 키는 null(NEWEST -> id 만, PRICE_* -> price, id, NAME_ASC -> name, id)
+ */
+public record ProductSearchCursor(
+        String name,
+        Integer price,
+        Long id
+) {
+    public static ProductSearchCursor of(ProductSummary last, ProductSort sort) {
+        return switch (sort) {
+            case NEWEST -> new ProductSearchCursor(null, null, last.id());
+            case PRICE_ASC, PRICE_DESC -> new ProductSearchCursor(null, last.price(), last.id());
+            case NAME_ASC -> new ProductSearchCursor(last.name(), null, last.id());
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.minimall.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 검색: 주어진 조건만 WHERE 에 넣어(빈 조건은 생략) 정렬 인덱스 범위 조회가 되도록 동적 쿼리 생성
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * @param after 이전 페이지 마지막 상품(첫 페이지는 null), condition.sort() 와 같은 정렬로 만든 커서
+     */
+    List<ProductSummary> search(ProductSearchCondition condition, ProductSearchCursor after, int limit);
+}
@@ -0,0 +1,74 @@
+package com.minimall.domain.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager em;
+
+    @Override
+    public List<ProductSummary> search(ProductSearchCondition condition, ProductSearchCursor after, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<Product> p = query.from(Product.class);
+        Path<Long> id = p.get("id");
+        Path<String> name = p.get("name");
+        Path<Integer> price = p.get("price");
+        Path<Integer> stock = p.get("stockQuantity");
+
+        List<Predicate> where = new ArrayList<>();
+        if (condition.namePrefix() != null) {
+            where.add(cb.like(name, escapeLike(condition.namePrefix()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.minPrice() != null) where.add(cb.ge(price, condition.minPrice()));
+        if (condition.maxPrice() != null) where.add(cb.le(price, condition.maxPrice()));
+        if (condition.minStock() != null) where.add(cb.ge(stock, condition.minStock()));
+
+        List<Order> orderBy = switch (condition.sort()) {
+            case NEWEST -> {
+                if (after != null) where.add(cb.lt(id, after.id()));
+                yield List.of(cb.desc(id));
+            }
+            case PRICE_ASC -> {
+                if (after != null) where.add(cb.or(cb.gt(price, after.price()),
+                        cb.and(cb.equal(price, after.price()), cb.gt(id, after.id()))));
+                yield List.of(cb.asc(price), cb.asc(id));
+            }
+            case PRICE_DESC -> {
+                if (after != null) where.add(cb.or(cb.lt(price, after.price()),
+                        cb.and(cb.equal(price, after.price()), cb.lt(id, after.id()))));
+                yield List.of(cb.desc(price), cb.desc(id));
+            }
+            case NAME_ASC -> {
+                if (after != null) where.add(cb.or(cb.greaterThan(name, after.name()),
+                        cb.and(cb.equal(name, after.name()), cb.gt(id, after.id()))));
+                yield List.of(cb.asc(name), cb.asc(id));
+            }
+        };
+
+        query.select(cb.construct(ProductSummary.class, id, name, price, stock))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(orderBy);
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    //사용자 입력의 %, _ 는 문자 그대로 비교
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
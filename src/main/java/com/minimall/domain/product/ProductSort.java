@@ -0,0 +1,14 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 검색 정렬(동순위는 ID 로 구분 -> 키셋 페이지 순서 고정)
+ * - NEWEST: ID 내림차순(Snowflake ID 는 생성 시각 순), PK 사용
+ * - PRICE_ASC, PRICE_DESC: idx_product_price_id
+ * - NAME_ASC: idx_product_name_id
+ */
+public enum ProductSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    NAME_ASC
+}
@@ -0,0 +1,15 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 재고 조회용 프로젝션(엔티티 로딩 없이 ID, 재고 수량, 샤드 수만 조회)
+ * - 샤딩 상품의 stockQuantity 는 주기적으로 맞추는 합계 스냅샷
+ */
+public record ProductStock(
+        Long productId,
+        int stockQuantity,
+        int stockShards
+) {
+    public boolean sharded() {
+        return stockShards > 0;
+    }
+}
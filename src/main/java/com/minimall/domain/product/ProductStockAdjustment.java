@@ -0,0 +1,12 @@
+package com.minimall.domain.product;
+
+/**
+ * 단일 행 재고 일괄 조정 항목
+ * @param quantity absolute 면 설정할 재고(0 이상), 아니면 증감량(음수 = 차감)
+ */
+public record ProductStockAdjustment(
+        Long productId,
+        int quantity,
+        boolean absolute
+) {
+}
@@ -0,0 +1,15 @@
+package com.minimall.domain.product;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 조정: 항목마다 조건부 UPDATE 를 JDBC 배치 한 번으로 전송
+ */
+public interface ProductStockBatchRepository {
+
+    /**
+     * 단일 행 재고 상품만 반영, 결과 재고가 음수가 되는 항목은 SQL 조건으로 제외
+     * @return 항목별 반영 행 수(adjustments 순서): 0 -> 미존재 or 샤딩 상품 or 재고 부족
+     */
+    int[] adjustStocks(List<ProductStockAdjustment> adjustments);
+}
@@ -0,0 +1,40 @@
+package com.minimall.domain.product;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+@RequiredArgsConstructor
+class ProductStockBatchRepositoryImpl implements ProductStockBatchRepository {
+
+    /**
+     * 증감/설정을 한 문장으로: 새 재고 = 현재 재고 x factor + quantity (증감 factor 1, 설정 factor 0)
+     * - 같은 배치 안에서 같은 상품의 증감과 설정이 섞여도 요청 순서대로 반영
+     */
+    private static final String ADJUST_SQL = "update product set stock_quantity = stock_quantity * ? + ? " +
+            "where product_id = ? and stock_shards = 0 and stock_quantity * ? + ? >= 0";
+
+    private final EntityManager em;
+
+    @Override
+    public int[] adjustStocks(List<ProductStockAdjustment> adjustments) {
+        em.flush(); //영속성 컨텍스트의 대기 중인 변경을 먼저 반영(@Modifying flushAutomatically 와 같은 순서 보장)
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ADJUST_SQL)) {
+                for (ProductStockAdjustment adjustment : adjustments) {
+                    int factor = adjustment.absolute() ? 0 : 1;
+                    ps.setInt(1, factor);
+                    ps.setInt(2, adjustment.quantity());
+                    ps.setLong(3, adjustment.productId());
+                    ps.setInt(4, factor);
+                    ps.setInt(5, adjustment.quantity());
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.minimall.domain.product;
+
+/**
+ * 재고 부족 감시용 프로젝션(ID, 이름, 현재 재고, 상품별 재고 부족 기준)
+ * - 샤딩 상품의 stockQuantity 는 조회 시점의 샤드 합계
+ * @param lowStockThreshold null 이면 전역 기준
+ */
+public record ProductStockLevel(
+        Long productId,
+        String name,
+        int stockQuantity,
+        Integer lowStockThreshold
+) {
+}
@@ -0,0 +1,43 @@
+package com.minimall.domain.product;
+
+import com.minimall.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핫 상품 재고 분산 행(샤드)
+ * - 상품 재고를 N개 행으로 나눠 동시 주문이 서로 다른 행을 잠그도록 함
+ * - 수량 변경은 조건부 UPDATE 로만 수행(ProductStockShardRepository)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_stock_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uq_product_stock_shard", columnNames = {"product_id", "shard_no"}))
+public class ProductStockShard {
+
+    @Id
+    @SnowflakeId
+    @Column(name = "product_stock_shard_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private int quantity;
+
+
+    //== 생성자 ==//
+    public ProductStockShard(Product product, int shardNo, int quantity) {
+        this.product = product;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+    }
+}
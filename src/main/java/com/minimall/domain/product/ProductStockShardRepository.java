@@ -0,0 +1,81 @@
+package com.minimall.domain.product;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    //== 조회 ==//
+    /**
+     * 잠금 없는 조회(샤드 선택, 품절 판단용)
+     */
+    @Query("select s from ProductStockShard s where s.product.id = :productId order by s.shardNo")
+    List<ProductStockShard> findAllByProductId(@Param("productId") Long productId);
+
+    /**
+     * 샤드 번호 오름차순으로 잠금(잠금 대기 발생)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockShard s where s.product.id = :productId order by s.shardNo")
+    List<ProductStockShard> findAllForUpdate(@Param("productId") Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockShard s " +
+            "where s.product.id = :productId and s.shardNo >= :fromShardNo order by s.shardNo")
+    List<ProductStockShard> findAllForUpdateFrom(@Param("productId") Long productId,
+                                                 @Param("fromShardNo") int fromShardNo);
+
+    /**
+     * 다른 트랜잭션이 잠근 샤드는 건너뛰고 잠금(대기 없음)
+     */
+    @Query(value = "select * from product_stock_shard " +
+            "where product_id = :productId and shard_no < :toShardNo order by shard_no for update skip locked",
+            nativeQuery = true)
+    List<ProductStockShard> findAllForUpdateSkipLockedBelow(@Param("productId") Long productId,
+                                                            @Param("toShardNo") int toShardNo);
+
+    @Query("select new com.minimall.domain.product.ProductStockShardSummary(" +
+            "s.product.id, sum(s.quantity), min(s.quantity), count(s)) " +
+            "from ProductStockShard s group by s.product.id")
+    List<ProductStockShardSummary> summarizeByProduct();
+
+
+    //== 샤드 조건부 UPDATE ==//
+    /**
+     * @return 반영된 행 수(0이면 샤드 미존재 or 샤드 재고 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update ProductStockShard s set s.quantity = s.quantity - :quantity " +
+            "where s.product.id = :productId and s.shardNo = :shardNo and s.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("shardNo") int shardNo,
+                            @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProductStockShard s set s.quantity = s.quantity + :quantity " +
+            "where s.product.id = :productId and s.shardNo = :shardNo")
+    int increase(@Param("productId") Long productId,
+                 @Param("shardNo") int shardNo,
+                 @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProductStockShard s set s.quantity = :quantity " +
+            "where s.product.id = :productId and s.shardNo = :shardNo")
+    int overwrite(@Param("productId") Long productId,
+                  @Param("shardNo") int shardNo,
+                  @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProductStockShard s set s.quantity = 0 where s.product.id = :productId")
+    int clear(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ProductStockShard s where s.product.id = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,12 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품별 재고 샤드 집계(재고 스냅샷 동기화, 샤드 재분배 판단용)
+ */
+public record ProductStockShardSummary(
+        Long productId,
+        long totalQuantity,
+        int minQuantity,
+        long shardCount
+) {
+}
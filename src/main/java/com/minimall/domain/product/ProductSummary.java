@@ -0,0 +1,13 @@
+package com.minimall.domain.product;
+
+/**
+ * 상품 검색 결과 프로젝션(엔티티 로딩 없이 조회)
+ * - stockQuantity: 샤딩 상품은 재고 스냅샷(주기적으로 샤드 합계와 동기화)
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        int price,
+        int stockQuantity
+) {
+}
@@ -0,0 +1,46 @@
+package com.minimall.domain.sales;
+
+import com.minimall.domain.member.CustomerGrade;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 회원 등급 매출 집계(주문 시점 등급 기준, 등급이 없는 주문은 제외)
+ */
+@Entity
+@Table(name = "sales_daily_grade")
+@IdClass(DailyGradeSales.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyGradeSales {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private CustomerGrade customerGrade;
+
+    @Embedded
+    private SalesTotals totals;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private CustomerGrade customerGrade;
+
+        public Key(LocalDate salesDate, CustomerGrade customerGrade) {
+            this.salesDate = salesDate;
+            this.customerGrade = customerGrade;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.minimall.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyGradeSalesRepository extends JpaRepository<DailyGradeSales, DailyGradeSales.Key> {
+
+    List<DailyGradeSales> findBySalesDateBetweenOrderBySalesDateAscCustomerGradeAsc(LocalDate from, LocalDate to);
+}
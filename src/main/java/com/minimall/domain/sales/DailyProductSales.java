@@ -0,0 +1,46 @@
+package com.minimall.domain.sales;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 상품 매출 집계
+ * - orderCount: 상품이 포함된 주문 수, 할인 금액: 주문 할인을 항목 금액 비율로 나눈 몫
+ */
+@Entity
+@Table(name = "sales_daily_product",
+        indexes = @Index(name = "idx_sales_daily_product_product", columnList = "product_id, sales_date"))
+@IdClass(DailyProductSales.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyProductSales {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Embedded
+    private SalesTotals totals;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private Long productId;
+
+        public Key(LocalDate salesDate, Long productId) {
+            this.salesDate = salesDate;
+            this.productId = productId;
+        }
+    }
+}
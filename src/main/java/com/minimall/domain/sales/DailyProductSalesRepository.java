@@ -0,0 +1,24 @@
+package com.minimall.domain.sales;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, DailyProductSales.Key> {
+
+    /**
+     * 기간 매출 상위 상품: 일별 상품 집계 행(일수 x 판매 상품 수)만 합산, 주문 테이블은 읽지 않음
+     */
+    @Query("select new com.minimall.domain.sales.ProductSalesSummary(s.productId, p.name, " +
+            "sum(s.totals.orderCount), sum(s.totals.units), sum(s.totals.grossAmount), " +
+            "sum(s.totals.discountAmount), sum(s.totals.revenue)) " +
+            "from DailyProductSales s left join Product p on p.id = s.productId " +
+            "where s.salesDate between :from and :to " +
+            "group by s.productId, p.name " +
+            "order by sum(s.totals.revenue) desc, s.productId")
+    List<ProductSalesSummary> findTopProducts(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+}
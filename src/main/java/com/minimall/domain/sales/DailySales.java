@@ -0,0 +1,25 @@
+package com.minimall.domain.sales;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계(결제 완료 주문, 주문 일자 기준)
+ * - 쓰기는 SalesRollupBatchRepository 의 증감 UPDATE/INSERT 로만 수행(엔티티는 조회 전용)
+ */
+@Entity
+@Table(name = "sales_daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySales {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Embedded
+    private SalesTotals totals;
+}
@@ -0,0 +1,16 @@
+package com.minimall.domain.sales;
+
+/**
+ * 기간 상품 매출 합계 프로젝션(일별 상품 집계의 합)
+ * @param productName 상품이 삭제되었으면 null
+ */
+public record ProductSalesSummary(
+        Long productId,
+        String productName,
+        long orderCount,
+        long units,
+        long grossAmount,
+        long discountAmount,
+        long revenue
+) {
+}
@@ -0,0 +1,53 @@
+package com.minimall.domain.sales;
+
+import com.minimall.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 대기 기록: 주문의 매출 반영(+1) or 반영 취소(-1)
+ * - 주문 상태 변경과 같은 트랜잭션에서 INSERT 만 수행 -> 결제/취소가 집계 행 잠금을 기다리지 않음
+ * - 주기 작업(SalesRollupUpdater)이 묶음으로 집계 테이블에 반영 후 삭제
+ * - salesDate: 주문 일자(집계 일자), 재집계 시 그날의 대기 기록을 함께 삭제
+ */
+@Entity
+@Table(name = "sales_ledger",
+        indexes = @Index(name = "idx_sales_ledger_sales_date", columnList = "sales_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesLedgerEntry {
+
+    public static final int CONFIRMED = 1;
+    public static final int CANCELED = -1;
+
+    @Id
+    @SnowflakeId
+    @Column(name = "sales_ledger_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "entry_sign", nullable = false)
+    private int sign;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+
+
+    //== 생성자 ==//
+    public SalesLedgerEntry(Long orderId, LocalDate salesDate, int sign, LocalDateTime recordedAt) {
+        this.orderId = orderId;
+        this.salesDate = salesDate;
+        this.sign = sign;
+        this.recordedAt = recordedAt;
+    }
+}
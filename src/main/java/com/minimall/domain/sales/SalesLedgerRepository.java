@@ -0,0 +1,24 @@
+package com.minimall.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesLedgerRepository extends JpaRepository<SalesLedgerEntry, Long> {
+
+    /**
+     * 집계 대기 기록을 ID(기록)순으로 최대 limit 건 잠금
+     * - 다른 인스턴스가 잠근 기록은 대기 없이 건너뜀 -> 인스턴스별로 겹치지 않는 묶음을 반영
+     */
+    @Query(value = "select * from sales_ledger order by sales_ledger_id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<SalesLedgerEntry> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from SalesLedgerEntry e where e.salesDate = :salesDate")
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
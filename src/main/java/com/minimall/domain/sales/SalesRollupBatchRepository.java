@@ -0,0 +1,20 @@
+package com.minimall.domain.sales;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 테이블 쓰기: 증감 INSERT ... ON DUPLICATE KEY UPDATE 를 JDBC 배치로 전송
+ */
+public interface SalesRollupBatchRepository {
+
+    /**
+     * 증감분을 세 집계 테이블에 더함(증감이 모두 0 인 행은 건너뜀)
+     * - 같은 행을 동시에 처음 반영해도 키 중복 없이 합산(한쪽이 행 잠금 대기)
+     */
+    void apply(SalesRollupDelta delta);
+
+    /**
+     * 세 집계 테이블에서 해당 일자의 행 삭제(재집계)
+     */
+    void deleteBySalesDate(LocalDate salesDate);
+}
@@ -0,0 +1,113 @@
+package com.minimall.domain.sales;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+class SalesRollupBatchRepositoryImpl implements SalesRollupBatchRepository {
+
+    private static final RollupTable<LocalDate> DAILY = new RollupTable<>("sales_daily",
+            List.of("sales_date"), Comparator.<LocalDate>naturalOrder(), (ps, index, key) -> ps.setObject(index, key));
+    private static final RollupTable<DailyProductSales.Key> PRODUCT = new RollupTable<>("sales_daily_product",
+            List.of("sales_date", "product_id"),
+            Comparator.comparing(DailyProductSales.Key::getSalesDate).thenComparing(DailyProductSales.Key::getProductId),
+            (ps, index, key) -> {
+                ps.setObject(index, key.getSalesDate());
+                ps.setLong(index + 1, key.getProductId());
+            });
+    private static final RollupTable<DailyGradeSales.Key> GRADE = new RollupTable<>("sales_daily_grade",
+            List.of("sales_date", "customer_grade"),
+            Comparator.comparing(DailyGradeSales.Key::getSalesDate).thenComparing(DailyGradeSales.Key::getCustomerGrade),
+            (ps, index, key) -> {
+                ps.setObject(index, key.getSalesDate());
+                ps.setString(index + 1, key.getCustomerGrade().name());
+            });
+
+    private final EntityManager em;
+
+    @Override
+    public void apply(SalesRollupDelta delta) {
+        em.flush();
+        em.unwrap(Session.class).doWork(connection -> {
+            DAILY.apply(connection, delta.daily());
+            PRODUCT.apply(connection, delta.products());
+            GRADE.apply(connection, delta.grades());
+        });
+    }
+
+    @Override
+    public void deleteBySalesDate(LocalDate salesDate) {
+        em.flush();
+        em.unwrap(Session.class).doWork(connection -> {
+            for (RollupTable<?> table : List.of(DAILY, PRODUCT, GRADE)) {
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "delete from " + table.name() + " where sales_date = ?")) {
+                    ps.setObject(1, salesDate);
+                    ps.executeUpdate();
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface KeyBinder<K> {
+        void bind(PreparedStatement ps, int index, K key) throws SQLException;
+    }
+
+    /**
+     * 집계 테이블 하나의 증감 반영: INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번
+     * - 행이 없으면 증감분으로 생성, 있으면 더함 -> 동시 반영끼리 UPDATE 0 건 후 INSERT 중복 키 충돌 없음
+     * - 넣으려던 값은 행 별칭(new.컬럼)으로 참조, values(컬럼) 은 MySQL 8.0.20 부터 deprecated
+     * - 키 순서로 정렬해 반영 -> 동시 반영이 같은 순서로 행을 잠가 교착 상태 방지
+     */
+    private record RollupTable<K>(String name, List<String> keyColumns, Comparator<K> keyOrder, KeyBinder<K> binder) {
+
+        private static final List<String> MEASURES =
+                List.of("order_count", "units", "gross_amount", "discount_amount", "revenue");
+
+        void apply(Connection connection, Map<K, SalesTotals> rows) throws SQLException {
+            List<Map.Entry<K, SalesTotals>> changed = rows.entrySet().stream()
+                    .filter(row -> !row.getValue().isZero())
+                    .sorted(Map.Entry.comparingByKey(keyOrder))
+                    .toList();
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement(upsertSql())) {
+                for (Map.Entry<K, SalesTotals> row : changed) {
+                    binder.bind(ps, 1, row.getKey());
+                    bindTotals(ps, keyColumns.size() + 1, row.getValue());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        private String upsertSql() {
+            return "insert into " + name + " (" + String.join(", ", keyColumns) + ", " + String.join(", ", MEASURES) + ") " +
+                    "values (" + "?, ".repeat(keyColumns.size() + MEASURES.size() - 1) + "?) as new " +
+                    "on duplicate key update " + MEASURES.stream()
+                    .map(column -> column + " = " + column + " + new." + column)
+                    .collect(Collectors.joining(", "));
+        }
+
+        private static void bindTotals(PreparedStatement ps, int index, SalesTotals totals) throws SQLException {
+            ps.setLong(index, totals.getOrderCount());
+            ps.setLong(index + 1, totals.getUnits());
+            ps.setLong(index + 2, totals.getGrossAmount());
+            ps.setLong(index + 3, totals.getDiscountAmount());
+            ps.setLong(index + 4, totals.getRevenue());
+        }
+    }
+}
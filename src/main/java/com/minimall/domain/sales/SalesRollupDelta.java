@@ -0,0 +1,68 @@
+package com.minimall.domain.sales;
+
+import com.minimall.domain.order.SalesOrder;
+import com.minimall.domain.order.SalesOrderItem;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 테이블별 증감분(일별, 일별 상품, 일별 등급): 주문 묶음을 누적한 뒤 SalesRollupBatchRepository 로 한 번에 반영
+ * - 증분 반영(대기 기록)과 재집계가 같은 계산을 사용 -> 두 경로의 결과가 같음
+ * - 상품별 할인 금액: 주문 할인을 항목 금액 비율로 나누고(내림) 나머지는 마지막 항목에 더함 -> 상품 합계 = 주문 할인
+ */
+public class SalesRollupDelta {
+
+    private final Map<LocalDate, SalesTotals> daily = new HashMap<>();
+    private final Map<DailyProductSales.Key, SalesTotals> products = new HashMap<>();
+    private final Map<DailyGradeSales.Key, SalesTotals> grades = new HashMap<>();
+
+    /**
+     * @param sign 매출 반영 1, 반영 취소 -1
+     */
+    public void add(SalesOrder order, List<SalesOrderItem> items, int sign) {
+        LocalDate salesDate = order.orderedAt().toLocalDate();
+        long units = items.stream().mapToLong(SalesOrderItem::orderQuantity).sum();
+
+        daily.computeIfAbsent(salesDate, key -> new SalesTotals())
+                .add(sign, 1, units, order.originalAmount(), order.discountAmount());
+        if (order.customerGrade() != null) {
+            grades.computeIfAbsent(new DailyGradeSales.Key(salesDate, order.customerGrade()), key -> new SalesTotals())
+                    .add(sign, 1, units, order.originalAmount(), order.discountAmount());
+        }
+
+        long allocated = 0;
+        for (int i = 0; i < items.size(); i++) {
+            SalesOrderItem item = items.get(i);
+            long discount = (i == items.size() - 1)
+                    ? order.discountAmount() - allocated
+                    : discountShare(item.amount(), order);
+            allocated += discount;
+            products.computeIfAbsent(new DailyProductSales.Key(salesDate, item.productId()), key -> new SalesTotals())
+                    .add(sign, 1, item.orderQuantity(), item.amount(), discount);
+        }
+    }
+
+    private static long discountShare(long amount, SalesOrder order) {
+        return (order.originalAmount() == 0) ? 0 : amount * order.discountAmount() / order.originalAmount();
+    }
+
+    public boolean isEmpty() {
+        return daily.isEmpty();
+    }
+
+    public Map<LocalDate, SalesTotals> daily() {
+        return Collections.unmodifiableMap(daily);
+    }
+
+    public Map<DailyProductSales.Key, SalesTotals> products() {
+        return Collections.unmodifiableMap(products);
+    }
+
+    public Map<DailyGradeSales.Key, SalesTotals> grades() {
+        return Collections.unmodifiableMap(grades);
+    }
+}
@@ -0,0 +1,52 @@
+package com.minimall.domain.sales;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출 집계 값: 주문 수, 판매 수량, 할인 전 금액, 할인 금액, 매출(할인 후 금액)
+ * - 집계 테이블(일별, 일별 상품, 일별 등급) 공통, SalesRollupDelta 에서는 증감분 누적에 사용
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesTotals {
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long units;
+
+    @Column(nullable = false)
+    private long grossAmount;
+
+    @Column(nullable = false)
+    private long discountAmount;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    public SalesTotals(long orderCount, long units, long grossAmount, long discountAmount, long revenue) {
+        this.orderCount = orderCount;
+        this.units = units;
+        this.grossAmount = grossAmount;
+        this.discountAmount = discountAmount;
+        this.revenue = revenue;
+    }
+
+    boolean isZero() {
+        return orderCount == 0 && units == 0 && grossAmount == 0 && discountAmount == 0 && revenue == 0;
+    }
+
+    void add(int sign, long orderCount, long units, long grossAmount, long discountAmount) {
+        this.orderCount += sign * orderCount;
+        this.units += sign * units;
+        this.grossAmount += sign * grossAmount;
+        this.discountAmount += sign * discountAmount;
+        this.revenue += sign * (grossAmount - discountAmount);
+    }
+}
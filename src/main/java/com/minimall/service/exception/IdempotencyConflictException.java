@@ -0,0 +1,20 @@
+package com.minimall.service.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    private IdempotencyConflictException(String message) {
+        super(message);
+    }
+
+    //같은 키를 다른 요청 내용에 재사용
+    public static IdempotencyConflictException reused(String key) {
+        return new IdempotencyConflictException(
+                String.format("이미 다른 요청에 사용된 Idempotency-Key 입니다. (key: %s)", key));
+    }
+
+    //같은 키의 요청이 아직 처리 중(대기 시간 초과 or 다른 인스턴스에서 처리 중)
+    public static IdempotencyConflictException inProgress(String key) {
+        return new IdempotencyConflictException(
+                String.format("같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도하세요. (key: %s)", key));
+    }
+}
@@ -0,0 +1,13 @@
+package com.minimall.service.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    private InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+
+    public static InvalidIdempotencyKeyException invalid(int maxLength) {
+        return new InvalidIdempotencyKeyException(
+                String.format("Idempotency-Key 는 1~%d자의 공백이 아닌 값이어야 합니다.", maxLength));
+    }
+}
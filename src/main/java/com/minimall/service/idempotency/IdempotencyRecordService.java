@@ -0,0 +1,51 @@
+package com.minimall.service.idempotency;
+
+import com.minimall.domain.idempotency.IdempotencyRecord;
+import com.minimall.domain.idempotency.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class IdempotencyRecordService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    //읽기 전용으로 두지 않음: 읽기/쓰기 분리 시에도 주 DB 에서 조회(다른 인스턴스가 방금 커밋한 기록을 복제 지연으로 놓치지 않도록)
+    public Optional<StoredResponse> findCompleted(String scope, String key, LocalDateTime now) {
+        return idempotencyRecordRepository.findCompleted(scope, key, now)
+                .map(r -> new StoredResponse(r.getRequestHash(), r.getResponseBody(), r.getExpiresAt()));
+    }
+
+    /**
+     * 기록을 먼저 INSERT(flush) 한 뒤 action 실행, 응답과 함께 커밋
+     * - 같은 키를 다른 트랜잭션이 처리 중이면 INSERT 가 그 트랜잭션 종료까지 대기 -> 커밋됐으면 유니크 위반(DataIntegrityViolationException)
+     * - action 은 이 트랜잭션에 참여(REQUIRED): action 실패 시 기록도 롤백
+     * @return action 이 만든 응답 본문(JSON)
+     */
+    public String execute(String scope, String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt,
+                          Supplier<String> action) {
+        IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(
+                IdempotencyRecord.start(scope, key, requestHash, now, expiresAt));
+        String responseBody = action.get();
+        record.complete(responseBody);
+        return responseBody;
+    }
+
+    /**
+     * 해당 키의 만료 기록 삭제(정기 삭제 전에 같은 키가 다시 들어온 경우)
+     */
+    public int deleteExpired(String scope, String key, LocalDateTime now) {
+        return idempotencyRecordRepository.deleteExpired(scope, key, now);
+    }
+
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return idempotencyRecordRepository.deleteExpired(now, limit);
+    }
+}
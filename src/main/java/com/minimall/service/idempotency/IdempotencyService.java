@@ -0,0 +1,236 @@
+package com.minimall.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minimall.domain.idempotency.IdempotencyRecord;
+import com.minimall.service.exception.IdempotencyConflictException;
+import com.minimall.service.exception.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 요청 처리: 같은 (scope, 키)의 요청은 한 번만 실행하고 이후에는 처음 응답을 재생
+ * - 조회 순서: 메모리 LRU(cache-size, ttl) -> 같은 인스턴스에서 처리 중인 요청 -> DB(idempotency_record)
+ * - 같은 인스턴스의 동시 중복 요청은 하나만 실행하고 나머지는 그 결과를 기다림(wait-timeout 초과 시 409)
+ * - 다른 인스턴스와의 동시 중복은 DB 유니크 제약으로 판정(IdempotencyRecordService.execute)
+ * - 만료됐지만 아직 삭제되지 않은 기록과 유니크 충돌하면 그 기록을 지우고 한 번 다시 실행
+ * - 키 유니크 제약(uq_idempotency_scope_key) 외의 무결성 위반은 실행 실패로 그대로 전달(재실행, 409 변환 없음)
+ * - 실패한 요청(예외)은 기록하지 않음: 기다리던 중복 요청은 같은 예외, 이후 같은 키로 다시 실행 가능
+ * - 같은 키에 다른 요청 내용 -> 409(IdempotencyConflictException.reused)
+ * - 지표: idempotency.requests{result=executed|replayed|coalesced}
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String METRIC_NAME = "idempotency.requests";
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordService idempotencyRecordService;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final int purgeBatchSize;
+    private final Cache<String, StoredResponse> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    public IdempotencyService(IdempotencyRecordService idempotencyRecordService, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${app.idempotency.cache-size:10000}") long cacheSize,
+                              @Value("${app.idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                              @Value("${app.idempotency.purge-batch-size:1000}") int purgeBatchSize) {
+        this.idempotencyRecordService = idempotencyRecordService;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.purgeBatchSize = purgeBatchSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.executed = meterRegistry.counter(METRIC_NAME, "result", "executed");
+        this.replayed = meterRegistry.counter(METRIC_NAME, "result", "replayed");
+        this.coalesced = meterRegistry.counter(METRIC_NAME, "result", "coalesced");
+    }
+
+    /**
+     * @param action 처음 요청일 때만 실행(응답 기록과 같은 트랜잭션)
+     * @param request 요청 내용(경로 변수, 본문 등): 같은 키의 재사용 판별
+     * @return 응답 본문(처음 실행도 저장된 JSON 에서 읽음 -> 재생 응답과 동일), 재생 여부
+     */
+    public <T> IdempotentResult<T> execute(String scope, String key, Class<T> responseType,
+                                           Supplier<T> action, Object... request) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw InvalidIdempotencyKeyException.invalid(MAX_KEY_LENGTH);
+        }
+        String requestHash = hash(scope, request);
+        String cacheKey = scope + ':' + key;
+        LocalDateTime now = LocalDateTime.now();
+
+        StoredResponse cached = cache.getIfPresent(cacheKey);
+        if (cached != null && !cached.isExpired(now)) {
+            return replay(cached, requestHash, key, responseType);
+        }
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            if (!running.requestHash().equals(requestHash)) {
+                throw IdempotencyConflictException.reused(key);
+            }
+            coalesced.increment();
+            return new IdempotentResult<>(read(await(running, key).body(), responseType), true);
+        }
+
+        try {
+            StoredResponse stored = idempotencyRecordService.findCompleted(scope, key, now).orElse(null);
+            if (stored != null) {
+                remember(cacheKey, mine, stored);
+                return replay(stored, requestHash, key, responseType);
+            }
+
+            LocalDateTime expiresAt = now.plus(ttl);
+            String body = null;
+            for (int attempt = 1; body == null; attempt++) {
+                try {
+                    body = idempotencyRecordService.execute(scope, key, requestHash, now, expiresAt,
+                            () -> write(action.get()));
+                } catch (DataIntegrityViolationException e) {
+                    //action 자체의 무결성 위반(주문 FK 등)은 키 충돌이 아니므로 그대로 전달
+                    if (!isKeyConflict(e)) {
+                        throw e;
+                    }
+                    //다른 인스턴스가 같은 키로 먼저 커밋(이쪽 트랜잭션은 롤백)
+                    StoredResponse other = idempotencyRecordService.findCompleted(scope, key, LocalDateTime.now())
+                            .orElse(null);
+                    if (other != null) {
+                        remember(cacheKey, mine, other);
+                        return replay(other, requestHash, key, responseType);
+                    }
+                    if (attempt > 1) {
+                        throw IdempotencyConflictException.inProgress(key);
+                    }
+                    //만료됐지만 아직 삭제(purgeExpired)되지 않은 기록이 키를 차지 -> 지우고 한 번만 다시 실행
+                    idempotencyRecordService.deleteExpired(scope, key, now);
+                }
+            }
+
+            remember(cacheKey, mine, new StoredResponse(requestHash, body, expiresAt));
+            executed.increment();
+            return IdempotentResult.executed(read(body, responseType));
+        } catch (RuntimeException e) {
+            mine.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    //만료 기록 삭제: 배치가 가득 차면 바로 다음 배치
+    @Scheduled(initialDelayString = "${app.idempotency.purge-interval:PT10M}",
+            fixedDelayString = "${app.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int deleted;
+            do {
+                deleted = idempotencyRecordService.purgeExpired(now, purgeBatchSize);
+            } while (deleted == purgeBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("만료 멱등 키 기록 삭제 실패", e);
+        }
+    }
+
+    //처리 중 목록에서 빠지기 전에 캐시에 넣어 이후 요청이 DB 조회 없이 재생
+    private void remember(String cacheKey, InFlight mine, StoredResponse response) {
+        cache.put(cacheKey, response);
+        mine.response().complete(response);
+    }
+
+    private boolean isKeyConflict(DataIntegrityViolationException e) {
+        return violatedConstraint(e).toLowerCase(Locale.ROOT).contains(IdempotencyRecord.SCOPE_KEY_UNIQUE);
+    }
+
+    private String violatedConstraint(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            return cve.getConstraintName();
+        }
+        return String.valueOf(e.getMostSpecificCause().getMessage());
+    }
+
+    private <T> IdempotentResult<T> replay(StoredResponse stored, String requestHash, String key, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw IdempotencyConflictException.reused(key);
+        }
+        replayed.increment();
+        return new IdempotentResult<>(read(stored.body(), responseType), true);
+    }
+
+    private StoredResponse await(InFlight running, String key) {
+        try {
+            return running.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw IdempotencyConflictException.inProgress(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyConflictException.inProgress(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String hash(String scope, Object[] request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 요청 해시 실패", e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 응답 역직렬화 실패", e);
+        }
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<StoredResponse> response) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.minimall.service.idempotency;
+
+/**
+ * @param replayed true -> 저장된 응답을 재생(이번 요청으로 실행하지 않음)
+ */
+public record IdempotentResult<T>(T body, boolean replayed) {
+
+    public static <T> IdempotentResult<T> executed(T body) {
+        return new IdempotentResult<>(body, false);
+    }
+}
@@ -0,0 +1,16 @@
+package com.minimall.service.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 응답
+ * @param requestHash 처음 요청의 내용 해시
+ * @param body 응답 본문(JSON)
+ * @param expiresAt 이 시각 이후에는 재생하지 않음(같은 키로 다시 실행)
+ */
+public record StoredResponse(String requestHash, String body, LocalDateTime expiresAt) {
+
+    boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
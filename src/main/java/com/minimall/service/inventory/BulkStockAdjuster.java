@@ -0,0 +1,59 @@
+package com.minimall.service.inventory;
+
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 재고 일괄 조정(창고 동기화 등 수만 건)
+ * - chunk-size 건씩 묶어 묶음마다 별도 트랜잭션(InventoryService.adjust)으로 반영: 잠금 유지 시간, 트랜잭션 크기 제한
+ * - 입력은 Iterator 로 받아 한 묶음만 메모리에 유지(요청 본문 스트리밍 파싱과 함께 사용)
+ * - 앞선 묶음은 이미 커밋되므로 도중에 입력/DB 오류가 나면 그 묶음부터 반영되지 않음
+ * - 지표: inventory.bulk-adjust.chunk(묶음 처리 시간)
+ */
+@Component
+public class BulkStockAdjuster {
+
+    public static final String CHUNK_METRIC_NAME = "inventory.bulk-adjust.chunk";
+
+    private final InventoryService inventoryService;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+
+    public BulkStockAdjuster(InventoryService inventoryService, MeterRegistry meterRegistry,
+                             @Value("${app.inventory.bulk-adjust.chunk-size:1000}") int chunkSize) {
+        this.inventoryService = inventoryService;
+        this.chunkSize = chunkSize;
+        this.chunkTimer = meterRegistry.timer(CHUNK_METRIC_NAME);
+    }
+
+    /**
+     * @return 요청 순서대로 항목별 결과
+     */
+    public List<StockAdjustmentResult> adjust(Iterator<StockAdjustment> adjustments) {
+        List<StockAdjustmentResult> results = new ArrayList<>();
+        List<StockAdjustment> chunk = new ArrayList<>(chunkSize);
+        while (adjustments.hasNext()) {
+            chunk.add(adjustments.next());
+            if (chunk.size() == chunkSize) {
+                results.addAll(adjustChunk(chunk, results.size()));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(adjustChunk(chunk, results.size()));
+        }
+        return results;
+    }
+
+    private List<StockAdjustmentResult> adjustChunk(List<StockAdjustment> chunk, int firstIndex) {
+        return chunkTimer.record(() -> inventoryService.adjust(chunk, firstIndex));
+    }
+}
@@ -0,0 +1,474 @@
+package com.minimall.service.inventory;
+
+import com.minimall.domain.exception.Guards;
+import com.minimall.domain.product.*;
+import com.minimall.service.exception.ProductNotFoundException;
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import com.minimall.service.inventory.dto.StockAdjustmentStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 증감의 단일 진입점
+ * - 엔티티 읽기-수정-쓰기 대신 조건부 UPDATE 한 문장으로 반영: 동시 주문이 마지막 재고를 함께 통과하지 못함
+ * - 다건 변경은 상품 ID 오름차순으로 실행: 트랜잭션 간 행 잠금 획득 순서가 같아 교착 상태 방지
+ * - 샤딩 상품(핫 SKU)은 product_stock_shard N개 행 중 임의의 행에서 차감: 동시 주문이 서로 다른 행을 잠금
+ * - 재고가 바뀐 상품은 재고 부족 감시(LowStockMonitor)에 알림(커밋 후 반영)
+ * - 일괄 조정(창고 동기화 등)은 항목별 조건부 UPDATE 를 JDBC 배치로 묶어 한 번에 전송
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class InventoryService {
+
+    public static final int MIN_STOCK_SHARDS = 2;
+    public static final int MAX_STOCK_SHARDS = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository shardRepository;
+    private final LowStockMonitor lowStockMonitor;
+    private final EntityManager em;
+
+    //== 차감 ==//
+    /**
+     * @param quantities 상품 ID -> 차감 수량
+     * 하나라도 실패하면 예외(호출 트랜잭션 롤백으로 앞서 차감한 재고도 복구)
+     * - 미존재 상품이 있으면 누락 ID 전체를 담아 ProductNotFoundException
+     * - 그 외에는 첫 재고 부족 상품으로 InvalidProductStockException
+     */
+    public void decrease(Map<Long, Integer> quantities) {
+        quantities.values().forEach(InventoryService::requirePositive);
+        Map<Long, ProductStock> stocks = findStocks(quantities.keySet());
+
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            decreaseOne(stocks.get(entry.getKey()), entry.getValue());
+        }
+        refreshIfManaged(quantities.keySet());
+        lowStockMonitor.stockChanged(quantities.keySet());
+    }
+
+    public void decrease(Long productId, int quantity) {
+        decrease(Map.of(productId, quantity));
+    }
+
+    private void decreaseOne(ProductStock stock, int quantity) {
+        Long productId = stock.productId();
+
+        if (!stock.sharded()) {
+            if (productRepository.decreaseStockIfAvailable(productId, quantity) == 1) {
+                return;
+            }
+            //실패 원인 판별: 최신 커밋 상태 잠금 조회(실패한 UPDATE 가 이미 같은 행을 잠가 추가 대기 없음)
+            ProductStock latest = lockStock(productId);
+            if (!latest.sharded()) {
+                throw InvalidProductStockException.insufficient(quantity, latest.stockQuantity());
+            }
+        }
+        decreaseSharded(productId, quantity);
+    }
+
+    /**
+     * 샤딩 상품 차감
+     * - 잠금 없이 샤드 수량을 읽어 합계 부족(품절)이면 즉시 거절: 품절 이후 몰리는 요청이 샤드를 잠그지 않음
+     * - 요청 수량 이상이 남은 샤드 중 하나를 임의로 골라 조건부 UPDATE(잠그는 샤드는 1개)
+     * - 단독으로 충분한 샤드가 없거나 선택한 샤드가 그 사이 소진되면 여러 샤드에서 나눠 차감
+     */
+    private void decreaseSharded(Long productId, int quantity) {
+        List<ProductStockShard> shards = readShards(productId);
+        if (shards.isEmpty()) {
+            decreaseAfterShardingChanged(productId, quantity);
+            return;
+        }
+
+        int total = shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+        if (total < quantity) {
+            throw InvalidProductStockException.insufficient(quantity, total);
+        }
+
+        List<ProductStockShard> candidates = shards.stream()
+                .filter(shard -> shard.getQuantity() >= quantity)
+                .toList();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (candidates.isEmpty()) {
+            drainShards(productId, shards.get(random.nextInt(shards.size())).getShardNo(), quantity);
+            return;
+        }
+
+        int picked = candidates.get(random.nextInt(candidates.size())).getShardNo();
+        if (shardRepository.decreaseIfAvailable(productId, picked, quantity) == 0) {
+            drainShards(productId, picked, quantity);
+        }
+    }
+
+    /**
+     * 조회 이후 샤딩 모드가 바뀜 -> 상품 행을 잠가 모드를 고정한 뒤 해당 모드로 차감
+     */
+    private void decreaseAfterShardingChanged(Long productId, int quantity) {
+        ProductStock latest = lockStock(productId);
+        if (latest.sharded()) {
+            takeFromShards(productId, lockShardsFrom(productId, 0), quantity);
+        } else if (productRepository.decreaseStockIfAvailable(productId, quantity) == 0) {
+            throw InvalidProductStockException.insufficient(quantity, latest.stockQuantity());
+        }
+    }
+
+    /**
+     * 여러 샤드에서 나눠 차감
+     * - 잠금 대기는 start 이상 샤드에 번호 오름차순으로만, start 미만 샤드는 SKIP LOCKED 로 대기 없이 잠금
+     *   -> 트랜잭션마다 이미 잡은 샤드보다 큰 번호만 기다리므로 잠금 대기 순환(교착 상태)이 생기지 않음
+     * - 다른 트랜잭션이 잡고 있는 start 미만 샤드의 재고는 이번 요청에서 제외(품절 직전에만 재고 부족으로 거절될 수 있음)
+     * - 잠근 샤드가 하나도 없음 -> 조회 이후 샤딩이 해제된 것이므로 품절로 거절하지 않고 상품 행 잠금 후 현재 모드로 차감
+     */
+    private void drainShards(Long productId, int start, int quantity) {
+        List<ProductStockShard> locked = new ArrayList<>(lockShardsFrom(productId, start));
+        int total = locked.stream().mapToInt(ProductStockShard::getQuantity).sum();
+        if (total < quantity && start > 0) {
+            locked.addAll(lockShardsBelowSkipLocked(productId, start));
+        }
+        if (locked.isEmpty()) {
+            decreaseAfterShardingChanged(productId, quantity);
+            return;
+        }
+        takeFromShards(productId, locked, quantity);
+    }
+
+    //잠근 샤드에서 번호 순으로 차감, 합계 부족이면 예외
+    private void takeFromShards(Long productId, List<ProductStockShard> locked, int quantity) {
+        int total = locked.stream().mapToInt(ProductStockShard::getQuantity).sum();
+        if (total < quantity) {
+            throw InvalidProductStockException.insufficient(quantity, total);
+        }
+
+        int remaining = quantity;
+        for (ProductStockShard shard : locked) {
+            int taken = Math.min(shard.getQuantity(), remaining);
+            if (taken > 0) {
+                shardRepository.decreaseIfAvailable(productId, shard.getShardNo(), taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+
+    //== 증가 ==//
+    public void increase(Map<Long, Integer> quantities) {
+        quantities.values().forEach(InventoryService::requirePositive);
+        Map<Long, ProductStock> stocks = findStocks(quantities.keySet());
+
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            increaseOne(stocks.get(entry.getKey()), entry.getValue());
+        }
+        refreshIfManaged(quantities.keySet());
+        lowStockMonitor.stockChanged(quantities.keySet());
+    }
+
+    public void increase(Long productId, int quantity) {
+        increase(Map.of(productId, quantity));
+    }
+
+    /**
+     * 샤딩 상품: 샤드 수 미만(주문 취소 복원 등)은 임의의 한 샤드에 반영
+     * 그 외(대량 입고) or 조회 이후 샤딩 모드가 바뀐 경우: 상품 행을 잠가 모드를 고정한 뒤 전체 샤드에 고르게 분배
+     */
+    private void increaseOne(ProductStock stock, int quantity) {
+        Long productId = stock.productId();
+
+        if (!stock.sharded() && productRepository.increaseStock(productId, quantity) == 1) {
+            return;
+        }
+        if (stock.sharded() && quantity < stock.stockShards()) {
+            int shardNo = ThreadLocalRandom.current().nextInt(stock.stockShards());
+            if (shardRepository.increase(productId, shardNo, quantity) == 1) {
+                return;
+            }
+        }
+
+        ProductStock latest = lockStock(productId);
+        if (!latest.sharded()) {
+            productRepository.increaseStock(productId, quantity);
+            return;
+        }
+
+        int[] portions = split(quantity, latest.stockShards());
+        for (int shardNo = 0; shardNo < portions.length; shardNo++) {
+            if (portions[shardNo] > 0) {
+                shardRepository.increase(productId, shardNo, portions[shardNo]);
+            }
+        }
+    }
+
+
+    //== 초기화 ==//
+    public void clear(Long productId) {
+        if (productRepository.clearStock(productId) == 0) {
+            throw new ProductNotFoundException("id", productId);
+        }
+        shardRepository.clear(productId);
+        refreshIfManaged(List.of(productId));
+        lowStockMonitor.stockChanged(productId);
+    }
+
+
+    //== 일괄 조정 ==//
+    /**
+     * 재고 일괄 조정(한 트랜잭션, 항목별 결과): 실패한 항목이 있어도 나머지는 반영
+     * - 상품 ID 순으로 정렬(같은 상품은 요청 순서 유지)해 조건부 UPDATE 를 JDBC 배치 한 번으로 실행, 음수 재고는 SQL 조건으로 거절
+     * - 반영되지 않은 항목만 IN 조회 한 번으로 미존재/재고 부족 판별, 샤딩 상품은 단건 경로로 반영
+     * @param firstIndex 첫 항목의 요청 내 순번(결과 index)
+     */
+    public List<StockAdjustmentResult> adjust(List<StockAdjustment> adjustments, int firstIndex) {
+        StockAdjustmentStatus[] statuses = new StockAdjustmentStatus[adjustments.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            if (isValid(adjustments.get(i))) {
+                valid.add(i);
+            } else {
+                statuses[i] = StockAdjustmentStatus.INVALID;
+            }
+        }
+        valid.sort(Comparator.comparing(i -> adjustments.get(i).productId()));
+
+        int[] updated = productRepository.adjustStocks(valid.stream()
+                .map(i -> toProductStockAdjustment(adjustments.get(i)))
+                .toList());
+        List<Integer> missed = new ArrayList<>();
+        for (int k = 0; k < updated.length; k++) {
+            if (updated[k] != 0) {
+                statuses[valid.get(k)] = StockAdjustmentStatus.APPLIED;
+            } else {
+                missed.add(valid.get(k));
+            }
+        }
+
+        if (!missed.isEmpty()) {
+            Map<Long, ProductStock> stocks = productRepository.findStocksByIdIn(
+                            missed.stream().map(i -> adjustments.get(i).productId()).distinct().toList()).stream()
+                    .collect(Collectors.toMap(ProductStock::productId, Function.identity()));
+            for (int i : missed) {
+                ProductStock stock = stocks.get(adjustments.get(i).productId());
+                statuses[i] = (stock == null) ? StockAdjustmentStatus.NOT_FOUND
+                        : stock.sharded() ? adjustSharded(stock, adjustments.get(i))
+                        : StockAdjustmentStatus.INSUFFICIENT_STOCK;
+            }
+        }
+
+        List<StockAdjustmentResult> results = new ArrayList<>(adjustments.size());
+        Set<Long> changed = new HashSet<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            Long productId = adjustments.get(i).productId();
+            results.add(new StockAdjustmentResult(firstIndex + i, productId, statuses[i]));
+            if (statuses[i] == StockAdjustmentStatus.APPLIED) {
+                changed.add(productId);
+            }
+        }
+        refreshIfManaged(changed);
+        lowStockMonitor.stockChanged(changed);
+        return results;
+    }
+
+    private StockAdjustmentStatus adjustSharded(ProductStock stock, StockAdjustment adjustment) {
+        try {
+            if (adjustment.quantity() != null) {
+                overwriteSharded(stock.productId(), adjustment.quantity());
+            } else if (adjustment.delta() > 0) {
+                increaseOne(stock, adjustment.delta());
+            } else if (adjustment.delta() < 0) {
+                decreaseOne(stock, -adjustment.delta());
+            }
+            return StockAdjustmentStatus.APPLIED;
+        } catch (InvalidProductStockException e) {
+            return StockAdjustmentStatus.INSUFFICIENT_STOCK;
+        }
+    }
+
+    /**
+     * 샤딩 상품 재고 설정: 상품 행을 잠가 모드를 고정한 뒤 샤드를 잠가 고르게 덮어쓰고 스냅샷 갱신
+     */
+    private void overwriteSharded(Long productId, int quantity) {
+        if (!lockStock(productId).sharded()) {
+            productRepository.adjustStocks(List.of(new ProductStockAdjustment(productId, quantity, true)));
+            return;
+        }
+        List<ProductStockShard> shards = lockShards(productId);
+        int[] portions = split(quantity, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shardRepository.overwrite(productId, shards.get(i).getShardNo(), portions[i]);
+        }
+        productRepository.updateShardedStockSnapshot(productId, quantity);
+    }
+
+
+    //== 재고 샤딩 ==//
+    /**
+     * 상품 재고를 shards 개 행으로 분산(이미 샤딩 상품이면 현재 합계를 새 샤드 수로 재분배)
+     */
+    public void enableSharding(Long productId, int shards) {
+        if (shards < MIN_STOCK_SHARDS || shards > MAX_STOCK_SHARDS) {
+            throw InvalidProductStockException.shardsOutOfRange(shards, MIN_STOCK_SHARDS, MAX_STOCK_SHARDS);
+        }
+
+        int total = collapseShards(lockStock(productId));
+
+        Product product = em.getReference(Product.class, productId);
+        int[] portions = split(total, shards);
+        for (int shardNo = 0; shardNo < shards; shardNo++) {
+            shardRepository.save(new ProductStockShard(product, shardNo, portions[shardNo]));
+        }
+        productRepository.updateStockShards(productId, shards, total);
+        refreshIfManaged(List.of(productId));
+    }
+
+    /**
+     * 샤드 합계를 단일 행 재고로 되돌림
+     */
+    public void disableSharding(Long productId) {
+        ProductStock stock = lockStock(productId);
+        if (!stock.sharded()) {
+            return;
+        }
+
+        productRepository.updateStockShards(productId, 0, collapseShards(stock));
+        refreshIfManaged(List.of(productId));
+    }
+
+    /**
+     * 샤드 합계를 상품 재고 스냅샷에 반영, 비어 있는 샤드가 생겼으면 재분배
+     * - 스냅샷 읽기로 합계를 구하므로 주문 경로의 샤드 잠금과 경합하지 않음
+     */
+    public void reconcile(ProductStockShardSummary summary) {
+        productRepository.updateShardedStockSnapshot(summary.productId(), (int) summary.totalQuantity());
+
+        if (summary.minQuantity() == 0 && summary.totalQuantity() >= summary.shardCount()) {
+            rebalance(summary.productId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductStockShardSummary> summarizeShards() {
+        return shardRepository.summarizeByProduct();
+    }
+
+    private void rebalance(Long productId) {
+        List<ProductStockShard> shards = lockShards(productId);
+        int total = shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+
+        int[] portions = split(total, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shardRepository.overwrite(productId, shards.get(i).getShardNo(), portions[i]);
+        }
+    }
+
+
+    //== 헬퍼 메서드 ==//
+    private static void requirePositive(int quantity) {
+        Guards.requirePositive(quantity, () -> InvalidProductStockException.requirePositive(quantity));
+    }
+
+    //상품 ID 필수, delta 와 quantity 중 하나만, 설정 재고는 0 이상
+    private static boolean isValid(StockAdjustment adjustment) {
+        return adjustment.productId() != null
+                && (adjustment.delta() == null) != (adjustment.quantity() == null)
+                && (adjustment.quantity() == null || adjustment.quantity() >= 0)
+                && (adjustment.delta() == null || adjustment.delta() != Integer.MIN_VALUE);
+    }
+
+    private static ProductStockAdjustment toProductStockAdjustment(StockAdjustment adjustment) {
+        return (adjustment.quantity() != null)
+                ? new ProductStockAdjustment(adjustment.productId(), adjustment.quantity(), true)
+                : new ProductStockAdjustment(adjustment.productId(), adjustment.delta(), false);
+    }
+
+    /**
+     * 미존재 상품이 있으면 누락 ID 전체를 담아 ProductNotFoundException 한 번만 발생
+     */
+    private Map<Long, ProductStock> findStocks(Collection<Long> productIds) {
+        Map<Long, ProductStock> stocks = productRepository.findStocksByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductStock::productId, Function.identity()));
+
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !stocks.containsKey(id))
+                .sorted()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ProductNotFoundException("id", missingIds.size() == 1 ? missingIds.getFirst() : missingIds);
+        }
+        return stocks;
+    }
+
+    private ProductStock lockStock(Long productId) {
+        return productRepository.findStockForUpdate(productId)
+                .orElseThrow(() -> new ProductNotFoundException("id", productId));
+    }
+
+    /**
+     * 샤드를 잠근 뒤 합계를 구하고 삭제(단일 행 재고이면 현재 재고 반환)
+     */
+    private int collapseShards(ProductStock stock) {
+        if (!stock.sharded()) {
+            return stock.stockQuantity();
+        }
+        int total = lockShards(stock.productId()).stream().mapToInt(ProductStockShard::getQuantity).sum();
+        shardRepository.deleteAllByProductId(stock.productId());
+        return total;
+    }
+
+    /**
+     * 샤드 조회 결과는 값만 사용하고 바로 분리(이후 벌크 UPDATE 와 어긋난 상태가 영속성 컨텍스트에 남지 않도록)
+     */
+    private List<ProductStockShard> readShards(Long productId) {
+        return detached(shardRepository.findAllByProductId(productId));
+    }
+
+    private List<ProductStockShard> lockShards(Long productId) {
+        return detached(shardRepository.findAllForUpdate(productId));
+    }
+
+    private List<ProductStockShard> lockShardsFrom(Long productId, int fromShardNo) {
+        return detached(shardRepository.findAllForUpdateFrom(productId, fromShardNo));
+    }
+
+    private List<ProductStockShard> lockShardsBelowSkipLocked(Long productId, int toShardNo) {
+        return detached(shardRepository.findAllForUpdateSkipLockedBelow(productId, toShardNo));
+    }
+
+    private List<ProductStockShard> detached(List<ProductStockShard> shards) {
+        shards.forEach(em::detach);
+        return shards;
+    }
+
+    /**
+     * total 을 count 개로 고르게 나눔(나머지는 앞쪽부터 1씩)
+     */
+    private static int[] split(int total, int count) {
+        int[] portions = new int[count];
+        for (int i = 0; i < count; i++) {
+            portions[i] = total / count + (i < total % count ? 1 : 0);
+        }
+        return portions;
+    }
+
+    /**
+     * 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이미 로딩된 상품 엔티티만 다시 읽어 재고를 맞춤
+     * - 요청마다 새 영속성 컨텍스트를 쓰는 일반 흐름에서는 로딩된 엔티티가 없어 추가 조회 없음
+     */
+    private void refreshIfManaged(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            Product product = em.getReference(Product.class, productId);
+            if (Hibernate.isInitialized(product)) {
+                em.refresh(product);
+            }
+        }
+    }
+}
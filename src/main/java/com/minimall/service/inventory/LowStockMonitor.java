@@ -0,0 +1,182 @@
+package com.minimall.service.inventory;
+
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.domain.product.ProductStockLevel;
+import com.minimall.service.inventory.dto.LowStockItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 재고 부족 상품 감시(인스턴스 메모리, 조회 시 DB 접근 없음)
+ * - 재고 < 상품별 기준(없으면 app.inventory.low-stock.threshold)인 상품만 재고 오름차순으로 보관
+ * - 재고/기준이 바뀐 상품 ID 를 커밋 후 모아 두었다가 refresh-interval 마다 IN 쿼리로 해당 상품만 다시 읽어 반영
+ * - 시작 시(ApplicationReadyEvent), 이후 sweep-interval 마다 재고 부족 상품 전체를 읽어 대조(다른 인스턴스의 변경 반영)
+ * - 재고 부족으로 새로 들어온 상품만 알림(경고 로그 + 지표), 재고가 더 줄어도 다시 알리지 않음
+ * - 지표: inventory.low-stock.alerts(알림 수), inventory.low-stock.products(현재 재고 부족 상품 수)
+ * - refresh/sweep 직렬화는 synchronized 가 아닌 ReentrantLock: 잠근 채 DB 조회(가상 스레드 모드에서 carrier 스레드 고정 방지)
+ */
+@Slf4j
+@Component
+public class LowStockMonitor {
+
+    public static final String ALERT_METRIC_NAME = "inventory.low-stock.alerts";
+    public static final String SIZE_METRIC_NAME = "inventory.low-stock.products";
+    static final int REFRESH_BATCH_SIZE = 1000;
+
+    private static final Comparator<LowStockItem> ORDER =
+            Comparator.comparingInt(LowStockItem::stockQuantity).thenComparing(LowStockItem::productId);
+
+    private final ProductRepository productRepository;
+    private final int defaultThreshold;
+    private final Counter alerts;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListSet<LowStockItem> items = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, LowStockItem> itemsById = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public LowStockMonitor(ProductRepository productRepository, MeterRegistry meterRegistry,
+                           @Value("${app.inventory.low-stock.threshold:10}") int defaultThreshold) {
+        this.productRepository = productRepository;
+        this.defaultThreshold = defaultThreshold;
+        this.alerts = meterRegistry.counter(ALERT_METRIC_NAME);
+        meterRegistry.gauge(SIZE_METRIC_NAME, itemsById, Map::size);
+    }
+
+    /**
+     * @return 재고 부족 상품(재고 오름차순, 같은 재고는 ID 순, 최대 limit 건)
+     */
+    public List<LowStockItem> lowStock(int limit) {
+        return items.stream().limit(limit).toList();
+    }
+
+    /**
+     * 재고/기준 변경 상품 등록(트랜잭션 안이면 커밋 후, 롤백 시 등록 안 함) -> 다음 refresh 에서 다시 읽음
+     */
+    public void stockChanged(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.addAll(ids);
+                }
+            });
+        } else {
+            pending.addAll(ids);
+        }
+    }
+
+    public void stockChanged(Long productId) {
+        stockChanged(List.of(productId));
+    }
+
+    /**
+     * 변경 상품만 다시 읽어 반영(REFRESH_BATCH_SIZE 건씩 IN 쿼리), 조회되지 않는 상품(삭제)은 제거
+     * - 방금 커밋된 값을 읽어야 하므로 읽기 전용이 아닌 트랜잭션(읽기/쓰기 분리 시 복제본이 아닌 주 DB)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.low-stock.refresh-interval:PT1S}")
+    @Transactional
+    public void refresh() {
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(pending);
+            pending.removeAll(ids);
+
+            for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+                Map<Long, ProductStockLevel> levels = new HashMap<>();
+                productRepository.findStockLevelsByIdIn(batch).forEach(level -> levels.put(level.productId(), level));
+                for (Long id : batch) {
+                    ProductStockLevel level = levels.get(id);
+                    if (level == null) {
+                        remove(id);
+                    } else {
+                        apply(level);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재고 부족 상품 전체와 대조: 목록에 없던 상품은 추가(알림), 더 이상 조회되지 않는 상품은 제거
+     * - refresh 와 같은 잠금으로 직렬화: 대조 중 커밋된 변경은 pending 에 남아 이후 refresh 에서 최신 값으로 반영
+     * - refresh 가 반영한 값보다 오래된 값을 읽으면 안 되므로 읽기 전용이 아닌 트랜잭션(읽기/쓰기 분리 시 주 DB)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.inventory.low-stock.sweep-interval:PT5M}",
+            fixedDelayString = "${app.inventory.low-stock.sweep-interval:PT5M}")
+    @Transactional
+    public void sweep() {
+        lock.lock();
+        try {
+            Set<Long> found = new HashSet<>();
+            try (Stream<ProductStockLevel> levels = productRepository.streamLowStockLevels(defaultThreshold)) {
+                levels.forEach(level -> {
+                    found.add(level.productId());
+                    apply(level);
+                });
+            }
+            List.copyOf(itemsById.keySet()).stream()
+                    .filter(id -> !found.contains(id))
+                    .forEach(this::remove);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(ProductStockLevel level) {
+        int threshold = (level.lowStockThreshold() != null) ? level.lowStockThreshold() : defaultThreshold;
+        if (level.stockQuantity() >= threshold) {
+            remove(level.productId());
+            return;
+        }
+
+        LowStockItem item = new LowStockItem(level.productId(), level.name(), level.stockQuantity(), threshold);
+        LowStockItem previous = itemsById.put(item.productId(), item);
+        if (previous != null) {
+            items.remove(previous);
+        }
+        items.add(item);
+        if (previous == null) {
+            alerts.increment();
+            log.warn("재고 부족 (productId: {}, name: {}, stock: {}, threshold: {})",
+                    item.productId(), item.name(), item.stockQuantity(), item.threshold());
+        }
+    }
+
+    private void remove(Long productId) {
+        LowStockItem previous = itemsById.remove(productId);
+        if (previous != null) {
+            items.remove(previous);
+        }
+    }
+}
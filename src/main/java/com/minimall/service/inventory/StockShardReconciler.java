@@ -0,0 +1,30 @@
+package com.minimall.service.inventory;
+
+import com.minimall.domain.product.ProductStockShardSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤딩 상품의 재고 스냅샷 동기화 + 샤드 재분배 주기 작업
+ * - 상품별로 별도 트랜잭션(InventoryService.reconcile)에서 처리해 잠금 범위를 상품 하나로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockShardReconciler {
+
+    private final InventoryService inventoryService;
+
+    @Scheduled(fixedDelayString = "${app.inventory.shard-reconcile-interval:PT30S}")
+    public void reconcile() {
+        for (ProductStockShardSummary summary : inventoryService.summarizeShards()) {
+            try {
+                inventoryService.reconcile(summary);
+            } catch (RuntimeException e) {
+                log.warn("재고 샤드 동기화 실패 (productId: {})", summary.productId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.minimall.service.inventory.dto;
+
+/**
+ * 재고 부족 상품(stockQuantity < threshold)
+ * @param threshold 적용된 기준(상품별 기준, 없으면 전역 기준)
+ */
+public record LowStockItem(
+        Long productId,
+        String name,
+        int stockQuantity,
+        int threshold
+) {
+}
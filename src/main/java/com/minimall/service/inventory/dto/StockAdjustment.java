@@ -0,0 +1,11 @@
+package com.minimall.service.inventory.dto;
+
+/**
+ * 재고 일괄 조정 요청 항목: delta(증감량) 또는 quantity(설정할 재고) 중 하나만 지정
+ */
+public record StockAdjustment(
+        Long productId,
+        Integer delta,
+        Integer quantity
+) {
+}
@@ -0,0 +1,11 @@
+package com.minimall.service.inventory.dto;
+
+/**
+ * @param index 요청 내 순번(0부터)
+ */
+public record StockAdjustmentResult(
+        int index,
+        Long productId,
+        StockAdjustmentStatus status
+) {
+}
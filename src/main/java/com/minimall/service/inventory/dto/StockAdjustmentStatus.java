@@ -0,0 +1,8 @@
+package com.minimall.service.inventory.dto;
+
+public enum StockAdjustmentStatus {
+    APPLIED,
+    NOT_FOUND,
+    INSUFFICIENT_STOCK, // 결과 재고가 음수
+    INVALID             // 상품 ID 누락, delta/quantity 중 하나만 지정하지 않음, 설정 재고 음수
+}
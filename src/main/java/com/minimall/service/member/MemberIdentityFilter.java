@@ -0,0 +1,82 @@
+package com.minimall.service.member;
+
+import com.minimall.domain.member.MemberIdentity;
+import com.minimall.domain.member.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 로그인 ID, 이메일 Bloom 필터: 가입 중복 검사에서 확실히 미사용인 값은 DB 조회 생략
+ * - 시작 시(ApplicationReadyEvent) 전체 회원으로 채우고, 이후 저장/이메일 변경 시 추가(삭제는 반영 안 함 -> 오탐만 늘어남)
+ * - 채우기 전이거나 다른 인스턴스가 저장한 값은 모름 -> 최종 판정은 항상 DB 유니크 제약(MemberService 에서 DuplicateException 변환)
+ * - 대소문자 무시 비교(MySQL ai_ci 정렬)와 맞추기 위해 소문자로 정규화
+ * - 지표: member.identity.lookup{result=skipped|checked}
+ */
+@Component
+public class MemberIdentityFilter {
+
+    public static final String METRIC_NAME = "member.identity.lookup";
+
+    private final MemberRepository memberRepository;
+    private final BloomFilter filter;
+    private final Counter skipped;
+    private final Counter checked;
+
+    private volatile boolean ready;
+
+    public MemberIdentityFilter(MemberRepository memberRepository, MeterRegistry meterRegistry,
+                                @Value("${app.member.identity-filter.expected-members:1000000}") long expectedMembers,
+                                @Value("${app.member.identity-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.filter = new BloomFilter(expectedMembers * 2, falsePositiveRate); //회원당 로그인 ID, 이메일 2건
+        this.skipped = meterRegistry.counter(METRIC_NAME, "result", "skipped");
+        this.checked = meterRegistry.counter(METRIC_NAME, "result", "checked");
+    }
+
+    /**
+     * @return false -> 로그인 ID, 이메일 모두 미사용이 확실(DB 조회 불필요), true -> DB 확인 필요
+     */
+    public boolean mightBeTaken(String loginId, String email) {
+        boolean maybe = !ready || loginId == null || email == null
+                || filter.mightContain(loginIdKey(loginId))
+                || filter.mightContain(emailKey(email));
+        (maybe ? checked : skipped).increment();
+        return maybe;
+    }
+
+    public void put(String loginId, String email) {
+        filter.put(loginIdKey(loginId));
+        filter.put(emailKey(email));
+    }
+
+    public void putEmail(String email) {
+        filter.put(emailKey(email));
+    }
+
+    //채우는 동안 저장된 값은 put 으로 함께 들어가므로 완료 후 ready 전환만 하면 누락 없음
+    //읽기 전용이 아닌 트랜잭션(읽기/쓰기 분리 시 주 DB): 복제본에 아직 없는 회원이 빠지면 가입 시 DB 확인을 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        try (Stream<MemberIdentity> identities = memberRepository.streamAllIdentities()) {
+            identities.forEach(identity -> put(identity.loginId(), identity.email()));
+        }
+        ready = true;
+    }
+
+    private static String loginIdKey(String loginId) {
+        return "loginId:" + loginId.toLowerCase(Locale.ROOT);
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.toLowerCase(Locale.ROOT);
+    }
+}
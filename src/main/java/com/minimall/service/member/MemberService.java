@@ -3,7 +3,9 @@ package com.minimall.service.member;
 import com.minimall.api.member.dto.response.MemberDetailWithOrdersResponse;
 import com.minimall.domain.embeddable.Address;
 import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberIdentity;
 import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.member.MemberSummary;
 import com.minimall.domain.exception.DuplicateException;
 import com.minimall.domain.member.Role;
 import com.minimall.service.exception.InvalidCredentialException;
@@ -11,28 +13,45 @@ import com.minimall.service.exception.MemberNotFoundException;
 import com.minimall.service.member.dto.*;
 import com.minimall.service.member.dto.command.*;
 import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberExportResult;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
+import com.minimall.service.member.dto.result.MemberSummarySliceResult;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 회원 서비스
+ * - 로그인, 가입은 트랜잭션 없이 실행: BCrypt 해시(수십~수백 ms)는 전용 풀(BoundedPasswordEncoder)에서,
+ *   조회/저장은 리포지토리 호출 단위의 짧은 트랜잭션으로 -> 해시 계산 동안 DB 커넥션을 점유하지 않음
+ * - 그 외 메서드는 메서드 단위 @Transactional(클래스 단위로 두면 로그인, 가입도 트랜잭션에 묶임)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class MemberService {
 
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final MemberServiceMapper memberServiceMapper;
     private final PasswordEncoder passwordEncoder;
+    private final MemberIdentityFilter memberIdentityFilter;
 
     //== 로그인 ==//
-    @Transactional
     public MemberSummaryResult login(MemberLoginCommand command) {
         Member member = findMemberByLoginId(command.loginId());
+        //조회 트랜잭션 종료 후 해시 비교
         if (!passwordEncoder.matches(command.password(), member.getPasswordHash())){
             throw new InvalidCredentialException("password not matched");
         }
@@ -41,44 +60,52 @@ public class MemberService {
     }
 
     //== 생성 ==//
-    @Transactional
+    //중복 검사, 저장은 각각 리포지토리 트랜잭션, 그 사이 해시 계산은 트랜잭션 밖
     public MemberSummaryResult registerCustomer(MemberRegisterCommand command) {
-        validateDuplicateLoginId(command.loginId());
-        validateDuplicateEmail(command.email());
+        validateDuplicateIdentity(command.loginId(), command.email());
 
         String passwordHash = passwordEncoder.encode(command.password());
         Address addr = getAddress(command.addr());
 
         Member member = Member.registerCustomer(command.loginId(), passwordHash, command.name(), command.email(), addr);
-        Member saved = memberRepository.save(member);
-        return memberServiceMapper.toSummaryResult(saved);
+        return memberServiceMapper.toSummaryResult(saveNew(member));
     }
 
-    @Transactional
     public MemberSummaryResult registerSeller(SellerRegisterCommand command) {
-        validateDuplicateLoginId(command.loginId());
-        validateDuplicateEmail(command.email());
+        validateDuplicateIdentity(command.loginId(), command.email());
 
         String passwordHash = passwordEncoder.encode(command.password());
         Address addr = getAddress(command.addr());
 
         Member member = Member.registerSeller(command.loginId(), passwordHash, command.name(), command.email(), addr,
                 command.storeName(), command.businessNumber(), command.account());
-        Member saved = memberRepository.save(member);
-        return memberServiceMapper.toSummaryResult(saved);
+        return memberServiceMapper.toSummaryResult(saveNew(member));
     }
 
-    @Transactional
     public MemberSummaryResult registerAdmin(MemberRegisterCommand command) {
-        validateDuplicateLoginId(command.loginId());
-        validateDuplicateEmail(command.email());
+        validateDuplicateIdentity(command.loginId(), command.email());
 
         String passwordHash = passwordEncoder.encode(command.password());
         Address addr = getAddress(command.addr());
 
         Member member = Member.registerCustomer(command.loginId(), passwordHash, command.name(), command.email(), addr);
-        Member saved = memberRepository.save(member);
-        return memberServiceMapper.toSummaryResult(saved);
+        return memberServiceMapper.toSummaryResult(saveNew(member));
+    }
+
+    /**
+     * 신규 회원 저장(즉시 flush)
+     * - 중복 검사와 저장 사이 동시 가입, 필터가 모르는 값(다른 인스턴스 가입 등)은 유니크 제약이 최종 판정 -> DuplicateException
+     */
+    private Member saveNew(Member member) {
+        Member saved;
+        try {
+            saved = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            validateDuplicateConstraint(e, member);
+            throw e;
+        }
+        memberIdentityFilter.put(saved.getLoginId(), saved.getEmail());
+        return saved;
     }
 
     private Address getAddress(MemberAddressCommand command) {
@@ -103,6 +130,7 @@ public class MemberService {
         //TODO 비밀번호 검증, 암호화 로직 추가
         Member member = findMemberById(memberId);
         member.update(command.password(), command.name(), command.email(), command.addr());
+        memberIdentityFilter.putEmail(member.getEmail());
         return memberServiceMapper.toDetailResult(member);
     }
 
@@ -116,56 +144,110 @@ public class MemberService {
     }
 
     //== 단건 조회 ==//
+    @Transactional(readOnly = true)
     public MemberSummaryResult getSummary(Long memberId) {
         return memberServiceMapper.toSummaryResult(findMemberById(memberId));
     }
+
+    @Transactional(readOnly = true)
     public MemberDetailResult getDetail(Long memberId) {
         return memberServiceMapper.toDetailResult(findMemberById(memberId));
     }
 
+    @Transactional(readOnly = true)
     public MemberDetailWithOrdersResponse getDetailWithOrders(Long memberId) {
         return memberServiceMapper.toDetailWithOrdersResponse(findMemberById(memberId));
     }
 
+    @Transactional(readOnly = true)
     public MemberSummaryResult getSummaryByEmail(String email) {
         return memberServiceMapper.toSummaryResult(findMemberByEmail(email));
     }
 
+    @Transactional(readOnly = true)
     public MemberDetailResult getDetailByEmail(String email) {
         return memberServiceMapper.toDetailResult(findMemberByEmail(email));
     }
 
+    @Transactional(readOnly = true)
     public MemberSummaryResult getSummaryByLoginId(String loginId) {
         return memberServiceMapper.toSummaryResult(findMemberByLoginId(loginId));
     }
 
 
+    @Transactional(readOnly = true)
     public MemberDetailResult getDetailByLoginId(String loginId) {
         return memberServiceMapper.toDetailResult(findMemberByLoginId(loginId));
     }
 
 
     //== 목록 조회==//
-    public List<MemberSummaryResult> getMembers() {
-        //TODO searchDto를 인자로 받아 pageable 등 구현
-        return memberRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
-                .stream()
-                .map(memberServiceMapper::toSummaryResult)
-                .toList();
+    /**
+     * 회원 검색 키셋 페이지(ID 오름차순)
+     * - size + 1 건 조회로 다음 페이지 여부 판단, size 는 1 ~ MAX_SEARCH_PAGE_SIZE 로 보정
+     * @param cursorId 이전 페이지 마지막 회원 ID(첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public MemberSummarySliceResult searchMembers(MemberSearchCommand command, Long cursorId, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        List<MemberSummary> summaries = memberRepository.search(
+                command.role(), command.status(), command.grade(), cursorId, Limit.of(pageSize + 1));
+
+        boolean hasNext = summaries.size() > pageSize;
+        List<MemberSummary> content = hasNext ? summaries.subList(0, pageSize) : summaries;
+        return new MemberSummarySliceResult(memberServiceMapper.toSummaryResultList(content), hasNext);
+    }
+
+    /**
+     * 조건에 맞는 회원 전체를 한 건씩 sink 로 전달(행 단위 스트리밍 -> 메모리 일정)
+     * - 트랜잭션이 열린 동안 sink 가 호출되므로 sink 는 빠르게 반환해야 함(응답 스트림 쓰기 정도)
+     * @return 전달한 회원 수
+     */
+    @Transactional(readOnly = true)
+    public long exportMembers(MemberSearchCommand command, Consumer<MemberExportResult> sink) {
+        long exported = 0;
+        try (Stream<MemberSummary> members = memberRepository.streamAll(command.role(), command.status(), command.grade())) {
+            for (Iterator<MemberSummary> it = members.iterator(); it.hasNext(); exported++) {
+                sink.accept(memberServiceMapper.toExportResult(it.next()));
+            }
+        }
+        return exported;
     }
 
     //== 검증 로직 ==//
-    private void validateDuplicateLoginId(String loginId) {
-        if (memberRepository.existsByLoginId(loginId)) {
+    //필터가 확실히 미사용이라고 하면 DB 조회 생략, 아니면 로그인 ID, 이메일을 한 번에 조회(로그인 ID 중복 우선 보고)
+    private void validateDuplicateIdentity(String loginId, String email) {
+        if (!memberIdentityFilter.mightBeTaken(loginId, email)) {
+            return;
+        }
+
+        List<MemberIdentity> taken = memberRepository.findIdentities(loginId, email);
+        if (taken.stream().anyMatch(identity -> identity.loginId().equalsIgnoreCase(loginId))) {
             DuplicateException.validateField("loginId", loginId);
         }
-    }
-    private void validateDuplicateEmail(String email) {
-        if (memberRepository.existsByEmail(email)) {
+        if (!taken.isEmpty()) {
             DuplicateException.validateField("email", email);
         }
     }
 
+    //유니크 제약 이름으로 충돌 필드 판별(그 외 무결성 위반은 호출 측에서 그대로 전파)
+    private void validateDuplicateConstraint(DataIntegrityViolationException e, Member member) {
+        String violated = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (violated.contains(Member.LOGIN_ID_UNIQUE)) {
+            DuplicateException.validateField("loginId", member.getLoginId());
+        }
+        if (violated.contains(Member.EMAIL_UNIQUE)) {
+            DuplicateException.validateField("email", member.getEmail());
+        }
+    }
+
+    private String violatedConstraint(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            return cve.getConstraintName();
+        }
+        return String.valueOf(e.getMostSpecificCause().getMessage());
+    }
+
     private void validateDuplicateEmailForUpdate(Long memberId, String email) {
         memberRepository.findByEmail(email)
                 .filter(m -> !m.getId().equals(memberId))
@@ -5,8 +5,10 @@ import com.minimall.api.member.dto.response.MemberSummaryResponse;
 import com.minimall.api.order.dto.OrderApiMapper;
 import com.minimall.domain.embeddable.Address;
 import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberSummary;
 import com.minimall.service.member.dto.command.MemberRegisterCommand;
 import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberExportResult;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -49,6 +51,12 @@ public interface MemberServiceMapper {
     // == Domain -> Response == //
     MemberSummaryResult toSummaryResult(Member member);
 
+    MemberSummaryResult toSummaryResult(MemberSummary summary);
+
+    List<MemberSummaryResult> toSummaryResultList(List<MemberSummary> summaries);
+
+    MemberExportResult toExportResult(MemberSummary summary);
+
     List<MemberSummaryResponse> toSummaryResponseList(List<Member> members);
 
     @Mapping(target = "grade", expression = "java(member.getCustomerProfile().getGrade())")
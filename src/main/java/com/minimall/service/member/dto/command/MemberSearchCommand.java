@@ -0,0 +1,18 @@
+package com.minimall.service.member.dto.command;
+
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.member.MemberStatus;
+import com.minimall.domain.member.Role;
+
+/**
+ * 회원 검색 조건(null 인 조건은 적용하지 않음)
+ */
+public record MemberSearchCommand(
+        Role role,
+        MemberStatus status,
+        CustomerGrade grade
+) {
+    public static MemberSearchCommand all() {
+        return new MemberSearchCommand(null, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.minimall.service.member.dto.result;
+
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.member.MemberStatus;
+import com.minimall.domain.member.Role;
+
+public record MemberExportResult(
+        Long id,
+        String loginId,
+        String name,
+        String email,
+        Role role,
+        MemberStatus status,
+        CustomerGrade grade
+) {
+}
@@ -0,0 +1,9 @@
+package com.minimall.service.member.dto.result;
+
+import java.util.List;
+
+public record MemberSummarySliceResult(
+        List<MemberSummaryResult> content,
+        boolean hasNext
+) {
+}
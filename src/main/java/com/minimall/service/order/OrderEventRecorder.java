@@ -0,0 +1,56 @@
+package com.minimall.service.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.domain.order.Order;
+import com.minimall.domain.order.OrderStatus;
+import com.minimall.domain.outbox.OutboxEvent;
+import com.minimall.service.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 주문 상태 변경을 아웃박스에 기록(OrderService 트랜잭션 안에서 호출)
+ * - payload: 주문 ID, 회원 ID, 주문 상태, 결제 금액(수신 측이 주문 테이블을 다시 조회하지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventRecorder {
+
+    public static final String AGGREGATE_TYPE = "ORDER";
+
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    public void record(Order order, OrderEventType type) {
+        OrderEventPayload payload = new OrderEventPayload(order.getId(), order.getMember().getId(),
+                order.getOrderStatus(), order.getOrderAmount().getFinalAmount());
+        outboxService.append(event(order.getId(), type, payload, LocalDateTime.now()));
+    }
+
+    /**
+     * 엔티티 로딩 없이 일괄 변경한 주문(재고 예약 만료 취소 등): 주문 ID, 상태만 기록
+     */
+    public void recordAll(Collection<Long> orderIds, OrderStatus status, OrderEventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxService.appendAll(orderIds.stream()
+                .map(id -> event(id, type, new OrderEventPayload(id, null, status, null), now))
+                .toList());
+    }
+
+    private OutboxEvent event(Long orderId, OrderEventType type, OrderEventPayload payload, LocalDateTime occurredAt) {
+        try {
+            return new OutboxEvent(AGGREGATE_TYPE, orderId, type.name(), objectMapper.writeValueAsString(payload), occurredAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 직렬화 실패 (orderId: " + orderId + ")", e);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record OrderEventPayload(Long orderId, Long memberId, OrderStatus orderStatus, Integer finalAmount) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.minimall.service.order;
+
+/**
+ * 주문 상태 변경 이벤트(아웃박스 event_type)
+ */
+public enum OrderEventType {
+    CREATED,
+    PAID,
+    CANCELED,
+    RESERVATION_EXPIRED,    //재고 예약 만료 취소
+    DELIVERY_PREPARED,
+    DELIVERY_STARTED,
+    DELIVERY_COMPLETED
+}
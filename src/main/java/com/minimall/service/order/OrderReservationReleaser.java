@@ -0,0 +1,57 @@
+package com.minimall.service.order;
+
+import com.minimall.service.order.dto.result.ReservationReleaseResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 만료 주문 취소 주기 작업
+ * - batch-size 건씩 별도 트랜잭션(OrderService.releaseExpiredReservations)에서 처리해 잠금 범위와 트랜잭션 길이를 제한
+ * - 한 배치가 가득 차면 만료 주문이 남은 것으로 보고 바로 다음 배치 실행
+ * - 지표: order.reservation.released(취소 주문 수), order.reservation.restocked(복원 재고 수량), order.reservation.release(배치 처리 시간)
+ */
+@Slf4j
+@Component
+public class OrderReservationReleaser {
+
+    public static final String RELEASED_METRIC_NAME = "order.reservation.released";
+    public static final String RESTOCKED_METRIC_NAME = "order.reservation.restocked";
+    public static final String BATCH_METRIC_NAME = "order.reservation.release";
+
+    private final OrderService orderService;
+    private final int batchSize;
+    private final Counter released;
+    private final Counter restocked;
+    private final Timer batchTimer;
+
+    public OrderReservationReleaser(OrderService orderService, MeterRegistry meterRegistry,
+                                    @Value("${app.order.reservation.release-batch-size:500}") int batchSize) {
+        this.orderService = orderService;
+        this.batchSize = batchSize;
+        this.released = meterRegistry.counter(RELEASED_METRIC_NAME);
+        this.restocked = meterRegistry.counter(RESTOCKED_METRIC_NAME);
+        this.batchTimer = meterRegistry.timer(BATCH_METRIC_NAME);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.reservation.release-interval:PT30S}")
+    public void release() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            ReservationReleaseResult result;
+            do {
+                result = batchTimer.record(() -> orderService.releaseExpiredReservations(now, batchSize));
+                released.increment(result.canceledOrders());
+                restocked.increment(result.restockedQuantity());
+            } while (result.canceledOrders() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("재고 예약 만료 주문 취소 실패", e);
+        }
+    }
+}
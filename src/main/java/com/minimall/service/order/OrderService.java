@@ -8,86 +8,218 @@ import com.minimall.domain.member.MemberRepository;
 import com.minimall.domain.order.*;
 import com.minimall.domain.order.delivery.DeliveryException;
 import com.minimall.domain.order.delivery.DeliveryStatus;
+import com.minimall.domain.order.exception.InvalidOrderItemException;
 import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderExportCommand;
 import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.OrderSummarySearchCommand;
 import com.minimall.service.order.dto.command.PayCommand;
 import com.minimall.service.order.dto.mapper.DeliveryServiceMapper;
 import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductCatalog;
 import com.minimall.domain.product.ProductRepository;
 import com.minimall.service.exception.MemberNotFoundException;
 import com.minimall.service.exception.OrderNotFoundException;
 import com.minimall.service.exception.ProductNotFoundException;
+import com.minimall.service.inventory.InventoryService;
 import com.minimall.service.order.dto.mapper.OrderServiceMapper;
 import com.minimall.service.order.dto.mapper.PayServiceMapper;
 import com.minimall.service.order.dto.result.DeliverySummaryResult;
 import com.minimall.service.order.dto.result.OrderDetailResult;
-import com.minimall.service.order.dto.result.OrderSummaryResult;
+import com.minimall.service.order.dto.result.OrderExportResult;
+import com.minimall.service.order.dto.result.OrderSummarySliceResult;
+import com.minimall.service.order.dto.result.ReservationReleaseResult;
+import com.minimall.service.product.ProductCatalogCache;
+import com.minimall.service.sales.SalesRollupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OrderService {
 
+    public static final int DEFAULT_SUMMARY_PAGE_SIZE = 20;
+    public static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final InventoryService inventoryService;
     private final OrderServiceMapper orderServiceMapper;
     private final PayServiceMapper payMapper;
     private final DeliveryServiceMapper deliveryServiceMapper;
-    
+    private final OrderEventRecorder orderEventRecorder;
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * 재고 예약 유지 시간: 주문 후 이 시간 안에 결제되지 않은 주문은 만료 취소(OrderReservationReleaser)
+     */
+    @Value("${app.order.reservation.ttl:PT30M}")
+    private Duration reservationTtl;
+
     //== 주문 생성 ==//
     public Order createOrder(OrderCreateCommand command) {
 
         Member member = findMember(command.memberId());
 
+        Map<Long, Integer> quantities = mergeQuantities(command.items());
+        inventoryService.decrease(quantities); //조건부 UPDATE 로 재고 선차감(미존재/재고 부족 시 예외)
+        Map<Long, ProductCatalog> catalogs = findCatalogsByIds(quantities.keySet()); //이름, 가격만 캐시에서(재고는 위에서 DB로 판단)
+
         Order order = Order.createOrder(
                 member,
-                command.items().stream()
-                        .map(this::toOrderItem)
+                reservationTtl,
+                quantities.entrySet().stream()
+                        .map(e -> createOrderItem(catalogs.get(e.getKey()), e.getValue()))
                         .toArray(OrderItem[]::new));
 
         orderRepository.save(order);
+        orderEventRecorder.record(order, OrderEventType.CREATED);
 
         return order;
     }
 
-    private OrderItem toOrderItem(OrderItemCreateCommand command) {
-        Long productId = command.productId();
-        Product product = findProductById(productId);
-        return OrderItem.createOrderItem(product, command.quantity());
+    /**
+     * 같은 상품이 여러 줄로 들어오면 수량을 합산해 한 줄로 병합(요청 순서 유지)
+     * - uq_order_item_order_product 제약상 주문당 상품은 1행만 허용
+     */
+    private static Map<Long, Integer> mergeQuantities(List<OrderItemCreateCommand> items) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemCreateCommand item : items) {
+            int quantity = item.quantity();
+            Guards.requirePositive(quantity, () -> InvalidOrderItemException.quantityMustBePositive(quantity));
+            quantities.merge(item.productId(), quantity, Integer::sum);
+        }
+        return quantities;
     }
 
 
     //== 주문 취소 ==//
     public void cancelOrder(Long id) {
-        Order order = findOrderById(id);
-        order.cancel();
+        Order order = lockOrderById(id);
+        boolean paid = order.getOrderStatus() == OrderStatus.CONFIRMED;
+
+        Map<Long, Integer> restock = new HashMap<>();
+        order.cancel(oi -> restock.merge(oi.getProduct().getId(), oi.getOrderQuantity(), Integer::sum));
+        inventoryService.increase(restock);
+        orderEventRecorder.record(order, OrderEventType.CANCELED);
+        if (paid) {
+            salesRollupService.recordCanceled(order); //결제 시 반영한 매출 차감
+        }
+    }
+
+    /**
+     * 재고 예약이 만료된 ORDERED 주문 일괄 취소(최대 limit 건, 한 트랜잭션)
+     * - 만료 주문을 SKIP LOCKED 로 잠금: 결제/취소 중인 주문(주문 행 잠금)은 건너뛰고 다음 주기에 다시 판단
+     * - 상태 변경, 재고 복원 모두 집합 단위 SQL(주문/주문 항목 엔티티 로딩 없음), 재고는 상품별 합계로 한 번씩 복원
+     * - ORDERED 주문은 결제, 배송이 없으므로 주문 상태만 변경(Order.cancel 과 같은 결과)
+     * - 취소 이벤트는 주문별 아웃박스 행을 배치 INSERT
+     */
+    public ReservationReleaseResult releaseExpiredReservations(LocalDateTime now, int limit) {
+        List<Long> orderIds = orderRepository.lockExpiredReservationIds(now, limit);
+        if (orderIds.isEmpty()) {
+            return ReservationReleaseResult.EMPTY;
+        }
+
+        int canceled = orderRepository.cancelOrderedByIdIn(orderIds, now);
+        Map<Long, Integer> restock = new HashMap<>();
+        long quantity = 0;
+        for (OrderedQuantity ordered : orderRepository.sumQuantitiesByProduct(orderIds)) {
+            restock.put(ordered.productId(), Math.toIntExact(ordered.quantity()));
+            quantity += ordered.quantity();
+        }
+        inventoryService.increase(restock);
+        orderEventRecorder.recordAll(orderIds, OrderStatus.CANCELED, OrderEventType.RESERVATION_EXPIRED);
+        return new ReservationReleaseResult(canceled, quantity);
     }
 
     //== 주문 조회 ==//
     @Transactional(readOnly = true)
     public OrderDetailResult getOrderDetail(Long id) {
-        Order order = findOrderById(id);
+        Order order = orderRepository.findDetailById(id)
+                .orElseThrow(() -> new OrderNotFoundException("id", id));
         return orderServiceMapper.toDetailResult(order);
     }
 
+    /**
+     * 주문 요약 키셋 페이지(최신순): 주문 항목 수까지 쿼리 한 번으로 조회(주문/주문 항목 엔티티 로딩 없음)
+     * - size + 1 건 조회로 다음 페이지 여부 판단, size 는 1 ~ MAX_SUMMARY_PAGE_SIZE 로 보정
+     * - 결과가 비었을 때만 회원 존재 여부 확인
+     */
+    @Transactional(readOnly = true)
+    public OrderSummarySliceResult getOrderSummaries(Long memberId, OrderSummarySearchCommand command) {
+        int size = Math.clamp(command.size(), 1, MAX_SUMMARY_PAGE_SIZE);
+        List<OrderSummary> summaries = orderRepository.findSummariesByMemberId(
+                memberId, command.status(), command.cursorOrderedAt(), command.cursorId(), Limit.of(size + 1));
+        if (summaries.isEmpty() && !memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException("id", memberId);
+        }
+
+        boolean hasNext = summaries.size() > size;
+        List<OrderSummary> content = hasNext ? summaries.subList(0, size) : summaries;
+        return new OrderSummarySliceResult(orderServiceMapper.toSummaryResultList(content), hasNext);
+    }
+
+    /**
+     * 조건에 맞는 주문을 항목, 결제, 배송과 함께 한 건씩 sink 로 전달(행 단위 스트리밍 -> 메모리에는 주문 한 건만 유지)
+     * - 상태마다 idx_order_status_ordered_at 범위를 주문 시각순으로 읽음(status null -> 모든 상태를 차례로)
+     * - 주문, 항목을 한 쿼리로 읽고 연속한 같은 주문 ID 행을 묶어 전달(항목은 항목 ID 순)
+     * - 읽기 전용 트랜잭션의 일관된 읽기(잠금 없음), 트랜잭션이 열린 동안 sink 가 호출되므로 sink 는 빠르게 반환해야 함
+     * @return 전달한 주문 수
+     */
     @Transactional(readOnly = true)
-    public List<OrderSummaryResult> getOrderSummaries(Long memberId) {
-        Member member = findMember(memberId);
-        List<Order> orders = orderRepository.findByMember(member);
-        return orderServiceMapper.toSummaryResultList(orders);
+    public long exportOrders(OrderExportCommand command, Consumer<OrderExportResult> sink) {
+        List<OrderStatus> statuses = (command.status() != null)
+                ? List.of(command.status())
+                : List.of(OrderStatus.values());
+
+        long exported = 0;
+        List<OrderExportLine> order = new ArrayList<>();
+        for (OrderStatus status : statuses) {
+            try (Stream<OrderExportLine> lines = orderRepository.streamForExport(status, command.from(), command.to())) {
+                for (Iterator<OrderExportLine> it = lines.iterator(); it.hasNext(); ) {
+                    OrderExportLine line = it.next();
+                    if (!order.isEmpty() && !order.getFirst().orderId().equals(line.orderId())) {
+                        exported += exportOrder(order, sink);
+                    }
+                    order.add(line);
+                }
+            }
+            if (!order.isEmpty()) {
+                exported += exportOrder(order, sink);
+            }
+        }
+        return exported;
+    }
+
+    private int exportOrder(List<OrderExportLine> lines, Consumer<OrderExportResult> sink) {
+        List<OrderExportItem> items = lines.stream()
+                .filter(OrderExportLine::hasItem)
+                .sorted(Comparator.comparing(OrderExportLine::orderItemId))
+                .map(OrderExportLine::item)
+                .toList();
+        sink.accept(new OrderExportResult(lines.getFirst().order(), items));
+        lines.clear();
+        return 1;
     }
 
     //== 결제 ==//
     public Pay processPayment(Long id, PayCommand command) {
-        Order order = findOrderById(id);
+        Order order = lockOrderById(id); //만료 취소와 동시 처리 방지(취소가 먼저 커밋되면 상태 오류)
         Pay pay = order.processPayment(payMapper.toEntity(command));
+        orderEventRecorder.record(order, OrderEventType.PAID);
+        salesRollupService.recordConfirmed(order);
         return pay;
     }
 
@@ -101,6 +233,7 @@ public class OrderService {
 
         Address resolvedAddr = resolveAddr(shipAddr, order);
         order.prepareDelivery(resolvedAddr);
+        orderEventRecorder.record(order, OrderEventType.DELIVERY_PREPARED);
 
         return deliveryServiceMapper.toDeliverySummary(order.getDelivery());
     }
@@ -121,6 +254,7 @@ public class OrderService {
     public void startDelivery(Long id, String trackingNo,LocalDateTime shippedAt) {
         Order order = findOrderById(id);
         order.startDelivery(trackingNo, shippedAt);
+        orderEventRecorder.record(order, OrderEventType.DELIVERY_STARTED);
     }
 
     public void completeDelivery(Long id, LocalDateTime arrivedAt) {
@@ -133,6 +267,7 @@ public class OrderService {
         }
 
         order.completeDelivery(arrivedAt);
+        orderEventRecorder.record(order, OrderEventType.DELIVERY_COMPLETED);
     }
 
     //== 헬퍼 메서드 ==//
@@ -141,9 +276,32 @@ public class OrderService {
                 .orElseThrow(() -> new OrderNotFoundException("id", orderId));
     }
 
-    private Product findProductById(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException("id", productId));
+    private Order lockOrderById(Long orderId) {
+        return orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("id", orderId));
+    }
+
+    /**
+     * 주문 상품 카탈로그를 캐시에서 조회(캐시에 없는 상품만 IN 쿼리 한 번)
+     * - 미존재 상품이 있으면 누락된 ID 전체를 담아 ProductNotFoundException 한 번만 발생
+     */
+    private Map<Long, ProductCatalog> findCatalogsByIds(Collection<Long> productIds) {
+        Map<Long, ProductCatalog> catalogs = productCatalogCache.getAll(productIds);
+
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !catalogs.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new ProductNotFoundException("id", missingIds);
+        }
+        return catalogs;
+    }
+
+    //상품은 프록시 참조(FK 용, 상품 행 조회 없음), 주문 시점 이름/가격은 카탈로그 스냅샷
+    private OrderItem createOrderItem(ProductCatalog catalog, int quantity) {
+        Product product = productRepository.getReferenceById(catalog.productId());
+        return OrderItem.createReservedOrderItem(product, catalog.name(), catalog.price(), quantity);
     }
 
     private Member findMember(Long memberId) {
@@ -0,0 +1,17 @@
+package com.minimall.service.order.dto.command;
+
+import com.minimall.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 조건
+ * - 주문 시각 from 이상 to 미만
+ * - status null -> 전체 상태
+ */
+public record OrderExportCommand(
+        LocalDateTime from,
+        LocalDateTime to,
+        OrderStatus status
+) {
+}
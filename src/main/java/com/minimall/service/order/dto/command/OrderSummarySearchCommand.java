@@ -0,0 +1,21 @@
+package com.minimall.service.order.dto.command;
+
+import com.minimall.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 주문 요약 키셋 페이지 조회 조건
+ * - cursorOrderedAt, cursorId: 이전 페이지 마지막 주문(첫 페이지는 null)
+ * - status null -> 전체 상태
+ */
+public record OrderSummarySearchCommand(
+        OrderStatus status,
+        LocalDateTime cursorOrderedAt,
+        Long cursorId,
+        int size
+) {
+    public static OrderSummarySearchCommand firstPage(int size) {
+        return new OrderSummarySearchCommand(null, null, null, size);
+    }
+}
@@ -1,6 +1,7 @@
 package com.minimall.service.order.dto.mapper;
 
 import com.minimall.domain.order.Order;
+import com.minimall.domain.order.OrderSummary;
 import com.minimall.service.order.dto.result.OrderDetailResult;
 import com.minimall.service.order.dto.result.OrderSummaryResult;
 import org.mapstruct.Mapper;
@@ -19,9 +20,7 @@ public interface OrderServiceMapper {
     @Mapping(target = "finalAmount", source = "orderAmount.finalAmount")
     OrderDetailResult toDetailResult(Order order);
 
-    @Mapping(target = "itemCount", expression = "java(order.getOrderItems().size())")
-    @Mapping(target = "finalAmount", source = "orderAmount.finalAmount")
-    OrderSummaryResult toSummaryResult(Order order);
+    OrderSummaryResult toSummaryResult(OrderSummary summary);
 
-    List<OrderSummaryResult> toSummaryResultList(List<Order> orders);
+    List<OrderSummaryResult> toSummaryResultList(List<OrderSummary> summaries);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.minimall.service.order.dto.result;
+
+import com.minimall.domain.order.OrderExportItem;
+import com.minimall.domain.order.OrderExportRow;
+
+import java.util.List;
+
+/**
+ * 내보내기 주문 한 건: 주문 + 결제 + 배송, 주문 항목(항목 ID 순)
+ */
+public record OrderExportResult(
+        OrderExportRow order,
+        List<OrderExportItem> items
+) {
+}
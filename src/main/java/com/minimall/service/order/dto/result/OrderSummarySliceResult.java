@@ -0,0 +1,9 @@
+package com.minimall.service.order.dto.result;
+
+import java.util.List;
+
+public record OrderSummarySliceResult(
+        List<OrderSummaryResult> content,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package com.minimall.service.order.dto.result;
+
+/**
+ * 재고 예약 만료 일괄 취소 결과
+ * @param canceledOrders 취소한 주문 수
+ * @param restockedQuantity 복원한 재고 수량 합계
+ */
+public record ReservationReleaseResult(
+        int canceledOrders,
+        long restockedQuantity
+) {
+    public static final ReservationReleaseResult EMPTY = new ReservationReleaseResult(0, 0);
+}
@@ -0,0 +1,25 @@
+package com.minimall.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.minimall.domain.outbox.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * sink 로 전달하는 아웃박스 이벤트
+ * @param id 이벤트 ID(중복 전달 시 수신 측 중복 제거 키)
+ * @param payload JSON
+ */
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime occurredAt
+) {
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,79 @@
+package com.minimall.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트 전달 주기 작업
+ * - batch-size 건씩 별도 트랜잭션(OutboxService.relay)에서 sink 로 전달 후 삭제, 배치가 가득 차면 바로 다음 배치
+ * - 배치가 차지 않으면 linger 만큼 기다렸다가 다시 조회(쌓인 이벤트를 모아 전달)
+ * - 여러 인스턴스가 동시에 실행해도 배치가 겹치지 않음(SKIP LOCKED), 이 경우 인스턴스 간 전달 순서는 보장하지 않음
+ * - 지표: outbox.published(전달 수), outbox.delivery.lag(발생 -> 전달 지연), outbox.oldest.age(가장 오래된 미전달 이벤트 대기 시간, 초: 전달 실패가 이어지면 계속 증가), outbox.relay.failures
+ * - outbox.oldest.age 는 배치마다 배치 첫 이벤트 기준으로, 주기 끝에 남은 미전달 이벤트 중 가장 오래된 발생 시각 기준으로 갱신
+ *   (배치가 차지 않아도 다른 인스턴스가 잠근 이벤트나 그사이 쌓인 이벤트가 남을 수 있음)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    public static final String PUBLISHED_METRIC_NAME = "outbox.published";
+    public static final String LAG_METRIC_NAME = "outbox.delivery.lag";
+    public static final String OLDEST_AGE_METRIC_NAME = "outbox.oldest.age";
+    public static final String FAILURE_METRIC_NAME = "outbox.relay.failures";
+
+    private final OutboxService outboxService;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxService outboxService, OutboxSink sink, MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxService = outboxService;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.published = meterRegistry.counter(PUBLISHED_METRIC_NAME);
+        this.failures = meterRegistry.counter(FAILURE_METRIC_NAME);
+        this.lag = meterRegistry.timer(LAG_METRIC_NAME);
+        meterRegistry.gauge(OLDEST_AGE_METRIC_NAME, oldestAgeSeconds);
+    }
+
+    @Scheduled(initialDelayString = "${app.outbox.relay.linger:PT1S}",
+            fixedDelayString = "${app.outbox.relay.linger:PT1S}")
+    public void relay() {
+        try {
+            int count;
+            do {
+                count = outboxService.relay(batchSize, this::publish);
+            } while (count == batchSize);
+            oldestAgeSeconds.set(outboxService.oldestPendingOccurredAt()
+                    .map(occurredAt -> Math.max(0, Duration.between(occurredAt, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("아웃박스 이벤트 전달 실패", e);
+        }
+    }
+
+    private void publish(List<OutboxMessage> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        oldestAgeSeconds.set(Duration.between(messages.getFirst().occurredAt(), now).toSeconds());
+        sink.publish(messages);
+        for (OutboxMessage message : messages) {
+            lag.record(Duration.between(message.occurredAt(), now));
+        }
+        published.increment(messages.size());
+    }
+}
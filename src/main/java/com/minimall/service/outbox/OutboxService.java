@@ -0,0 +1,54 @@
+package com.minimall.service.outbox;
+
+import com.minimall.domain.outbox.OutboxEvent;
+import com.minimall.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    //== 기록(호출 측 트랜잭션에 참여: 상태 변경과 함께 커밋/롤백) ==//
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEvent event) {
+        outboxEventRepository.save(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<OutboxEvent> events) {
+        outboxEventRepository.saveAll(events); //INSERT 배치(hibernate.jdbc.batch_size)
+    }
+
+    /**
+     * 미전달 이벤트 최대 limit 건을 잠가 publisher 로 전달한 뒤 삭제(한 트랜잭션)
+     * - publisher 예외 시 롤백 -> 이벤트가 남아 다음 주기에 다시 전달
+     * @return 전달한 이벤트 수
+     */
+    public int relay(int limit, Consumer<List<OutboxMessage>> publisher) {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(limit);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        publisher.accept(events.stream().map(OutboxMessage::from).toList());
+        outboxEventRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+
+    //가장 오래된 미전달 이벤트의 발생 시각(지표용)
+    public Optional<LocalDateTime> oldestPendingOccurredAt() {
+        return outboxEventRepository.findOldestOccurredAt();
+    }
+}
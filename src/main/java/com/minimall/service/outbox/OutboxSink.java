@@ -0,0 +1,12 @@
+package com.minimall.service.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 전달 대상(app.outbox.sink 로 선택, 메시지 브로커 등은 이 인터페이스 구현 빈으로 교체)
+ * - 예외 없이 반환하면 전달 완료로 보고 이벤트 삭제, 예외 시 다음 주기에 같은 배치부터 다시 전달(최소 한 번 전달)
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,31 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.inventory.LowStockMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상품 묶음 저장(ProductImporter 의 묶음 단위 트랜잭션)
+ * - 식별자를 INSERT 전에 발급(@SnowflakeId)하므로 INSERT 는 JDBC 배치(hibernate.jdbc.batch_size)로 묶여 커밋 시 전송
+ * - 커밋 후 자동완성 색인, 재고 부족 감시에 반영(새 상품은 전역 기준으로 판정)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class ProductBulkRegistrar {
+
+    private final ProductRepository productRepository;
+    private final ProductNameIndex productNameIndex;
+    private final LowStockMonitor lowStockMonitor;
+
+    public void registerAll(List<Product> products) {
+        List<Product> saved = productRepository.saveAll(products);
+        saved.forEach(product -> productNameIndex.put(product.getId(), product.getName()));
+        lowStockMonitor.stockChanged(saved.stream().map(Product::getId).toList());
+    }
+}
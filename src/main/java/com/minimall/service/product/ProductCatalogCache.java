@@ -0,0 +1,86 @@
+package com.minimall.service.product;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.minimall.domain.product.ProductCatalog;
+import com.minimall.domain.product.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 카탈로그(이름, 가격) 읽기 관통 캐시
+ * - 크기(maximum-size), 쓰기 후 만료(ttl)로 제거: 다른 인스턴스의 변경은 ttl 안에 반영
+ * - 이름/가격 변경, 삭제 시 즉시 + 트랜잭션 종료 후 한 번 더 무효화(커밋 전 값이 다시 적재되는 경우 제거)
+ * - 재고는 캐시하지 않음: 주문 가능 여부는 항상 DB 조건부 UPDATE 로 판단
+ * - 지표(cache=product.catalog): cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+ */
+@Component
+public class ProductCatalogCache {
+
+    public static final String CACHE_NAME = "product.catalog";
+
+    private final LoadingCache<Long, ProductCatalog> cache;
+
+    public ProductCatalogCache(ProductRepository productRepository, MeterRegistry meterRegistry,
+                               @Value("${app.product-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${app.product-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(new CatalogLoader(productRepository));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<ProductCatalog> get(Long productId) {
+        return Optional.ofNullable(cache.get(productId));
+    }
+
+    /**
+     * 캐시에 없는 상품만 IN 쿼리 한 번으로 적재
+     * @return 존재하는 상품만 담긴 맵(미존재 ID 는 키 없음)
+     */
+    public Map<Long, ProductCatalog> getAll(Collection<Long> productIds) {
+        return cache.getAll(productIds);
+    }
+
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    private record CatalogLoader(ProductRepository productRepository) implements CacheLoader<Long, ProductCatalog> {
+
+        @Override
+        public ProductCatalog load(Long productId) {
+            return loadAll(Set.of(productId)).get(productId);
+        }
+
+        @Override
+        public Map<Long, ProductCatalog> loadAll(Set<? extends Long> productIds) {
+            return productRepository.findCatalogsByIdIn(List.copyOf(productIds)).stream()
+                    .collect(Collectors.toMap(ProductCatalog::productId, Function.identity()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.exception.DomainExceptionMessage;
+import com.minimall.domain.exception.DomainRuleException;
+import com.minimall.domain.product.Product;
+import com.minimall.service.product.dto.ProductImportError;
+import com.minimall.service.product.dto.ProductImportResult;
+import com.minimall.service.product.dto.ProductImportRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 상품 일괄 등록(판매자 카탈로그 온보딩 등 수십만 건)
+ * - 행마다 단건 등록과 같은 규칙(Product 생성자 검증)으로 검증, 실패한 행은 건너뛰고 오류로 기록
+ * - 유효한 행을 chunk-size 건씩 묶어 묶음마다 별도 트랜잭션(ProductBulkRegistrar)으로 저장
+ * - 입력은 Iterator 로 받아 한 묶음만 메모리에 유지, 오류는 max-reported-errors 건까지만 보관(건수는 모두 집계)
+ *   -> 파일 크기와 무관한 메모리 사용
+ * - 앞선 묶음은 이미 커밋되므로 도중에 입력/DB 오류가 나면 그 묶음부터 반영되지 않음
+ * - 지표: product.import.chunk(묶음 저장 시간)
+ */
+@Component
+public class ProductImporter {
+
+    public static final String CHUNK_METRIC_NAME = "product.import.chunk";
+
+    //product.product_name 열 길이
+    static final int MAX_NAME_LENGTH = 100;
+
+    private final ProductBulkRegistrar productBulkRegistrar;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final Timer chunkTimer;
+
+    public ProductImporter(ProductBulkRegistrar productBulkRegistrar, MeterRegistry meterRegistry,
+                           @Value("${app.product-import.chunk-size:1000}") int chunkSize,
+                           @Value("${app.product-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.productBulkRegistrar = productBulkRegistrar;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.chunkTimer = meterRegistry.timer(CHUNK_METRIC_NAME);
+    }
+
+    public ProductImportResult importAll(Iterator<ProductImportRow> rows) {
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        List<ProductImportError> errors = new ArrayList<>();
+        int total = 0;
+        int imported = 0;
+        int failed = 0;
+
+        while (rows.hasNext()) {
+            int index = total++;
+            try {
+                chunk.add(toProduct(rows.next()));
+            } catch (DomainRuleException e) {
+                failed++;
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new ProductImportError(index, e.getMessage()));
+                }
+                continue;
+            }
+            if (chunk.size() == chunkSize) {
+                imported += registerChunk(chunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += registerChunk(chunk);
+        }
+        return new ProductImportResult(total, imported, failed, errors);
+    }
+
+    private int registerChunk(List<Product> chunk) {
+        chunkTimer.record(() -> productBulkRegistrar.registerAll(chunk));
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+
+    private static Product toProduct(ProductImportRow row) {
+        Product product = new Product(row.name(), toInteger("product.price", row.price()),
+                toInteger("product.stockQuantity", row.stockQuantity()));
+        if (product.getName().length() > MAX_NAME_LENGTH) {
+            throw new InvalidImportRowException(DomainExceptionMessage.PARAM_MAX.text(
+                    "product.name.length", MAX_NAME_LENGTH, product.getName().length()));
+        }
+        return product;
+    }
+
+    //빈 값은 null(필수 검증은 Product 생성자에서), 정수가 아니면 형식 오류
+    private static Integer toInteger(String paramName, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.strip());
+        } catch (NumberFormatException e) {
+            throw new InvalidImportRowException(DomainExceptionMessage.PARAM_INVALID_FORMAT.text(paramName, value));
+        }
+    }
+
+    /**
+     * 생성자 검증 밖의 행 오류(숫자 형식, 열 길이): 도메인 규칙 오류와 같이 해당 행만 실패 처리
+     */
+    private static class InvalidImportRowException extends DomainRuleException {
+        InvalidImportRowException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.product.ProductName;
+import com.minimall.domain.product.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 상품명 자동완성 색인(인스턴스 메모리, 조회 시 DB 접근 없음)
+ * - 기본 색인: 정규화 이름순 정렬 배열(이름, ID) -> 이진 탐색으로 접두어 시작 위치를 찾고 순서대로 읽음
+ * - 등록/이름 변경/삭제는 커밋 후 변경분(skip list)에 반영, 변경분이 compact-threshold 를 넘으면 배열로 병합
+ * - 시작 시(ApplicationReadyEvent), 이후 rebuild-interval 마다 전체 상품명을 스트리밍으로 읽어 재구성(다른 인스턴스의 변경 반영)
+ * - 대소문자 무시(소문자 정규화), 같은 이름은 ID 순
+ * - 재구성 직렬화는 ReentrantLock(잠근 채 DB 스트리밍, 가상 스레드 모드에서 carrier 스레드 고정 방지), 변경 반영은 메모리 작업뿐이라 synchronized
+ */
+@Component
+public class ProductNameIndex {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparingLong(Entry::id);
+
+    private final ProductRepository productRepository;
+    private final int compactThreshold;
+    private final Object writeLock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile State state = State.of(Base.EMPTY);
+    private volatile boolean rebuilding;
+
+    public ProductNameIndex(ProductRepository productRepository,
+                            @Value("${app.product-suggest.compact-threshold:10000}") int compactThreshold) {
+        this.productRepository = productRepository;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * @return 이름이 prefix 로 시작하는 상품(정규화 이름순, 최대 limit 건)
+     */
+    public List<ProductName> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        State current = state;
+        List<ProductName> result = new ArrayList<>(limit);
+
+        Base base = current.base();
+        int i = nextVisible(current, key, base.lowerBound(key));
+        Iterator<Entry> delta = current.delta().tailSet(new Entry(key, Long.MIN_VALUE, null, 0)).iterator();
+        Entry fromDelta = nextDelta(delta, key);
+
+        while (result.size() < limit && (i >= 0 || fromDelta != null)) {
+            Entry fromBase = (i >= 0) ? base.entryAt(i) : null;
+            if (fromDelta == null || (fromBase != null && ORDER.compare(fromBase, fromDelta) < 0)) {
+                result.add(fromBase.toProductName());
+                i = nextVisible(current, key, i + 1);
+            } else {
+                result.add(fromDelta.toProductName());
+                fromDelta = nextDelta(delta, key);
+            }
+        }
+        return result;
+    }
+
+    //== 쓰기 반영(트랜잭션 안이면 커밋 후, 롤백 시 반영 안 함) ==//
+    public void put(Long productId, String name) {
+        afterCommit(() -> apply(productId, name));
+    }
+
+    public void remove(Long productId) {
+        afterCommit(() -> apply(productId, null));
+    }
+
+    private void apply(Long productId, String name) {
+        synchronized (writeLock) {
+            State current = state;
+            long appliedAt = System.nanoTime();
+            Entry previous = current.deltaById().remove(productId);
+            if (previous != null) {
+                current.delta().remove(previous);
+            }
+            if (name == null) {
+                current.removed().put(productId, appliedAt);
+            } else {
+                Entry entry = new Entry(normalize(name), productId, name, appliedAt);
+                current.delta().add(entry);
+                current.deltaById().put(productId, entry);
+            }
+            if (current.deltaById().size() + current.removed().size() > compactThreshold && !rebuilding) {
+                state = State.of(current.compact());
+            }
+        }
+    }
+
+    /**
+     * 전체 상품명으로 기본 색인 재구성
+     * - 읽기 시작 전에 반영된 변경은 읽은 결과에 포함(커밋 후 반영) -> 버림, 그 이후 변경은 변경분으로 유지
+     * - 이 전제를 지키려면 커밋된 최신 값을 읽어야 하므로 읽기 전용이 아닌 트랜잭션(읽기/쓰기 분리 시 주 DB)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.product-suggest.rebuild-interval:PT10M}",
+            fixedDelayString = "${app.product-suggest.rebuild-interval:PT10M}")
+    @Transactional
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuilding = true;
+            try {
+                long scanStartedAt = System.nanoTime();
+                List<Entry> entries = new ArrayList<>();
+                try (Stream<ProductName> names = productRepository.streamAllNames()) {
+                    names.forEach(n -> entries.add(new Entry(normalize(n.name()), n.productId(), n.name(), 0)));
+                }
+                Base scanned = Base.of(entries);
+
+                synchronized (writeLock) {
+                    State next = State.of(scanned);
+                    State current = state;
+                    current.deltaById().values().stream()
+                            .filter(entry -> entry.appliedAt() >= scanStartedAt)
+                            .forEach(entry -> {
+                                next.delta().add(entry);
+                                next.deltaById().put(entry.id(), entry);
+                            });
+                    current.removed().forEach((id, appliedAt) -> {
+                        if (appliedAt >= scanStartedAt) next.removed().put(id, appliedAt);
+                    });
+                    state = next;
+                }
+            } finally {
+                rebuilding = false;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    //from 이후 key 로 시작하고 가려지지 않은 기본 색인 위치(없으면 -1)
+    private static int nextVisible(State state, String key, int from) {
+        Base base = state.base();
+        for (int i = from; i < base.size() && base.keys()[i].startsWith(key); i++) {
+            if (!state.isSuperseded(base.ids()[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Entry nextDelta(Iterator<Entry> delta, String key) {
+        if (!delta.hasNext()) return null;
+        Entry entry = delta.next();
+        return entry.key().startsWith(key) ? entry : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 항목(정규화 이름, ID 순 정렬), appliedAt: 변경분에 반영된 시각(재구성 시 버릴 항목 판별)
+     */
+    private record Entry(String key, long id, String name, long appliedAt) {
+        ProductName toProductName() {
+            return new ProductName(id, name);
+        }
+    }
+
+    /**
+     * 정렬 배열 색인: 이름이 정규화 결과와 같으면 같은 문자열 인스턴스 공유
+     */
+    private record Base(String[] keys, long[] ids, String[] names) {
+
+        static final Base EMPTY = new Base(new String[0], new long[0], new String[0]);
+
+        static Base of(List<Entry> entries) {
+            entries.sort(ORDER);
+            int size = entries.size();
+            String[] keys = new String[size];
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            for (int i = 0; i < size; i++) {
+                Entry entry = entries.get(i);
+                names[i] = entry.name();
+                keys[i] = entry.key().equals(entry.name()) ? entry.name() : entry.key();
+                ids[i] = entry.id();
+            }
+            return new Base(keys, ids, names);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        Entry entryAt(int i) {
+            return new Entry(keys[i], ids[i], names[i], 0);
+        }
+
+        //key 이상인 첫 위치
+        int lowerBound(String key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) return -index - 1;
+            while (index > 0 && keys[index - 1].equals(key)) index--;
+            return index;
+        }
+    }
+
+    /**
+     * 기본 색인 + 변경분
+     * - deltaById: 변경분에 새 값이 있는 상품(기본 색인의 같은 ID 항목은 가림)
+     * - removed: 삭제된 상품(기본 색인에서 가림)
+     */
+    private record State(Base base, ConcurrentSkipListSet<Entry> delta,
+                         Map<Long, Entry> deltaById, Map<Long, Long> removed) {
+
+        static State of(Base base) {
+            return new State(base, new ConcurrentSkipListSet<>(ORDER), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        boolean isSuperseded(long id) {
+            return deltaById.containsKey(id) || removed.containsKey(id);
+        }
+
+        //기본 색인에서 가려진 항목을 빼고 변경분을 합친 새 정렬 배열
+        Base compact() {
+            List<Entry> entries = new ArrayList<>(base.size() + deltaById.size());
+            for (int i = 0; i < base.size(); i++) {
+                if (!isSuperseded(base.ids()[i])) entries.add(base.entryAt(i));
+            }
+            entries.addAll(delta);
+            return Base.of(entries);
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package com.minimall.service.product;
 
 import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductCatalog;
+import com.minimall.domain.product.ProductName;
 import com.minimall.domain.product.ProductRepository;
+import com.minimall.domain.product.ProductSearchCondition;
+import com.minimall.domain.product.ProductSearchCursor;
+import com.minimall.domain.product.ProductSummary;
 import com.minimall.service.exception.ProductNotFoundException;
+import com.minimall.service.inventory.BulkStockAdjuster;
+import com.minimall.service.inventory.InventoryService;
+import com.minimall.service.inventory.LowStockMonitor;
+import com.minimall.service.inventory.dto.LowStockItem;
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import com.minimall.service.product.dto.ProductImportResult;
+import com.minimall.service.product.dto.ProductImportRow;
 import com.minimall.service.product.dto.ProductRegisterCommand;
+import com.minimall.service.product.dto.ProductSummarySliceResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 
 @Service
@@ -15,73 +31,149 @@ import java.util.List;
 @Transactional
 public class ProductService {
 
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    public static final int DEFAULT_SUGGEST_SIZE = 10;
+    public static final int MAX_SUGGEST_SIZE = 20;
+    public static final int DEFAULT_LOW_STOCK_SIZE = 100;
+    public static final int MAX_LOW_STOCK_SIZE = 1000;
+
     private final ProductRepository productRepository;
+    private final InventoryService inventoryService;
+    private final BulkStockAdjuster bulkStockAdjuster;
+    private final ProductImporter productImporter;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductNameIndex productNameIndex;
+    private final LowStockMonitor lowStockMonitor;
 
     public Product register(ProductRegisterCommand command) {
         Product product = new Product(command.name(), command.price(), command.stockQuantity());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productNameIndex.put(saved.getId(), saved.getName());
+        lowStockMonitor.stockChanged(saved.getId());
+        return saved;
+    }
+
+    /**
+     * 상품 일괄 등록: 묶음 단위 트랜잭션(ProductImporter)이므로 전체를 감싸는 트랜잭션 없음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductImportResult importProducts(Iterator<ProductImportRow> rows) {
+        return productImporter.importAll(rows);
     }
 
+    //== 재고 변경(조건부 UPDATE, InventoryService 위임) ==//
+    //카탈로그 캐시는 재고를 담지 않으므로 무효화 불필요
     public void addStock(Long id, int requestedQuantity) {
-        Product product = findById(id);
-        product.addStock(requestedQuantity);
+        inventoryService.increase(id, requestedQuantity);
     }
 
     public void reduceStock(Long id, int requestedQuantity) {
-        Product product = findById(id);
-        product.reduceStock(requestedQuantity);
+        inventoryService.decrease(id, requestedQuantity);
     }
 
     public void clearStock(Long id) {
-        Product product = findById(id);
-        product.clearStock();
+        inventoryService.clear(id);
+    }
+
+    /**
+     * 재고 일괄 조정: 묶음 단위 트랜잭션(BulkStockAdjuster)이므로 전체를 감싸는 트랜잭션 없음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StockAdjustmentResult> adjustStocks(Iterator<StockAdjustment> adjustments) {
+        return bulkStockAdjuster.adjust(adjustments);
+    }
+
+    /**
+     * 핫 상품 재고를 shards 개 행으로 분산(동시 주문이 서로 다른 행을 잠금)
+     */
+    public void enableStockSharding(Long id, int shards) {
+        inventoryService.enableSharding(id, shards);
+    }
+
+    public void disableStockSharding(Long id) {
+        inventoryService.disableSharding(id);
+    }
+
+    /**
+     * @param threshold 재고 부족 기준(null 이면 전역 기준)
+     */
+    public void changeLowStockThreshold(Long id, Integer threshold) {
+        findById(id).changeLowStockThreshold(threshold);
+        lowStockMonitor.stockChanged(id);
+    }
+
+    /**
+     * 재고 부족 상품(재고 오름차순): 인스턴스 메모리 감시 목록 조회(DB 접근 없음)
+     * - size 는 1 ~ MAX_LOW_STOCK_SIZE 로 보정
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LowStockItem> getLowStock(int size) {
+        return lowStockMonitor.lowStock(Math.clamp(size, 1, MAX_LOW_STOCK_SIZE));
     }
 
     public void changeName(Long id, String name) {
         Product product = findById(id);
         product.changeName(name);
+        productCatalogCache.invalidate(id);
+        productNameIndex.put(id, product.getName());
     }
 
     public void changePrice(Long id, int price) {
         Product product = findById(id);
         product.changePrice(price);
+        productCatalogCache.invalidate(id);
     }
 
     public void delete(Long id) {
         productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("id", id));
+        inventoryService.disableSharding(id); //샤드 행 정리(FK)
         productRepository.deleteById(id);
+        productCatalogCache.invalidate(id);
+        productNameIndex.remove(id);
+        lowStockMonitor.stockChanged(id);
     }
 
-    @Transactional(readOnly = true)
-    public Product findById(Long id) {
-        return productRepository.findById(id)
+    /**
+     * 상품 카탈로그(이름, 가격) 조회: 캐시 적중 시 DB 접근 없음(트랜잭션도 열지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductCatalog getCatalog(Long id) {
+        return productCatalogCache.get(id)
                 .orElseThrow(() -> new ProductNotFoundException("id", id));
     }
 
-    @Transactional(readOnly = true)
-    public List<Product> findByName(String name) {
-        return productRepository.findByName(name);
-    }
-
-    @Transactional(readOnly = true)
-    public List<Product> findByPriceLessThan(int price) {
-        return productRepository.findByPriceLessThan(price);
+    /**
+     * 상품명 자동완성: 인스턴스 메모리 색인 조회(DB 접근 없음)
+     * - size 는 1 ~ MAX_SUGGEST_SIZE 로 보정, 공백 입력은 빈 결과
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductName> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return productNameIndex.suggest(prefix, Math.clamp(size, 1, MAX_SUGGEST_SIZE));
     }
 
     @Transactional(readOnly = true)
-    public List<Product> findByPriceGreaterThan(int price) {
-        return productRepository.findByPriceGreaterThan(price);
+    public Product findById(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException("id", id));
     }
 
+    /**
+     * 상품 검색 키셋 페이지
+     * - size + 1 건 조회로 다음 페이지 여부 판단, size 는 1 ~ MAX_SEARCH_PAGE_SIZE 로 보정
+     * @param after 이전 페이지 마지막 상품(첫 페이지는 null)
+     */
     @Transactional(readOnly = true)
-    public List<Product> findByStockQuantityLessThan(int stockQuantity) {
-        return productRepository.findByStockQuantityLessThan(stockQuantity);
-    }
+    public ProductSummarySliceResult search(ProductSearchCondition condition, ProductSearchCursor after, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        List<ProductSummary> summaries = productRepository.search(condition, after, pageSize + 1);
 
-    @Transactional(readOnly = true)
-    public List<Product> findByStockQuantityGreaterThan(int stockQuantity) {
-        return productRepository.findByStockQuantityGreaterThan(stockQuantity);
+        boolean hasNext = summaries.size() > pageSize;
+        List<ProductSummary> content = hasNext ? summaries.subList(0, pageSize) : summaries;
+        return new ProductSummarySliceResult(content, hasNext);
     }
 }
-
@@ -0,0 +1,11 @@
+package com.minimall.service.product.dto;
+
+/**
+ * 상품 일괄 등록 실패 행
+ * @param index 요청 내 행 순번(0부터, CSV 헤더 제외)
+ */
+public record ProductImportError(
+        int index,
+        String message
+) {
+}
@@ -0,0 +1,18 @@
+package com.minimall.service.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과
+ * @param errors 실패 행(행 순서, 최대 app.product-import.max-reported-errors 건: failed 보다 적으면 나머지는 생략)
+ */
+public record ProductImportResult(
+        int total,
+        int imported,
+        int failed,
+        List<ProductImportError> errors
+) {
+    public boolean errorsTruncated() {
+        return errors.size() < failed;
+    }
+}
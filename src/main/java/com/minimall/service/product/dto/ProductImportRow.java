@@ -0,0 +1,11 @@
+package com.minimall.service.product.dto;
+
+/**
+ * 상품 일괄 등록 행: CSV 와 NDJSON 을 같은 규칙으로 검증하기 위해 입력 원문(문자열) 그대로 전달
+ */
+public record ProductImportRow(
+        String name,
+        String price,
+        String stockQuantity
+) {
+}
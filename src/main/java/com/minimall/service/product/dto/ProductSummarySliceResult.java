@@ -0,0 +1,11 @@
+package com.minimall.service.product.dto;
+
+import com.minimall.domain.product.ProductSummary;
+
+import java.util.List;
+
+public record ProductSummarySliceResult(
+        List<ProductSummary> content,
+        boolean hasNext
+) {
+}
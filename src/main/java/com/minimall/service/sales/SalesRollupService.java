@@ -0,0 +1,153 @@
+package com.minimall.service.sales;
+
+import com.minimall.domain.order.Order;
+import com.minimall.domain.order.OrderRepository;
+import com.minimall.domain.order.SalesOrder;
+import com.minimall.domain.order.SalesOrderItem;
+import com.minimall.domain.sales.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 매출 집계(일별, 일별 상품, 일별 회원 등급)
+ * - 매출 기준: 결제 완료(CONFIRMED, COMPLETED) 주문, 집계 일자는 주문 일자
+ * - 증분: 결제 시 +1, 결제 후 취소 시 -1 을 대기 기록으로 남기고(주문 트랜잭션) 주기 작업이 묶음으로 반영
+ *   (배송 완료는 이미 결제 시 반영된 매출이므로 기록 없음, 결제 전 취소/예약 만료는 매출과 무관)
+ * - 재집계: 하루 단위로 주문에서 다시 계산(증분과 같은 SalesRollupDelta 계산 사용)
+ * - 조회는 집계 테이블만 읽음: 기간 일수에 비례, 주문 수와 무관
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SalesRollupService {
+
+    public static final int DEFAULT_TOP_PRODUCT_SIZE = 20;
+    public static final int MAX_TOP_PRODUCT_SIZE = 100;
+
+    private final SalesLedgerRepository salesLedgerRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final DailyGradeSalesRepository dailyGradeSalesRepository;
+    private final OrderRepository orderRepository;
+
+    //== 기록(호출 측 트랜잭션에 참여: 주문 상태 변경과 함께 커밋/롤백) ==//
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordConfirmed(Order order) {
+        record(order, SalesLedgerEntry.CONFIRMED);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCanceled(Order order) {
+        record(order, SalesLedgerEntry.CANCELED);
+    }
+
+    private void record(Order order, int sign) {
+        salesLedgerRepository.save(new SalesLedgerEntry(order.getId(), order.getOrderedAt().toLocalDate(), sign,
+                LocalDateTime.now()));
+    }
+
+    //== 반영 ==//
+    /**
+     * 대기 기록 최대 limit 건을 잠가 집계 테이블에 반영한 뒤 삭제(한 트랜잭션)
+     * - 주문/항목은 묶음의 주문 ID 로 IN 조회 한 번씩, 집계 행은 키마다 증감 UPDATE 한 번(JDBC 배치)
+     * @return 반영한 기록 수
+     */
+    public int applyPending(int limit) {
+        List<SalesLedgerEntry> entries = salesLedgerRepository.lockNextBatch(limit);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> orderIds = entries.stream().map(SalesLedgerEntry::getOrderId).distinct().toList();
+        Map<Long, SalesOrder> orders = orderRepository.findSalesOrders(orderIds).stream()
+                .collect(Collectors.toMap(SalesOrder::orderId, Function.identity()));
+        Map<Long, List<SalesOrderItem>> items = findItems(orderIds);
+
+        SalesRollupDelta delta = new SalesRollupDelta();
+        for (SalesLedgerEntry entry : entries) {
+            SalesOrder order = orders.get(entry.getOrderId());
+            if (order != null) { //기록 후 삭제된 주문은 건너뜀
+                delta.add(order, items.getOrDefault(order.orderId(), List.of()), entry.getSign());
+            }
+        }
+        dailySalesRepository.apply(delta);
+        salesLedgerRepository.deleteAllInBatch(entries);
+        return entries.size();
+    }
+
+    //== 재집계 ==//
+    /**
+     * 하루치 집계 행을 주문에서 다시 계산(한 트랜잭션, 백필/보정)
+     * - 그날의 대기 기록도 삭제: 기록된 변경은 이미 주문 상태에 반영되어 있으므로 다시 더하지 않음
+     * - 결제 완료 주문을 idx_order_status_ordered_at 범위로 읽고 EXPORT_FETCH_SIZE 건마다 항목을 IN 조회
+     * - MySQL 에서는 대기 기록 삭제가 그날 범위를 잠가, 재집계 중 그날 주문의 결제/취소 기록은 커밋까지 대기
+     * @return 집계한 주문 수
+     */
+    public long rebuild(LocalDate salesDate) {
+        salesLedgerRepository.deleteBySalesDate(salesDate);
+        dailySalesRepository.deleteBySalesDate(salesDate);
+
+        SalesRollupDelta delta = new SalesRollupDelta();
+        long rebuilt = 0;
+        List<SalesOrder> block = new ArrayList<>(OrderRepository.EXPORT_FETCH_SIZE);
+        try (Stream<SalesOrder> rows = orderRepository.streamPaidSalesOrders(
+                salesDate.atStartOfDay(), salesDate.plusDays(1).atStartOfDay())) {
+            for (Iterator<SalesOrder> it = rows.iterator(); it.hasNext(); ) {
+                block.add(it.next());
+                if (block.size() == OrderRepository.EXPORT_FETCH_SIZE) {
+                    rebuilt += addBlock(block, delta);
+                }
+            }
+        }
+        if (!block.isEmpty()) {
+            rebuilt += addBlock(block, delta);
+        }
+        dailySalesRepository.apply(delta);
+        return rebuilt;
+    }
+
+    private int addBlock(List<SalesOrder> block, SalesRollupDelta delta) {
+        Map<Long, List<SalesOrderItem>> items = findItems(block.stream().map(SalesOrder::orderId).toList());
+        block.forEach(order -> delta.add(order, items.getOrDefault(order.orderId(), List.of()), SalesLedgerEntry.CONFIRMED));
+        int size = block.size();
+        block.clear();
+        return size;
+    }
+
+    private Map<Long, List<SalesOrderItem>> findItems(List<Long> orderIds) {
+        return orderRepository.findSalesItems(orderIds).stream()
+                .collect(Collectors.groupingBy(SalesOrderItem::orderId));
+    }
+
+    //== 조회(기간: from ~ to, 양 끝 포함) ==//
+    @Transactional(readOnly = true)
+    public List<DailySales> getDailySales(LocalDate from, LocalDate to) {
+        return dailySalesRepository.findBySalesDateBetweenOrderBySalesDate(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyGradeSales> getGradeSales(LocalDate from, LocalDate to) {
+        return dailyGradeSalesRepository.findBySalesDateBetweenOrderBySalesDateAscCustomerGradeAsc(from, to);
+    }
+
+    /**
+     * 기간 매출 상위 상품(size 는 1 ~ MAX_TOP_PRODUCT_SIZE 로 보정)
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSalesSummary> getTopProducts(LocalDate from, LocalDate to, int size) {
+        return dailyProductSalesRepository.findTopProducts(from, to, Limit.of(Math.clamp(size, 1, MAX_TOP_PRODUCT_SIZE)));
+    }
+}
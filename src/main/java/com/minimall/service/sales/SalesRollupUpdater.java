@@ -0,0 +1,51 @@
+package com.minimall.service.sales;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매출 집계 대기 기록 반영 주기 작업
+ * - batch-size 건씩 별도 트랜잭션(SalesRollupService.applyPending)에서 반영, 묶음이 가득 차면 바로 다음 묶음
+ * - 여러 인스턴스가 동시에 실행해도 묶음이 겹치지 않음(SKIP LOCKED)
+ * - 집계 테이블은 interval 만큼 늦게 반영됨(대시보드 조회 기준)
+ * - 지표: sales.rollup.applied(반영 기록 수), sales.rollup.batch(묶음 처리 시간)
+ */
+@Slf4j
+@Component
+public class SalesRollupUpdater {
+
+    public static final String APPLIED_METRIC_NAME = "sales.rollup.applied";
+    public static final String BATCH_METRIC_NAME = "sales.rollup.batch";
+
+    private final SalesRollupService salesRollupService;
+    private final int batchSize;
+    private final Counter applied;
+    private final Timer batchTimer;
+
+    public SalesRollupUpdater(SalesRollupService salesRollupService, MeterRegistry meterRegistry,
+                              @Value("${app.sales.rollup.batch-size:500}") int batchSize) {
+        this.salesRollupService = salesRollupService;
+        this.batchSize = batchSize;
+        this.applied = meterRegistry.counter(APPLIED_METRIC_NAME);
+        this.batchTimer = meterRegistry.timer(BATCH_METRIC_NAME);
+    }
+
+    @Scheduled(initialDelayString = "${app.sales.rollup.interval:PT10S}",
+            fixedDelayString = "${app.sales.rollup.interval:PT10S}")
+    public void update() {
+        try {
+            int count;
+            do {
+                count = batchTimer.record(() -> salesRollupService.applyPending(batchSize));
+                applied.increment(count);
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("매출 집계 반영 실패", e);
+        }
+    }
+}
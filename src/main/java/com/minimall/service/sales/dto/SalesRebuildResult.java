@@ -0,0 +1,12 @@
+package com.minimall.service.sales.dto;
+
+/**
+ * 매출 재집계 결과
+ * @param days 재집계한 일수
+ * @param orders 집계에 포함된 결제 완료 주문 수
+ */
+public record SalesRebuildResult(
+        int days,
+        long orders
+) {
+}
@@ -1,6 +1,7 @@
 package com.minimall.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.minimall.AbstractIntegrationTest;
 import com.minimall.api.member.dto.request.MemberAddressRequest;
 import com.minimall.api.member.dto.request.MemberRegisterRequest;
@@ -21,6 +22,7 @@ import com.minimall.service.exception.MemberNotFoundException;
 import com.minimall.service.member.MemberService;
 import com.minimall.service.product.dto.ProductRegisterCommand;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,7 +32,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -146,13 +150,36 @@ class MemberControllerIntegrationTest extends AbstractIntegrationTest {
 
             //then
             result.andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(2))
-                    .andExpect(jsonPath("$[0].id").value(member1.id()))
-                    .andExpect(jsonPath("$[0].loginId").value(member1.loginId()))
-                    .andExpect(jsonPath("$[0].name").value(member1.name()))
-                    .andExpect(jsonPath("$[1].id").value(member2.id()))
-                    .andExpect(jsonPath("$[1].loginId").value(member2.loginId()))
-                    .andExpect(jsonPath("$[1].name").value(member2.name()));
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].id").value(member1.id()))
+                    .andExpect(jsonPath("$.content[0].loginId").value(member1.loginId()))
+                    .andExpect(jsonPath("$.content[0].name").value(member1.name()))
+                    .andExpect(jsonPath("$.content[1].id").value(member2.id()))
+                    .andExpect(jsonPath("$.content[1].loginId").value(member2.loginId()))
+                    .andExpect(jsonPath("$.content[1].name").value(member2.name()))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("size 지정 -> nextCursor 로 다음 페이지 조회")
+        void success_pageWithCursor() throws Exception {
+            //given
+            memberService.registerCustomer(createCommand("member1", "손흥민"));
+            memberService.registerCustomer(createCommand("member2", "박지성"));
+            MemberSummaryResult member2 = memberService.getSummaryByLoginId("member2");
+
+            //when
+            String firstPage = mockMvc.perform(get("/members").param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+
+            //then
+            mockMvc.perform(get("/members").param("size", "1").param("cursor", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(member2.id()))
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
 
         @Test
@@ -160,7 +187,8 @@ class MemberControllerIntegrationTest extends AbstractIntegrationTest {
         void success_empty() throws Exception {
             mockMvc.perform(get("/members"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(0));
+                    .andExpect(jsonPath("$.content.length()").value(0))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
         }
 
         @Test
@@ -173,6 +201,41 @@ class MemberControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /members/export")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //스트리밍은 별도 스레드/트랜잭션에서 조회 -> 테스트 데이터 커밋 필요
+    class Export {
+        @AfterEach
+        void cleanUp() {
+            memberRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("정상 -> 조건 일치 회원을 한 줄에 한 명씩 NDJSON 으로 스트리밍")
+        void success() throws Exception {
+            //given
+            memberService.registerCustomer(createCommand("member1", "손흥민"));
+            memberService.registerCustomer(createCommand("member2", "박지성"));
+
+            //when
+            MvcResult asyncResult = mockMvc.perform(get("/members/export").param("role", "CUSTOMER"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //then
+            String body = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = body.lines().toList();
+            assertEquals(2, lines.size());
+            assertEquals("member1", JsonPath.read(lines.get(0), "$.loginId"));
+            assertEquals("member2", JsonPath.read(lines.get(1), "$.loginId"));
+            assertEquals("BRONZE", JsonPath.read(lines.get(1), "$.grade"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /members/{id}")
     class GetDetail {
@@ -517,8 +580,53 @@ class MemberControllerIntegrationTest extends AbstractIntegrationTest {
             //then
             result.andExpect(status().isOk())
                     .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-                    .andExpect(jsonPath("$.length()").value(2));
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        }
+
+        @Test
+        @DisplayName("size 지정 -> nextCursor 로 다음 페이지 조회, 마지막 페이지 hasNext false")
+        void pageWithCursor() throws Exception {
+            //given
+            Product book = productService.register(new ProductRegisterCommand("도서", 10_000, 20));
+            MemberSummaryResult member =
+                    memberService.registerCustomer(new MemberRegisterCommand("loginId123", "12345", "박지성", "ex@ex.com", null));
+            for (int i = 0; i < 3; i++) {
+                orderService.createOrder(new OrderCreateCommand(member.id(),
+                        List.of(new OrderItemCreateCommand(book.getId(), 1))));
+            }
+
+            //when
+            String firstPage = mockMvc.perform(get("/members/" + member.id() + "/orders").param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
 
+            //then
+            mockMvc.perform(get("/members/" + member.id() + "/orders").param("size", "2").param("cursor", nextCursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서 -> 400")
+        void shouldFail_whenCursorIsMalformed() throws Exception {
+            //given
+            MemberSummaryResult member =
+                    memberService.registerCustomer(new MemberRegisterCommand("loginId123", "12345", "박지성", "ex@ex.com", null));
+
+            //when
+            ResultActions result = mockMvc.perform(get("/members/" + member.id() + "/orders").param("cursor", "not-a-cursor"));
+
+            //then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400))
+                    .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
         }
 
         @Test
@@ -533,7 +641,8 @@ class MemberControllerIntegrationTest extends AbstractIntegrationTest {
 
             //then
             result.andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(0));
+                    .andExpect(jsonPath("$.content.length()").value(0))
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
     }
 
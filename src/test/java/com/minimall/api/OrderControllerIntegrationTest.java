@@ -1,7 +1,9 @@
 package com.minimall.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.minimall.AbstractIntegrationTest;
+import com.minimall.api.order.OrderController;
 import com.minimall.api.order.delivery.dto.StartDeliveryRequest;
 import com.minimall.api.order.dto.request.CompleteDeliveryRequest;
 import com.minimall.domain.embeddable.Address;
@@ -11,6 +13,7 @@ import com.minimall.domain.member.Member;
 import com.minimall.domain.member.MemberRepository;
 import com.minimall.domain.order.Order;
 import com.minimall.domain.order.OrderRepository;
+import com.minimall.domain.order.OrderStatus;
 import com.minimall.api.order.dto.request.OrderCreateRequest;
 import com.minimall.api.order.dto.request.OrderItemCreateRequest;
 import com.minimall.api.order.dto.response.OrderCreateResponse;
@@ -33,14 +36,22 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.willThrow;
@@ -163,6 +174,59 @@ class OrderControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(location).endsWith("/orders/" + body.id());
         }
 
+        @Test
+        @DisplayName("같은 Idempotency-Key 로 재요청 -> 주문 1건, 처음 응답 재생 + Idempotent-Replayed 헤더")
+        void replay_whenSameIdempotencyKey() throws Exception {
+            //given
+            String key = UUID.randomUUID().toString();
+            String content = objectMapper.writeValueAsString(orderCreateRequest);
+            String first = mockMvc.perform(post("/orders")
+                            .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist(OrderController.IDEMPOTENT_REPLAYED_HEADER))
+                    .andReturn().getResponse().getContentAsString();
+            OrderCreateResponse body = objectMapper.readValue(first, OrderCreateResponse.class);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/orders")
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content));
+
+            //then
+            result.andExpect(status().isCreated())
+                    .andExpect(header().string(OrderController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                    .andExpect(header().string("Location", Matchers.endsWith("/orders/" + body.id())))
+                    .andExpect(jsonPath("$.id").value(body.id()));
+            assertThat(orderRepository.findAll())
+                    .filteredOn(o -> o.getMember().getId().equals(savedMember.getId()))
+                    .hasSize(1);
+        }
+
+        @Test
+        @DisplayName("같은 Idempotency-Key 를 다른 요청에 사용 -> 409 Conflict")
+        void return409_whenIdempotencyKeyReused() throws Exception {
+            //given
+            String key = UUID.randomUUID().toString();
+            mockMvc.perform(post("/orders")
+                            .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(orderCreateRequest)))
+                    .andExpect(status().isCreated());
+
+            //when
+            ResultActions result = mockMvc.perform(post("/orders")
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequestMemberAddrIsNull)));
+
+            //then
+            result.andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value(409));
+        }
+
         @Test
         @DisplayName("회원 미존재 -> 404 Not Found")
         void return404_whenMemberNotFound() throws Exception{
@@ -318,6 +382,33 @@ class OrderControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.status").value(422));
         }
 
+        @Test
+        @DisplayName("같은 Idempotency-Key 로 결제 재시도 -> 422 대신 처음 결제 응답 재생")
+        void replay_whenSameIdempotencyKey() throws Exception {
+            //given
+            Order order = orderService.createOrder(orderCreateCommand);
+            Long id = order.getId();
+            String key = UUID.randomUUID().toString();
+            String content = objectMapper.writeValueAsString(
+                    new PayRequest(PayMethod.CARD, order.getOrderAmount().getFinalAmount()));
+            mockMvc.perform(post("/orders/{id}/payment", id)
+                            .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isOk());
+
+            //when
+            ResultActions result = mockMvc.perform(post("/orders/{id}/payment", id)
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, key)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(OrderController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                    .andExpect(jsonPath("$.payStatus").value("PAID"));
+        }
+
         @Test
         @DisplayName("결제 금액 오류 -> 422 Unprocessable Entity")
         void shouldFail_whenMismatchAmount() throws Exception{
@@ -585,4 +676,133 @@ class OrderControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("GET /orders/export")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //스트리밍은 별도 스레드/트랜잭션에서 조회 -> 테스트 데이터 커밋 필요
+    class Export {
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime to = LocalDateTime.now().plusMinutes(10);
+
+        Long orderedId;
+        Long confirmedId;
+
+        @BeforeEach
+        void createOrders() {
+            OrderCreateCommand command = new OrderCreateCommand(savedMember.getId(), orderItems.stream()
+                    .map(i -> new OrderItemCreateCommand(i.productId(), 1))
+                    .toList());
+            orderedId = orderService.createOrder(command).getId();
+
+            Order confirmed = orderService.createOrder(command);
+            confirmedId = confirmed.getId();
+            orderService.processPayment(confirmedId,
+                    new PayCommand(PayMethod.CARD, confirmed.getOrderAmount().getFinalAmount()));
+            orderService.prepareDelivery(confirmedId, null);
+        }
+
+        @AfterEach
+        void cleanUp() {
+            orderRepository.deleteAllById(List.of(orderedId, confirmedId));
+            memberRepository.deleteAllById(List.of(savedMember.getId(), savedMemberAddrIsNull.getId()));
+            productRepository.deleteAllById(orderItems.stream().map(OrderItemCreateRequest::productId).toList());
+        }
+
+        @Test
+        @DisplayName("NDJSON -> 주문 한 건당 한 줄(상태 순, 상태 안에서는 주문 시각 순), 항목/결제/배송 포함")
+        void ndjson() throws Exception {
+            //when
+            String body = export(get("/orders/export")
+                    .param("from", from.toString())
+                    .param("to", to.toString()))
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", Matchers.containsString("orders.ndjson")))
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            //then
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+
+            String ordered = lines.get(0);
+            assertThat(JsonPath.<Number>read(ordered, "$.orderId").longValue()).isEqualTo(orderedId);
+            assertThat(JsonPath.<String>read(ordered, "$.orderStatus")).isEqualTo("ORDERED");
+            assertThat(JsonPath.<List<?>>read(ordered, "$.items")).hasSize(2);
+            assertThat(JsonPath.<Object>read(ordered, "$.pay")).isNull();
+            assertThat(JsonPath.<Object>read(ordered, "$.delivery")).isNull();
+
+            String confirmed = lines.get(1);
+            assertThat(JsonPath.<Number>read(confirmed, "$.orderId").longValue()).isEqualTo(confirmedId);
+            assertThat(JsonPath.<String>read(confirmed, "$.orderStatus")).isEqualTo("CONFIRMED");
+            assertThat(JsonPath.<String>read(confirmed, "$.items[0].productName")).isEqualTo("도서");
+            assertThat(JsonPath.<String>read(confirmed, "$.pay.payStatus")).isEqualTo("PAID");
+            assertThat(JsonPath.<String>read(confirmed, "$.delivery.deliveryStatus")).isEqualTo("READY");
+        }
+
+        @Test
+        @DisplayName("CSV + 상태 조건 -> BOM + 헤더, 해당 상태 주문의 항목마다 한 줄")
+        void csv_whenStatusGiven() throws Exception {
+            //when
+            String body = export(get("/orders/export")
+                    .param("from", from.toString())
+                    .param("to", to.toString())
+                    .param("status", OrderStatus.CONFIRMED.name())
+                    .param("format", "CSV"))
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            //then
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(0)).startsWith("\uFEFForder_id,member_id,ordered_at,order_status");
+            assertThat(lines.subList(1, 3)).allSatisfy(line -> assertThat(line)
+                    .startsWith(confirmedId + "," + savedMember.getId() + ",")
+                    .contains(",CONFIRMED,", ",CARD,", ",PAID,", ",READY,"));
+            assertThat(lines.get(1)).contains(",도서,");
+            assertThat(lines.get(2)).contains(",키보드,");
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding: gzip -> gzip 압축 응답(Content-Encoding, Vary 헤더)")
+        void gzip() throws Exception {
+            //when
+            byte[] body = export(get("/orders/export")
+                    .param("from", from.toString())
+                    .param("to", to.toString())
+                    .header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            //then
+            List<String> lines = gunzip(body).lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(JsonPath.<Number>read(lines.get(1), "$.orderId").longValue()).isEqualTo(confirmedId);
+        }
+
+        @Test
+        @DisplayName("조회 기간 누락 -> 400 Bad Request")
+        void return400_whenPeriodMissing() throws Exception {
+            //when
+            ResultActions result = mockMvc.perform(get("/orders/export").param("from", from.toString()));
+
+            //then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+                    .andExpect(jsonPath("$.path").value("/orders/export"));
+        }
+
+        private ResultActions export(RequestBuilder builder) throws Exception {
+            MvcResult asyncResult = mockMvc.perform(builder)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            return mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk());
+        }
+
+        private static String gunzip(byte[] body) throws IOException {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -31,6 +31,9 @@ import com.minimall.domain.order.pay.PayAmountMismatchException;
 import com.minimall.domain.order.pay.PayMethod;
 import com.minimall.api.order.pay.dto.PayRequest;
 import com.minimall.service.order.OrderService;
+import com.minimall.service.exception.IdempotencyConflictException;
+import com.minimall.service.idempotency.IdempotencyService;
+import com.minimall.service.idempotency.IdempotentResult;
 import com.minimall.service.exception.MemberNotFoundException;
 import com.minimall.service.exception.OrderNotFoundException;
 import com.minimall.service.exception.ProductNotFoundException;
@@ -51,7 +54,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -84,6 +89,9 @@ public class OrderControllerTest {
     @MockitoBean
     OrderService orderService;
 
+    @MockitoBean
+    IdempotencyService idempotencyService;
+
     private OrderCreateRequest createRequest;
     private OrderDetailResult detailResult;
     private OrderDetailResponse detailResponse;
@@ -229,6 +237,49 @@ public class OrderControllerTest {
                     .andExpect(jsonPath("$.message", Matchers.containsString(String.valueOf(NOT_EXIST_ID))))
                     .andExpect(jsonPath("$.timestamp").exists());
         }
+
+        @Test
+        @DisplayName("Idempotency-Key 재요청 -> 저장된 응답 201 + Idempotent-Replayed 헤더, 주문 생성 호출 없음")
+        void return201_whenReplayed() throws Exception {
+            //given
+            OrderCreateResponse stored = new OrderCreateResponse(
+                    1L, LocalDateTime.now(), OrderStatus.ORDERED, 100_000, 0, 100_000, 2);
+            given(idempotencyService.execute(eq("order.create"), eq("key-1"), eq(OrderCreateResponse.class), any(), any()))
+                    .willReturn(new IdempotentResult<>(stored, true));
+
+            //when
+            ResultActions result = mockMvc.perform(post("/orders")
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest)));
+
+            //then
+            result.andExpect(status().isCreated())
+                    .andExpect(header().string(OrderController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                    .andExpect(header().string("Location", Matchers.endsWith("/orders/1")))
+                    .andExpect(jsonPath("$.id").value(1));
+
+            verifyNoInteractions(orderService);
+        }
+
+        @Test
+        @DisplayName("Idempotency-Key 를 다른 요청에 재사용 -> 409 Conflict")
+        void return409_whenIdempotencyKeyReused() throws Exception {
+            //given
+            given(idempotencyService.execute(eq("order.create"), eq("key-1"), eq(OrderCreateResponse.class), any(), any()))
+                    .willThrow(IdempotencyConflictException.reused("key-1"));
+
+            //when
+            ResultActions result = mockMvc.perform(post("/orders")
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest)));
+
+            //then
+            result.andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.errorCode").value("CONFLICT"))
+                    .andExpect(jsonPath("$.message", Matchers.containsString("key-1")));
+        }
     }
 
     @Nested
@@ -306,6 +357,23 @@ public class OrderControllerTest {
                     .andExpect(jsonPath("$.message", Matchers.containsString(String.valueOf(NOT_EXIST_ID))))
                     .andExpect(jsonPath("$.timestamp").exists());
         }
+
+        @Test
+        @DisplayName("DB 커넥션 획득 실패(동시 작업 상한 초과 등) -> 503 Service Unavailable")
+        void return503_whenConnectionUnavailable() throws Exception {
+            //given
+            willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                    new SQLTransientConnectionException("DB 동시 작업 상한(20) 초과")))
+                    .given(orderService).getOrderDetail(1L);
+
+            //when
+            ResultActions result = mockMvc.perform(get("/orders/1"));
+
+            //then
+            result.andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.errorCode").value("SERVICE_BUSY"));
+        }
     }
 
     @Nested
@@ -1,11 +1,16 @@
 package com.minimall.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.minimall.AbstractIntegrationTest;
 import com.minimall.api.product.dto.request.ProductRegisterRequest;
 import com.minimall.domain.product.Product;
 import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.inventory.LowStockMonitor;
 import com.minimall.service.product.ProductService;
+import com.minimall.service.product.dto.ProductRegisterCommand;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,10 +24,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +55,9 @@ public class ProductControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     ProductService productService;
 
+    @Autowired
+    LowStockMonitor lowStockMonitor;
+
 
     @Nested
     @DisplayName("POST /products")
@@ -191,6 +205,60 @@ public class ProductControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /products/{id}")
+    class GetProduct {
+        Product product = new Product("상품명", 100_000, 50);
+        Long id;
+
+        @BeforeEach
+        void setup() {
+            id = productRepository.save(product).getId();
+        }
+
+        @Test
+        @DisplayName("상품 조회 -> 200 + 이름, 가격(재고 제외)")
+        void success() throws Exception {
+            mockMvc.perform(get("/products/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(id))
+                    .andExpect(jsonPath("$.name").value("상품명"))
+                    .andExpect(jsonPath("$.price").value(100_000))
+                    .andExpect(jsonPath("$.stockQuantity").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("캐시 적재 후 이름, 가격 변경 -> 변경 값 조회(캐시 무효화)")
+        void reflectsChangesAfterCached() throws Exception {
+            //given: 캐시 적재
+            mockMvc.perform(get("/products/{id}", id)).andExpect(status().isOk());
+
+            //when
+            mockMvc.perform(patch("/products/{id}/name", id).param("name", "새 상품명"));
+            mockMvc.perform(patch("/products/{id}/price", id).param("price", "120000"));
+
+            //then
+            mockMvc.perform(get("/products/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("새 상품명"))
+                    .andExpect(jsonPath("$.price").value(120_000));
+        }
+
+        @Test
+        @DisplayName("캐시 적재 후 삭제 -> 404")
+        void shouldFail_whenDeletedAfterCached() throws Exception {
+            //given
+            mockMvc.perform(get("/products/{id}", id)).andExpect(status().isOk());
+
+            //when
+            mockMvc.perform(delete("/products/{id}", id)).andExpect(status().isNoContent());
+
+            //then
+            mockMvc.perform(get("/products/{id}", id))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /products/{id}/name")
     class ChangeName {
@@ -319,4 +387,430 @@ public class ProductControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /products")
+    class Search {
+        Long book;
+        Long pen;
+        Long note;
+        Long soldOut;
+
+        //다른 테스트 데이터와 섞이지 않도록 전용 상품명 앞부분 사용
+        @BeforeEach
+        void setup() {
+            book = productRepository.save(new Product("검색_도서", 20_000, 10)).getId();
+            pen = productRepository.save(new Product("검색_펜", 1_000, 100)).getId();
+            note = productRepository.save(new Product("검색_노트", 3_000, 5)).getId();
+            soldOut = productRepository.save(new Product("검색_가방", 3_000, 0)).getId();
+            productRepository.save(new Product("검색X가방", 3_000, 0));
+        }
+
+        @Test
+        @DisplayName("상품명 앞부분 + 가격 범위 + 재고 하한 -> 조건 일치 상품만 가격순(동가격은 ID 순)")
+        void filtersAndSortsByPrice() throws Exception {
+            mockMvc.perform(get("/products")
+                            .param("name", "검색_")
+                            .param("minPrice", "1000")
+                            .param("maxPrice", "20000")
+                            .param("minStock", "5")
+                            .param("sort", "PRICE_ASC"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(3))
+                    .andExpect(jsonPath("$.content[0].id").value(pen))
+                    .andExpect(jsonPath("$.content[1].id").value(note))
+                    .andExpect(jsonPath("$.content[1].stockQuantity").value(5))
+                    .andExpect(jsonPath("$.content[2].id").value(book))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("상품명의 '_' 는 문자 그대로 비교(LIKE 와일드카드 아님)")
+        void escapesLikeWildcards() throws Exception {
+            mockMvc.perform(get("/products").param("name", "검색_가").param("sort", "NAME_ASC"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(soldOut));
+        }
+
+        @Test
+        @DisplayName("가격 내림차순 size 지정 -> nextCursor 로 누락/중복 없이 순회(동가격 경계 포함)")
+        void pagesWithCursor() throws Exception {
+            //given
+            String firstPage = mockMvc.perform(get("/products")
+                            .param("name", "검색_").param("sort", "PRICE_DESC").param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(book))
+                    .andExpect(jsonPath("$.content[1].id").value(Math.max(note, soldOut)))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+
+            //when & then
+            mockMvc.perform(get("/products")
+                            .param("name", "검색_").param("sort", "PRICE_DESC").param("size", "2")
+                            .param("cursor", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].id").value(Math.min(note, soldOut)))
+                    .andExpect(jsonPath("$.content[1].id").value(pen))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("상품명순 커서 -> 다음 페이지는 마지막 상품명 이후부터")
+        void pagesByNameWithCursor() throws Exception {
+            //given: 가방, 노트, 도서, 펜 순
+            String firstPage = mockMvc.perform(get("/products")
+                            .param("name", "검색_").param("sort", "NAME_ASC").param("size", "3"))
+                    .andExpect(jsonPath("$.content[2].id").value(book))
+                    .andReturn().getResponse().getContentAsString();
+
+            //when & then
+            mockMvc.perform(get("/products")
+                            .param("name", "검색_").param("sort", "NAME_ASC").param("size", "3")
+                            .param("cursor", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(pen));
+        }
+
+        @Test
+        @DisplayName("다른 정렬에서 받은 커서 -> 400")
+        void shouldFail_whenCursorSortMismatch() throws Exception {
+            //given
+            String firstPage = mockMvc.perform(get("/products")
+                            .param("name", "검색_").param("sort", "PRICE_ASC").param("size", "1"))
+                    .andReturn().getResponse().getContentAsString();
+
+            //when & then
+            mockMvc.perform(get("/products")
+                            .param("sort", "NAME_ASC")
+                            .param("cursor", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /products/suggest")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //색인은 커밋 후 반영 -> 테스트 데이터 커밋 필요
+    class Suggest {
+        List<Long> ids = new ArrayList<>();
+
+        @AfterEach
+        void cleanUp() {
+            ids.forEach(productService::delete);
+        }
+
+        @Test
+        @DisplayName("등록한 상품 -> 상품명 앞부분(대소문자 무시)으로 이름순 조회")
+        void success() throws Exception {
+            //given
+            ids.add(productService.register(new ProductRegisterCommand("Suggest 키보드", 100_000, 10)).getId());
+            ids.add(productService.register(new ProductRegisterCommand("suggest 마우스", 30_000, 10)).getId());
+
+            //when & then
+            mockMvc.perform(get("/products/suggest").param("q", "SUGGEST "))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].name").value("suggest 마우스"))
+                    .andExpect(jsonPath("$[1].name").value("Suggest 키보드"));
+        }
+
+        @Test
+        @DisplayName("이름 변경, 삭제 -> 바로 반영")
+        void reflectsChanges() throws Exception {
+            //given
+            Long renamed = productService.register(new ProductRegisterCommand("suggest 펜", 1_000, 10)).getId();
+            Long deleted = productService.register(new ProductRegisterCommand("suggest 연필", 500, 10)).getId();
+            ids.add(renamed);
+
+            //when
+            productService.changeName(renamed, "suggest 만년필");
+            productService.delete(deleted);
+
+            //then
+            mockMvc.perform(get("/products/suggest").param("q", "suggest"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(renamed))
+                    .andExpect(jsonPath("$[0].name").value("suggest 만년필"));
+        }
+
+        @Test
+        @DisplayName("공백 입력 -> 빈 목록")
+        void blankQuery() throws Exception {
+            mockMvc.perform(get("/products/suggest").param("q", " "))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /products/low-stock")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //커밋 후 반영 확인
+    class LowStock {
+        List<Long> ids = new ArrayList<>();
+
+        @AfterEach
+        void cleanUp() {
+            ids.forEach(productService::delete);
+            lowStockMonitor.refresh();
+        }
+
+        @Test
+        @DisplayName("재고가 전역 기준 미만으로 줄면 추가, 다시 늘면 제거")
+        void tracksStockChanges() throws Exception {
+            //given
+            Long id = productService.register(new ProductRegisterCommand("재고 감시 상품", 1_000, 12)).getId();
+            ids.add(id);
+
+            //when
+            productService.reduceStock(id, 7);
+            lowStockMonitor.refresh();
+
+            //then
+            mockMvc.perform(get("/products/low-stock").param("size", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.id == %d)].stockQuantity", id).value(5))
+                    .andExpect(jsonPath("$[?(@.id == %d)].threshold", id).value(10));
+
+            productService.addStock(id, 20);
+            lowStockMonitor.refresh();
+            mockMvc.perform(get("/products/low-stock").param("size", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.id == %d)]", id).isEmpty());
+        }
+
+        @Test
+        @DisplayName("처음부터 재고가 기준 미만인 상품 등록 -> 전체 대조 없이 바로 추가")
+        void tracksRegisteredProduct() throws Exception {
+            //given
+            Long id = productService.register(new ProductRegisterCommand("재고 부족 신상품", 1_000, 3)).getId();
+            ids.add(id);
+
+            //when
+            lowStockMonitor.refresh();
+
+            //then
+            mockMvc.perform(get("/products/low-stock").param("size", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.id == %d)].stockQuantity", id).value(3));
+        }
+
+        @Test
+        @DisplayName("상품별 기준 + 샤딩 상품 -> 전체 대조에서 샤드 합계로 판정")
+        void sweep_withProductThreshold() throws Exception {
+            //given
+            Long id = productService.register(new ProductRegisterCommand("재고 감시 샤딩 상품", 1_000, 50)).getId();
+            ids.add(id);
+            productService.enableStockSharding(id, 2);
+
+            //when
+            productService.changeLowStockThreshold(id, 100);
+            lowStockMonitor.sweep();
+
+            //then
+            mockMvc.perform(get("/products/low-stock").param("size", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.id == %d)].stockQuantity", id).value(50))
+                    .andExpect(jsonPath("$[?(@.id == %d)].threshold", id).value(100));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /products/stock/adjustments")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //묶음 단위 커밋 -> 테스트 데이터 커밋 필요
+    class StockAdjustments {
+        List<Long> ids = new ArrayList<>();
+
+        @AfterEach
+        void cleanUp() {
+            ids.forEach(productService::delete);
+        }
+
+        @Test
+        @DisplayName("JSON 배열 -> 항목별 결과(반영/재고 부족/미존재/형식 오류), 반영된 항목만 재고 변경")
+        void jsonArray() throws Exception {
+            //given
+            Long first = register(10);
+            Long second = register(3);
+            String body = """
+                    [
+                      {"productId": %d, "delta": 5},
+                      {"productId": %d, "delta": -5},
+                      {"productId": %d, "quantity": 7},
+                      {"productId": 999999999, "delta": 1},
+                      {"productId": %d, "delta": 1, "quantity": 1}
+                    ]""".formatted(first, second, first, first);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/stock/adjustments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(5))
+                    .andExpect(jsonPath("$.applied").value(2))
+                    .andExpect(jsonPath("$.failed").value(3))
+                    .andExpect(jsonPath("$.results[*].status").value(Matchers.contains(
+                            "APPLIED", "INSUFFICIENT_STOCK", "APPLIED", "NOT_FOUND", "INVALID")))
+                    .andExpect(jsonPath("$.results[*].index").value(Matchers.contains(0, 1, 2, 3, 4)));
+            assertThat(productRepository.findById(first).orElseThrow().getStockQuantity()).isEqualTo(7);
+            assertThat(productRepository.findById(second).orElseThrow().getStockQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("NDJSON + 샤딩 상품 -> 단건 경로로 반영")
+        void ndjson_withShardedProduct() throws Exception {
+            //given
+            Long plain = register(10);
+            Long sharded = register(10);
+            productService.enableStockSharding(sharded, 2);
+            String body = """
+                    {"productId": %d, "delta": -4}
+                    {"productId": %d, "delta": -4}
+                    {"productId": %d, "quantity": 30}
+                    """.formatted(plain, sharded, sharded);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/stock/adjustments")
+                    .contentType("application/x-ndjson")
+                    .content(body));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.applied").value(3));
+            assertThat(productRepository.findById(plain).orElseThrow().getStockQuantity()).isEqualTo(6);
+            assertThat(productRepository.findById(sharded).orElseThrow().getStockQuantity()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("도중에 본문 형식 오류 -> 200, 앞 항목까지 반영한 결과 + 오류 항목 순번")
+        void stopsAtMalformedItem() throws Exception {
+            //given
+            Long id = register(10);
+            String body = """
+                    {"productId": %d, "delta": 1}
+                    {"productId": %d, "delta": 2}
+                    {"productId": "abc", "delta": 4}
+                    {"productId": %d, "delta": 8}
+                    """.formatted(id, id, id);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/stock/adjustments")
+                    .contentType("application/x-ndjson")
+                    .content(body));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2))
+                    .andExpect(jsonPath("$.applied").value(2))
+                    .andExpect(jsonPath("$.results[*].index").value(Matchers.contains(0, 1)))
+                    .andExpect(jsonPath("$.error.index").value(2))
+                    .andExpect(jsonPath("$.error.message").isNotEmpty());
+            assertThat(productRepository.findById(id).orElseThrow().getStockQuantity()).isEqualTo(13);
+        }
+
+        @Test
+        @DisplayName("형식 오류 없음 -> error 는 null")
+        void noError_whenBodyWellFormed() throws Exception {
+            //given
+            Long id = register(10);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/stock/adjustments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"productId\": %d, \"delta\": 1}]".formatted(id)));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.applied").value(1))
+                    .andExpect(jsonPath("$.error").value(Matchers.nullValue()));
+        }
+
+        private Long register(int stockQuantity) {
+            Long id = productService.register(new ProductRegisterCommand("일괄 조정 상품", 1_000, stockQuantity)).getId();
+            ids.add(id);
+            return id;
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /products/import")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //묶음 단위 커밋 -> 테스트 데이터 커밋 필요
+    class Import {
+        String prefix = "일괄등록-" + UUID.randomUUID() + "-";
+
+        @AfterEach
+        void cleanUp() {
+            imported().forEach(product -> productService.delete(product.getId()));
+        }
+
+        @Test
+        @DisplayName("CSV(헤더 열 순서 무관, 따옴표 필드) -> 유효한 행만 등록, 실패 행은 순번과 함께 응답")
+        void csv() throws Exception {
+            //given
+            String body = """
+                    stockQuantity,name,price
+                    5,"%1$s키보드, 무선",1000
+                    3,%1$s마우스,천원
+
+                    0,%1$s모니터,2000
+                    -1,%1$s스피커,500
+                    """.formatted(prefix);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/import")
+                    .contentType("text/csv")
+                    .content(body.getBytes(StandardCharsets.UTF_8)));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(4))
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.failed").value(2))
+                    .andExpect(jsonPath("$.errors[*].index").value(Matchers.contains(1, 3)))
+                    .andExpect(jsonPath("$.errorsTruncated").value(false));
+            assertThat(imported()).extracting(Product::getName)
+                    .containsExactlyInAnyOrder(prefix + "키보드, 무선", prefix + "모니터");
+        }
+
+        @Test
+        @DisplayName("NDJSON -> 등록 후 자동완성에 반영")
+        void ndjson() throws Exception {
+            //given
+            String body = """
+                    {"name": "%1$s도서", "price": 15000, "stockQuantity": 10}
+                    {"name": "%1$s음반", "price": "20000", "stockQuantity": 1}
+                    """.formatted(prefix);
+
+            //when
+            ResultActions result = mockMvc.perform(post("/products/import")
+                    .contentType("application/x-ndjson")
+                    .content(body));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2));
+            mockMvc.perform(get("/products/suggest").param("q", prefix))
+                    .andExpect(jsonPath("$.length()").value(2));
+        }
+
+        @Test
+        @DisplayName("CSV 필수 열 누락 -> 400")
+        void shouldFail_whenColumnMissing() throws Exception {
+            mockMvc.perform(post("/products/import")
+                            .contentType("text/csv")
+                            .content("name,price\n상품,1000\n"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(Matchers.containsString("stockQuantity")));
+        }
+
+        private List<Product> imported() {
+            return productRepository.findAll().stream()
+                    .filter(product -> product.getName().startsWith(prefix))
+                    .toList();
+        }
+    }
 }
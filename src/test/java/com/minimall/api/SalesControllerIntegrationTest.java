@@ -0,0 +1,167 @@
+package com.minimall.api;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.order.Order;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.PayCommand;
+import com.minimall.service.sales.SalesRollupUpdater;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SalesControllerIntegrationTest extends AbstractIntegrationTest {
+
+    //다른 테스트의 주문과 섞이지 않도록 주문 일자를 고정
+    private static final LocalDate DAY = LocalDate.of(2001, 2, 3);
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    SalesRollupUpdater salesRollupUpdater;
+
+    Member member;
+    Product book;
+    Product keyboard;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.registerCustomer(
+                "sales-user", "12345678", "매출", "sales-user@example.com", null));
+        book = productRepository.save(new Product("도서", 20000, 50));
+        keyboard = productRepository.save(new Product("키보드", 100000, 20));
+    }
+
+    //도서 2권 + 키보드 1개 = 140,000
+    private Order order() {
+        Order order = orderService.createOrder(new OrderCreateCommand(member.getId(), List.of(
+                new OrderItemCreateCommand(book.getId(), 2),
+                new OrderItemCreateCommand(keyboard.getId(), 1))));
+        ReflectionTestUtils.setField(order, "orderedAt", DAY.atTime(10, 0));
+        return order;
+    }
+
+    private Order paidOrder() {
+        Order order = order();
+        orderService.processPayment(order.getId(), new PayCommand(PayMethod.CARD, order.getOrderAmount().getFinalAmount()));
+        return order;
+    }
+
+    private ResultActions getSales(String path) throws Exception {
+        return mockMvc.perform(get(path).param("from", DAY.toString()).param("to", DAY.toString()));
+    }
+
+    @Nested
+    @DisplayName("GET /sales/daily, /sales/grades, /sales/products")
+    class Query {
+        @Test
+        @DisplayName("결제 +1, 결제 후 취소 -1 반영 -> 결제 전 주문은 제외, 일별/등급/상품 집계 조회")
+        void success() throws Exception {
+            //given
+            paidOrder();
+            orderService.cancelOrder(paidOrder().getId());
+            order();
+
+            //when
+            salesRollupUpdater.update();
+
+            //then
+            getSales("/sales/daily")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].salesDate").value(DAY.toString()))
+                    .andExpect(jsonPath("$[0].orderCount").value(1))
+                    .andExpect(jsonPath("$[0].units").value(3))
+                    .andExpect(jsonPath("$[0].grossAmount").value(140000))
+                    .andExpect(jsonPath("$[0].discountAmount").value(0))
+                    .andExpect(jsonPath("$[0].revenue").value(140000));
+            getSales("/sales/grades")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].grade").value("BRONZE"))
+                    .andExpect(jsonPath("$[0].revenue").value(140000));
+            getSales("/sales/products")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].productName").value("키보드"))
+                    .andExpect(jsonPath("$[0].revenue").value(100000))
+                    .andExpect(jsonPath("$[1].productName").value("도서"))
+                    .andExpect(jsonPath("$[1].units").value(2));
+        }
+
+        @Test
+        @DisplayName("기간 누락 -> 400 Bad Request")
+        void return400_whenPeriodMissing() throws Exception {
+            //when
+            ResultActions result = mockMvc.perform(get("/sales/daily").param("from", DAY.toString()));
+
+            //then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /sales/rebuild")
+    class Rebuild {
+        @Test
+        @DisplayName("재집계 -> 주문에서 다시 계산, 아직 반영되지 않은 대기 기록은 삭제되어 중복 집계 없음")
+        void success() throws Exception {
+            //given
+            paidOrder();
+            salesRollupUpdater.update();
+            paidOrder(); //대기 기록만 있음
+
+            //when
+            ResultActions result = mockMvc.perform(post("/sales/rebuild")
+                    .param("from", DAY.minusDays(1).toString())
+                    .param("to", DAY.toString()));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.days").value(2))
+                    .andExpect(jsonPath("$.orders").value(2));
+
+            salesRollupUpdater.update();
+            getSales("/sales/daily")
+                    .andExpect(jsonPath("$[0].orderCount").value(2))
+                    .andExpect(jsonPath("$[0].revenue").value(280000));
+            getSales("/sales/products")
+                    .andExpect(jsonPath("$[0].units").value(2))
+                    .andExpect(jsonPath("$[1].units").value(4));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.minimall.api.common.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("따옴표 필드 안의 쉼표/줄바꿈/\"\" 유지, LF/CRLF 줄 끝, 맨 앞 BOM 무시")
+    void readsQuotedFields() throws IOException {
+        //given
+        String csv = "\uFEFFname,price\r\n\"키보드, 무선\",1000\n\"24\"\" 모니터\n(IPS)\",\"\"\n";
+
+        //when
+        List<List<String>> records = readAll(new CsvReader(new StringReader(csv), 100));
+
+        //then
+        assertThat(records).containsExactly(
+                List.of("name", "price"),
+                List.of("키보드, 무선", "1000"),
+                List.of("24\" 모니터\n(IPS)", ""));
+    }
+
+    @Test
+    @DisplayName("마지막 줄 끝 줄바꿈 없음, 빈 줄 -> 빈 필드 1개")
+    void lastLineWithoutNewline() throws IOException {
+        //when
+        List<List<String>> records = readAll(new CsvReader(new StringReader("a,b\n\nc,"), 100));
+
+        //then
+        assertThat(records).containsExactly(List.of("a", "b"), List.of(""), List.of("c", ""));
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표 -> 최대 레코드 길이에서 IOException(나머지 본문을 한 레코드로 읽지 않음)")
+    void shouldFail_whenRecordTooLong() throws IOException {
+        //given
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"열린 따옴표,1\n" + "x,1\n".repeat(100)), 20);
+        reader.next();
+
+        //when & then
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("20");
+    }
+
+    @Test
+    @DisplayName("본문 끝까지 따옴표가 닫히지 않음 -> IOException")
+    void shouldFail_whenQuoteNotClosed() {
+        CsvReader reader = new CsvReader(new StringReader("\"abc"), 100);
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+
+    private static List<List<String>> readAll(CsvReader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,43 @@
+package com.minimall.api.common.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("쉼표/따옴표/줄바꿈이 있는 필드만 따옴표로 감쌈, null -> 빈 필드, 줄 끝 CRLF")
+    void quotesOnlyWhenNeeded() throws IOException {
+        //given
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+
+        //when
+        csv.writeRecord("키보드, 무선", 1000, null, "24\" 모니터\n(IPS)");
+        csv.writeRecord("a", "b");
+
+        //then
+        assertThat(out.toString()).isEqualTo("\"키보드, 무선\",1000,,\"24\"\" 모니터\n(IPS)\"\r\na,b\r\n");
+    }
+
+    @Test
+    @DisplayName("CsvReader 로 다시 읽으면 같은 필드")
+    void roundTrip() throws IOException {
+        //given
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("\"따옴표\"", "줄\r\n바꿈", "", "평범");
+
+        //when
+        List<String> fields = new CsvReader(new StringReader(out.toString()), 100).next();
+
+        //then
+        assertThat(fields).containsExactly("\"따옴표\"", "줄\r\n바꿈", "", "평범");
+    }
+}
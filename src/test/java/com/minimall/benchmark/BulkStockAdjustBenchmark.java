@@ -0,0 +1,93 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import com.minimall.service.inventory.dto.StockAdjustmentStatus;
+import com.minimall.service.product.ProductService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 일괄 조정 처리 시간: 항목별 단건 API 경로 vs 일괄 조정(묶음 트랜잭션 + JDBC 배치 UPDATE)
+ * - 단건 경로는 SAMPLE 건만 실행해 ITEMS 건 소요 시간으로 환산
+ * - 실행: ./gradlew benchmark --tests '*BulkStockAdjustBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class BulkStockAdjustBenchmark extends AbstractIntegrationTest {
+
+    private static final int ITEMS = 50_000;
+    private static final int SAMPLE = 2_000;
+    private static final int INITIAL_STOCK = 100;
+    private static final int BATCH = 5_000;
+    private static final long SEED_ID_BASE = 3_000_000_000L;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("5만 건 재고 조정: 단건 경로(환산) vs 일괄 조정, 결과 재고 검증")
+    void compareElapsed() {
+        List<Long> ids = insertProducts(ITEMS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLE; i++) {
+            productService.addStock(ids.get(i), 1);
+        }
+        double perItemSeconds = (System.nanoTime() - start) / 1_000_000_000.0 * ITEMS / SAMPLE;
+
+        List<StockAdjustment> adjustments = IntStream.range(0, ITEMS)
+                .mapToObj(i -> (i % 2 == 0)
+                        ? new StockAdjustment(ids.get(i), -1, null)
+                        : new StockAdjustment(ids.get(i), null, 50))
+                .toList();
+        start = System.nanoTime();
+        List<StockAdjustmentResult> results = productService.adjustStocks(adjustments.iterator());
+        double bulkSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("items=%d per-item(extrapolated)=%.2fs bulk=%.2fs (%.0f items/s)%n",
+                ITEMS, perItemSeconds, bulkSeconds, ITEMS / bulkSeconds);
+
+        assertThat(results).allMatch(result -> result.status() == StockAdjustmentStatus.APPLIED);
+        assertThat(stockOf(ids.get(1))).isEqualTo(50);
+        assertThat(stockOf(ids.get(ITEMS - 2))).isEqualTo(INITIAL_STOCK - 1);
+    }
+
+    /**
+     * 조정 대상 상품 적재(ID는 SEED_ID_BASE 아래로 내려가며 부여: 다른 벤치마크, 이후 생성되는 상품 ID와 충돌 방지)
+     */
+    private List<Long> insertProducts(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int i = offset; i < Math.min(offset + BATCH, count); i++) {
+                ids.add(SEED_ID_BASE - i);
+                rows.add(new Object[]{SEED_ID_BASE - i, "일괄조정상품-" + i, 1_000, INITIAL_STOCK});
+            }
+            jdbcTemplate.batchUpdate(
+                    "insert into product (product_id, product_name, product_price, stock_quantity, stock_shards) " +
+                            "values (?, ?, ?, ?, 0)",
+                    rows);
+        }
+        return ids;
+    }
+
+    private int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "select stock_quantity from product where product_id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.inventory.InventoryService;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 단일 핫 상품 동시 주문 처리량: 단일 행 재고 vs 샤딩 재고
+ * - 실행: ./gradlew benchmark --tests '*HotSkuStockBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class HotSkuStockBenchmark extends AbstractIntegrationTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 4;
+    private static final int WARMUP = 500;
+    private static final int CHECKOUTS = 5_000;
+    private static final int SHARDS = 16;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    InventoryService inventoryService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("단일 SKU 동시 주문: 단일 행 재고 vs 샤딩 재고 처리량 비교, 판매 수량 = 재고 감소량")
+    void compareThroughput() throws InterruptedException {
+        String loginId = UUID.randomUUID().toString();
+        Long memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "벤치", loginId + "@bench.com", null)).getId();
+
+        Long single = productRepository.save(new Product("단일행상품", 1_000, INITIAL_STOCK)).getId();
+        Long sharded = productRepository.save(new Product("샤딩상품", 1_000, INITIAL_STOCK)).getId();
+        inventoryService.enableSharding(sharded, SHARDS);
+
+        LatencyStats singleStats = run(memberId, single);
+        LatencyStats shardedStats = run(memberId, sharded);
+
+        System.out.println("threads=" + THREADS + ", checkouts=" + CHECKOUTS);
+        System.out.println(singleStats.summary("single row"));
+        System.out.println(shardedStats.summary("sharded x" + SHARDS));
+
+        assertThat(stockOf(single)).isEqualTo(INITIAL_STOCK - WARMUP - CHECKOUTS);
+        assertThat(stockOf(sharded)).isEqualTo(INITIAL_STOCK - WARMUP - CHECKOUTS);
+    }
+
+    private LatencyStats run(Long memberId, Long productId) throws InterruptedException {
+        OrderCreateCommand command = new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            submitAll(executor, WARMUP, command, null);
+
+            LatencyStats stats = new LatencyStats(CHECKOUTS);
+            long start = System.nanoTime();
+            submitAll(executor, CHECKOUTS, command, stats);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("product=%d throughput=%.1f orders/s%n", productId, CHECKOUTS / seconds);
+            return stats;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submitAll(ExecutorService executor, int count, OrderCreateCommand command, LatencyStats stats)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            executor.submit(() -> {
+                try {
+                    long start = System.nanoTime();
+                    orderService.createOrder(command);
+                    if (stats != null) stats.record(System.nanoTime() - start);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+    }
+
+    private int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "select case when p.stock_shards > 0 "
+                        + "then (select coalesce(sum(s.quantity), 0) from product_stock_shard s where s.product_id = p.product_id) "
+                        + "else p.stock_quantity end from product p where p.product_id = ?",
+                Integer.class, productId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.minimall.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크용 지연 시간 수집기(나노초 단위 기록, 밀리초 단위 요약)
+ */
+public class LatencyStats {
+
+    private long[] samples;
+    private int size;
+
+    public LatencyStats(int expectedSamples) {
+        this.samples = new long[Math.max(expectedSamples, 16)];
+    }
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (size == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+
+    public synchronized double meanMillis() {
+        if (size == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += samples[i];
+        return sum / (double) size / 1_000_000.0;
+    }
+
+    public String summary(String label) {
+        return String.format("%-28s n=%-6d mean=%8.3fms p50=%8.3fms p99=%8.3fms",
+                label, count(), meanMillis(), percentileMillis(50), percentileMillis(99));
+    }
+}
@@ -0,0 +1,88 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.support.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 항목 수(1 / 20 / 100)에 따른 주문 생성 지연 시간, INSERT 문 준비 횟수 측정
+ * - JDBC 배치가 동작하면 order_item INSERT 는 항목 수와 무관하게 배치 단위로만 준비됨
+ * - 실행: ./gradlew benchmark --tests '*OrderCreateLargeCartBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class OrderCreateLargeCartBenchmark extends AbstractIntegrationTest {
+
+    private static final int[] CART_SIZES = {1, 20, 100};
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Test
+    @DisplayName("장바구니 1 / 20 / 100개 -> 주문 생성 지연 시간, INSERT 문 수")
+    void createLatencyByCartSize() {
+        String loginId = UUID.randomUUID().toString();
+        Long memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "벤치", loginId + "@bench.com", null)).getId();
+        List<Long> productIds = IntStream.range(0, CART_SIZES[CART_SIZES.length - 1])
+                .mapToObj(i -> productRepository.save(new Product("벤치상품" + i, 1_000, 10_000_000)).getId())
+                .toList();
+
+        Map<Integer, LatencyStats> results = new LinkedHashMap<>();
+        Map<Integer, Integer> inserts = new LinkedHashMap<>();
+
+        for (int cartSize : CART_SIZES) {
+            OrderCreateCommand command = new OrderCreateCommand(memberId, productIds.subList(0, cartSize).stream()
+                    .map(id -> new OrderItemCreateCommand(id, 1))
+                    .toList());
+
+            for (int i = 0; i < WARMUP; i++) {
+                orderService.createOrder(command);
+            }
+
+            SqlStatementCounter.reset();
+            orderService.createOrder(command);
+            inserts.put(cartSize, SqlStatementCounter.insertCount());
+
+            LatencyStats stats = new LatencyStats(ITERATIONS);
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                orderService.createOrder(command);
+                stats.record(System.nanoTime() - start);
+            }
+            results.put(cartSize, stats);
+        }
+
+        results.forEach((size, stats) ->
+                System.out.println(stats.summary("cart=" + size + " inserts=" + inserts.get(size))));
+
+        assertThat(inserts.get(100)).as("order_item INSERT 는 배치로 묶여 항목 수만큼 늘지 않음").isLessThan(10);
+    }
+}
@@ -0,0 +1,108 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.support.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회원의 기존 주문 수(0 ~ 10k)에 따른 주문 생성 지연 시간 측정
+ * - 실행: ./gradlew benchmark --tests '*OrderCreateMemberHistoryBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class OrderCreateMemberHistoryBenchmark extends AbstractIntegrationTest {
+
+    private static final int[] HISTORY_SIZES = {0, 1_000, 10_000};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+    private static final long SEED_ID_BASE = 1_000_000_000L;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기존 주문 0 / 1k / 10k -> 주문 생성 SELECT 수 동일, 지연 시간 평탄")
+    void createLatencyIsFlatRegardlessOfHistory() {
+        String loginId = UUID.randomUUID().toString();
+        Long memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "벤치", loginId + "@bench.com", null)).getId();
+        Long productId = productRepository.save(new Product("벤치상품", 1_000, 10_000_000)).getId();
+        OrderCreateCommand command = new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)));
+
+        Map<Integer, LatencyStats> results = new LinkedHashMap<>();
+        Map<Integer, Integer> selects = new LinkedHashMap<>();
+        int seeded = 0;
+
+        for (int historySize : HISTORY_SIZES) {
+            seedOrders(memberId, seeded, historySize - seeded);
+            seeded = historySize;
+
+            for (int i = 0; i < WARMUP; i++) {
+                orderService.createOrder(command);
+            }
+
+            SqlStatementCounter.reset();
+            orderService.createOrder(command);
+            selects.put(historySize, SqlStatementCounter.selectCount());
+
+            LatencyStats stats = new LatencyStats(ITERATIONS);
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                orderService.createOrder(command);
+                stats.record(System.nanoTime() - start);
+            }
+            results.put(historySize, stats);
+        }
+
+        results.forEach((size, stats) -> System.out.println(stats.summary("prior orders=" + size)));
+
+        assertThat(selects.values()).as("주문 이력과 무관하게 SELECT 수 동일").containsOnly(selects.get(0));
+    }
+
+    /**
+     * 기존 주문 이력 적재(ID는 SEED_ID_BASE 아래로 내려가며 부여: 이후 생성되는 주문 ID와 충돌 방지)
+     */
+    private void seedOrders(Long memberId, int offset, int count) {
+        if (count <= 0) return;
+        Timestamp orderedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{SEED_ID_BASE - offset - i, memberId, orderedAt, "COMPLETED", 1_000, 0, 1_000, false});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into orders (order_id, member_id, ordered_at, order_status, original_amount, discount_amount, final_amount, is_discounted) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+}
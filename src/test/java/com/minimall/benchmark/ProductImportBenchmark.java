@@ -0,0 +1,54 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.service.product.ProductService;
+import com.minimall.service.product.dto.ProductImportResult;
+import com.minimall.service.product.dto.ProductImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상품 일괄 등록 처리 시간: 10만 행(1%는 검증 실패)을 지연 생성 Iterator 로 공급(요청 본문 스트리밍 파싱과 같은 조건)
+ * - 실행: ./gradlew benchmark --tests '*ProductImportBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class ProductImportBenchmark extends AbstractIntegrationTest {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("10만 행 일괄 등록: 처리 시간, 등록/실패 건수 검증")
+    void importRows() {
+        String prefix = "일괄등록벤치-" + UUID.randomUUID() + "-";
+
+        long start = System.nanoTime();
+        ProductImportResult result = productService.importProducts(IntStream.range(0, ROWS)
+                .mapToObj(i -> new ProductImportRow(prefix + i, (i % 100 == 0) ? "-1" : "1000", "10"))
+                .iterator());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("rows=%d elapsed=%.2fs (%.0f rows/s)%n", ROWS, seconds, ROWS / seconds);
+
+        assertThat(result.imported()).isEqualTo(ROWS - ROWS / 100);
+        assertThat(result.failed()).isEqualTo(ROWS / 100);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from product where product_name like ?", Integer.class, prefix + "%"))
+                .isEqualTo(ROWS - ROWS / 100);
+    }
+}
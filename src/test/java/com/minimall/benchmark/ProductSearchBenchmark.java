@@ -0,0 +1,109 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.product.ProductSearchCondition;
+import com.minimall.domain.product.ProductSearchCursor;
+import com.minimall.domain.product.ProductSort;
+import com.minimall.service.product.ProductService;
+import com.minimall.service.product.dto.ProductSummarySliceResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대량 카탈로그에서 상품 검색 지연 시간, 실행 계획 측정
+ * - 실행: ./gradlew benchmark --tests '*ProductSearchBenchmark' (-Dbench.products=2000000 으로 규모 조정)
+ * - 조건 조합별 첫 페이지 + 커서로 이어지는 페이지 지연 시간(p99 목표 20ms)
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class ProductSearchBenchmark extends AbstractIntegrationTest {
+
+    private static final int PRODUCTS = Integer.getInteger("bench.products", 200_000);
+    private static final int BATCH = 5_000;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final long SEED_ID_BASE = 2_000_000_000L;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("가격 범위/상품명 앞부분 검색 -> 정렬 인덱스 사용(filesort 없음), 조건별 지연 시간 출력")
+    void searchUsesSortIndexes() {
+        seedProducts();
+
+        Map<String, ProductSearchCondition> shapes = new LinkedHashMap<>();
+        shapes.put("newest", new ProductSearchCondition(null, null, null, null, ProductSort.NEWEST));
+        shapes.put("price range asc", new ProductSearchCondition(null, 10_000, 20_000, null, ProductSort.PRICE_ASC));
+        shapes.put("price range + stock desc", new ProductSearchCondition(null, 10_000, 20_000, 10, ProductSort.PRICE_DESC));
+        shapes.put("name prefix", new ProductSearchCondition("벤치상품-12", null, null, null, ProductSort.NAME_ASC));
+        shapes.put("name prefix + price", new ProductSearchCondition("벤치상품-1", 50_000, 60_000, null, ProductSort.PRICE_ASC));
+
+        shapes.forEach((label, condition) -> {
+            for (int i = 0; i < WARMUP; i++) {
+                pageThrough(condition, 3);
+            }
+            LatencyStats stats = new LatencyStats(ITERATIONS);
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                pageThrough(condition, 3);
+                stats.record((System.nanoTime() - start) / 3);
+            }
+            System.out.println(stats.summary(label));
+        });
+
+        assertUsesIndexWithoutFilesort("select product_id from product where product_price between 10000 and 20000 " +
+                "order by product_price, product_id limit 21", "idx_product_price_id");
+        assertUsesIndexWithoutFilesort("select product_id from product where product_name like '벤치상품-12%' " +
+                "order by product_name, product_id limit 21", "idx_product_name_id");
+    }
+
+    private void pageThrough(ProductSearchCondition condition, int pages) {
+        ProductSearchCursor after = null;
+        for (int page = 0; page < pages; page++) {
+            ProductSummarySliceResult slice = productService.search(condition, after, PAGE_SIZE);
+            if (!slice.hasNext()) return;
+            after = ProductSearchCursor.of(slice.content().getLast(), condition.sort());
+        }
+    }
+
+    private void assertUsesIndexWithoutFilesort(String sql, String index) {
+        Map<String, Object> plan = jdbcTemplate.queryForMap("explain " + sql);
+        assertThat(plan.get("key")).as(sql).isEqualTo(index);
+        assertThat(String.valueOf(plan.get("Extra"))).as(sql).doesNotContain("filesort");
+    }
+
+    /**
+     * 이름(번호 순), 가격(0 ~ 99,900), 재고(0 ~ 99) 분포의 상품 적재
+     */
+    private void seedProducts() {
+        Random random = new Random(42);
+        for (int offset = 0; offset < PRODUCTS; offset += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int i = offset; i < Math.min(offset + BATCH, PRODUCTS); i++) {
+                rows.add(new Object[]{SEED_ID_BASE - i, "벤치상품-" + i, random.nextInt(1_000) * 100, random.nextInt(100)});
+            }
+            jdbcTemplate.batchUpdate(
+                    "insert into product (product_id, product_name, product_price, stock_quantity, stock_shards) " +
+                            "values (?, ?, ?, ?, 0)",
+                    rows);
+        }
+        jdbcTemplate.execute("analyze table product");
+    }
+}
@@ -0,0 +1,155 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.domain.sales.DailySales;
+import com.minimall.service.sales.SalesRollupRebuilder;
+import com.minimall.service.sales.SalesRollupService;
+import com.minimall.service.sales.dto.SalesRebuildResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기간 매출 조회: 주문/주문 항목 실시간 집계 vs 일별 집계 테이블 조회
+ * - DAYS 일 x 하루 ORDERS_PER_DAY 건(주문당 항목 2개) 적재 후 재집계(백필)로 집계 테이블 생성
+ * - 실행: ./gradlew benchmark --tests '*SalesRollupBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class SalesRollupBenchmark extends AbstractIntegrationTest {
+
+    private static final int DAYS = 60;
+    private static final int ORDERS_PER_DAY = 2_000;
+    private static final int PRODUCTS = 20;
+    private static final int LIVE_ITERATIONS = 5;
+    private static final int ROLLUP_ITERATIONS = 200;
+    private static final int BATCH = 5_000;
+    private static final long SEED_ID_BASE = 4_000_000_000L;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+    private static final LocalDate LAST_DAY = FIRST_DAY.plusDays(DAYS - 1);
+
+    private static final String LIVE_SQL = "select cast(o.ordered_at as date) as sales_date, " +
+            "count(distinct o.order_id) as order_count, sum(oi.order_quantity) as units, " +
+            "sum(oi.order_price * oi.order_quantity) as revenue " +
+            "from orders o join order_item oi on oi.order_id = o.order_id " +
+            "where o.order_status in ('CONFIRMED', 'COMPLETED') and o.ordered_at >= ? and o.ordered_at < ? " +
+            "group by cast(o.ordered_at as date)";
+
+    @Autowired
+    SalesRollupService salesRollupService;
+
+    @Autowired
+    SalesRollupRebuilder salesRollupRebuilder;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("12만 주문 60일: 실시간 집계 vs 집계 테이블 조회, 두 결과 일치")
+    void compareLatency() {
+        seedOrders();
+
+        long start = System.nanoTime();
+        SalesRebuildResult rebuilt = salesRollupRebuilder.rebuild(FIRST_DAY, LAST_DAY);
+        double rebuildSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Timestamp from = Timestamp.valueOf(FIRST_DAY.atStartOfDay());
+        LocalDateTime to = LAST_DAY.plusDays(1).atStartOfDay();
+        List<Map<String, Object>> live = List.of();
+        LatencyStats liveStats = new LatencyStats(LIVE_ITERATIONS);
+        for (int i = 0; i < LIVE_ITERATIONS; i++) {
+            start = System.nanoTime();
+            //조건을 매번 바꿔 DB 결과 캐시 회피(범위 밖이라 결과는 같음)
+            live = jdbcTemplate.queryForList(LIVE_SQL, from, Timestamp.valueOf(to.plusSeconds(i)));
+            liveStats.record(System.nanoTime() - start);
+        }
+
+        List<DailySales> rollup = List.of();
+        LatencyStats rollupStats = new LatencyStats(ROLLUP_ITERATIONS);
+        for (int i = 0; i < ROLLUP_ITERATIONS; i++) {
+            start = System.nanoTime();
+            rollup = salesRollupService.getDailySales(FIRST_DAY, LAST_DAY);
+            rollupStats.record(System.nanoTime() - start);
+        }
+
+        System.out.printf("orders=%d days=%d rebuild=%.2fs (%.0f orders/s)%n",
+                rebuilt.orders(), rebuilt.days(), rebuildSeconds, rebuilt.orders() / rebuildSeconds);
+        System.out.println(liveStats.summary("live aggregate"));
+        System.out.println(rollupStats.summary("daily rollup"));
+
+        assertThat(rebuilt.orders()).isEqualTo((long) DAYS * ORDERS_PER_DAY);
+        assertThat(rollup).hasSize(DAYS);
+        assertThat(rollup.stream().mapToLong(day -> day.getTotals().getRevenue()).sum())
+                .isEqualTo(live.stream().mapToLong(row -> ((Number) row.get("revenue")).longValue()).sum());
+        assertThat(rollup.stream().mapToLong(day -> day.getTotals().getUnits()).sum())
+                .isEqualTo(live.stream().mapToLong(row -> ((Number) row.get("units")).longValue()).sum());
+        assertThat(rollupStats.percentileMillis(50)).isLessThan(liveStats.percentileMillis(50));
+    }
+
+    /**
+     * 결제 완료 주문 + 항목 적재(ID는 SEED_ID_BASE 아래로 내려가며 부여: 다른 벤치마크, 이후 생성되는 ID와 충돌 방지)
+     * - 주문 시각은 하루 안에 고르게, 항목은 상품 2개(수량 1 ~ 3)
+     */
+    private void seedOrders() {
+        String loginId = UUID.randomUUID().toString();
+        Long memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "벤치", loginId + "@bench.com", null)).getId();
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(productRepository.save(new Product("매출상품-" + i, 1_000 * (i + 1), 1_000)));
+        }
+
+        int total = DAYS * ORDERS_PER_DAY;
+        for (int offset = 0; offset < total; offset += BATCH) {
+            List<Object[]> orders = new ArrayList<>(BATCH);
+            List<Object[]> items = new ArrayList<>(BATCH * 2);
+            for (int i = offset; i < Math.min(offset + BATCH, total); i++) {
+                long orderId = SEED_ID_BASE - i;
+                Timestamp orderedAt = Timestamp.valueOf(FIRST_DAY.plusDays(i / ORDERS_PER_DAY).atStartOfDay()
+                        .plusSeconds(i % ORDERS_PER_DAY * 40L));
+                int amount = 0;
+                for (int k = 0; k < 2; k++) {
+                    Product product = products.get((i + k * 7) % PRODUCTS);
+                    int quantity = 1 + (i + k) % 3;
+                    amount += product.getPrice() * quantity;
+                    items.add(new Object[]{SEED_ID_BASE - 2L * i - k, orderId, product.getId(), product.getName(),
+                            product.getPrice(), quantity});
+                }
+                orders.add(new Object[]{orderId, memberId, orderedAt, (i % 2 == 0) ? "CONFIRMED" : "COMPLETED",
+                        "SILVER", amount, 0, amount, false});
+            }
+            jdbcTemplate.batchUpdate(
+                    "insert into orders (order_id, member_id, ordered_at, order_status, customer_grade, " +
+                            "original_amount, discount_amount, final_amount, is_discounted) " +
+                            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    orders);
+            jdbcTemplate.batchUpdate(
+                    "insert into order_item (order_item_id, order_id, product_id, product_name, order_price, order_quantity) " +
+                            "values (?, ?, ?, ?, ?, ?)",
+                    items);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.minimall.benchmark;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.config.datasource.ConcurrencyLimitedDataSource;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 스레드 모드별 부하: Tomcat 플랫폼 스레드(기본, 최대 200) vs 가상 스레드(spring.threads.virtual.enabled=true)
+ * - 동시 클라이언트 CLIENTS 개가 쉬지 않고 요청, 워밍업 후 MEASURE 동안 처리량(요청/초), 지연 시간(p50, p99), 503(과부하 거절), 그 외 오류 수 집계
+ * - remote+db: 외부 호출 대기(REMOTE_LATENCY, 결제/배송사 API 등을 sleep 으로 대신) 후 주문 조회, db: 주문 조회(GET /orders/{id})만
+ * - 모드마다 새 애플리케이션 컨텍스트(서버)로 실행하고 끝나면 닫음, 마지막에 두 모드를 나란히 출력
+ * - 실행: ./gradlew benchmark --tests '*VirtualThreadLoadBenchmark' (-Dbench.clients=2000 으로 동시 클라이언트 수 조정)
+ * - 가상 스레드의 이점은 스레드 수가 병목일 때(동시 요청 > 200, 요청당 CPU 시간은 작음)만 드러남: CPU 가 포화되는 환경에서는 두 모드가 비슷하므로 비교는 출력만
+ */
+@Tag("benchmark")
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 1_000);
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+    private static final Duration REMOTE_LATENCY = Duration.ofMillis(50);
+    private static final long SEED_ID_BASE = 5_000_000_000L;
+    private static final String QUIET_SQL_LOG = "logging.level.org.hibernate.SQL=info";
+    private static final String QUIET_BIND_LOG = "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info";
+    private static final String NO_SHOW_SQL = "spring.jpa.show-sql=false";
+    //세션마다 통계 로그(INFO) 출력을 끔: 콘솔 출력이 병목이 되지 않도록
+    private static final String NO_SESSION_STATS = "spring.jpa.properties.hibernate.generate_statistics=false";
+
+    private static final Map<String, LoadResult> results = new LinkedHashMap<>();
+
+    @AfterAll
+    static void compare() {
+        System.out.println("== platform vs virtual threads (clients=" + CLIENTS + ", remote latency="
+                + REMOTE_LATENCY.toMillis() + "ms) ==");
+        results.values().forEach(result -> System.out.println(result.summary()));
+
+        LoadResult platform = results.get("platform remote+db");
+        LoadResult virtual = results.get("virtual remote+db");
+        if (platform != null && virtual != null) {
+            System.out.printf("remote+db: throughput x%.1f, p99 %.0fms -> %.0fms%n",
+                    virtual.throughput() / platform.throughput(),
+                    platform.stats().percentileMillis(99), virtual.stats().percentileMillis(99));
+        }
+    }
+
+    @Nested
+    @Order(1)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=false", NO_SHOW_SQL, QUIET_SQL_LOG, QUIET_BIND_LOG, NO_SESSION_STATS})
+    @Import(RemoteCallController.class)
+    @DirtiesContext
+    class PlatformThreads extends LoadTest {
+
+        @Test
+        @DisplayName("플랫폼 스레드: Tomcat 작업 스레드 수(200)가 동시 처리 상한")
+        void load() throws Exception {
+            run("platform");
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=true", NO_SHOW_SQL, QUIET_SQL_LOG, QUIET_BIND_LOG, NO_SESSION_STATS})
+    @Import(RemoteCallController.class)
+    @DirtiesContext
+    class VirtualThreads extends LoadTest {
+
+        @Autowired
+        DataSource dataSource;
+
+        @Test
+        @DisplayName("가상 스레드: 요청마다 가상 스레드, DB 작업만 커넥션 풀 기준으로 제한")
+        void load() throws Exception {
+            assertThat(dataSource).isInstanceOf(ConcurrencyLimitedDataSource.class);
+            run("virtual");
+        }
+    }
+
+    abstract class LoadTest extends AbstractIntegrationTest {
+
+        @LocalServerPort
+        int port;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Autowired
+        ProductRepository productRepository;
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        void run(String mode) throws Exception {
+            long orderId = seedOrder();
+            LoadResult remote = load(mode + " remote+db", "/bench/remote-orders/" + orderId);
+            LoadResult db = load(mode + " db", "/orders/" + orderId);
+            results.put(remote.label(), remote);
+            results.put(db.label(), db);
+            System.out.println(remote.summary());
+            System.out.println(db.summary());
+
+            assertThat(remote.errors()).isZero();
+            assertThat(db.errors()).isZero();
+        }
+
+        /**
+         * CLIENTS 개의 가상 스레드가 각자 응답을 받는 즉시 다음 요청(closed loop), 워밍업 구간은 집계에서 제외
+         */
+        private LoadResult load(String label, String path) throws Exception {
+            URI uri = URI.create("http://localhost:" + port + path);
+            LatencyStats stats = new LatencyStats(100_000);
+            AtomicInteger busy = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            long measureFrom = System.nanoTime() + WARMUP.toNanos();
+            long measureTo = measureFrom + MEASURE.toNanos();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder()
+                         .executor(clients)
+                         .connectTimeout(Duration.ofSeconds(10))
+                         .build()) {
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+                List<Future<?>> running = new ArrayList<>(CLIENTS);
+                for (int i = 0; i < CLIENTS; i++) {
+                    running.add(clients.submit(() -> {
+                        while (true) {
+                            long start = System.nanoTime();
+                            if (start >= measureTo) {
+                                return null;
+                            }
+                            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            long end = System.nanoTime();
+                            if (start >= measureFrom && end <= measureTo) {
+                                stats.record(end - start);
+                                if (status == 503) busy.incrementAndGet();
+                                else if (status / 100 != 2) errors.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> client : running) {
+                    client.get();
+                }
+            }
+            double throughput = stats.count() / (MEASURE.toNanos() / 1_000_000_000.0);
+            return new LoadResult(label, busy.get(), errors.get(), throughput, stats);
+        }
+
+        //주문 1건(항목 1개) 적재: 모드마다 새 컨텍스트라 스키마도 새로 만들어짐
+        private long seedOrder() {
+            String loginId = UUID.randomUUID().toString();
+            Long memberId = memberRepository.save(
+                    Member.registerCustomer(loginId, "hash", "벤치", loginId + "@bench.com", null)).getId();
+            Product product = productRepository.save(new Product("부하상품", 10_000, 1_000));
+            jdbcTemplate.update(
+                    "insert into orders (order_id, member_id, ordered_at, order_status, customer_grade, " +
+                            "original_amount, discount_amount, final_amount, is_discounted) " +
+                            "values (?, ?, ?, 'CONFIRMED', 'SILVER', 20000, 0, 20000, false)",
+                    SEED_ID_BASE, memberId, Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.update(
+                    "insert into order_item (order_item_id, order_id, product_id, product_name, order_price, order_quantity) " +
+                            "values (?, ?, ?, ?, ?, 2)",
+                    SEED_ID_BASE, SEED_ID_BASE, product.getId(), product.getName(), product.getPrice());
+            return SEED_ID_BASE;
+        }
+    }
+
+    /**
+     * 외부 API 호출 대기(REMOTE_LATENCY) 뒤 주문 조회: 대기 동안 DB 커넥션은 잡지 않음
+     */
+    @RestController
+    static class RemoteCallController {
+
+        private final OrderService orderService;
+
+        RemoteCallController(OrderService orderService) {
+            this.orderService = orderService;
+        }
+
+        @GetMapping("/bench/remote-orders/{id}")
+        String remoteThenOrder(@PathVariable Long id) throws InterruptedException {
+            Thread.sleep(REMOTE_LATENCY);
+            return orderService.getOrderDetail(id).orderStatus().name();
+        }
+    }
+
+    record LoadResult(String label, int busy, int errors, double throughput, LatencyStats stats) {
+
+        String summary() {
+            return stats.summary(label) + String.format(" throughput=%8.0f req/s busy=%d errors=%d", throughput, busy, errors);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.minimall.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) encoder.close();
+    }
+
+    @Test
+    @DisplayName("encode, matches -> 호출 스레드가 아닌 해시 전용 스레드에서 실행")
+    void runsOnHashingThread() {
+        //given
+        encoder = new BoundedPasswordEncoder(new ThreadRecordingEncoder(), 2, 4, meterRegistry);
+
+        //when
+        String encoded = encoder.encode("raw");
+        boolean matched = encoder.matches("raw", encoded);
+
+        //then
+        assertThat(encoded).startsWith("password-hash-");
+        assertThat(matched).isTrue();
+    }
+
+    @Test
+    @DisplayName("스레드, 대기 큐 모두 사용 중 -> 즉시 RejectedExecutionException, 큐 대기 수 지표 노출")
+    void shouldReject_whenQueueFull() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 1, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        await(() -> queuedCount() == 1);
+
+        //when & then
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("위임 인코더 예외 -> 그대로 전파")
+    void propagatesDelegateException() {
+        //given
+        encoder = new BoundedPasswordEncoder(new ThreadRecordingEncoder(), 1, 1, meterRegistry);
+
+        //when & then
+        assertThatThrownBy(() -> encoder.encode(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("null");
+    }
+
+    private double queuedCount() {
+        return meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.METRIC_NAME).gauge().value();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    //실행 스레드 이름을 해시 값으로 반환
+    private static class ThreadRecordingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (rawPassword == null) throw new IllegalArgumentException("rawPassword cannot be null");
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.endsWith(":" + rawPassword);
+        }
+    }
+
+    //release 전까지 해시 스레드를 붙잡는 인코더
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
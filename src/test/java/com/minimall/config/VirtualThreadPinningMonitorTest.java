@@ -0,0 +1,58 @@
+package com.minimall.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) monitor.close();
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 synchronized 안에서 블로킹(threshold 이상) -> 고정 시간 지표 기록")
+    void recordsPinning_whenBlockingInsideSynchronized() throws Exception {
+        //given
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), meterRegistry);
+        Object monitorLock = new Object();
+
+        //when: JFR 이벤트는 비동기로 전달되므로 기록될 때까지 반복
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinnedCount() == 0) {
+            assertThat(System.nanoTime()).as("고정 기록 대기 시간 초과").isLessThan(deadline);
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitorLock) {
+                    sleep(50);
+                }
+            }).join();
+        }
+
+        //then
+        assertThat(pinnedCount()).isPositive();
+        assertThat(meterRegistry.get(VirtualThreadPinningMonitor.METRIC_NAME).timer().max(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(10);
+    }
+
+    private long pinnedCount() {
+        return meterRegistry.get(VirtualThreadPinningMonitor.METRIC_NAME).timer().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
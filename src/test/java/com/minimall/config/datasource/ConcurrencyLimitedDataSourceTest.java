@@ -0,0 +1,92 @@
+package com.minimall.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource pool = new HikariDataSource();
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("허가를 모두 사용 중 -> acquire-timeout 후 SQLTransientConnectionException + 거절 지표, close 하면 다시 허가")
+    void shouldReject_whenPermitsExhausted() throws Exception {
+        //given
+        ConcurrencyLimitedDataSource dataSource = limited(2, Duration.ofMillis(100));
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        //when & then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get(ConcurrencyLimitedDataSource.REJECTED_METRIC_NAME).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConcurrencyLimitedDataSource.ACTIVE_METRIC_NAME).gauge().value()).isEqualTo(2);
+
+        first.close();
+        first.close();
+        try (Connection third = dataSource.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+        }
+        second.close();
+        assertThat(meterRegistry.get(ConcurrencyLimitedDataSource.ACTIVE_METRIC_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 1000개가 동시에 요청 -> 풀 크기(4)보다 작은 허가 수(2)만큼만 커넥션 보유, 모두 완료")
+    void limitsConcurrentBorrowers_onVirtualThreads() throws Exception {
+        //given
+        ConcurrencyLimitedDataSource dataSource = limited(2, Duration.ofSeconds(30));
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        //when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        connection.createStatement().execute("select 1");
+                        inside.decrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        //then
+        assertThat(maxInside.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get(ConcurrencyLimitedDataSource.REJECTED_METRIC_NAME).counter().count()).isZero();
+        assertThat(meterRegistry.get(ConcurrencyLimitedDataSource.ACTIVE_METRIC_NAME).gauge().value()).isZero();
+    }
+
+    private ConcurrencyLimitedDataSource limited(int permits, Duration acquireTimeout) {
+        pool.setJdbcUrl("jdbc:h2:mem:concurrency_limited;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(4);
+        pool.setConnectionTimeout(5_000);
+        return new ConcurrencyLimitedDataSource(pool, permits, acquireTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,218 @@
+package com.minimall.config.datasource;
+
+import com.minimall.config.datasource.ReadWriteRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기/쓰기 분리: 주 DB, 복제본을 각각 다른 H2 메모리 DB 로 두고 커넥션의 카탈로그(DB 이름)로 경로 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(2);
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://localhost:1/unreachable";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 -> 복제본 라운드 로빈, 그 외 -> 주 DB")
+    void routeReadOnlyToReplicas() throws SQLException {
+        //given
+        ReadWriteRoutingDataSource routing = routing(replica("REPLICA_A"), replica("REPLICA_B"));
+
+        //when
+        String write = catalog(routing);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        List<String> reads = List.of(catalog(routing), catalog(routing), catalog(routing), catalog(routing));
+
+        //then
+        assertThat(write).isEqualTo("PRIMARY");
+        assertThat(reads).containsExactly("REPLICA_A", "REPLICA_B", "REPLICA_A", "REPLICA_B");
+        assertThat(meterRegistry.get(ReadWriteRoutingDataSource.CONNECTION_METRIC_NAME)
+                .tag("target", "replica").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("복제본 연결 실패 -> 사용 불가로 표시 후 다음 복제본, 모두 불가면 주 DB")
+    void fallback_whenReplicaUnreachable() throws SQLException {
+        //given
+        Replica down = new Replica("down", pool(UNREACHABLE_URL));
+        Replica up = replica("REPLICA_A");
+        ReadWriteRoutingDataSource routing = routing(down, up);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when
+        String first = catalog(routing);
+        String second = catalog(routing);
+        up.markDown();
+        String third = catalog(routing);
+
+        //then
+        assertThat(first).isEqualTo("REPLICA_A");
+        assertThat(second).isEqualTo("REPLICA_A");
+        assertThat(third).isEqualTo("PRIMARY");
+        assertThat(down.isAvailable()).isFalse();
+        assertThat(meterRegistry.get(ReadWriteRoutingDataSource.FALLBACK_METRIC_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 안에서 쓰기 트랜잭션 커밋 -> 쿠키 발급 콜백 1회, 이후 읽기 전용도 주 DB")
+    void pinToPrimary_afterWriteCommit() throws SQLException {
+        //given
+        ReadWriteRoutingDataSource routing = routing(replica("REPLICA_A"));
+        AtomicInteger issued = new AtomicInteger();
+        ReadYourWrites.begin(false, issued::incrementAndGet);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        //when
+        catalog(routing);
+        String beforeCommit = readOnlyCatalog(routing);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        String afterCommit = readOnlyCatalog(routing);
+
+        //then
+        assertThat(beforeCommit).isEqualTo("REPLICA_A");
+        assertThat(afterCommit).isEqualTo("PRIMARY");
+        assertThat(issued).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("복제본 읽기 가능 여부: 읽기 전용 + 복제본 있음 + 주 DB 고정 아님일 때만")
+    void mayReadFromReplica() {
+        //given
+        ReadWriteRoutingDataSource routing = routing(replica("REPLICA_A"));
+        ReadWriteRoutingDataSource primaryOnly = routing();
+
+        //when
+        boolean readOnly = routing.mayReadFromReplica(true);
+        boolean readWrite = routing.mayReadFromReplica(false);
+        boolean noReplica = primaryOnly.mayReadFromReplica(true);
+        ReadYourWrites.begin(true, () -> {});
+        boolean pinned = routing.mayReadFromReplica(true);
+
+        //then
+        assertThat(readOnly).isTrue();
+        assertThat(readWrite).isFalse();
+        assertThat(noReplica).isFalse();
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    @DisplayName("계정 지정 커넥션 -> SQLFeatureNotSupportedException")
+    void rejectCredentials() {
+        //given
+        ReadWriteRoutingDataSource routing = routing(replica("REPLICA_A"));
+
+        //when & then
+        assertThatThrownBy(() -> routing.getConnection("sa", ""))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 자동 커밋 조회(캐시 미스 로딩 등) -> 주 DB 사용, 쿠키 발급/주 DB 고정 없음")
+    void noPin_whenNoTransaction() throws SQLException {
+        //given
+        ReadWriteRoutingDataSource routing = routing(replica("REPLICA_A"));
+        AtomicInteger issued = new AtomicInteger();
+        ReadYourWrites.begin(false, issued::incrementAndGet);
+
+        //when: 트랜잭션 없음, 동기화만 활성(트랜잭션 없는 @Transactional(SUPPORTS) 범위)
+        String autoCommit = catalog(routing);
+        TransactionSynchronizationManager.initSynchronization();
+        String supports = catalog(routing);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        String readOnly = readOnlyCatalog(routing);
+
+        //then
+        assertThat(autoCommit).isEqualTo("PRIMARY");
+        assertThat(supports).isEqualTo("PRIMARY");
+        assertThat(readOnly).isEqualTo("REPLICA_A");
+        assertThat(issued).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("주 DB 고정 시간 = max(sticky-window, 사용 가능한 복제본의 최대 지연)")
+    void stickyWindow_followsReplicaLag() {
+        //given
+        Replica a = replica("REPLICA_A");
+        Replica b = replica("REPLICA_B");
+        Replica lagging = replica("REPLICA_C");
+        ReadWriteRoutingDataSource routing = routing(a, b, lagging);
+
+        //when
+        a.markUp(Duration.ofSeconds(1));
+        Duration small = routing.stickyWindow();
+        b.markUp(Duration.ofSeconds(5));
+        lagging.markLagging(Duration.ofSeconds(30));
+        Duration large = routing.stickyWindow();
+
+        //then
+        assertThat(small).isEqualTo(STICKY_WINDOW);
+        assertThat(large).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    private ReadWriteRoutingDataSource routing(Replica... replicas) {
+        return new ReadWriteRoutingDataSource(pool(h2Url("PRIMARY")), List.of(replicas), STICKY_WINDOW, meterRegistry);
+    }
+
+    private Replica replica(String name) {
+        return new Replica(name, pool(h2Url(name)));
+    }
+
+    private HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        //연결되지 않는 주소는 최소 대기(250ms) 후 실패
+        dataSource.setConnectionTimeout(UNREACHABLE_URL.equals(url) ? 250 : 5_000);
+        dataSource.setInitializationFailTimeout(-1);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    private static String h2Url(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static String catalog(ReadWriteRoutingDataSource routing) throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            return connection.getCatalog();
+        }
+    }
+
+    private static String readOnlyCatalog(ReadWriteRoutingDataSource routing) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return catalog(routing);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
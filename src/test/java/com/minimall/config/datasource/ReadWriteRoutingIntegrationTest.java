@@ -0,0 +1,243 @@
+package com.minimall.config.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.api.order.dto.request.OrderCreateRequest;
+import com.minimall.api.order.dto.request.OrderItemCreateRequest;
+import com.minimall.api.order.dto.response.OrderCreateResponse;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.order.OrderRepository;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductName;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.product.ProductNameIndex;
+import com.minimall.service.product.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 읽기/쓰기 분리: 주 DB(AbstractIntegrationTest 컨테이너) + 복제본 컨테이너(복제 설정 없는 별도 MySQL)
+ * - 복제본에는 db/schema/schema.sql 로 스키마만 만들어 두므로, 주 DB 에만 있는 데이터로 어느 쪽에서 읽었는지 구분
+ * - 커밋된 데이터로 검증하므로 @Transactional 미사용(데이터는 @AfterEach 에서 정리)
+ * - 복제되지 않는 복제본 = 끝없이 뒤처진 복제본: 복제본에서 읽은 값이 캐시/색인을 통해 주 DB 읽기에 섞이지 않는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReadWriteRoutingIntegrationTest extends AbstractIntegrationTest {
+
+    static final MySQLContainer<?> replica =
+            new MySQLContainer<>("mysql:8.0")
+                    .withDatabaseName("minimall")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    private static String replicaServerUuid;
+
+    @DynamicPropertySource
+    static void routingProperties(DynamicPropertyRegistry registry) throws SQLException {
+        replica.start();
+        try (Connection connection = replica.createConnection("")) {
+            ScriptUtils.executeSqlScript(connection, new FileSystemResource("db/schema/schema.sql"));
+            replicaServerUuid = serverUuid(connection);
+        }
+        registry.add("app.datasource.routing.enabled", () -> "true");
+        registry.add("app.datasource.routing.replica-urls", replica::getJdbcUrl);
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ProductNameIndex productNameIndex;
+
+    Member member;
+    Product product;
+    Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.registerCustomer(
+                "routingUser", "12345678", "차태승", "routing-user@example.com", null));
+        product = productRepository.save(new Product("도서", 20000, 50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaJdbcTemplate().update("delete from member where member_id = ?", member.getId());
+        if (orderId != null) {
+            orderRepository.deleteById(orderId);
+        }
+        memberRepository.deleteById(member.getId());
+        productRepository.deleteById(product.getId());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 -> 복제본, 쓰기 트랜잭션 -> 주 DB")
+    void routeByTransactionReadOnly() {
+        //given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        //when
+        String read = readOnly.execute(status -> jdbcTemplate.queryForObject("select @@server_uuid", String.class));
+        String write = readWrite.execute(status -> jdbcTemplate.queryForObject("select @@server_uuid", String.class));
+
+        //then
+        assertThat(read).isEqualTo(replicaServerUuid);
+        assertThat(write).isNotEqualTo(replicaServerUuid);
+    }
+
+    @Test
+    @DisplayName("주문 생성(쓰기) -> 쿠키 발급, 쿠키를 보낸 조회는 주 DB(200), 쿠키 없는 조회는 복제본(복제 안 됨 -> 404)")
+    void readYourWrites_withCookie() throws Exception {
+        //given
+        OrderCreateRequest request = new OrderCreateRequest(member.getId(),
+                List.of(new OrderItemCreateRequest(product.getId(), 1)));
+        MvcResult created = mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.LAST_WRITE_COOKIE))
+                .andReturn();
+        orderId = objectMapper.readValue(created.getResponse().getContentAsString(), OrderCreateResponse.class).id();
+        Cookie lastWrite = created.getResponse().getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE);
+
+        //when & then
+        mockMvc.perform(get("/orders/{id}", orderId).cookie(lastWrite))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.LAST_WRITE_COOKIE));
+        mockMvc.perform(get("/orders/{id}", orderId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("뒤처진 복제본에서 읽은 회원 -> 2차 캐시에 넣지 않음, 이후 주 DB 읽기는 최신 값")
+    void replicaRead_doesNotFillSecondLevelCache() {
+        //given: 복제본에는 이름이 바뀌기 전 행
+        Map<String, Object> row = jdbcTemplate.queryForMap("select * from member where member_id = ?", member.getId());
+        row.put("member_name", "이전이름");
+        new SimpleJdbcInsert(replicaJdbcTemplate()).withTableName("member").execute(row);
+        evictAllCaches();
+
+        //when
+        String fromReplica = readOnly().execute(status -> memberRepository.findById(member.getId()).orElseThrow().getName());
+        boolean cachedAfterReplicaRead = entityManagerFactory.getCache().contains(Member.class, member.getId());
+        String fromPrimary = readWrite().execute(status -> memberRepository.findById(member.getId()).orElseThrow().getName());
+
+        //then
+        assertThat(fromReplica).isEqualTo("이전이름");
+        assertThat(cachedAfterReplicaRead).isFalse();
+        assertThat(fromPrimary).isEqualTo("차태승");
+        assertThat(entityManagerFactory.getCache().contains(Member.class, member.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("뒤처진 복제본의 쿼리 결과(아직 없는 회원) -> 쿼리 캐시에 넣지 않음, 이후 주 DB 조회는 회원 반환")
+    void replicaRead_doesNotFillQueryCache() {
+        //given
+        evictAllCaches();
+
+        //when
+        Optional<Member> fromReplica = readOnly().execute(status -> memberRepository.findByEmail(member.getEmail()));
+        Optional<Member> fromPrimary = readWrite().execute(status -> memberRepository.findByEmail(member.getEmail()));
+
+        //then
+        assertThat(fromReplica).isEmpty();
+        assertThat(fromPrimary).map(Member::getId).contains(member.getId());
+    }
+
+    @Test
+    @DisplayName("상품명 색인 재구성 -> 읽기/쓰기 분리여도 주 DB 에서 읽음(복제본에 없는 상품 포함)")
+    void rebuildReadsPrimary() {
+        //when
+        productNameIndex.rebuild();
+
+        //then
+        assertThat(productNameIndex.suggest(product.getName(), ProductService.MAX_SUGGEST_SIZE))
+                .extracting(ProductName::productId)
+                .contains(product.getId());
+    }
+
+    //JPA Cache.evictAll 은 쿼리 캐시 영역을 비우지 않으므로 Hibernate 캐시로 전체 영역 제거
+    private void evictAllCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private TransactionTemplate readWrite() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private static JdbcTemplate replicaJdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+    }
+
+    private static String serverUuid(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select @@server_uuid")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
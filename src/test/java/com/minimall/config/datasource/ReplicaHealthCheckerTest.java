@@ -0,0 +1,60 @@
+package com.minimall.config.datasource;
+
+import com.minimall.config.datasource.ReadWriteRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReplicaHealthCheckerTest {
+
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://localhost:1/unreachable";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("연결 실패 복제본 -> 제외, 연결되는 복제본(복제 상태 조회 불가) -> 지연 0 으로 다시 포함 + 지표")
+    void check_marksAvailability() {
+        //given
+        Replica unreachable = new Replica("unreachable", pool(UNREACHABLE_URL));
+        Replica recovered = new Replica("recovered", pool("jdbc:h2:mem:health_replica;DB_CLOSE_DELAY=-1"));
+        recovered.markDown();
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(
+                List.of(unreachable, recovered), Duration.ofSeconds(10), meterRegistry);
+
+        //when
+        checker.check();
+
+        //then
+        assertThat(unreachable.isAvailable()).isFalse();
+        assertThat(recovered.isAvailable()).isTrue();
+        assertThat(recovered.getLag()).isZero();
+        assertThat(meterRegistry.get(ReplicaHealthChecker.AVAILABLE_METRIC_NAME)
+                .tag("replica", "unreachable").gauge().value()).isZero();
+        assertThat(meterRegistry.get(ReplicaHealthChecker.AVAILABLE_METRIC_NAME)
+                .tag("replica", "recovered").gauge().value()).isEqualTo(1);
+    }
+
+    private HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        //연결되지 않는 주소는 최소 대기(250ms) 후 실패
+        dataSource.setConnectionTimeout(UNREACHABLE_URL.equals(url) ? 250 : 5_000);
+        dataSource.setInitializationFailTimeout(-1);
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
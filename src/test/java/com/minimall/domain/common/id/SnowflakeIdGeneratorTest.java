@@ -0,0 +1,108 @@
+package com.minimall.domain.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.minimall.domain.common.id.SnowflakeIdGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 ms 안 시퀀스 소진 -> 시계가 다음 ms 로 넘어갈 때까지 기다림(타임스탬프가 시계보다 앞서지 않음)")
+    void waitsForClock_whenSequenceExhausted() {
+        //given: 1000번 읽을 때마다 1ms 진행
+        AtomicLong reads = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, () -> NOW + reads.incrementAndGet() / 1000);
+
+        //when
+        long[] ids = IntStream.range(0, (1 << SEQUENCE_BITS) * 3).mapToLong(i -> generator.nextId()).toArray();
+
+        //then
+        for (int i = 1; i < ids.length; i++) {
+            assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+        assertThat(timestampOf(ids[ids.length - 1])).isLessThanOrEqualTo(NOW - EPOCH_MILLIS + reads.get() / 1000);
+        assertThat(timestampOf(ids[ids.length - 1])).isGreaterThanOrEqualTo(timestampOf(ids[0]) + 2);
+    }
+
+    @Test
+    @DisplayName("짧은 시계 역행 -> 따라잡을 때까지 기다린 뒤 이전 값보다 큰 식별자 발급")
+    void waitsForClock_whenClockMovesBackwardsSlightly() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::getAndIncrement);
+        long before = generator.nextId();
+
+        //when
+        clock.set(NOW - 3);
+        long after = generator.nextId();
+
+        //then
+        assertThat(after).isGreaterThan(before);
+        assertThat(timestampOf(after)).isLessThan(clock.get() - EPOCH_MILLIS);
+    }
+
+    @Test
+    @DisplayName("큰 시계 역행(MAX_CLOCK_BACKWARD_MILLIS 초과) -> 기다리지 않고 예외")
+    void shouldFail_whenClockMovesBackwardsFar() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+        generator.nextId();
+
+        //when
+        clock.set(NOW - MAX_CLOCK_BACKWARD_MILLIS - 1);
+
+        //then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("워커 ID 비트 반영, 53bit(JS 안전 정수) 범위 이내")
+    void layout() {
+        //given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(MAX_WORKER_ID, () -> NOW);
+
+        //when
+        long id = generator.nextId();
+
+        //then
+        assertThat((id >>> SEQUENCE_BITS) & MAX_WORKER_ID).isEqualTo(MAX_WORKER_ID);
+        assertThat(timestampOf(id)).isEqualTo(NOW - EPOCH_MILLIS);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("동시 발급 -> 중복 없음")
+    void unique_underConcurrency() {
+        //given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        //when
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        //then
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("워커 ID 범위 밖 -> 예외")
+    void shouldFail_whenWorkerIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(MAX_WORKER_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(WORKER_ID_SETTING);
+    }
+
+    private static long timestampOf(long id) {
+        return id >>> (WORKER_BITS + SEQUENCE_BITS);
+    }
+}
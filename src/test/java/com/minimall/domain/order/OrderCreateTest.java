@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -81,6 +82,18 @@ public class OrderCreateTest {
                 .isEqualTo(totalPrice());
     }
 
+    @Test
+    @DisplayName("예약 유지 시간 지정 -> 주문 시각 + 유지 시간에 예약 만료, 미지정 -> 만료 없음")
+    void reservedUntil() {
+        //when
+        Order reserved = Order.createOrder(member, Duration.ofMinutes(30), orderItems.toArray(OrderItem[]::new));
+        Order unlimited = Order.createOrder(member, orderItems.toArray(OrderItem[]::new));
+
+        //then
+        assertThat(reserved.getReservedUntil()).isEqualTo(reserved.getOrderedAt().plusMinutes(30));
+        assertThat(unlimited.getReservedUntil()).isNull();
+    }
+
     @Nested
     class MemberArg {
         @Test
@@ -57,6 +57,19 @@ public class OrderItemTest {
 
         }
 
+        @Test
+        @DisplayName("재고 선차감 항목 생성 -> 상품 재고 불변(재고 초과 수량도 엔티티 검증 없음)")
+        void reserved_notChangeStock() {
+            //when
+            OrderItem orderItem = OrderItem.createReservedOrderItem(keyboard, keyboardStock + 1);
+
+            //then
+            assertSoftly(softly -> {
+                softly.assertThat(orderItem.getOrderQuantity()).isEqualTo(keyboardStock + 1);
+                softly.assertThat(keyboard.getStockQuantity()).isEqualTo(keyboardStock);
+            });
+        }
+
         @Test
         @DisplayName("주문 항목 생성 후 상품명 변경 -> 주문 항목 상품명 불변")
         void notChanged_whenProductNameIsChanged() {
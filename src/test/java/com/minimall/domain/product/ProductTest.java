@@ -225,6 +225,37 @@ public class ProductTest {
                 assertThat(product.getStockQuantity()).isZero();
             }
         }
+
+        @Nested
+        @DisplayName("changeLowStockThreshold(Integer)")
+        class ChangeLowStockThreshold {
+            @Test
+            @DisplayName("정상 -> 변경, null -> 전역 기준 사용")
+            void success() {
+                //given
+                Product product = new Product(DEFAULT_NAME, DEFAULT_PRICE, 50);
+
+                //when
+                product.changeLowStockThreshold(5);
+
+                //then
+                assertThat(product.getLowStockThreshold()).isEqualTo(5);
+                product.changeLowStockThreshold(null);
+                assertThat(product.getLowStockThreshold()).isNull();
+            }
+
+            @Test
+            @DisplayName("음수 -> 예외")
+            void shouldFail_whenNegative() {
+                //given
+                Product product = new Product(DEFAULT_NAME, DEFAULT_PRICE, 50);
+
+                //when, then
+                assertThatThrownBy(() -> product.changeLowStockThreshold(-1))
+                        .isInstanceOfSatisfying(InvalidProductStockException.class,
+                                e -> assertThat(e.getReason()).isEqualTo(InvalidProductStockException.Reason.NEGATIVE));
+            }
+        }
     }
 
     @Nested
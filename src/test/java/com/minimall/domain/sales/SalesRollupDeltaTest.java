@@ -0,0 +1,103 @@
+package com.minimall.domain.sales;
+
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.order.SalesOrder;
+import com.minimall.domain.order.SalesOrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SalesRollupDelta")
+class SalesRollupDeltaTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 13);
+
+    //원가 10,000(3,000 x 2 + 4,000 x 1), 할인 1,000
+    private final SalesOrder order = new SalesOrder(1L, DAY.atTime(23, 59), CustomerGrade.GOLD, 10_000, 1_000, 9_000);
+    private final List<SalesOrderItem> items = List.of(
+            new SalesOrderItem(1L, 10L, 3_000, 2),
+            new SalesOrderItem(1L, 20L, 4_000, 1));
+
+    @Test
+    @DisplayName("주문 일자로 일별/등급/상품 집계, 상품 할인은 항목 금액 비율로 나누고 합계는 주문 할인과 같음")
+    void add() {
+        //given
+        SalesRollupDelta delta = new SalesRollupDelta();
+
+        //when
+        delta.add(order, items, SalesLedgerEntry.CONFIRMED);
+
+        //then
+        assertTotals(delta.daily().get(DAY), 1, 3, 10_000, 1_000, 9_000);
+        assertTotals(delta.grades().get(new DailyGradeSales.Key(DAY, CustomerGrade.GOLD)), 1, 3, 10_000, 1_000, 9_000);
+        assertTotals(delta.products().get(new DailyProductSales.Key(DAY, 10L)), 1, 2, 6_000, 600, 5_400);
+        assertTotals(delta.products().get(new DailyProductSales.Key(DAY, 20L)), 1, 1, 4_000, 400, 3_600);
+    }
+
+    @Test
+    @DisplayName("할인이 나누어떨어지지 않으면 나머지는 마지막 항목에 더함")
+    void discountRemainder_toLastItem() {
+        //given
+        SalesOrder odd = new SalesOrder(2L, DAY.atStartOfDay(), null, 3_000, 100, 2_900);
+        List<SalesOrderItem> thirds = List.of(
+                new SalesOrderItem(2L, 10L, 1_000, 1),
+                new SalesOrderItem(2L, 20L, 1_000, 1),
+                new SalesOrderItem(2L, 30L, 1_000, 1));
+        SalesRollupDelta delta = new SalesRollupDelta();
+
+        //when
+        delta.add(odd, thirds, SalesLedgerEntry.CONFIRMED);
+
+        //then
+        assertThat(delta.products().values()).extracting(SalesTotals::getDiscountAmount).containsExactlyInAnyOrder(33L, 33L, 34L);
+        assertThat(delta.grades()).isEmpty(); //등급 없는 주문 -> 등급 집계 제외
+    }
+
+    @Test
+    @DisplayName("반영 후 반영 취소 -> 증감분 0")
+    void confirmedThenCanceled_netsZero() {
+        //given
+        SalesRollupDelta delta = new SalesRollupDelta();
+
+        //when
+        delta.add(order, items, SalesLedgerEntry.CONFIRMED);
+        delta.add(order, items, SalesLedgerEntry.CANCELED);
+
+        //then
+        assertThat(delta.daily().get(DAY).isZero()).isTrue();
+        assertThat(delta.products().values()).allMatch(SalesTotals::isZero);
+    }
+
+    @Test
+    @DisplayName("같은 날 다른 주문은 같은 행에 누적, 다른 날은 별도 행")
+    void accumulatesPerDay() {
+        //given
+        SalesRollupDelta delta = new SalesRollupDelta();
+        SalesOrder nextDay = new SalesOrder(3L, DAY.plusDays(1).atStartOfDay(),
+                CustomerGrade.GOLD, 4_000, 0, 4_000);
+
+        //when
+        delta.add(order, items, SalesLedgerEntry.CONFIRMED);
+        delta.add(order, items, SalesLedgerEntry.CONFIRMED);
+        delta.add(nextDay, List.of(new SalesOrderItem(3L, 20L, 4_000, 1)), SalesLedgerEntry.CONFIRMED);
+
+        //then
+        assertThat(delta.daily()).containsOnlyKeys(DAY, DAY.plusDays(1));
+        assertTotals(delta.daily().get(DAY), 2, 6, 20_000, 2_000, 18_000);
+        assertTotals(delta.products().get(new DailyProductSales.Key(DAY.plusDays(1), 20L)), 1, 1, 4_000, 0, 4_000);
+    }
+
+    private static void assertTotals(SalesTotals totals, long orderCount, long units,
+                                     long grossAmount, long discountAmount, long revenue) {
+        assertThat(totals).isNotNull();
+        assertThat(totals.getOrderCount()).isEqualTo(orderCount);
+        assertThat(totals.getUnits()).isEqualTo(units);
+        assertThat(totals.getGrossAmount()).isEqualTo(grossAmount);
+        assertThat(totals.getDiscountAmount()).isEqualTo(discountAmount);
+        assertThat(totals.getRevenue()).isEqualTo(revenue);
+    }
+}
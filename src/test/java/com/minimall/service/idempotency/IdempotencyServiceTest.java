@@ -0,0 +1,263 @@
+package com.minimall.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minimall.service.exception.IdempotencyConflictException;
+import com.minimall.service.exception.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "order.create";
+
+    @Mock
+    IdempotencyRecordService idempotencyRecordService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyRecordService, new ObjectMapper(), meterRegistry,
+                Duration.ofHours(24), 100, Duration.ofSeconds(5), 1000);
+    }
+
+    @Test
+    @DisplayName("같은 키 재요청 -> 실행 1회, 두 번째는 메모리에서 처음 응답 재생(DB 조회 없음)")
+    void replayFromCache() {
+        //given
+        givenRecordExecutes();
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Body> action = () -> new Body(executions.incrementAndGet());
+
+        //when
+        IdempotentResult<Body> first = idempotencyService.execute(SCOPE, "k1", Body.class, action, "req");
+        IdempotentResult<Body> second = idempotencyService.execute(SCOPE, "k1", Body.class, action, "req");
+
+        //then
+        assertThat(first).isEqualTo(new IdempotentResult<>(new Body(1), false));
+        assertThat(second).isEqualTo(new IdempotentResult<>(new Body(1), true));
+        assertThat(executions).hasValue(1);
+        then(idempotencyRecordService).should(times(1)).findCompleted(eq(SCOPE), eq("k1"), any());
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("replayed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리에 없고 DB 에 기록 있음 -> 실행 없이 DB 응답 재생")
+    void replayFromDatabase() {
+        //given
+        String requestHash = hashOf("req");
+        given(idempotencyRecordService.findCompleted(eq(SCOPE), eq("k1"), any())).willReturn(Optional.of(
+                new StoredResponse(requestHash, "{\"value\":7}", LocalDateTime.now().plusHours(1))));
+
+        //when
+        IdempotentResult<Body> result = idempotencyService.execute(SCOPE, "k1", Body.class,
+                () -> fail("실행되면 안 됨"), "req");
+
+        //then
+        assertThat(result).isEqualTo(new IdempotentResult<>(new Body(7), true));
+        then(idempotencyRecordService).should(never()).execute(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 요청 -> 하나만 실행, 나머지는 기다렸다가 같은 응답")
+    void coalesceConcurrentDuplicates() throws Exception {
+        //given
+        givenRecordExecutes();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Body> action = () -> {
+            started.countDown();
+            await(release);
+            return new Body(executions.incrementAndGet());
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        Future<IdempotentResult<Body>> leader = executor.submit(() -> idempotencyService.execute(SCOPE, "k1", Body.class, action, "req"));
+        started.await(5, TimeUnit.SECONDS);
+        Future<IdempotentResult<Body>> waiter1 = executor.submit(() -> idempotencyService.execute(SCOPE, "k1", Body.class, action, "req"));
+        Future<IdempotentResult<Body>> waiter2 = executor.submit(() -> idempotencyService.execute(SCOPE, "k1", Body.class, action, "req"));
+        while (count("coalesced") < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        //then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotentResult<>(new Body(1), false));
+        assertThat(waiter1.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotentResult<>(new Body(1), true));
+        assertThat(waiter2.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotentResult<>(new Body(1), true));
+        assertThat(executions).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청 내용 -> 409(IdempotencyConflictException)")
+    void reusedKey() {
+        //given
+        givenRecordExecutes();
+        idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(1), "req");
+
+        //when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(2), "other"))
+                .isInstanceOf(IdempotencyConflictException.class);
+    }
+
+    @Test
+    @DisplayName("실행 실패 -> 기록하지 않음, 같은 키로 다시 실행 가능")
+    void failureNotRemembered() {
+        //given
+        givenRecordExecutes();
+
+        //when
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k1", Body.class, () -> {
+            throw new IllegalStateException("결제 실패");
+        }, "req")).isInstanceOf(IllegalStateException.class);
+        IdempotentResult<Body> retried = idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(2), "req");
+
+        //then
+        assertThat(retried).isEqualTo(new IdempotentResult<>(new Body(2), false));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 키로 먼저 커밋(유니크 위반) -> 그 응답 재생")
+    void otherInstanceCommittedFirst() {
+        //given
+        String requestHash = hashOf("req");
+        given(idempotencyRecordService.findCompleted(eq(SCOPE), eq("k1"), any()))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new StoredResponse(requestHash, "{\"value\":9}", LocalDateTime.now().plusHours(1))));
+        given(idempotencyRecordService.execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("uq_idempotency_scope_key"));
+
+        //when
+        IdempotentResult<Body> result = idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(1), "req");
+
+        //then
+        assertThat(result).isEqualTo(new IdempotentResult<>(new Body(9), true));
+    }
+
+    @Test
+    @DisplayName("만료됐지만 아직 삭제되지 않은 기록과 유니크 위반 -> 그 기록 삭제 후 한 번 다시 실행")
+    void expiredRecordNotYetPurged() {
+        //given
+        given(idempotencyRecordService.findCompleted(eq(SCOPE), eq("k1"), any())).willReturn(Optional.empty());
+        given(idempotencyRecordService.execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("uq_idempotency_scope_key"))
+                .willReturn("{\"value\":1}");
+        given(idempotencyRecordService.deleteExpired(eq(SCOPE), eq("k1"), any())).willReturn(1);
+
+        //when
+        IdempotentResult<Body> result = idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(1), "req");
+
+        //then
+        assertThat(result).isEqualTo(new IdempotentResult<>(new Body(1), false));
+        then(idempotencyRecordService).should().deleteExpired(eq(SCOPE), eq("k1"), any());
+        then(idempotencyRecordService).should(times(2)).execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 유니크 위반, 완료 기록 없음 -> 409(처리 중)")
+    void conflictAfterRetry() {
+        //given
+        given(idempotencyRecordService.findCompleted(eq(SCOPE), eq("k1"), any())).willReturn(Optional.empty());
+        given(idempotencyRecordService.execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("uq_idempotency_scope_key"));
+
+        //when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k1", Body.class, () -> new Body(1), "req"))
+                .isInstanceOf(IdempotencyConflictException.class);
+        then(idempotencyRecordService).should(times(2)).execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실행 중 키 유니크 제약이 아닌 무결성 위반 -> 다시 실행하지 않고 그 예외 그대로(409 아님)")
+    void actionIntegrityViolation() {
+        //given
+        givenRecordExecutes();
+        AtomicInteger executions = new AtomicInteger();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("fk_orders_member");
+
+        //when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k1", Body.class, () -> {
+            executions.incrementAndGet();
+            throw violation;
+        }, "req")).isSameAs(violation);
+        assertThat(executions).hasValue(1);
+        then(idempotencyRecordService).should(never()).deleteExpired(any(), any(), any());
+        then(idempotencyRecordService).should(times(1)).execute(eq(SCOPE), eq("k1"), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 키, 최대 길이 초과 키 -> InvalidIdempotencyKeyException")
+    void invalidKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, " ", Body.class, () -> new Body(1), "req"))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1),
+                Body.class, () -> new Body(1), "req"))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+    }
+
+
+    //== 헬퍼 메서드 ==//
+    @SuppressWarnings("unchecked")
+    private void givenRecordExecutes() {
+        given(idempotencyRecordService.findCompleted(anyString(), anyString(), any())).willReturn(Optional.empty());
+        given(idempotencyRecordService.execute(anyString(), anyString(), anyString(), any(), any(), any()))
+                .willAnswer(inv -> ((Supplier<String>) inv.getArgument(5)).get());
+    }
+
+    //처음 요청을 실행시켜 기록된 해시를 얻음(해시 계산 방식에 의존하지 않도록)
+    private String hashOf(Object request) {
+        String[] hash = new String[1];
+        IdempotencyRecordService recorder = mock(IdempotencyRecordService.class);
+        given(recorder.findCompleted(anyString(), anyString(), any())).willReturn(Optional.empty());
+        given(recorder.execute(anyString(), anyString(), anyString(), any(), any(), any())).willAnswer(inv -> {
+            hash[0] = inv.getArgument(2);
+            return "{\"value\":0}";
+        });
+        new IdempotencyService(recorder, new ObjectMapper(), new SimpleMeterRegistry(),
+                Duration.ofHours(24), 100, Duration.ofSeconds(5), 1000)
+                .execute(SCOPE, "probe", Body.class, () -> new Body(0), request);
+        return hash[0];
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(IdempotencyService.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Body(int value) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.minimall.service.inventory;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.order.OrderRepository;
+import com.minimall.domain.order.exception.OrderStatusException;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.product.InvalidProductStockException;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.product.ProductService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.PayCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.SoftAssertions.*;
+
+/**
+ * 동일 상품(핫 SKU)에 대한 동시 주문 생성 시 재고 정합성 검증
+ * - 트랜잭션을 테스트가 감싸지 않도록 @Transactional 미사용(데이터는 @AfterEach 에서 정리)
+ */
+@SpringBootTest
+public class InventoryConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int THREADS = 64;
+    private static final int CHECKOUTS = 1_000;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    InventoryService inventoryService;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String loginId = UUID.randomUUID().toString();
+        memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "동시성", loginId + "@example.com", null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from outbox_event where aggregate_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from pay where order_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from order_item where order_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from orders where member_id = ?", memberId);
+        jdbcTemplate.update("delete from member_customer_profile where member_id = ?", memberId);
+        jdbcTemplate.update("delete from member where member_id = ?", memberId);
+        productIds.forEach(id -> {
+            jdbcTemplate.update("delete from product_stock_shard where product_id = ?", id);
+            jdbcTemplate.update("delete from product where product_id = ?", id);
+        });
+        productIds.clear();
+    }
+
+    @Test
+    @DisplayName("재고 100개 상품에 동시 주문 1,000건 -> 정확히 100건 성공, 재고 0, 음수 재고 없음")
+    void hotSku_noOversell() throws Exception {
+        //given
+        Long productId = saveProduct(100);
+        OrderCreateCommand command = new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)));
+
+        //when
+        Result result = runConcurrently(CHECKOUTS, i -> orderService.createOrder(command));
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(result.succeeded()).isEqualTo(100);
+            softly.assertThat(result.insufficient()).isEqualTo(CHECKOUTS - 100);
+            softly.assertThat(result.unexpected()).isEmpty();
+            softly.assertThat(stockOf(productId)).isZero();
+            softly.assertThat(orderCountOf(memberId)).isEqualTo(100);
+        });
+    }
+
+    @Test
+    @DisplayName("두 상품을 서로 반대 순서로 담은 동시 주문 -> 교착 상태 없이 전부 성공")
+    void multiItem_reverseOrder_noDeadlock() throws Exception {
+        //given
+        Long productA = saveProduct(1_000);
+        Long productB = saveProduct(1_000);
+        OrderCreateCommand ab = new OrderCreateCommand(memberId, List.of(
+                new OrderItemCreateCommand(productA, 1), new OrderItemCreateCommand(productB, 1)));
+        OrderCreateCommand ba = new OrderCreateCommand(memberId, List.of(
+                new OrderItemCreateCommand(productB, 1), new OrderItemCreateCommand(productA, 1)));
+
+        //when
+        Result result = runConcurrently(400, i -> orderService.createOrder(i % 2 == 0 ? ab : ba));
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(result.succeeded()).isEqualTo(400);
+            softly.assertThat(result.unexpected()).isEmpty();
+            softly.assertThat(stockOf(productA)).isEqualTo(600);
+            softly.assertThat(stockOf(productB)).isEqualTo(600);
+        });
+    }
+
+
+    @Test
+    @DisplayName("샤딩 상품(8샤드, 재고 100)에 동시 주문 1,000건 -> 정확히 100건 성공, 샤드 합계 0")
+    void shardedHotSku_noOversell() throws Exception {
+        //given
+        Long productId = saveProduct(100);
+        inventoryService.enableSharding(productId, 8);
+        OrderCreateCommand command = new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)));
+
+        //when
+        Result result = runConcurrently(CHECKOUTS, i -> orderService.createOrder(command));
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(result.succeeded()).isEqualTo(100);
+            softly.assertThat(result.insufficient()).isEqualTo(CHECKOUTS - 100);
+            softly.assertThat(result.unexpected()).isEmpty();
+            softly.assertThat(shardTotalOf(productId)).isZero();
+            softly.assertThat(productService.findById(productId).getStockQuantity()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("샤딩 상품 재고 추가/차감/초기화 -> 조회 시 샤드 합계, 해제 시 단일 행으로 복귀")
+    void shardedStock_addReduceClear_andDisable() {
+        //given
+        Long productId = saveProduct(10);
+        productService.enableStockSharding(productId, 4);
+
+        //when
+        productService.addStock(productId, 7);
+        productService.reduceStock(productId, 3);
+        int afterAddReduce = productService.findById(productId).getStockQuantity();
+
+        productService.disableStockSharding(productId);
+        int afterDisable = productService.findById(productId).getStockQuantity();
+
+        productService.enableStockSharding(productId, 2);
+        productService.clearStock(productId);
+        int afterClear = productService.findById(productId).getStockQuantity();
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(afterAddReduce).isEqualTo(14);
+            softly.assertThat(afterDisable).isEqualTo(14);
+            softly.assertThat(afterClear).isZero();
+            softly.assertThat(shardTotalOf(productId)).isZero();
+        });
+    }
+
+
+    @Test
+    @DisplayName("예약 만료 주문 50건에 결제와 만료 취소 동시 실행 -> 주문마다 둘 중 하나만 반영, 취소분만 재고 복원")
+    void reservationRelease_withConcurrentPayment() throws Exception {
+        //given
+        Long productId = saveProduct(100);
+        OrderCreateCommand command = new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)));
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            orderIds.add(orderService.createOrder(command).getId());
+        }
+        jdbcTemplate.update("update orders set reserved_until = ? where member_id = ?",
+                LocalDateTime.of(2000, 1, 1, 0, 0), memberId);
+        LocalDateTime now = LocalDateTime.of(2000, 1, 2, 0, 0); //이 회원의 주문만 만료 대상
+        PayCommand pay = new PayCommand(PayMethod.CARD, 1_000);
+        AtomicInteger paid = new AtomicInteger();
+
+        //when: 짝수 작업은 결제, 홀수 작업은 만료 취소 배치(5건)
+        Result result = runConcurrently(100, i -> {
+            if (i % 2 == 1) {
+                orderService.releaseExpiredReservations(now, 5);
+                return;
+            }
+            try {
+                orderService.processPayment(orderIds.get(i / 2), pay);
+                paid.incrementAndGet();
+            } catch (OrderStatusException e) {
+                //만료 취소가 먼저 커밋됨
+            }
+        });
+        orderService.releaseExpiredReservations(now, 100); //남은 만료 주문 정리
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(result.unexpected()).isEmpty();
+            softly.assertThat(countByStatus("CONFIRMED")).isEqualTo(paid.get());
+            softly.assertThat(countByStatus("CANCELED")).isEqualTo(50 - paid.get());
+            softly.assertThat(stockOf(productId)).isEqualTo(100 - paid.get());
+        });
+    }
+
+
+    //== 헬퍼 메서드 ==//
+    private int countByStatus(String status) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from orders where member_id = ? and order_status = ?", Integer.class, memberId, status);
+    }
+
+    private Long saveProduct(int stock) {
+        Long id = productRepository.save(new Product("핫상품", 1_000, stock)).getId();
+        productIds.add(id);
+        return id;
+    }
+
+    private int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject("select stock_quantity from product where product_id = ?", Integer.class, productId);
+    }
+
+    private int shardTotalOf(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(sum(quantity), 0) from product_stock_shard where product_id = ?", Integer.class, productId);
+    }
+
+    private int orderCountOf(Long memberId) {
+        return jdbcTemplate.queryForObject("select count(*) from orders where member_id = ?", Integer.class, memberId);
+    }
+
+    /**
+     * 시작 래치로 모든 작업을 동시에 출발시켜 경합을 최대화
+     */
+    private static Result runConcurrently(int tasks, IntConsumerTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                    succeeded.incrementAndGet();
+                } catch (InvalidProductStockException e) {
+                    insufficient.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await(2, TimeUnit.MINUTES);
+        executor.shutdownNow();
+        return new Result(succeeded.get(), insufficient.get(), List.copyOf(unexpected));
+    }
+
+    @FunctionalInterface
+    private interface IntConsumerTask {
+        void run(int index);
+    }
+
+    private record Result(int succeeded, int insufficient, List<Throwable> unexpected) {
+    }
+}
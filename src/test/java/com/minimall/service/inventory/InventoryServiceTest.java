@@ -0,0 +1,331 @@
+package com.minimall.service.inventory;
+
+import com.minimall.domain.product.*;
+import com.minimall.service.exception.ProductNotFoundException;
+import com.minimall.service.inventory.dto.StockAdjustment;
+import com.minimall.service.inventory.dto.StockAdjustmentResult;
+import com.minimall.service.inventory.dto.StockAdjustmentStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryServiceTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Mock
+    ProductStockShardRepository shardRepository;
+
+    @Mock
+    LowStockMonitor lowStockMonitor;
+
+    @Mock
+    EntityManager em;
+
+    @InjectMocks
+    InventoryService inventoryService;
+
+    @Nested
+    @DisplayName("decrease(Map)")
+    class Decrease {
+        @Test
+        @DisplayName("요청 순서와 무관하게 상품 ID 오름차순으로 조건부 UPDATE")
+        void success_inProductIdOrder() {
+            //given
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            quantities.put(3L, 1);
+            quantities.put(1L, 2);
+            quantities.put(2L, 3);
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(
+                    new ProductStock(1L, 10, 0), new ProductStock(2L, 10, 0), new ProductStock(3L, 10, 0)));
+            given(productRepository.decreaseStockIfAvailable(anyLong(), anyInt())).willReturn(1);
+
+            //when
+            inventoryService.decrease(quantities);
+
+            //then
+            InOrder inOrder = inOrder(productRepository);
+            inOrder.verify(productRepository).decreaseStockIfAvailable(1L, 2);
+            inOrder.verify(productRepository).decreaseStockIfAvailable(2L, 3);
+            inOrder.verify(productRepository).decreaseStockIfAvailable(3L, 1);
+            then(productRepository).should(never()).findStockForUpdate(anyLong());
+            then(lowStockMonitor).should().stockChanged(quantities.keySet());
+        }
+
+        @Test
+        @DisplayName("재고 부족 -> 잠금 조회한 현재 재고를 담아 InvalidProductStockException")
+        void shouldFail_whenStockInsufficient() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 3, 0)));
+            given(productRepository.decreaseStockIfAvailable(1L, 10)).willReturn(0);
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 3, 0)));
+
+            //when & then
+            assertThatThrownBy(() -> inventoryService.decrease(Map.of(1L, 10)))
+                    .isInstanceOfSatisfying(InvalidProductStockException.class, e -> {
+                        assertThat(e.getReason()).isEqualTo(InvalidProductStockException.Reason.INSUFFICIENT);
+                        assertThat(e.getRequested()).isEqualTo(10);
+                        assertThat(e.getAvailable()).isEqualTo(3);
+                    });
+        }
+
+        @Test
+        @DisplayName("미존재 상품 여러 개 -> 누락 ID 전체를 담아 ProductNotFoundException 한 번, UPDATE 없음")
+        void shouldFail_whenProductsNotFound() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of());
+
+            //when & then
+            assertThatThrownBy(() -> inventoryService.decrease(Map.of(8L, 1, 7L, 1)))
+                    .isInstanceOfSatisfying(ProductNotFoundException.class, e ->
+                            assertThat(e.getMessage()).contains("7", "8"));
+
+            then(productRepository).should(never()).decreaseStockIfAvailable(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("수량 0 이하 -> 예외, 조회/UPDATE 없음")
+        void shouldFail_whenQuantityIsNotPositive() {
+            assertThatThrownBy(() -> inventoryService.decrease(1L, 0))
+                    .isInstanceOf(InvalidProductStockException.class);
+
+            then(productRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("decrease(Map) - 샤딩 상품")
+    class DecreaseSharded {
+        @Test
+        @DisplayName("샤딩 상품 -> 상품 행이 아닌, 수량이 충분한 샤드 하나에서 차감")
+        void success_decreaseShard() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 3)));
+            given(shardRepository.findAllByProductId(1L)).willReturn(List.of(shard(0, 1), shard(1, 5), shard(2, 0)));
+            given(shardRepository.decreaseIfAvailable(1L, 1, 2)).willReturn(1);
+
+            //when
+            inventoryService.decrease(1L, 2);
+
+            //then
+            then(shardRepository).should(times(1)).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+            then(shardRepository).should(never()).findAllForUpdateFrom(anyLong(), anyInt());
+            then(productRepository).should(never()).decreaseStockIfAvailable(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("단일 샤드로 부족, 합계는 충분 -> 샤드 잠금 후 나눠 차감")
+        void success_drainShards() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 2)));
+            given(shardRepository.findAllByProductId(1L)).willReturn(List.of(shard(0, 3), shard(1, 4)));
+            given(shardRepository.findAllForUpdateFrom(eq(1L), anyInt())).willAnswer(invocation ->
+                    invocation.<Integer>getArgument(1) == 0 ? List.of(shard(0, 3), shard(1, 4)) : List.of(shard(1, 4)));
+            lenient().when(shardRepository.findAllForUpdateSkipLockedBelow(1L, 1)).thenReturn(List.of(shard(0, 3))); //시작 샤드가 1일 때만 사용
+
+            //when
+            inventoryService.decrease(1L, 5);
+
+            //then
+            then(shardRepository).should(times(2)).decreaseIfAvailable(eq(1L), anyInt(), anyInt());
+            then(shardRepository).should(never()).findAllForUpdate(anyLong());
+            then(productRepository).should(never()).findStockForUpdate(anyLong());
+        }
+
+        @Test
+        @DisplayName("샤드 합계 부족(품절) -> 잠금 없이 즉시 InvalidProductStockException")
+        void shouldFail_whenShardTotalInsufficient() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 2)));
+            given(shardRepository.findAllByProductId(1L)).willReturn(List.of(shard(0, 1), shard(1, 2)));
+
+            //when & then
+            assertThatThrownBy(() -> inventoryService.decrease(1L, 5))
+                    .isInstanceOfSatisfying(InvalidProductStockException.class, e ->
+                            assertThat(e.getAvailable()).isEqualTo(3));
+
+            then(shardRepository).should(never()).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+            then(shardRepository).should(never()).findAllForUpdateFrom(anyLong(), anyInt());
+            then(productRepository).should(never()).findStockForUpdate(anyLong());
+        }
+
+        @Test
+        @DisplayName("조회 이후 샤딩 해제됨 -> 상품 행 잠금으로 모드 확인 후 상품 행에서 차감")
+        void success_whenShardingDisabledConcurrently() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 2)));
+            given(shardRepository.findAllByProductId(1L)).willReturn(List.of());
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 10, 0)));
+            given(productRepository.decreaseStockIfAvailable(1L, 1)).willReturn(1);
+
+            //when
+            inventoryService.decrease(1L, 1);
+
+            //then
+            then(productRepository).should().decreaseStockIfAvailable(1L, 1);
+        }
+
+        @Test
+        @DisplayName("샤드 조회 이후, 잠금 전에 샤딩 해제됨(잠근 샤드 없음) -> 품절이 아닌 상품 행에서 차감")
+        void success_whenShardingDisabledBeforeLock() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 2)));
+            given(shardRepository.findAllByProductId(1L)).willReturn(List.of(shard(0, 3), shard(1, 4)));
+            given(shardRepository.findAllForUpdateFrom(eq(1L), anyInt())).willReturn(List.of());
+            lenient().when(shardRepository.findAllForUpdateSkipLockedBelow(eq(1L), anyInt())).thenReturn(List.of());
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 7, 0)));
+            given(productRepository.decreaseStockIfAvailable(1L, 5)).willReturn(1);
+
+            //when
+            inventoryService.decrease(1L, 5);
+
+            //then
+            then(productRepository).should().decreaseStockIfAvailable(1L, 5);
+            then(shardRepository).should(never()).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("increase / clear")
+    class IncreaseAndClear {
+        @Test
+        @DisplayName("미존재 상품 재고 추가 -> ProductNotFoundException")
+        void increase_shouldFail_whenProductNotFound() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of());
+
+            //when & then
+            assertThatThrownBy(() -> inventoryService.increase(1L, 5))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("샤딩 상품 대량 입고 -> 상품 행 잠금 후 전체 샤드에 고르게 분배")
+        void increase_sharded_spreadAcrossShards() {
+            //given
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 3)));
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 0, 3)));
+
+            //when
+            inventoryService.increase(1L, 10);
+
+            //then
+            then(shardRepository).should().increase(1L, 0, 4);
+            then(shardRepository).should().increase(1L, 1, 3);
+            then(shardRepository).should().increase(1L, 2, 3);
+        }
+
+        @Test
+        @DisplayName("미존재 상품 재고 초기화 -> ProductNotFoundException")
+        void clear_shouldFail_whenProductNotFound() {
+            //given
+            given(productRepository.clearStock(1L)).willReturn(0);
+
+            //when & then
+            assertThatThrownBy(() -> inventoryService.clear(1L))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("enableSharding(Long, int)")
+    class EnableSharding {
+        @Test
+        @DisplayName("단일 행 재고 -> 샤드 수만큼 고르게 분배한 샤드 행 생성")
+        void success() {
+            //given
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 10, 0)));
+
+            //when
+            inventoryService.enableSharding(1L, 4);
+
+            //then
+            then(shardRepository).should(times(4)).save(any(ProductStockShard.class));
+            then(productRepository).should().updateStockShards(1L, 4, 10);
+        }
+
+        @Test
+        @DisplayName("샤드 수 범위 밖 -> 예외")
+        void shouldFail_whenShardsOutOfRange() {
+            assertThatThrownBy(() -> inventoryService.enableSharding(1L, InventoryService.MAX_STOCK_SHARDS + 1))
+                    .isInstanceOfSatisfying(InvalidProductStockException.class, e ->
+                            assertThat(e.getReason()).isEqualTo(InvalidProductStockException.Reason.SHARDS_OUT_OF_RANGE));
+
+            then(productRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("adjust(List, int)")
+    class Adjust {
+        @Test
+        @DisplayName("상품 ID 순 배치 UPDATE 한 번 -> 영향 행 수로 항목별 결과, 반영 안 된 항목만 원인 조회")
+        void classifiesEachItem() {
+            //given
+            List<StockAdjustment> adjustments = List.of(
+                    new StockAdjustment(3L, -5, null),
+                    new StockAdjustment(1L, null, 20),
+                    new StockAdjustment(9L, 1, null),
+                    new StockAdjustment(2L, 1, 1));
+            given(productRepository.adjustStocks(anyList())).willReturn(new int[]{1, 0, 1});
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(3L, 2, 0)));
+
+            //when
+            List<StockAdjustmentResult> results = inventoryService.adjust(adjustments, 100);
+
+            //then
+            then(productRepository).should().adjustStocks(List.of(
+                    new ProductStockAdjustment(1L, 20, true),
+                    new ProductStockAdjustment(3L, -5, false),
+                    new ProductStockAdjustment(9L, 1, false)));
+            then(productRepository).should().findStocksByIdIn(List.of(3L));
+            assertThat(results).containsExactly(
+                    new StockAdjustmentResult(100, 3L, StockAdjustmentStatus.INSUFFICIENT_STOCK),
+                    new StockAdjustmentResult(101, 1L, StockAdjustmentStatus.APPLIED),
+                    new StockAdjustmentResult(102, 9L, StockAdjustmentStatus.APPLIED),
+                    new StockAdjustmentResult(103, 2L, StockAdjustmentStatus.INVALID));
+            then(lowStockMonitor).should().stockChanged(Set.of(1L, 9L));
+        }
+
+        @Test
+        @DisplayName("미존재 상품 -> NOT_FOUND, 샤딩 상품 -> 단건 경로로 반영")
+        void notFoundAndSharded() {
+            //given
+            given(productRepository.adjustStocks(anyList())).willReturn(new int[]{0, 0});
+            given(productRepository.findStocksByIdIn(anyCollection())).willReturn(List.of(new ProductStock(1L, 0, 2)));
+            given(productRepository.findStockForUpdate(1L)).willReturn(Optional.of(new ProductStock(1L, 0, 2)));
+
+            //when
+            List<StockAdjustmentResult> results = inventoryService.adjust(List.of(
+                    new StockAdjustment(1L, 10, null),
+                    new StockAdjustment(2L, 10, null)), 0);
+
+            //then
+            assertThat(results).extracting(StockAdjustmentResult::status)
+                    .containsExactly(StockAdjustmentStatus.APPLIED, StockAdjustmentStatus.NOT_FOUND);
+            then(shardRepository).should().increase(1L, 0, 5);
+            then(shardRepository).should().increase(1L, 1, 5);
+        }
+    }
+
+    private static ProductStockShard shard(int shardNo, int quantity) {
+        return new ProductStockShard(null, shardNo, quantity);
+    }
+}
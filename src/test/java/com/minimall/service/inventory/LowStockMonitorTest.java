@@ -0,0 +1,152 @@
+package com.minimall.service.inventory;
+
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.domain.product.ProductStockLevel;
+import com.minimall.service.inventory.dto.LowStockItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockMonitorTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LowStockMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new LowStockMonitor(productRepository, meterRegistry, 10);
+    }
+
+    @Test
+    @DisplayName("변경 상품만 다시 읽어 기준 미만만 재고 오름차순으로 보관, 상품별 기준 우선")
+    void refresh() {
+        //given
+        given(productRepository.findStockLevelsByIdIn(anyCollection())).willReturn(List.of(
+                new ProductStockLevel(1L, "도서", 5, null),
+                new ProductStockLevel(2L, "키보드", 15, null),
+                new ProductStockLevel(3L, "마우스", 15, 20),
+                new ProductStockLevel(4L, "모니터", 2, null)));
+
+        //when
+        monitor.stockChanged(List.of(1L, 2L, 3L, 4L));
+        monitor.refresh();
+
+        //then
+        assertThat(monitor.lowStock(10)).containsExactly(
+                new LowStockItem(4L, "모니터", 2, 10),
+                new LowStockItem(1L, "도서", 5, 10),
+                new LowStockItem(3L, "마우스", 15, 20));
+        assertThat(monitor.lowStock(1)).extracting(LowStockItem::productId).containsExactly(4L);
+        assertThat(gauge()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("새로 재고 부족이 된 상품만 알림, 재고 회복/삭제 -> 제거")
+    void alertOnlyOnTransition() {
+        //given
+        given(productRepository.findStockLevelsByIdIn(anyCollection()))
+                .willReturn(List.of(new ProductStockLevel(1L, "도서", 5, null)))
+                .willReturn(List.of(new ProductStockLevel(1L, "도서", 3, null)))
+                .willReturn(List.of(new ProductStockLevel(1L, "도서", 30, null)))
+                .willReturn(List.of());
+
+        //when & then
+        refresh(1L);
+        refresh(1L);
+        assertThat(monitor.lowStock(10)).containsExactly(new LowStockItem(1L, "도서", 3, 10));
+        assertThat(alerts()).isEqualTo(1);
+
+        refresh(1L);
+        assertThat(monitor.lowStock(10)).isEmpty();
+
+        refresh(1L);
+        assertThat(alerts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 없음 -> 조회 없음, 변경 상품은 한 번만 조회")
+    void refresh_onlyPending() {
+        //given
+        given(productRepository.findStockLevelsByIdIn(anyCollection())).willReturn(List.of());
+        monitor.stockChanged(List.of(1L, 2L));
+        monitor.stockChanged(1L);
+
+        //when
+        monitor.refresh();
+        monitor.refresh();
+
+        //then
+        then(productRepository).should(times(1)).findStockLevelsByIdIn(argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 변경 -> 커밋 후에만 반영 대상, 롤백 시 무시")
+    void stockChanged_afterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //given
+            monitor.stockChanged(1L);
+
+            //when
+            monitor.refresh();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            //then
+            then(productRepository).shouldHaveNoInteractions();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        given(productRepository.findStockLevelsByIdIn(anyCollection())).willReturn(List.of());
+        monitor.refresh();
+        then(productRepository).should().findStockLevelsByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("전체 대조 -> 조회된 상품으로 목록 교체(조회되지 않은 상품 제거)")
+    void sweep() {
+        //given
+        given(productRepository.findStockLevelsByIdIn(anyCollection()))
+                .willReturn(List.of(new ProductStockLevel(1L, "도서", 5, null)));
+        refresh(1L);
+        given(productRepository.streamLowStockLevels(10))
+                .willReturn(Stream.of(new ProductStockLevel(2L, "키보드", 1, null)));
+
+        //when
+        monitor.sweep();
+
+        //then
+        assertThat(monitor.lowStock(10)).containsExactly(new LowStockItem(2L, "키보드", 1, 10));
+        assertThat(alerts()).isEqualTo(2);
+    }
+
+    private void refresh(Long productId) {
+        monitor.stockChanged(productId);
+        monitor.refresh();
+    }
+
+    private double alerts() {
+        return meterRegistry.get(LowStockMonitor.ALERT_METRIC_NAME).counter().count();
+    }
+
+    private double gauge() {
+        return meterRegistry.get(LowStockMonitor.SIZE_METRIC_NAME).gauge().value();
+    }
+}
@@ -0,0 +1,48 @@
+package com.minimall.service.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("추가한 값 -> 항상 mightContain true(거짓 음성 없음)")
+    void noFalseNegatives() {
+        //given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        //when
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        //then
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("user" + i + "@example.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 추가 -> 추가하지 않은 값의 오탐률은 설정값 근처")
+    void falsePositiveRate() {
+        //given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user" + i));
+
+        //when
+        long falsePositives = IntStream.range(0, INSERTIONS).filter(i -> filter.mightContain("other" + i)).count();
+
+        //then
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("크기 설정 오류 -> 예외")
+    void shouldFail_whenInvalidSize() {
+        assertThatThrownBy(() -> new BloomFilter(0, FALSE_POSITIVE_RATE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.minimall.service.member;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.CustomerGrade;
+import com.minimall.domain.member.CustomerProfile;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.service.exception.MemberNotFoundException;
+import com.minimall.service.member.dto.command.MemberLoginCommand;
+import com.minimall.service.member.dto.command.MemberRegisterCommand;
+import com.minimall.service.member.dto.command.MemberUpdateCommand;
+import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberSummaryResult;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회원 2차 캐시: 커밋된 회원을 다음 트랜잭션에서 DB 로딩 없이 읽는지 검증
+ * - 캐시는 커밋 후에 채워지므로 @Transactional 미사용(데이터는 @AfterEach 에서 정리)
+ * - 다른 스레드(스케줄러)의 SQL 과 섞이지 않도록 엔티티별 Hibernate 통계(DB 로딩 수)로 비교
+ */
+@SpringBootTest
+public class MemberSecondLevelCacheIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String LOGIN_ID = "cacheUser";
+    private static final String PASSWORD = "12345678";
+    private static final String EMAIL = "cache-user@example.com";
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        memberId = memberService.registerCustomer(
+                new MemberRegisterCommand(LOGIN_ID, PASSWORD, "차태승", EMAIL, null)).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("ID 로 회원 상세 반복 조회 -> 두 번째부터 회원, 고객 프로필 모두 캐시 적중(DB 로딩 없음)")
+    void getDetail_cached() {
+        //given
+        memberService.getDetail(memberId);
+        long memberLoads = loadCount(Member.class);
+        long profileLoads = loadCount(CustomerProfile.class);
+
+        //when
+        MemberDetailResult detail = memberService.getDetail(memberId);
+
+        //then
+        assertThat(detail.grade()).isEqualTo(CustomerGrade.BRONZE);
+        assertThat(loadCount(Member.class)).isEqualTo(memberLoads);
+        assertThat(loadCount(CustomerProfile.class)).isEqualTo(profileLoads);
+    }
+
+    @Test
+    @DisplayName("로그인 ID 반복 조회(로그인) -> 자연 키 캐시 + 엔티티 캐시 적중(DB 로딩 없음)")
+    void login_naturalIdCached() {
+        //given
+        MemberLoginCommand command = new MemberLoginCommand(LOGIN_ID, PASSWORD);
+        memberService.login(command);
+        long memberLoads = loadCount(Member.class);
+        long naturalIdQueries = statistics.getNaturalIdStatistics(Member.class.getName()).getExecutionCount();
+
+        //when
+        MemberSummaryResult result = memberService.login(command);
+
+        //then
+        assertThat(result.id()).isEqualTo(memberId);
+        assertThat(loadCount(Member.class)).isEqualTo(memberLoads);
+        assertThat(statistics.getNaturalIdStatistics(Member.class.getName()).getExecutionCount())
+                .isEqualTo(naturalIdQueries);
+    }
+
+    @Test
+    @DisplayName("이메일 반복 조회 -> 쿼리 캐시 적중, 이메일 변경 후에는 변경된 값으로 조회")
+    void getByEmail_queryCachedAndInvalidated() {
+        //given
+        memberService.getDetailByEmail(EMAIL);
+        long memberLoads = loadCount(Member.class);
+        long queryHits = statistics.getQueryCacheHitCount();
+
+        //when
+        memberService.getDetailByEmail(EMAIL);
+
+        //then
+        assertThat(loadCount(Member.class)).isEqualTo(memberLoads);
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+
+        //when: 이메일 변경(member 테이블 갱신 -> 쿼리 캐시 무효화)
+        String changed = "changed@example.com";
+        memberService.update(memberId, new MemberUpdateCommand(null, null, changed, null));
+
+        //then
+        assertThat(memberService.getDetailByEmail(changed).id()).isEqualTo(memberId);
+        assertThatThrownBy(() -> memberService.getDetailByEmail(EMAIL))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    private long loadCount(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+}
@@ -6,8 +6,10 @@ import com.minimall.api.member.dto.request.MemberRegisterRequest;
 import com.minimall.api.member.dto.request.MemberUpdateRequest;
 import com.minimall.api.member.dto.response.MemberDetailWithOrdersResponse;
 import com.minimall.domain.embeddable.Address;
+import com.minimall.domain.member.CustomerGrade;
 import com.minimall.domain.member.Member;
 import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.member.Role;
 import com.minimall.domain.exception.DuplicateException;
 import com.minimall.domain.order.OrderRepository;
 import com.minimall.service.exception.InvalidCredentialException;
@@ -16,9 +18,13 @@ import com.minimall.service.exception.NotFoundException;
 import com.minimall.service.member.dto.command.MemberAddressCommand;
 import com.minimall.service.member.dto.command.MemberLoginCommand;
 import com.minimall.service.member.dto.command.MemberRegisterCommand;
+import com.minimall.service.member.dto.command.MemberSearchCommand;
 import com.minimall.service.member.dto.command.MemberUpdateCommand;
+import com.minimall.service.member.dto.command.SellerRegisterCommand;
 import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberExportResult;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
+import com.minimall.service.member.dto.result.MemberSummarySliceResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,6 +34,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -173,6 +180,20 @@ public class MemberServiceIntegrationTest extends AbstractIntegrationTest {
             assertThrows(DuplicateException.class, () -> memberService.registerCustomer(duplicateEmailCommand));
         }
 
+        @Test
+        @DisplayName("필터가 모르는 기존 값(다른 인스턴스 가입 등) -> 유니크 제약 위반을 DuplicateException 으로 변환")
+        void createMember_duplicateUnknownToFilter_shouldFail() {
+            //given: 서비스(필터)를 거치지 않고 저장
+            memberRepository.saveAndFlush(Member.registerCustomer("directLoginId", "hash", "차태승", "direct@example.com", null));
+            MemberRegisterCommand duplicateEmailCommand =
+                    new MemberRegisterCommand("otherLoginId", member.getPasswordHash(), "차태승", "direct@example.com", null);
+
+            //when & then
+            assertThatThrownBy(() -> memberService.registerCustomer(duplicateEmailCommand))
+                    .isInstanceOf(DuplicateException.class)
+                    .hasMessageContaining("email");
+        }
+
         @Test
         void createMember_encryptPassword(){
             //given
@@ -358,15 +379,51 @@ public class MemberServiceIntegrationTest extends AbstractIntegrationTest {
         }
 
         @Test
-        void getMembers() {
+        @DisplayName("회원 검색: 조건 일치 회원만, 커서로 누락/중복 없이 ID 오름차순 순회")
+        void searchMembers() {
             //given
-            memberService.registerCustomer(createCommand);
+            List<Long> customerIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                customerIds.add(memberService.registerCustomer(new MemberRegisterCommand(
+                        "customer" + i, "12345", "고객" + i, "customer" + i + "@ex.com", null)).id());
+            }
+            memberService.registerSeller(new SellerRegisterCommand(
+                    "seller1", "12345", "판매자", "seller1@ex.com", null, "상점", "123-45-67890", "110-123-456789"));
+            MemberSearchCommand customers = new MemberSearchCommand(Role.CUSTOMER, null, CustomerGrade.BRONZE);
+
+            //when
+            List<Long> pagedIds = new ArrayList<>();
+            Long cursorId = null;
+            MemberSummarySliceResult slice;
+            do {
+                slice = memberService.searchMembers(customers, cursorId, 2);
+                slice.content().forEach(summary -> pagedIds.add(summary.id()));
+                cursorId = slice.content().getLast().id();
+            } while (slice.hasNext());
+
+            //then
+            assertThat(pagedIds).containsExactlyElementsOf(customerIds);
+        }
+
+        @Test
+        @DisplayName("회원 내보내기: 조건 일치 회원 전체를 ID 오름차순으로 전달, 고객 등급 포함")
+        void exportMembers() {
+            //given
+            MemberSummaryResult customer = memberService.registerCustomer(createCommand);
+            memberService.registerSeller(new SellerRegisterCommand(
+                    "seller1", "12345", "판매자", "seller1@ex.com", null, "상점", "123-45-67890", "110-123-456789"));
+            List<MemberExportResult> exported = new ArrayList<>();
 
             //when
-            List<MemberSummaryResult> result = memberService.getMembers();
+            long count = memberService.exportMembers(new MemberSearchCommand(Role.CUSTOMER, null, null), exported::add);
 
             //then
-            assertThat(result.size()).isEqualTo(1);
+            assertThat(count).isEqualTo(1);
+            assertThat(exported).singleElement().satisfies(row -> {
+                assertThat(row.id()).isEqualTo(customer.id());
+                assertThat(row.email()).isEqualTo(DEFAULT_EMAIL);
+                assertThat(row.grade()).isEqualTo(CustomerGrade.BRONZE);
+            });
         }
 
     }
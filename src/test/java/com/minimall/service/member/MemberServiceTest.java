@@ -2,8 +2,7 @@ package com.minimall.service.member;
 
 import com.minimall.domain.common.DomainType;
 import com.minimall.domain.embeddable.Address;
-import com.minimall.domain.member.Member;
-import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.member.*;
 import com.minimall.api.member.dto.request.MemberUpdateRequest;
 import com.minimall.domain.exception.DuplicateException;
 import com.minimall.service.exception.InvalidCredentialException;
@@ -12,9 +11,12 @@ import com.minimall.service.member.dto.*;
 import com.minimall.service.member.dto.command.MemberAddressCommand;
 import com.minimall.service.member.dto.command.MemberLoginCommand;
 import com.minimall.service.member.dto.command.MemberRegisterCommand;
+import com.minimall.service.member.dto.command.MemberSearchCommand;
 import com.minimall.service.member.dto.command.MemberUpdateCommand;
 import com.minimall.service.member.dto.result.MemberDetailResult;
+import com.minimall.service.member.dto.result.MemberExportResult;
 import com.minimall.service.member.dto.result.MemberSummaryResult;
+import com.minimall.service.member.dto.result.MemberSummarySliceResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,12 +26,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,6 +54,9 @@ class MemberServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    MemberIdentityFilter memberIdentityFilter;
+
     @InjectMocks
     MemberService memberService;
 
@@ -151,12 +161,12 @@ class MemberServiceTest {
     @Test
     void createMember_success() {
         //given
-        when(memberRepository.existsByLoginId(registerCommand.loginId())).thenReturn(false);
-        when(memberRepository.existsByEmail(registerCommand.email())).thenReturn(false);
+        when(memberIdentityFilter.mightBeTaken(registerCommand.loginId(), registerCommand.email())).thenReturn(true);
+        when(memberRepository.findIdentities(registerCommand.loginId(), registerCommand.email())).thenReturn(List.of());
 
         when(passwordEncoder.encode(registerCommand.password())).thenReturn("encodedPassword");
 
-        when(memberRepository.save(any(Member.class))).thenReturn(member);
+        when(memberRepository.saveAndFlush(any(Member.class))).thenReturn(member);
 
         MemberSummaryResult expected = new MemberSummaryResult(member.getId(), member.getLoginId(), member.getName());
         when(memberServiceMapper.toSummaryResult(any(Member.class))).thenReturn(expected);
@@ -167,48 +177,83 @@ class MemberServiceTest {
 
         //then: 호출 검증
         assertThat(result).isEqualTo(expected);
-        verify(memberRepository).existsByLoginId(registerCommand.loginId());
-        verify(memberRepository).existsByEmail(registerCommand.email());
+        verify(memberRepository).findIdentities(registerCommand.loginId(), registerCommand.email());
         verify(passwordEncoder).encode(anyString());
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).saveAndFlush(any(Member.class));
+        verify(memberIdentityFilter).put(member.getLoginId(), member.getEmail());
         verify(memberServiceMapper).toSummaryResult(any(Member.class));
 
         //then: 필드 검증
         ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
 
-        verify(memberRepository).save(captor.capture());
+        verify(memberRepository).saveAndFlush(captor.capture());
         Member captured = captor.getValue();
 
         assertThat(captured.getLoginId()).isEqualTo(registerCommand.loginId());
         assertThat(captured.getName()).isEqualTo(registerCommand.name());
     }
 
+    @Test
+    @DisplayName("회원 등록 시 필터상 미사용 값 -> 중복 조회 없이 저장")
+    void createMember_definitelyUnique_skipsLookup() {
+        //given
+        when(memberIdentityFilter.mightBeTaken(registerCommand.loginId(), registerCommand.email())).thenReturn(false);
+        when(passwordEncoder.encode(registerCommand.password())).thenReturn("encodedPassword");
+        when(memberRepository.saveAndFlush(any(Member.class))).thenReturn(member);
+
+        //when
+        memberService.registerCustomer(registerCommand);
+
+        //then
+        verify(memberRepository, never()).findIdentities(anyString(), anyString());
+        verify(memberRepository).saveAndFlush(any(Member.class));
+    }
+
     @Test
     @DisplayName("회원 등록 시 로그인 아이디 중복일 경우 예외 발생")
     void createMember_duplicateLoginId_shouldFail() {
         //given
-        when(memberRepository.existsByLoginId(registerCommand.loginId())).thenReturn(true);
+        when(memberIdentityFilter.mightBeTaken(registerCommand.loginId(), registerCommand.email())).thenReturn(true);
+        when(memberRepository.findIdentities(registerCommand.loginId(), registerCommand.email()))
+                .thenReturn(List.of(new MemberIdentity(registerCommand.loginId(), "other@example.com")));
 
         //then
         DuplicateException duplicateException =
                 assertThrows(DuplicateException.class, () -> memberService.registerCustomer(registerCommand));
         assertThat(duplicateException.getMessage()).contains("loginId", "사용 중", member.getLoginId());
-        verify(memberRepository).existsByLoginId(registerCommand.loginId());
+        verify(memberRepository).findIdentities(registerCommand.loginId(), registerCommand.email());
+        verify(passwordEncoder, never()).encode(anyString());
     }
 
     @Test
     @DisplayName("회원 등록 시 이메일 중복일 경우 예외 발생")
     void createMember_duplicateEmail_shouldFail() {
         //given
-        when(memberRepository.existsByLoginId(registerCommand.loginId())).thenReturn(false);
-        when(memberRepository.existsByEmail(registerCommand.email())).thenReturn(true);
+        when(memberIdentityFilter.mightBeTaken(registerCommand.loginId(), registerCommand.email())).thenReturn(true);
+        when(memberRepository.findIdentities(registerCommand.loginId(), registerCommand.email()))
+                .thenReturn(List.of(new MemberIdentity("other", registerCommand.email())));
 
         //then
         DuplicateException duplicateException =
                 assertThrows(DuplicateException.class, () -> memberService.registerCustomer(registerCommand));
         assertThat(duplicateException.getMessage()).contains("email", "사용 중", member.getEmail());
-        verify(memberRepository).existsByLoginId(registerCommand.loginId());
-        verify(memberRepository).existsByEmail(registerCommand.email());
+        verify(memberRepository).findIdentities(registerCommand.loginId(), registerCommand.email());
+    }
+
+    @Test
+    @DisplayName("회원 등록 시 저장 단계 유니크 제약 위반 -> DuplicateException 으로 변환")
+    void createMember_uniqueViolationOnSave_shouldFail() {
+        //given
+        when(memberIdentityFilter.mightBeTaken(registerCommand.loginId(), registerCommand.email())).thenReturn(false);
+        when(passwordEncoder.encode(registerCommand.password())).thenReturn("encodedPassword");
+        when(memberRepository.saveAndFlush(any(Member.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("Duplicate entry", null, "member." + Member.EMAIL_UNIQUE)));
+
+        //then
+        DuplicateException duplicateException =
+                assertThrows(DuplicateException.class, () -> memberService.registerCustomer(registerCommand));
+        assertThat(duplicateException.getMessage()).contains("email", member.getEmail());
+        verify(memberIdentityFilter, never()).put(anyString(), anyString());
     }
 
     //== update ==//
@@ -226,6 +271,7 @@ class MemberServiceTest {
         assertThat(result).isEqualTo(detailResult);
         verify(memberRepository).findByEmail(updateRequest.email());
         verify(memberRepository).findById(1L);
+        verify(memberIdentityFilter).putEmail(updateRequest.email());
         verify(memberServiceMapper).toDetailResult(member);
     }
 
@@ -300,19 +346,64 @@ class MemberServiceTest {
         verify(memberRepository).findById(1L);
     }
 
-    @Test
-    void getMembers() {
-        //given
-        when(memberRepository.findAll(Sort.by("id").ascending())).thenReturn(List.of(member));
-        when(memberServiceMapper.toSummaryResult(member)).thenReturn(summaryResult);
+    @Nested
+    @DisplayName("searchMembers / exportMembers")
+    class Search {
+        final MemberSummary first = new MemberSummary(1L, "user1", "회원1", "u1@ex.com", Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD);
+        final MemberSummary second = new MemberSummary(2L, "user2", "회원2", "u2@ex.com", Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD);
 
-        //when
-        List<MemberSummaryResult> result = memberService.getMembers();
+        @Test
+        @DisplayName("검색 조건, 커서 전달 + size + 1 건 조회 -> 초과분 제외, hasNext true")
+        void search_hasNext() {
+            //given
+            MemberSearchCommand command = new MemberSearchCommand(Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD);
+            when(memberRepository.search(Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD, 10L, Limit.of(2)))
+                    .thenReturn(List.of(first, second));
+            when(memberServiceMapper.toSummaryResultList(List.of(first))).thenReturn(List.of(summaryResult));
 
-        //then
-        assertThat(result).containsExactly(summaryResult);
-        verify(memberRepository).findAll(Sort.by("id").ascending());
-        verify(memberServiceMapper).toSummaryResult(member);
+            //when
+            MemberSummarySliceResult result = memberService.searchMembers(command, 10L, 1);
+
+            //then
+            assertThat(result.content()).containsExactly(summaryResult);
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("페이지 크기 상한 초과 -> 상한으로 보정, 마지막 페이지 hasNext false")
+        void search_clampPageSize() {
+            //given
+            when(memberRepository.search(null, null, null, null, Limit.of(MemberService.MAX_SEARCH_PAGE_SIZE + 1)))
+                    .thenReturn(List.of(first));
+
+            //when
+            MemberSummarySliceResult result = memberService.searchMembers(MemberSearchCommand.all(), null, 10_000);
+
+            //then
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("내보내기 -> 스트림의 모든 회원을 순서대로 sink 에 전달, 스트림 close")
+        void export() {
+            //given
+            AtomicBoolean closed = new AtomicBoolean();
+            when(memberRepository.streamAll(null, null, null))
+                    .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+            MemberExportResult firstResult = new MemberExportResult(1L, "user1", "회원1", "u1@ex.com", Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD);
+            MemberExportResult secondResult = new MemberExportResult(2L, "user2", "회원2", "u2@ex.com", Role.CUSTOMER, MemberStatus.ACTIVE, CustomerGrade.GOLD);
+            when(memberServiceMapper.toExportResult(first)).thenReturn(firstResult);
+            when(memberServiceMapper.toExportResult(second)).thenReturn(secondResult);
+            List<MemberExportResult> sink = new ArrayList<>();
+
+            //when
+            long exported = memberService.exportMembers(MemberSearchCommand.all(), sink::add);
+
+            //then
+            assertThat(exported).isEqualTo(2);
+            assertThat(sink).containsExactly(firstResult, secondResult);
+            assertThat(closed).isTrue();
+        }
     }
 
 
@@ -21,11 +21,16 @@ import com.minimall.service.exception.OrderNotFoundException;
 import com.minimall.service.exception.ProductNotFoundException;
 import com.minimall.service.order.dto.command.OrderCreateCommand;
 import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.OrderSummarySearchCommand;
 import com.minimall.service.order.dto.command.PayCommand;
 import com.minimall.service.order.dto.result.DeliverySummaryResult;
 import com.minimall.service.order.dto.result.OrderDetailResult;
 import com.minimall.service.order.dto.result.OrderSummaryResult;
+import com.minimall.service.order.dto.result.OrderSummarySliceResult;
+import com.minimall.service.order.dto.result.ReservationReleaseResult;
+import com.minimall.support.SqlStatementCounter;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.hibernate.Transaction;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +43,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.context.transaction.TestTransaction;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -250,6 +256,126 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("createOrder(OrderCreateCommand) - 상품 일괄 조회")
+    class CreateOrderBatchLookup {
+
+        @Test
+        @DisplayName("상품 SELECT 수는 주문 항목 수와 무관(1줄 vs 30줄 동일)")
+        void selectCountStaysFlat_whenCartGrows() {
+            //given
+            List<Long> productIds = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                productIds.add(productRepository.save(new Product("상품" + i, 1_000, 100)).getId());
+            }
+            flushClear();
+
+            //회원 주문 이력에 따른 조회 차이를 배제하기 위해 장바구니마다 신규 회원 사용
+            Long memberA = saveNewMember();
+            Long memberB = saveNewMember();
+            flushClear();
+
+            //when: 1줄 장바구니
+            SqlStatementCounter.reset();
+            orderService.createOrder(commandOf(memberA, productIds.subList(0, 1)));
+            flushClear();
+            int singleLineSelects = SqlStatementCounter.selectCount();
+
+            //when: 30줄 장바구니
+            SqlStatementCounter.reset();
+            orderService.createOrder(commandOf(memberB, productIds));
+            flushClear();
+            int thirtyLineSelects = SqlStatementCounter.selectCount();
+
+            //then
+            assertThat(thirtyLineSelects).isEqualTo(singleLineSelects);
+        }
+
+        @Test
+        @DisplayName("같은 상품 중복 요청 -> 주문 항목 1개로 병합, 재고는 합산 수량만큼 차감")
+        void mergeDuplicateProductIds() {
+            //given
+            Long productId = productRepository.save(new Product("중복상품", 1_000, 100)).getId();
+            OrderCreateCommand command = new OrderCreateCommand(savedMember.getId(), List.of(
+                    new OrderItemCreateCommand(productId, 3),
+                    new OrderItemCreateCommand(productId, 4)));
+
+            //when
+            Order order = orderService.createOrder(command);
+            flushClear();
+
+            //then
+            Order found = orderRepository.findById(order.getId()).orElseThrow();
+            assertSoftly(softly -> {
+                softly.assertThat(found.getOrderItems()).hasSize(1);
+                softly.assertThat(found.getOrderItems().getFirst().getOrderQuantity()).isEqualTo(7);
+                softly.assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(93);
+            });
+        }
+
+        @Test
+        @DisplayName("상품 여러 개 미존재 -> 누락 ID 전체를 담은 ProductNotFoundException")
+        void shouldFail_withAllMissingIds() {
+            //given
+            long missing1 = NOT_EXISTS_ID;
+            long missing2 = NOT_EXISTS_ID - 1;
+            OrderCreateCommand command = new OrderCreateCommand(savedMember.getId(), List.of(
+                    new OrderItemCreateCommand(keyboard.getId(), 1),
+                    new OrderItemCreateCommand(missing1, 1),
+                    new OrderItemCreateCommand(missing2, 1)));
+
+            //when & then
+            assertThatThrownBy(() -> orderService.createOrder(command))
+                    .isInstanceOfSatisfying(ProductNotFoundException.class, e ->
+                            assertThat(e.getMessage()).contains(String.valueOf(missing1), String.valueOf(missing2)));
+        }
+
+        @Test
+        @DisplayName("기존 주문이 있는 회원 -> 주문 생성 시 회원 주문 컬렉션 미초기화, SELECT 수 동일")
+        void memberOrdersNotInitialized_whenMemberHasHistory() {
+            //given
+            Long productId = productRepository.save(new Product("상품", 1_000, 1_000)).getId();
+            Long newMember = saveNewMember();
+            Long oldMember = saveNewMember();
+            for (int i = 0; i < 5; i++) {
+                orderService.createOrder(commandOf(oldMember, List.of(productId)));
+            }
+            flushClear();
+
+            //when
+            SqlStatementCounter.reset();
+            orderService.createOrder(commandOf(newMember, List.of(productId)));
+            int withoutHistory = SqlStatementCounter.selectCount();
+            flushClear(); //이전 측정에서 로딩된 상품이 재고 동기화(refresh) 대상이 되지 않도록 초기화
+
+            SqlStatementCounter.reset();
+            orderService.createOrder(commandOf(oldMember, List.of(productId)));
+            int withHistory = SqlStatementCounter.selectCount();
+
+            //then
+            Member managed = memberRepository.findById(oldMember).orElseThrow();
+            assertSoftly(softly -> {
+                softly.assertThat(Hibernate.isInitialized(managed.getOrders())).isFalse();
+                softly.assertThat(withHistory).isEqualTo(withoutHistory);
+            });
+        }
+
+        private Long saveNewMember() {
+            String loginId = UUID.randomUUID().toString();
+            return memberRepository.save(
+                    Member.registerCustomer(loginId, DEFAULT_PASSWORD_HASH, DEFAULT_NAME, loginId + "naver.com", DEFAULT_ADDRESS)
+            ).getId();
+        }
+
+        private OrderCreateCommand commandOf(Long memberId, List<Long> productIds) {
+            return new OrderCreateCommand(
+                    memberId,
+                    productIds.stream()
+                            .map(id -> new OrderItemCreateCommand(id, 1))
+                            .toList());
+        }
+    }
+
     @Nested
     @DisplayName("cancelOrder(Long)")
     class CancelOrder{
@@ -280,6 +406,58 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("releaseExpiredReservations(LocalDateTime, int)")
+    class ReleaseExpiredReservations {
+        @DisplayName("예약 만료 ORDERED 주문 -> 취소, 재고 복원 / 만료 전 주문, 결제 완료 주문 -> 유지")
+        @Test
+        void success() {
+            //given
+            Order expired = orderService.createOrder(createCommand1);
+            Order paid = orderService.createOrder(createCommand2);
+            Order notExpired = orderService.createOrder(createCommand2);
+            orderService.processPayment(paid.getId(), new PayCommand(PayMethod.CARD, paid.getOrderAmount().getFinalAmount()));
+            LocalDateTime now = notExpired.getReservedUntil().minusMinutes(1);
+            em.flush();
+            em.createQuery("update Order o set o.reservedUntil = :past where o.id in :ids")
+                    .setParameter("past", now.minusSeconds(1))
+                    .setParameter("ids", List.of(expired.getId(), paid.getId()))
+                    .executeUpdate();
+            em.clear();
+
+            //when
+            ReservationReleaseResult result = orderService.releaseExpiredReservations(now, 100);
+
+            //then
+            em.clear();
+            assertSoftly(softly -> {
+                softly.assertThat(result.canceledOrders()).isEqualTo(1);
+                softly.assertThat(result.restockedQuantity()).isEqualTo(2 * ORDER_QUANTITY);
+                softly.assertThat(orderRepository.findById(expired.getId()).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+                softly.assertThat(orderRepository.findById(paid.getId()).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.CONFIRMED);
+                softly.assertThat(orderRepository.findById(notExpired.getId()).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+                softly.assertThat(productRepository.findById(keyboard.getId()).orElseThrow().getStockQuantity()).isEqualTo(20 - 5 - 5);
+                softly.assertThat(productRepository.findById(book.getId()).orElseThrow().getStockQuantity()).isEqualTo(50 - 5 - 5);
+            });
+        }
+
+        @DisplayName("만료 취소된 주문 결제 -> 주문 상태 예외")
+        @Test
+        void payAfterRelease_fails() {
+            //given
+            Order order = orderService.createOrder(createCommand1);
+            LocalDateTime now = order.getReservedUntil().plusSeconds(1);
+            em.flush();
+            em.clear();
+            orderService.releaseExpiredReservations(now, 100);
+
+            //when - then
+            assertThatThrownBy(() -> orderService.processPayment(order.getId(),
+                    new PayCommand(PayMethod.CARD, order.getOrderAmount().getFinalAmount())))
+                    .isInstanceOf(OrderStatusException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getOrderDetail(Long)")
     class GetOrderDetail{
@@ -301,6 +479,29 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("결제/배송까지 있는 주문 -> 주문, 주문 항목, 결제, 배송을 SELECT 1회로 조회")
+        void singleSelect_withPayAndDelivery() {
+            //given
+            Order order = orderService.createOrder(createCommand1);
+            orderService.processPayment(order.getId(),
+                    new PayCommand(PayMethod.CARD, order.getOrderAmount().getFinalAmount()));
+            orderService.prepareDelivery(order.getId(), null);
+            flushClear();
+
+            //when
+            SqlStatementCounter.reset();
+            OrderDetailResult result = orderService.getOrderDetail(order.getId());
+
+            //then
+            assertThat(SqlStatementCounter.selectCount()).isEqualTo(1);
+            assertSoftly(softly -> {
+                softly.assertThat(result.orderItems()).hasSize(2);
+                softly.assertThat(result.pay()).isNotNull();
+                softly.assertThat(result.delivery()).isNotNull();
+            });
+        }
+
         @Test
         @DisplayName("주문 없음: OrderNotFoundException")
         void shouldFail_whenOrderNotFound() {
@@ -316,7 +517,7 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
     }
 
     @Nested
-    @DisplayName("getOrderSummaries(Long)")
+    @DisplayName("getOrderSummaries(Long, OrderSummarySearchCommand)")
     class GetOrderSummaries {
         @Test
         @DisplayName("주문 목록 요약 조회: ")
@@ -326,7 +527,7 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
             orderService.createOrder(createCommand2);
 
             //when
-            List<OrderSummaryResult> result = orderService.getOrderSummaries(member.getId());
+            List<OrderSummaryResult> result = orderService.getOrderSummaries(member.getId(), firstPage()).content();
 
             //then
             assertSoftly(softly -> {
@@ -347,10 +548,89 @@ public class OrderServiceIntegrationTest extends AbstractIntegrationTest {
             Member savedMember = memberRepository.save(member);
 
             //when
-            List<OrderSummaryResult> result = orderService.getOrderSummaries(savedMember.getId());
+            OrderSummarySliceResult result = orderService.getOrderSummaries(savedMember.getId(), firstPage());
+
+            //then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("주문 수와 무관하게 SELECT 1회(주문 항목 N+1 없음), 최신 주문 순")
+        void singleSelect_regardlessOfOrderCount() {
+            //given
+            Long lastOrderId = null;
+            for (int i = 0; i < 3; i++) {
+                lastOrderId = orderService.createOrder(createCommand2).getId();
+            }
+            flushClear();
+
+            //when
+            SqlStatementCounter.reset();
+            List<OrderSummaryResult> result = orderService.getOrderSummaries(member.getId(), firstPage()).content();
 
             //then
-            assertThat(result).isEmpty();
+            assertThat(SqlStatementCounter.selectCount()).isEqualTo(1);
+            assertThat(result).hasSize(3)
+                    .allSatisfy(summary -> assertThat(summary.itemCount()).isEqualTo(2));
+            assertThat(result.getFirst().id()).isEqualTo(lastOrderId);
+        }
+
+        @Test
+        @DisplayName("커서로 페이지 순회 -> 누락/중복 없이 전체 주문을 최신순으로 조회")
+        void pageThroughWithCursor() {
+            //given: 같은 주문 시각 포함(주문 ID로 순서 보장)
+            Long productId = productRepository.save(new Product("페이지상품", 1_000, 100)).getId();
+            OrderCreateCommand command1Item = new OrderCreateCommand(
+                    savedMember.getId(), List.of(new OrderItemCreateCommand(productId, 1)));
+
+            List<Long> createdIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                createdIds.add(orderService.createOrder(command1Item).getId());
+            }
+            flushClear();
+
+            //when
+            List<Long> pagedIds = new ArrayList<>();
+            OrderSummarySearchCommand command = OrderSummarySearchCommand.firstPage(2);
+            OrderSummarySliceResult slice;
+            do {
+                slice = orderService.getOrderSummaries(savedMember.getId(), command);
+                slice.content().forEach(summary -> pagedIds.add(summary.id()));
+                OrderSummaryResult last = slice.content().getLast();
+                command = new OrderSummarySearchCommand(null, last.orderedAt(), last.id(), 2);
+            } while (slice.hasNext());
+
+            //then
+            assertThat(pagedIds).containsExactlyElementsOf(createdIds.reversed());
+        }
+
+        @Test
+        @DisplayName("상태 필터 -> 해당 상태 주문만 조회")
+        void filterByStatus() {
+            //given
+            Long canceledId = orderService.createOrder(createCommand1).getId();
+            orderService.createOrder(createCommand2);
+            orderService.cancelOrder(canceledId);
+            flushClear();
+
+            //when
+            List<OrderSummaryResult> result = orderService.getOrderSummaries(member.getId(),
+                    new OrderSummarySearchCommand(OrderStatus.CANCELED, null, null, 20)).content();
+
+            //then
+            assertThat(result).extracting(OrderSummaryResult::id).containsExactly(canceledId);
+        }
+
+        @Test
+        @DisplayName("미존재 회원 -> MemberNotFoundException")
+        void shouldFail_whenMemberNotFound() {
+            assertThatThrownBy(() -> orderService.getOrderSummaries(NOT_EXISTS_ID, firstPage()))
+                    .isInstanceOf(MemberNotFoundException.class);
+        }
+
+        private OrderSummarySearchCommand firstPage() {
+            return OrderSummarySearchCommand.firstPage(OrderService.DEFAULT_SUMMARY_PAGE_SIZE);
         }
     }
 
@@ -13,16 +13,23 @@ import com.minimall.domain.order.delivery.DeliveryStatus;
 import com.minimall.api.order.dto.request.OrderCreateRequest;
 import com.minimall.api.order.dto.request.OrderItemCreateRequest;
 import com.minimall.domain.order.delivery.DeliveryStatusException;
+import com.minimall.domain.order.exception.InvalidOrderItemException;
 import com.minimall.domain.order.exception.OrderStatusException;
 import com.minimall.domain.order.pay.PayAmountMismatchException;
 import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.product.InvalidProductStockException;
 import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductCatalog;
 import com.minimall.domain.product.ProductRepository;
 import com.minimall.service.exception.MemberNotFoundException;
 import com.minimall.service.exception.OrderNotFoundException;
 import com.minimall.service.exception.ProductNotFoundException;
+import com.minimall.service.inventory.InventoryService;
+import com.minimall.service.product.ProductCatalogCache;
+import com.minimall.service.sales.SalesRollupService;
 import com.minimall.service.order.dto.command.OrderCreateCommand;
 import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.OrderSummarySearchCommand;
 import com.minimall.service.order.dto.command.PayCommand;
 import com.minimall.service.order.dto.mapper.DeliveryServiceMapper;
 import com.minimall.service.order.dto.mapper.OrderServiceMapper;
@@ -30,6 +37,8 @@ import com.minimall.service.order.dto.mapper.PayServiceMapper;
 import com.minimall.service.order.dto.result.DeliverySummaryResult;
 import com.minimall.service.order.dto.result.OrderDetailResult;
 import com.minimall.service.order.dto.result.OrderSummaryResult;
+import com.minimall.service.order.dto.result.OrderSummarySliceResult;
+import com.minimall.service.order.dto.result.ReservationReleaseResult;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,13 +46,20 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -62,6 +78,12 @@ class OrderServiceTest {
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    InventoryService inventoryService;
+
+    @Mock
+    ProductCatalogCache productCatalogCache;
+
     @Mock
     OrderServiceMapper orderServiceMapper;
 
@@ -74,6 +96,15 @@ class OrderServiceTest {
     @Mock
     AddressMapper addressMapper;
 
+    @Mock
+    OrderEventRecorder orderEventRecorder;
+
+    @Mock
+    SalesRollupService salesRollupService;
+
+    @Captor
+    ArgumentCaptor<Collection<Long>> idsCaptor;
+
     @InjectMocks
     OrderService orderService;
 
@@ -116,6 +147,9 @@ class OrderServiceTest {
         //== Product Entity ==//
         book = new Product("도서", 20000, 50);
         keyboard = new Product("키보드", 100000, 20);
+        ReflectionTestUtils.setField(book, "id", PRODUCT1_ID);
+        ReflectionTestUtils.setField(keyboard, "id", PRODUCT2_ID);
+        ReflectionTestUtils.setField(orderService, "reservationTtl", Duration.ofMinutes(30)); //@Value 주입 필드
 
         orderCreateCommand = new OrderCreateCommand(
                 orderCreateRequest.memberId(),
@@ -133,16 +167,16 @@ class OrderServiceTest {
         void success() {
             //given
             given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
-            given(productRepository.findById(PRODUCT1_ID)).willReturn(Optional.of(book));
-            given(productRepository.findById(PRODUCT2_ID)).willReturn(Optional.of(keyboard));
+            givenCatalogs(book, keyboard);
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
 
             //when
             orderService.createOrder(orderCreateCommand);
 
-            //then: 호출검증
+            //then: 호출검증(카탈로그는 캐시 일괄 조회 1회, 상품은 참조만)
             then(memberRepository).should(times(1)).findById(MEMBER_ID);
-            then(productRepository).should(times(2)).findById(anyLong());
+            then(productCatalogCache).should(times(1)).getAll(anyCollection());
+            then(productRepository).should(times(2)).getReferenceById(anyLong());
             then(orderRepository).should(times(1)).save(any(Order.class));
             verifyNoMoreInteractions(memberRepository, productRepository, orderRepository);
 
@@ -186,8 +220,7 @@ class OrderServiceTest {
         void shouldFail_whenProductIsNull() {
             //given
             given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
-            given(productRepository.findById(PRODUCT1_ID)).willReturn(Optional.of(book));
-            given(productRepository.findById(PRODUCT2_ID)).willReturn(Optional.empty());
+            givenCatalogs(book);
 
             //when & then: 예외
             assertThatThrownBy(() -> orderService.createOrder(orderCreateCommand))
@@ -198,8 +231,93 @@ class OrderServiceTest {
             //then: 호출 검증
             then(memberRepository).should(times(1)).findById(MEMBER_ID);
 
-            then(productRepository).should(times(2)).findById(anyLong());
+            then(productCatalogCache).should(times(1)).getAll(anyCollection());
+
+            then(orderRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("상품 여러 개 미존재 -> 누락 ID 전체를 담은 예외 1회")
+        void shouldFail_withAllMissingIds() {
+            //given
+            Long missing1 = 77L;
+            Long missing2 = 88L;
+            OrderCreateCommand command = new OrderCreateCommand(MEMBER_ID, List.of(
+                    new OrderItemCreateCommand(PRODUCT1_ID, 1),
+                    new OrderItemCreateCommand(missing1, 1),
+                    new OrderItemCreateCommand(missing2, 1)));
+
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+            givenCatalogs(book);
+
+            //when & then
+            assertThatThrownBy(() -> orderService.createOrder(command))
+                    .isInstanceOfSatisfying(ProductNotFoundException.class, e ->
+                            assertThat(e.getMessage()).contains(missing1.toString(), missing2.toString()));
+
+            then(orderRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("같은 상품 중복 요청 -> 수량 합산 후 주문 항목 1개로 병합")
+        void mergeDuplicateProducts() {
+            //given
+            OrderCreateCommand command = new OrderCreateCommand(MEMBER_ID, List.of(
+                    new OrderItemCreateCommand(PRODUCT1_ID, 3),
+                    new OrderItemCreateCommand(PRODUCT2_ID, 1),
+                    new OrderItemCreateCommand(PRODUCT1_ID, 4)));
+
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+            givenCatalogs(book, keyboard);
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            //when
+            Order order = orderService.createOrder(command);
+
+            //then
+            then(productCatalogCache).should().getAll(idsCaptor.capture());
+            assertThat(idsCaptor.getValue()).containsExactly(PRODUCT1_ID, PRODUCT2_ID);
+
+            assertSoftly(softly -> {
+                softly.assertThat(order.getOrderItems()).hasSize(2);
+                softly.assertThat(order.getOrderItems().getFirst().getProduct()).isEqualTo(book);
+                softly.assertThat(order.getOrderItems().getFirst().getOrderQuantity()).isEqualTo(7);
+                softly.assertThat(book.getStockQuantity()).isEqualTo(50); //엔티티 재고는 건드리지 않음
+            });
+            then(inventoryService).should().decrease(Map.of(PRODUCT1_ID, 7, PRODUCT2_ID, 1));
+        }
+
+        @Test
+        @DisplayName("수량 0 이하 항목 -> 병합 전 예외, 상품 조회 없음")
+        void shouldFail_whenQuantityIsNotPositive() {
+            //given
+            OrderCreateCommand command = new OrderCreateCommand(MEMBER_ID, List.of(
+                    new OrderItemCreateCommand(PRODUCT1_ID, 5),
+                    new OrderItemCreateCommand(PRODUCT1_ID, -3)));
 
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+
+            //when & then
+            assertThatThrownBy(() -> orderService.createOrder(command))
+                    .isInstanceOf(InvalidOrderItemException.class);
+
+            then(productRepository).shouldHaveNoInteractions();
+            then(inventoryService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("재고 부족 -> 예외 전파, 상품 조회/주문 저장 없음")
+        void shouldFail_whenStockInsufficient() {
+            //given
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+            willThrow(InvalidProductStockException.insufficient(30, 5))
+                    .given(inventoryService).decrease(anyMap());
+
+            //when & then
+            assertThatThrownBy(() -> orderService.createOrder(orderCreateCommand))
+                    .isInstanceOf(InvalidProductStockException.class);
+
+            then(productRepository).shouldHaveNoInteractions();
             then(orderRepository).shouldHaveNoInteractions();
         }
     }
@@ -212,27 +330,106 @@ class OrderServiceTest {
         void success(){
             //given
             Order order = mock(Order.class);
-            given(orderRepository.findById(anyLong())).willReturn(Optional.of(order));
+            given(orderRepository.findByIdForUpdate(anyLong())).willReturn(Optional.of(order));
+
+            //when
+            orderService.cancelOrder(12345L);
+
+            //then
+            then(orderRepository).should(times(1)).findByIdForUpdate(anyLong());
+        }
+
+        @DisplayName("주문 취소: 상품별 수량 합산 후 InventoryService 로 재고 복원, 엔티티 재고 불변")
+        @Test
+        void restock_viaInventoryService() {
+            //given
+            Order order = Order.createOrder(member,
+                    OrderItem.createReservedOrderItem(book, 3),
+                    OrderItem.createReservedOrderItem(keyboard, 2));
+            given(orderRepository.findByIdForUpdate(anyLong())).willReturn(Optional.of(order));
+
+            //when
+            orderService.cancelOrder(12345L);
+
+            //then
+            assertSoftly(softly -> {
+                softly.assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+                softly.assertThat(book.getStockQuantity()).isEqualTo(50);
+                softly.assertThat(keyboard.getStockQuantity()).isEqualTo(20);
+            });
+            then(inventoryService).should().increase(Map.of(PRODUCT1_ID, 3, PRODUCT2_ID, 2));
+            then(salesRollupService).should(never()).recordCanceled(any()); //결제 전 취소 -> 매출과 무관
+        }
+
+        @DisplayName("결제 후 취소: 반영된 매출 차감 기록")
+        @Test
+        void recordSalesCanceled_whenPaid() {
+            //given
+            Order order = Order.createOrder(member, OrderItem.createReservedOrderItem(book, 3));
+            order.processPayment(new Pay(PayMethod.CARD, order.getOrderAmount().getFinalAmount()));
+            given(orderRepository.findByIdForUpdate(anyLong())).willReturn(Optional.of(order));
 
             //when
             orderService.cancelOrder(12345L);
 
             //then
-            then(orderRepository).should(times(1)).findById(anyLong());
+            assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+            then(salesRollupService).should().recordCanceled(order);
         }
 
         @DisplayName("주문 미존재: Not Found 예외 발생")
         @Test
         void shouldFail_whenOrderNotFound() {
             //given
-            given(orderRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(orderRepository.findByIdForUpdate(anyLong())).willReturn(Optional.empty());
 
             //when - then
             assertThatThrownBy(() -> orderService.cancelOrder(12345L))
                     .isInstanceOfSatisfying(OrderNotFoundException.class, e -> {
                         assertThat(e.getMessage()).contains("id");
                     });
-            then(orderRepository).should(times(1)).findById(anyLong());
+            then(orderRepository).should(times(1)).findByIdForUpdate(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("releaseExpiredReservations(LocalDateTime, int)")
+    class ReleaseExpiredReservations {
+        private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        @Test
+        @DisplayName("만료 주문 잠금 -> 일괄 취소 -> 상품별 합계로 재고 복원(엔티티 로딩 없음)")
+        void success() {
+            //given
+            given(orderRepository.lockExpiredReservationIds(now, 100)).willReturn(List.of(10L, 11L));
+            given(orderRepository.cancelOrderedByIdIn(List.of(10L, 11L), now)).willReturn(2);
+            given(orderRepository.sumQuantitiesByProduct(List.of(10L, 11L))).willReturn(List.of(
+                    new OrderedQuantity(PRODUCT1_ID, 3), new OrderedQuantity(PRODUCT2_ID, 4)));
+
+            //when
+            ReservationReleaseResult result = orderService.releaseExpiredReservations(now, 100);
+
+            //then
+            assertThat(result).isEqualTo(new ReservationReleaseResult(2, 7));
+            then(inventoryService).should().increase(Map.of(PRODUCT1_ID, 3, PRODUCT2_ID, 4));
+            then(orderRepository).should(never()).findById(anyLong());
+            then(orderEventRecorder).should()
+                    .recordAll(List.of(10L, 11L), OrderStatus.CANCELED, OrderEventType.RESERVATION_EXPIRED);
+        }
+
+        @Test
+        @DisplayName("만료 주문 없음 -> 취소/재고 복원 없음")
+        void empty() {
+            //given
+            given(orderRepository.lockExpiredReservationIds(now, 100)).willReturn(List.of());
+
+            //when
+            ReservationReleaseResult result = orderService.releaseExpiredReservations(now, 100);
+
+            //then
+            assertThat(result).isEqualTo(ReservationReleaseResult.EMPTY);
+            then(orderRepository).should(never()).cancelOrderedByIdIn(anyCollection(), any());
+            then(inventoryService).shouldHaveNoInteractions();
         }
     }
 
@@ -254,7 +451,7 @@ class OrderServiceTest {
                     1_100_000,
                     List.of(), null, null);
 
-            given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+            given(orderRepository.findDetailById(orderId)).willReturn(Optional.of(order));
             given(orderServiceMapper.toDetailResult(order)).willReturn(dto);
 
             //when
@@ -262,7 +459,7 @@ class OrderServiceTest {
 
             //then
             assertThat(result).isEqualTo(dto);
-            then(orderRepository).should(times(1)).findById(orderId);
+            then(orderRepository).should(times(1)).findDetailById(orderId);
             then(orderServiceMapper).should(times(1)).toDetailResult(order);
             verifyNoInteractions(memberRepository, productRepository);
         }
@@ -273,7 +470,7 @@ class OrderServiceTest {
             //given
             Long invalidId = 999L;
 
-            given(orderRepository.findById(invalidId)).willReturn(Optional.empty());
+            given(orderRepository.findDetailById(invalidId)).willReturn(Optional.empty());
 
             //then
             assertThatThrownBy(() -> orderService.getOrderDetail(invalidId))
@@ -281,75 +478,107 @@ class OrderServiceTest {
                         assertThat(e.getMessage()).contains("id", String.valueOf(invalidId), DomainType.ORDER.getDisPlayName())
                     );
 
-            then(orderRepository).should(times(1)).findById(invalidId);
+            then(orderRepository).should(times(1)).findDetailById(invalidId);
             then(orderServiceMapper).shouldHaveNoInteractions();
         }
     }
 
     @Nested
-    @DisplayName("getOrderSummaries(Long)")
+    @DisplayName("getOrderSummaries(Long, OrderSummarySearchCommand)")
     class GetOrderSummaries {
+        final LocalDateTime orderedAt = LocalDateTime.of(2025, 11, 10, 15, 25, 0);
+
         @Test
-        @DisplayName("주문 목록 요약 조회: 회원 리포지토리 조회 -> 주문 리포지토리 조회 -> 매퍼 dto 변환")
+        @DisplayName("주문 목록 요약 조회: size + 1 건 키셋 조회 -> 초과분 제외 후 매퍼 dto 변환, 회원 조회 없음")
         void success() {
             //given
-            Order order1 = mock(Order.class);
-            Order order2 = mock(Order.class);
-            List<Order> orders = List.of(order1, order2);
+            OrderSummary newest = new OrderSummary(3L, orderedAt, OrderStatus.ORDERED, 5, 5_500_000);
+            OrderSummary older = new OrderSummary(2L, orderedAt, OrderStatus.ORDERED, 2, 1_100_000);
+            OrderSummary oldest = new OrderSummary(1L, orderedAt, OrderStatus.ORDERED, 1, 100_000);
 
-            Long orderId = 1L;
-            LocalDateTime localDateTime = LocalDateTime.of(2025, 11, 10, 15, 25, 0);
+            List<OrderSummaryResult> dtoList = List.of(
+                    new OrderSummaryResult(3L, orderedAt, OrderStatus.ORDERED, 5, 5_500_000),
+                    new OrderSummaryResult(2L, orderedAt, OrderStatus.ORDERED, 2, 1_100_000));
 
-            List<OrderSummaryResult> dtoList = List.of(new OrderSummaryResult(
-                    orderId,
-                    localDateTime,
-                    OrderStatus.ORDERED,
-                    2,
-                    1_100_000), new OrderSummaryResult(
-                    orderId,
-                    localDateTime,
-                    OrderStatus.ORDERED,
-                    5,
-                    5_500_000
-            ));
+            given(orderRepository.findSummariesByMemberId(MEMBER_ID, null, null, null, Limit.of(3)))
+                    .willReturn(List.of(newest, older, oldest));
+            given(orderServiceMapper.toSummaryResultList(List.of(newest, older))).willReturn(dtoList);
 
-            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
-            given(orderRepository.findByMember(member)).willReturn(orders);
-            given(orderServiceMapper.toSummaryResultList(orders)).willReturn(dtoList);
+            //when
+            OrderSummarySliceResult result = orderService.getOrderSummaries(MEMBER_ID, OrderSummarySearchCommand.firstPage(2));
+
+            //then
+            assertThat(result.content()).isEqualTo(dtoList);
+            assertThat(result.hasNext()).isTrue();
+            verifyNoInteractions(memberRepository, productRepository);
+        }
+
+        @Test
+        @DisplayName("커서/상태 조건 전달, 마지막 페이지 -> hasNext false")
+        void passCursorAndStatus_lastPage() {
+            //given
+            OrderSummarySearchCommand command = new OrderSummarySearchCommand(OrderStatus.CANCELED, orderedAt, 10L, 20);
+            List<OrderSummary> summaries = List.of(new OrderSummary(9L, orderedAt, OrderStatus.CANCELED, 1, 1_000));
+
+            given(orderRepository.findSummariesByMemberId(MEMBER_ID, OrderStatus.CANCELED, orderedAt, 10L, Limit.of(21)))
+                    .willReturn(summaries);
+            given(orderServiceMapper.toSummaryResultList(summaries)).willReturn(List.of());
 
             //when
-            List<OrderSummaryResult> result = orderService.getOrderSummaries(MEMBER_ID);
+            OrderSummarySliceResult result = orderService.getOrderSummaries(MEMBER_ID, command);
 
             //then
-            assertThat(result).isEqualTo(dtoList);
-            then(memberRepository).should(times(1)).findById(MEMBER_ID);
-            then(orderRepository).should(times(1)).findByMember(member);
-            then(orderServiceMapper).should(times(1)).toSummaryResultList(orders);
-            verifyNoInteractions(productRepository);
+            assertThat(result.hasNext()).isFalse();
         }
 
         @Test
-        @DisplayName("회원 주문 없음: 빈 리스트 반환")
-        void returnEmpty_whenOrderIsEmpty() {
+        @DisplayName("페이지 크기 상한 초과 -> 상한으로 보정")
+        void clampPageSize() {
             //given
-            List<Order> emptyOrder = List.of();
+            given(orderRepository.findSummariesByMemberId(anyLong(), any(), any(), any(), any(Limit.class)))
+                    .willReturn(List.of(new OrderSummary(1L, orderedAt, OrderStatus.ORDERED, 1, 1_000)));
 
-            List<OrderSummaryResult> dtoEmptyList = List.of();
+            //when
+            orderService.getOrderSummaries(MEMBER_ID, OrderSummarySearchCommand.firstPage(10_000));
 
-            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
-            given(orderRepository.findByMember(member)).willReturn(emptyOrder);
-            given(orderServiceMapper.toSummaryResultList(emptyOrder)).willReturn(dtoEmptyList);
+            //then
+            then(orderRepository).should().findSummariesByMemberId(
+                    MEMBER_ID, null, null, null, Limit.of(OrderService.MAX_SUMMARY_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("회원 주문 없음: 회원 존재 확인 후 빈 리스트 반환")
+        void returnEmpty_whenOrderIsEmpty() {
+            //given
+            given(orderRepository.findSummariesByMemberId(anyLong(), any(), any(), any(), any(Limit.class)))
+                    .willReturn(List.of());
+            given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
+            given(orderServiceMapper.toSummaryResultList(List.of())).willReturn(List.of());
 
             //when
-            List<OrderSummaryResult> result = orderService.getOrderSummaries(MEMBER_ID);
+            OrderSummarySliceResult result = orderService.getOrderSummaries(MEMBER_ID, OrderSummarySearchCommand.firstPage(20));
 
             //then
-            assertThat(result).isEqualTo(dtoEmptyList);
-            then(memberRepository).should(times(1)).findById(MEMBER_ID);
-            then(orderRepository).should(times(1)).findByMember(member);
-            then(orderServiceMapper).should(times(1)).toSummaryResultList(emptyOrder);
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            then(memberRepository).should(times(1)).existsById(MEMBER_ID);
             verifyNoInteractions(productRepository);
         }
+
+        @Test
+        @DisplayName("미존재 회원 -> MemberNotFoundException")
+        void shouldFail_whenMemberNotFound() {
+            //given
+            given(orderRepository.findSummariesByMemberId(anyLong(), any(), any(), any(), any(Limit.class)))
+                    .willReturn(List.of());
+            given(memberRepository.existsById(MEMBER_ID)).willReturn(false);
+
+            //when & then
+            assertThatThrownBy(() -> orderService.getOrderSummaries(MEMBER_ID, OrderSummarySearchCommand.firstPage(20)))
+                    .isInstanceOf(MemberNotFoundException.class);
+
+            then(orderServiceMapper).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -360,7 +589,7 @@ class OrderServiceTest {
         void success() {
             //given
             Order order = createSampleOrder();
-            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(order));
 
             Pay pay = new Pay(PayMethod.CARD, order.getOrderAmount().getFinalAmount());
             PayCommand command = new PayCommand(PayMethod.CARD, order.getOrderAmount().getFinalAmount());
@@ -375,8 +604,9 @@ class OrderServiceTest {
                 softly.assertThat(result.getPayAmount()).isEqualTo(order.getOrderAmount().getFinalAmount());
             });
 
-            then(orderRepository).should(times(1)).findById(1L);
+            then(orderRepository).should(times(1)).findByIdForUpdate(1L);
             then(payMapper).should(times(1)).toEntity(command);
+            then(salesRollupService).should().recordConfirmed(order);
         }
 
         @Test
@@ -384,7 +614,7 @@ class OrderServiceTest {
         void shouldFail_whenDuplicatedPay() {
             //given
             Order order = createSampleOrder();
-            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(order));
 
             Pay pay = new Pay(PayMethod.CARD, order.getOrderAmount().getFinalAmount());
             PayCommand command = new PayCommand(PayMethod.CARD, order.getOrderAmount().getFinalAmount());
@@ -401,7 +631,7 @@ class OrderServiceTest {
                         assertThat(e.getMessage()).contains(OrderStatus.CONFIRMED.name().toUpperCase());
                     });
 
-            then(orderRepository).should(times(2)).findById(1L);
+            then(orderRepository).should(times(2)).findByIdForUpdate(1L);
             then(payMapper).should(times(2)).toEntity(command);
         }
 
@@ -410,7 +640,7 @@ class OrderServiceTest {
         void shouldFail_whenMismatchAmount() {
             //given
             Order order = createSampleOrder();
-            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdForUpdate(1L)).willReturn(Optional.of(order));
 
             int invalidAmount = 999_999;
 
@@ -427,8 +657,9 @@ class OrderServiceTest {
                         assertThat(e.getMessage()).contains(String.valueOf(order.getOrderAmount().getFinalAmount()));
                     });
 
-            then(orderRepository).should(times(1)).findById(1L);
+            then(orderRepository).should(times(1)).findByIdForUpdate(1L);
             then(payMapper).should(times(1)).toEntity(command);
+            then(salesRollupService).shouldHaveNoInteractions();
         }
 
         private @NotNull Order createSampleOrder() {
@@ -780,6 +1011,16 @@ class OrderServiceTest {
 
 
 
+    //카탈로그 캐시 조회 결과 + 상품 참조 스텁(미존재 상품 테스트에서는 참조 조회까지 가지 않음)
+    private void givenCatalogs(Product... products) {
+        Map<Long, ProductCatalog> catalogs = new HashMap<>();
+        for (Product product : products) {
+            catalogs.put(product.getId(), new ProductCatalog(product.getId(), product.getName(), product.getPrice()));
+            lenient().when(productRepository.getReferenceById(product.getId())).thenReturn(product);
+        }
+        given(productCatalogCache.getAll(anyCollection())).willReturn(catalogs);
+    }
+
     private Address createSampleAddr() {
         return Address.createAddress(
                 "10580",
@@ -0,0 +1,46 @@
+package com.minimall.service.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("배치 전달 -> 이벤트당 한 줄(NDJSON), payload 는 JSON 객체 그대로, 다음 배치는 이어서 기록")
+    void publish_appendsNdjson() throws Exception {
+        //given
+        Path path = dir.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(objectMapper, path);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        //when
+        sink.publish(List.of(
+                new OutboxMessage(1L, "ORDER", 10L, "CREATED", "{\"orderId\":10}", now),
+                new OutboxMessage(2L, "ORDER", 10L, "PAID", "{\"orderId\":10}", now)));
+        sink.publish(List.of(new OutboxMessage(3L, "ORDER", 10L, "CANCELED", "{\"orderId\":10}", now)));
+
+        //then
+        List<String> lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.getFirst());
+        assertThat(first.get("eventType").asText()).isEqualTo("CREATED");
+        assertThat(first.get("payload").get("orderId").asLong()).isEqualTo(10L);
+        assertThat(objectMapper.readTree(lines.get(2)).get("id").asLong()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,207 @@
+package com.minimall.service.outbox;
+
+import com.minimall.AbstractIntegrationTest;
+import com.minimall.domain.member.Member;
+import com.minimall.domain.member.MemberRepository;
+import com.minimall.domain.order.pay.PayAmountMismatchException;
+import com.minimall.domain.order.pay.PayMethod;
+import com.minimall.domain.product.Product;
+import com.minimall.domain.product.ProductRepository;
+import com.minimall.service.order.OrderEventRecorder;
+import com.minimall.service.order.OrderService;
+import com.minimall.service.order.dto.command.OrderCreateCommand;
+import com.minimall.service.order.dto.command.OrderItemCreateCommand;
+import com.minimall.service.order.dto.command.PayCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 상태 변경 -> 아웃박스 기록 -> OutboxRelay 전달(InMemoryOutboxSink) 검증
+ * - 커밋 여부가 결과에 영향을 주므로 @Transactional 미사용(데이터는 @AfterEach 에서 정리)
+ */
+@SpringBootTest
+class OutboxIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    OutboxService outboxService;
+
+    @Autowired
+    OutboxRelay outboxRelay;
+
+    @Autowired
+    InMemoryOutboxSink sink;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Long memberId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = UUID.randomUUID().toString();
+        memberId = memberRepository.save(
+                Member.registerCustomer(loginId, "hash", "아웃박스", loginId + "@example.com", null)).getId();
+        productId = productRepository.save(new Product("아웃박스상품", 1_000, 10)).getId();
+        sink.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from outbox_event where aggregate_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from pay where order_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from order_item where order_id in (select order_id from orders where member_id = ?)", memberId);
+        jdbcTemplate.update("delete from orders where member_id = ?", memberId);
+        jdbcTemplate.update("delete from member_customer_profile where member_id = ?", memberId);
+        jdbcTemplate.update("delete from member where member_id = ?", memberId);
+        jdbcTemplate.update("delete from product_stock_shard where product_id = ?", productId);
+        jdbcTemplate.update("delete from product where product_id = ?", productId);
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("주문 생성 -> 결제 -> 취소: 이벤트 3건이 발생 순서대로 전달되고 아웃박스에서 삭제")
+    void lifecycleEvents_relayedInOrder() {
+        //given
+        Long orderId = createOrder();
+        orderService.processPayment(orderId, new PayCommand(PayMethod.CARD, 1_000));
+        orderService.cancelOrder(orderId);
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        List<OutboxMessage> messages = messagesOf(orderId);
+        assertThat(messages).extracting(OutboxMessage::eventType)
+                .containsExactly("CREATED", "PAID", "CANCELED");
+        assertThat(messages).extracting(OutboxMessage::aggregateType).containsOnly(OrderEventRecorder.AGGREGATE_TYPE);
+        assertThat(messages.get(1).payload()).contains("\"orderStatus\":\"CONFIRMED\"", "\"finalAmount\":1000");
+        assertThat(pendingCountOf(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 금액 불일치로 롤백 -> 결제 이벤트 기록 안 됨")
+    void rolledBackPayment_noEvent() {
+        //given
+        Long orderId = createOrder();
+
+        //when
+        assertThatThrownBy(() -> orderService.processPayment(orderId, new PayCommand(PayMethod.CARD, 999)))
+                .isInstanceOf(PayAmountMismatchException.class);
+        outboxRelay.relay();
+
+        //then
+        assertThat(messagesOf(orderId)).extracting(OutboxMessage::eventType).containsExactly("CREATED");
+    }
+
+    @Test
+    @DisplayName("전달 실패 -> 이벤트가 남아 다음 전달에서 다시 전달")
+    void failedPublish_retried() {
+        //given
+        Long orderId = createOrder();
+
+        //when
+        assertThatThrownBy(() -> outboxService.relay(1_000, messages -> {
+            throw new IllegalStateException("sink unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(pendingCountOf(orderId)).isEqualTo(1);
+        outboxRelay.relay();
+        assertThat(messagesOf(orderId)).extracting(OutboxMessage::eventType).containsExactly("CREATED");
+        assertThat(pendingCountOf(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 다른 relay 가 잠근 오래된 이벤트가 남음 -> outbox.oldest.age 는 그 이벤트 기준")
+    void oldestAge_keepsLockedEvent() throws Exception {
+        //given: 1시간 전에 발생한 이벤트를 다른 relay(스레드)가 잠그고 있음
+        Long orderId = createOrder();
+        jdbcTemplate.update("update outbox_event set occurred_at = ? where aggregate_id = ?",
+                LocalDateTime.now().minusHours(1), orderId);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList("select outbox_event_id from outbox_event where aggregate_id = ? for update", orderId);
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            //when
+            outboxRelay.relay();
+
+            //then
+            assertThat(pendingCountOf(orderId)).isEqualTo(1);
+            assertThat(oldestAgeSeconds()).isGreaterThanOrEqualTo(3_600);
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+
+        //잠금이 풀리면 전달되고 지표도 내려감
+        outboxRelay.relay();
+        assertThat(messagesOf(orderId)).extracting(OutboxMessage::eventType).containsExactly("CREATED");
+        assertThat(oldestAgeSeconds()).isLessThan(3_600);
+    }
+
+
+    //== 헬퍼 메서드 ==//
+    private Long createOrder() {
+        return orderService.createOrder(
+                new OrderCreateCommand(memberId, List.of(new OrderItemCreateCommand(productId, 1)))).getId();
+    }
+
+    private List<OutboxMessage> messagesOf(Long orderId) {
+        return sink.messages().stream()
+                .filter(message -> message.aggregateId().equals(orderId))
+                .toList();
+    }
+
+    private int pendingCountOf(Long orderId) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from outbox_event where aggregate_id = ?", Integer.class, orderId);
+    }
+
+    private double oldestAgeSeconds() {
+        return meterRegistry.get(OutboxRelay.OLDEST_AGE_METRIC_NAME).gauge().value();
+    }
+}
@@ -0,0 +1,113 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.product.ProductCatalog;
+import com.minimall.domain.product.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogCacheTest {
+
+    private static final ProductCatalog BOOK = new ProductCatalog(1L, "도서", 20_000);
+    private static final ProductCatalog KEYBOARD = new ProductCatalog(2L, "키보드", 100_000);
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Captor
+    ArgumentCaptor<Collection<Long>> idsCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCatalogCache(productRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 상품 반복 조회 -> DB 조회 1회, 적중/미적중 지표 기록")
+    void readThrough() {
+        //given
+        given(productRepository.findCatalogsByIdIn(anyCollection())).willReturn(List.of(BOOK));
+
+        //when
+        cache.get(1L);
+        cache.get(1L);
+
+        //then
+        assertThat(cache.get(1L)).contains(BOOK);
+        then(productRepository).should(times(1)).findCatalogsByIdIn(anyCollection());
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 -> 캐시에 없는 상품만 한 번에 조회, 미존재 상품은 결과에서 제외")
+    void getAll_loadsOnlyMisses() {
+        //given
+        given(productRepository.findCatalogsByIdIn(anyCollection()))
+                .willReturn(List.of(BOOK))
+                .willReturn(List.of(KEYBOARD));
+        cache.get(1L);
+
+        //when
+        Map<Long, ProductCatalog> catalogs = cache.getAll(List.of(1L, 2L, 3L));
+
+        //then
+        assertThat(catalogs).containsOnlyKeys(1L, 2L);
+        then(productRepository).should(times(2)).findCatalogsByIdIn(idsCaptor.capture());
+        assertThat(idsCaptor.getAllValues().get(1)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("무효화 후 조회 -> DB 에서 다시 적재")
+    void invalidate() {
+        //given
+        ProductCatalog renamed = new ProductCatalog(1L, "새 도서", 25_000);
+        given(productRepository.findCatalogsByIdIn(anyCollection()))
+                .willReturn(List.of(BOOK))
+                .willReturn(List.of(renamed));
+        cache.get(1L);
+
+        //when
+        cache.invalidate(1L);
+
+        //then
+        assertThat(cache.get(1L)).contains(renamed);
+    }
+
+    @Test
+    @DisplayName("미존재 상품 -> 빈 결과, 캐시하지 않음")
+    void missingProduct() {
+        //given
+        given(productRepository.findCatalogsByIdIn(anyCollection())).willReturn(List.of());
+
+        //when & then
+        assertThat(cache.get(9L)).isEmpty();
+        assertThat(cache.get(9L)).isEmpty();
+        then(productRepository).should(times(2)).findCatalogsByIdIn(anyCollection());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", ProductCatalogCache.CACHE_NAME, "result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.product.Product;
+import com.minimall.service.product.dto.ProductImportError;
+import com.minimall.service.product.dto.ProductImportResult;
+import com.minimall.service.product.dto.ProductImportRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImporterTest {
+
+    @Mock
+    ProductBulkRegistrar productBulkRegistrar;
+
+    private final List<List<String>> savedChunks = new ArrayList<>();
+    private ProductImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new ProductImporter(productBulkRegistrar, new SimpleMeterRegistry(), 2, 2);
+    }
+
+    @Test
+    @DisplayName("유효한 행만 chunk-size 건씩 저장, 실패 행은 순번과 메시지로 기록")
+    void importsValidRowsInChunks() {
+        //given
+        recordSavedChunks();
+        List<ProductImportRow> rows = List.of(
+                new ProductImportRow("키보드", "1000", "5"),
+                new ProductImportRow(" ", "1000", "5"),
+                new ProductImportRow("마우스", "천원", "5"),
+                new ProductImportRow("모니터", "1000", "-1"),
+                new ProductImportRow("스피커", " 2000 ", "0"),
+                new ProductImportRow("헤드셋", "3000", null),
+                new ProductImportRow("웹캠", "4000", "1"));
+
+        //when
+        ProductImportResult result = importer.importAll(rows.iterator());
+
+        //then
+        assertThat(savedChunks).containsExactly(List.of("키보드", "스피커"), List.of("웹캠"));
+        assertThat(result.total()).isEqualTo(7);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.errors()).extracting(ProductImportError::index).containsExactly(1, 2);
+        assertThat(result.errors().get(1).message()).contains("product.price", "천원");
+        assertThat(result.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상품명이 열 길이를 넘으면 해당 행만 실패")
+    void shouldFail_whenNameTooLong() {
+        //when
+        ProductImportResult result = importer.importAll(List.of(
+                new ProductImportRow("가".repeat(ProductImporter.MAX_NAME_LENGTH + 1), "1000", "1")).iterator());
+
+        //then
+        assertThat(result.failed()).isEqualTo(1);
+        then(productBulkRegistrar).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("행 수가 많아도 묶음 크기만큼만 보관 -> 모든 행 저장")
+    void largeInput() {
+        //given
+        recordSavedChunks();
+
+        //when
+        ProductImportResult result = importer.importAll(IntStream.range(0, 1_001)
+                .mapToObj(i -> new ProductImportRow("상품-" + i, "100", "1"))
+                .iterator());
+
+        //then
+        assertThat(result.imported()).isEqualTo(1_001);
+        assertThat(savedChunks).hasSize(501).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(2));
+    }
+
+    //저장 후 묶음 목록을 비우므로 호출 시점의 상품명을 복사해 둠
+    private void recordSavedChunks() {
+        willAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            savedChunks.add(chunk.stream().map(Product::getName).toList());
+            return null;
+        }).given(productBulkRegistrar).registerAll(anyList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.minimall.service.product;
+
+import com.minimall.domain.product.ProductName;
+import com.minimall.domain.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductNameIndexTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재구성 후 접두어 조회 -> 대소문자 무시, 이름순(같은 이름은 ID 순), 최대 limit 건")
+    void suggest_afterRebuild() {
+        //given
+        ProductNameIndex index = rebuilt(10_000,
+                new ProductName(3L, "Keyboard"), new ProductName(1L, "keycap"),
+                new ProductName(2L, "Keyboard"), new ProductName(4L, "mouse"));
+
+        //when & then
+        assertThat(ids(index.suggest("KEY", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.suggest("key", 2))).containsExactly(2L, 3L);
+        assertThat(index.suggest("keyboard", 10)).first().extracting(ProductName::name).isEqualTo("Keyboard");
+        assertThat(index.suggest("z", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록, 이름 변경, 삭제 -> 기본 색인과 합쳐 바로 조회에 반영")
+    void suggest_reflectsWrites() {
+        //given
+        ProductNameIndex index = rebuilt(10_000, new ProductName(1L, "도서"), new ProductName(2L, "도시락"));
+
+        //when
+        index.put(3L, "도감");
+        index.put(1L, "잡지");
+        index.remove(2L);
+
+        //then
+        assertThat(ids(index.suggest("도", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("잡", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("변경분이 임계치 초과 -> 배열로 병합해도 조회 결과 동일")
+    void compact() {
+        //given
+        ProductNameIndex index = rebuilt(2, new ProductName(1L, "apple"), new ProductName(2L, "apricot"));
+
+        //when
+        index.put(3L, "avocado");
+        index.put(4L, "apex");
+        index.remove(1L);
+        index.put(2L, "banana");
+
+        //then
+        assertThat(ids(index.suggest("a", 10))).containsExactly(4L, 3L);
+        assertThat(ids(index.suggest("b", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경 -> 커밋 후에만 반영, 롤백되면 반영 안 함")
+    void appliesAfterCommitOnly() {
+        //given
+        ProductNameIndex index = rebuilt(10_000);
+        TransactionSynchronizationManager.initSynchronization();
+        index.put(1L, "committed");
+        index.put(2L, "rolled back");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        //when
+        assertThat(index.suggest("", 10)).isEmpty();
+        synchronizations.get(0).afterCommit();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        assertThat(ids(index.suggest("", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중(스캔 시작 후) 반영된 변경 -> 재구성 결과에 유지")
+    void rebuild_keepsWritesDuringScan() {
+        //given
+        ProductNameIndex index = new ProductNameIndex(productRepository, 10_000);
+        given(productRepository.streamAllNames()).willAnswer(invocation -> {
+            index.put(9L, "scan 중 등록");
+            return Stream.of(new ProductName(1L, "scan 전 상품"));
+        });
+
+        //when
+        index.rebuild();
+
+        //then
+        assertThat(ids(index.suggest("scan", 10))).containsExactly(1L, 9L);
+    }
+
+    private ProductNameIndex rebuilt(int compactThreshold, ProductName... names) {
+        given(productRepository.streamAllNames()).willReturn(Stream.of(names));
+        ProductNameIndex index = new ProductNameIndex(productRepository, compactThreshold);
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Long> ids(List<ProductName> names) {
+        return names.stream().map(ProductName::productId).toList();
+    }
+}
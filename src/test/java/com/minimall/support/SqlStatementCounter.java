@@ -0,0 +1,58 @@
+package com.minimall.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate가 준비(prepare)하는 SQL 문을 종류별로 세는 테스트용 StatementInspector
+ * - application-integration-test.yml 의 hibernate.session_factory.statement_inspector 로 등록
+ * - 쿼리 수 회귀 테스트에서 reset() 후 구간별 실행 수를 비교하는 용도
+ * - reset() 을 호출한 스레드의 SQL 만 셈(다른 테스트 컨텍스트의 스케줄러 등 백그라운드 SQL 제외)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger selects = new AtomicInteger();
+    private static final AtomicInteger inserts = new AtomicInteger();
+    private static final AtomicInteger updates = new AtomicInteger();
+    private static final AtomicInteger deletes = new AtomicInteger();
+    private static volatile Thread owner;
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() != owner) {
+            return sql;
+        }
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (head.startsWith("select") || head.startsWith("with")) selects.incrementAndGet();
+        else if (head.startsWith("insert")) inserts.incrementAndGet();
+        else if (head.startsWith("update")) updates.incrementAndGet();
+        else if (head.startsWith("delete")) deletes.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        owner = Thread.currentThread();
+        selects.set(0);
+        inserts.set(0);
+        updates.set(0);
+        deletes.set(0);
+    }
+
+    public static int selectCount() {
+        return selects.get();
+    }
+
+    public static int insertCount() {
+        return inserts.get();
+    }
+
+    public static int updateCount() {
+        return updates.get();
+    }
+
+    public static int deleteCount() {
+        return deletes.get();
+    }
+}